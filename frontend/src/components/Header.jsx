@@ -21,7 +21,9 @@ function Header() {
     staleTime: 5 * 60 * 1000,
   });
 
-  // 읽지 않은 알림 조회 (관리자만)
+  const [streamConnected, setStreamConnected] = useState(false);
+
+  // 읽지 않은 알림 조회 (관리자만) - 스트림 연결이 끊긴 동안에만 30초 폴링
   const { data: notifications = [] } = useQuery({
     queryKey: ['adminNotifications'],
     queryFn: async () => {
@@ -29,11 +31,83 @@ function Header() {
       return response.data;
     },
     enabled: !!profile && profile.role === 'ADMIN',
-    refetchInterval: 30000, // 30초마다
+    refetchInterval: streamConnected ? false : 30000,
     staleTime: 0,
     retry: false,
   });
 
+  // 실시간 알림 스트림 (SSE) - 1회용 티켓으로 접속, 끊기면 새 티켓을 받아 마지막 이벤트 ID부터 이어받음
+  useEffect(() => {
+    if (profile?.role !== 'ADMIN') return;
+
+    let eventSource = null;
+    let reconnectTimer = null;
+    let lastEventId = null;
+    let closed = false;
+
+    const track = (handler) => (event) => {
+      if (event.lastEventId) lastEventId = event.lastEventId;
+      handler(event);
+    };
+
+    const connect = async () => {
+      let ticket;
+      try {
+        ticket = (await notificationAPI.issueStreamTicket()).data.ticket;
+      } catch (e) {
+        scheduleReconnect();
+        return;
+      }
+      if (closed) return;
+
+      eventSource = new EventSource(notificationAPI.streamUrl(ticket, lastEventId));
+
+      eventSource.onopen = () => setStreamConnected(true);
+      // 티켓은 재사용할 수 없으므로 브라우저 자동 재연결 대신 직접 다시 연결
+      eventSource.onerror = () => {
+        setStreamConnected(false);
+        eventSource.close();
+        scheduleReconnect();
+      };
+
+      eventSource.addEventListener('notification', track((event) => {
+        const { notification } = JSON.parse(event.data);
+        queryClient.setQueryData(['adminNotifications'], (prev = []) =>
+          [notification, ...prev.filter(n => n.id !== notification.id)].slice(0, 10)
+        );
+      }));
+
+      eventSource.addEventListener('read', track((event) => {
+        const { id } = JSON.parse(event.data);
+        queryClient.setQueryData(['adminNotifications'], (prev = []) =>
+          prev.map(n => (n.id === id ? { ...n, read: true } : n))
+        );
+      }));
+
+      // 제거되면 목록이 비는 자리를 채워야 하므로 다시 조회
+      const refetch = () => queryClient.invalidateQueries(['adminNotifications']);
+      eventSource.addEventListener('dismiss', track(refetch));
+      eventSource.addEventListener('resync', track(refetch));
+    };
+
+    const scheduleReconnect = () => {
+      if (closed || reconnectTimer) return;
+      reconnectTimer = setTimeout(() => {
+        reconnectTimer = null;
+        connect();
+      }, 5000);
+    };
+
+    connect();
+
+    return () => {
+      closed = true;
+      clearTimeout(reconnectTimer);
+      if (eventSource) eventSource.close();
+      setStreamConnected(false);
+    };
+  }, [profile?.role, queryClient]);
+
   const unreadCount = notifications.filter(n => !n.read).length;
 
   // 브라우저 알림 권한 요청
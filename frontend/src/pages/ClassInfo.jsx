@@ -31,24 +31,15 @@ function ClassInfo() {
     enabled: profile?.role === 'PARENT',
   });
 
-  // 월별 출석 데이터 (달력 점 표시용)
+  // 월별 출석 데이터 (달력 점 표시용 - 자녀 전체를 달력용 경량 API 한 번으로 조회)
   const { data: monthlyAttendances = [] } = useQuery({
-    queryKey: ['monthlyAttendances', currentMonth.getFullYear(), currentMonth.getMonth(), myStudents],
+    queryKey: ['monthlyAttendances', currentMonth.getFullYear(), currentMonth.getMonth()],
     queryFn: async () => {
-      if (myStudents.length === 0) return [];
-      const year = currentMonth.getFullYear();
-      const month = currentMonth.getMonth() + 1;
-      const startDate = `${year}-${String(month).padStart(2, '0')}-01`;
-      const lastDay = new Date(year, month, 0).getDate();
-      const endDate = `${year}-${String(month).padStart(2, '0')}-${lastDay}`;
-      const all = [];
-      for (const s of myStudents) {
-        const res = await attendanceAPI.getByStudentAndRange(s.id, startDate, endDate);
-        all.push(...(res.data || []));
-      }
-      return all;
+      const res = await attendanceAPI.getMyChildMonthlyAttendances(currentMonth.getFullYear(), currentMonth.getMonth() + 1);
+      return res.data || [];
     },
     enabled: myStudents.length > 0,
+    staleTime: 60 * 1000,
   });
 
   // 선택 날짜의 출석 데이터
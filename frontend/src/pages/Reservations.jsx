@@ -1,10 +1,10 @@
 import React, { useState } from 'react';
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useQuery, useMutation, useQueryClient, keepPreviousData } from '@tanstack/react-query';
 import { useNavigate } from 'react-router-dom';
 import axios from 'axios';
 import LoadingSpinner from '../components/LoadingSpinner';
 import { reservationAPI, scheduleAPI, enrollmentAPI, authAPI, naverBookingAPI, consultationAPI, blockedTimeSlotAPI } from '../services/api';
-import { getTodayString } from '../utils/dateUtils';
+import { getTodayString, getDateAfterDays } from '../utils/dateUtils';
 import '../styles/Reservations.css';
 
 function Reservations() {
@@ -31,6 +31,9 @@ function Reservations() {
   const [statusFilter, setStatusFilter] = useState('ALL');
   const [currentPage, setCurrentPage] = useState(1);
   const PAGE_SIZE = 10;
+  // 관리자/선생님 목록 조회 구간 (서버 기본값과 같은 과거 30일 ~ 향후 90일)
+  const [rangeStart, setRangeStart] = useState(getDateAfterDays(-30));
+  const [rangeEnd, setRangeEnd] = useState(getDateAfterDays(90));
   const [newReservation, setNewReservation] = useState({
     studentId: '',
     scheduleId: '',
@@ -87,46 +90,64 @@ function Reservations() {
     };
   }, [isParent, queryClient]);
 
-  // 전체 예약 조회 (역할별 분기)
-  const { data: allReservations = [], isLoading: reservationsLoading } = useQuery({
+  // 학부모: 본인 자녀 예약 + 상담 전체 조회 후 화면에서 필터/페이지 처리
+  const { data: parentReservations = [], isLoading: parentReservationsLoading } = useQuery({
     queryKey: ['reservations', 'all', profile?.role],
     queryFn: async () => {
-      if (isParent) {
-        const reservationResponse = await reservationAPI.getMyReservations();
-        const consultationResponse = await consultationAPI.getMyChildren();
-        
-        const consultations = consultationResponse.data
-          .map(c => ({
-            id: `consultation-${c.id}`,
-            studentId: c.studentId,
-            studentName: c.studentName,
-            student: { name: c.studentName, phone: c.studentPhone },
-            reservationDate: c.consultationDate,
-            reservationTime: c.consultationTime,
-            consultationType: c.consultationType,
-            notes: c.content || c.memo,
-            status: 'CONFIRMED',
-            isConsultation: true
-          }));
-        
-        return [...reservationResponse.data, ...consultations];
-      } else {
-        const response = await reservationAPI.getAll();
-        return response.data;
-      }
+      const reservationResponse = await reservationAPI.getMyReservations();
+      const consultationResponse = await consultationAPI.getMyChildren();
+      
+      const consultations = consultationResponse.data
+        .map(c => ({
+          id: `consultation-${c.id}`,
+          studentId: c.studentId,
+          studentName: c.studentName,
+          student: { name: c.studentName, phone: c.studentPhone },
+          reservationDate: c.consultationDate,
+          reservationTime: c.consultationTime,
+          consultationType: c.consultationType,
+          notes: c.content || c.memo,
+          status: 'CONFIRMED',
+          isConsultation: true
+        }));
+      
+      return [...reservationResponse.data, ...consultations];
+    },
+    enabled: !!profile && isParent,
+  });
+
+  // 관리자/선생님: 선택한 날짜 구간 안에서 서버 필터/페이지 조회
+  const { data: adminReservationPage, isLoading: adminReservationsLoading } = useQuery({
+    queryKey: ['reservations', 'all', profile?.role, rangeStart, rangeEnd, statusFilter, hideCompleted, currentPage],
+    queryFn: async () => {
+      const response = await reservationAPI.getAll({
+        startDate: rangeStart,
+        endDate: rangeEnd,
+        status: statusFilter === 'ALL' ? undefined : statusFilter,
+        hideAttended: hideCompleted,
+        page: currentPage - 1,
+        size: PAGE_SIZE,
+      });
+      return response.data;
     },
-    enabled: !!profile,
+    enabled: !!profile && !isParent,
+    placeholderData: keepPreviousData,
   });
 
-  // 필터링
-  const filteredReservations = allReservations.filter(r => {
+  const reservationsLoading = isParent ? parentReservationsLoading : adminReservationsLoading;
+
+  // 필터링 (학부모는 화면에서, 관리자/선생님은 서버에서 처리)
+  const filteredParentReservations = parentReservations.filter(r => {
     if (hideCompleted && r.attended) return false;
     if (statusFilter === 'CONFIRMED') return r.status === 'CONFIRMED';
     if (statusFilter === 'CANCELLED') return r.status === 'CANCELLED';
     return true;
   });
-  const totalPages = Math.ceil(filteredReservations.length / PAGE_SIZE);
-  const reservations = filteredReservations.slice((currentPage - 1) * PAGE_SIZE, currentPage * PAGE_SIZE);
+  const totalCount = isParent ? filteredParentReservations.length : (adminReservationPage?.totalElements ?? 0);
+  const totalPages = isParent ? Math.ceil(totalCount / PAGE_SIZE) : (adminReservationPage?.totalPages ?? 0);
+  const reservations = isParent
+    ? filteredParentReservations.slice((currentPage - 1) * PAGE_SIZE, currentPage * PAGE_SIZE)
+    : (adminReservationPage?.content ?? []);
 
   // 날짜별 스케줄 조회 (관리자/선생님만)
   const { data: schedules = [], isLoading: schedulesLoading } = useQuery({
@@ -459,11 +480,22 @@ function Reservations() {
                     </button>
                   ))}
                 </div>
+                {!isParent && (
+                  <div style={{ display: 'flex', alignItems: 'center', gap: 6, fontSize: 13, color: '#666' }}>
+                    <input type="date" value={rangeStart} max={rangeEnd}
+                      onChange={e => { if (e.target.value) { setRangeStart(e.target.value); setCurrentPage(1); } }}
+                      style={{ padding: '3px 6px', border: '1px solid #ddd', borderRadius: 6, fontSize: 13 }} />
+                    ~
+                    <input type="date" value={rangeEnd} min={rangeStart}
+                      onChange={e => { if (e.target.value) { setRangeEnd(e.target.value); setCurrentPage(1); } }}
+                      style={{ padding: '3px 6px', border: '1px solid #ddd', borderRadius: 6, fontSize: 13 }} />
+                  </div>
+                )}
                 <label style={{ display: 'flex', alignItems: 'center', gap: 6, fontSize: 13, color: '#666', cursor: 'pointer' }}>
                   <input type="checkbox" checked={hideCompleted} onChange={e => { setHideCompleted(e.target.checked); setCurrentPage(1); }} />
                   출석 완료 숨기기
                 </label>
-                <span className="rsv-date-count">{filteredReservations.length}건</span>
+                <span className="rsv-date-count">{totalCount}건</span>
               </div>
             </div>
 
@@ -473,7 +505,7 @@ function Reservations() {
                 <div className="rsv-stats-row">
                   <div className="rsv-stat-chip">
                     <span className="rsv-stat-label">시스템</span>
-                    <span className="rsv-stat-val">{filteredReservations.length}</span>
+                    <span className="rsv-stat-val">{totalCount}</span>
                   </div>
                   <div className="rsv-stat-chip">
                     <span className="rsv-stat-label">네이버</span>
@@ -481,7 +513,7 @@ function Reservations() {
                   </div>
                   <div className="rsv-stat-chip rsv-stat-total">
                     <span className="rsv-stat-label">합계</span>
-                    <span className="rsv-stat-val">{filteredReservations.length + naverBookings.length}</span>
+                    <span className="rsv-stat-val">{totalCount + naverBookings.length}</span>
                   </div>
                 </div>
                 <div className="rsv-btn-group">
@@ -695,7 +727,7 @@ function Reservations() {
             <div className="pr-section">
               <div className="pr-header">
                 <h2><i className="fas fa-calendar-check"></i> 내 자녀 예약 현황</h2>
-                <span className="pr-count">{filteredReservations.length}건</span>
+                <span className="pr-count">{totalCount}건</span>
               </div>
 
               {reservations.length === 0 ? (
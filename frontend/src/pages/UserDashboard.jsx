@@ -7,6 +7,7 @@ import '../styles/Dashboard.css';
 function UserDashboard() {
   const [selectedEnrollment, setSelectedEnrollment] = useState(null);
   const [showRecordingModal, setShowRecordingModal] = useState(false);
+  const [playingFiles, setPlayingFiles] = useState({});
   const [holidays, setHolidays] = useState([]);
 
   useEffect(() => {
@@ -60,6 +61,21 @@ function UserDashboard() {
   const closeModal = () => {
     setShowRecordingModal(false);
     setSelectedEnrollment(null);
+    setPlayingFiles({});
+  };
+
+  // 레코딩 재생 - 파일별 티켓으로 URL을 만들어 <audio>가 Range 요청으로 필요한 구간만 받도록 한다
+  const handlePlayRecording = async (consultation) => {
+    try {
+      const files = await Promise.all(consultation.recordingFileUrl.split(',').map(async (entry) => {
+        const parts = entry.split('::');
+        const filePath = parts.length > 1 ? parts[1] : parts[0];
+        const fileName = parts.length > 1 ? parts[0] : filePath.split('/').pop();
+        const response = await fileAPI.issueDownloadTicket(filePath);
+        return { fileName, url: fileAPI.downloadUrl(filePath, response.data.ticket) };
+      }));
+      setPlayingFiles((prev) => ({ ...prev, [consultation.id]: files }));
+    } catch (e) { alert('파일을 불러오지 못했습니다.'); }
   };
 
   if (isLoading) {
@@ -180,31 +196,22 @@ function UserDashboard() {
                         )}
                       </div>
                       <div className="recording-actions">
-                        <button
-                          className="btn-play"
-                          onClick={async () => {
-                            try {
-                              const urls = consultation.recordingFileUrl.split(',');
-                              for (const entry of urls) {
-                                const parts = entry.split('::');
-                                const filePath = parts.length > 1 ? parts[1] : parts[0];
-                                const fileName = parts.length > 1 ? parts[0] : filePath.split('/').pop();
-                                const response = await fileAPI.download(filePath);
-                                const url = window.URL.createObjectURL(new Blob([response.data]));
-                                const link = document.createElement('a');
-                                link.href = url;
-                                link.setAttribute('download', fileName);
-                                document.body.appendChild(link);
-                                link.click();
-                                link.remove();
-                                window.URL.revokeObjectURL(url);
-                              }
-                            } catch (e) { alert('파일 다운로드에 실패했습니다.'); }
-                          }}
-                        >
-                          <i className="fas fa-download"></i>
-                          다운로드
-                        </button>
+                        {playingFiles[consultation.id] ? (
+                          playingFiles[consultation.id].map((file) => (
+                            <div key={file.url} className="recording-player">
+                              <span>{file.fileName}</span>
+                              <audio controls preload="metadata" src={file.url} />
+                              <a href={file.url} download={file.fileName}>
+                                <i className="fas fa-download"></i>
+                              </a>
+                            </div>
+                          ))
+                        ) : (
+                          <button className="btn-play" onClick={() => handlePlayRecording(consultation)}>
+                            <i className="fas fa-play"></i>
+                            재생
+                          </button>
+                        )}
                       </div>
                     </div>
                   ))}
@@ -207,10 +207,10 @@ export const reservationAPI = {
   create: (data) => api.post('/reservations', data),
   getById: (id) => api.get(`/reservations/${id}`),
   getByStudent: (studentId) => api.get(`/reservations/student/${studentId}`),
-  getAll: () => api.get('/reservations/all'),
+  getAll: (params = {}) => api.get('/reservations/all', { params }),
   getByDate: (date) => api.get(`/reservations/date/${date}`),
   getMyReservations: () => api.get('/reservations/my-reservations'),
-  getNewReservations: (since) => api.get(`/reservations/new?since=${since}`),
+  getNewReservations: ({ cursor, since, limit } = {}) => api.get('/reservations/new', { params: { cursor, since, limit } }),
   getReservedTimes: (date, consultationType) => {
     const params = consultationType ? { consultationType } : {};
     return api.get(`/reservations/reserved-times/${date}`, { params });
@@ -317,6 +317,10 @@ export const fileAPI = {
     });
   },
   download: (filePath) => api.get(`/files/download?filePath=${encodeURIComponent(filePath)}`, { responseType: 'blob' }),
+  // <audio src>는 헤더를 보낼 수 없으므로 파일 전용 티켓을 받아 URL에 싣는다
+  issueDownloadTicket: (filePath) => api.post(`/files/download-ticket?filePath=${encodeURIComponent(filePath)}`),
+  downloadUrl: (filePath, ticket) =>
+    `/api/files/download?filePath=${encodeURIComponent(filePath)}&ticket=${encodeURIComponent(ticket)}`,
   delete: (filePath) => api.delete(`/files/delete?filePath=${encodeURIComponent(filePath)}`),
 };
 
@@ -417,6 +421,10 @@ export const notificationAPI = {
   getUnreadCount: () => api.get('/notifications/unread-count'),
   markAsRead: (id) => api.patch(`/notifications/${id}/read`),
   dismiss: (id) => api.patch(`/notifications/${id}/dismiss`),
+  issueStreamTicket: () => api.post('/notifications/stream-ticket'),
+  streamUrl: (ticket, lastEventId) =>
+    `/api/notifications/stream?ticket=${encodeURIComponent(ticket)}` +
+    (lastEventId ? `&lastEventId=${encodeURIComponent(lastEventId)}` : ''),
 };
 
 export default api;
@@ -0,0 +1,79 @@
+package web.kplay.studentmanagement.service;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 벤치마크용 학생목록 엑셀 생성
+ * - 실제 양식과 같은 열 구성(학생명, 클래스명, ..., 보호자1 휴대폰번호)으로 N명 생성
+ * - 이름은 성 + 두 글자 조합이라 부분 매칭 조회가 실제 명단처럼 동작한다
+ */
+public final class ExcelRosterFixtures {
+
+    private static final String[] FAMILY = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN = {"도", "서", "하", "지", "민", "예", "시", "주", "유", "연", "윤", "준", "우", "아", "은", "현"};
+    private static final String[] CLASSES = {"Able A", "Basic B", "Core C", "Development D"};
+
+    private ExcelRosterFixtures() {
+    }
+
+    /**
+     * i번째 학생 이름 (동명이인이 생기면 뒤에 A, B.. 를 붙인다)
+     */
+    public static String studentName(int i) {
+        int combinations = FAMILY.length * GIVEN.length * GIVEN.length;
+        int n = i % combinations;
+        String name = FAMILY[n % FAMILY.length]
+                + GIVEN[(n / FAMILY.length) % GIVEN.length]
+                + GIVEN[(n / (FAMILY.length * GIVEN.length)) % GIVEN.length];
+        int duplicate = i / combinations;
+        return duplicate == 0 ? name : name + (char) ('A' + duplicate - 1);
+    }
+
+    /**
+     * i번째 학생 보호자 전화번호
+     */
+    public static String parentPhone(int i) {
+        return String.format("010-%04d-%04d", (i * 37) % 10000, (i * 7919) % 10000);
+    }
+
+    /**
+     * 학생 size명이 로드된 StudentCourseExcelService
+     */
+    public static StudentCourseExcelService loadedService(int size) {
+        StudentCourseExcelService service = new StudentCourseExcelService();
+        try {
+            service.loadFromInputStream(new ByteArrayInputStream(rosterXlsx(size)));
+        } catch (Exception e) {
+            throw new IllegalStateException("벤치마크용 학생목록 로드 실패", e);
+        }
+        return service;
+    }
+
+    private static byte[] rosterXlsx(int size) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("학생목록");
+            Row header = sheet.createRow(0);
+            String[] headers = {"학생명", "클래스명", "학교", "학년", "보호자1 휴대폰번호"};
+            for (int c = 0; c < headers.length; c++) {
+                header.createCell(c).setCellValue(headers[c]);
+            }
+            for (int i = 0; i < size; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(studentName(i));
+                row.createCell(1).setCellValue(CLASSES[i % CLASSES.length]);
+                row.createCell(2).setCellValue("리틀베어초등학교");
+                row.createCell(3).setCellValue(String.valueOf(i % 6 + 1));
+                row.createCell(4).setCellValue(parentPhone(i));
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
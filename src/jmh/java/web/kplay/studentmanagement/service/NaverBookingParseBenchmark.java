@@ -0,0 +1,75 @@
+package web.kplay.studentmanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import web.kplay.studentmanagement.dto.NaverBookingDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네이버 예약 API 응답 파싱 벤치마크 (수집 1페이지 = 예약 50건)
+ * - naver/bookings.json: 파트너 API 응답 형식의 예약 목록 (개인정보는 가명 처리)
+ * - JSON 트리 변환 + parseBookingNode 전체, parseBookingNode만, 예약 일시 해석을 각각 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NaverBookingParseBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] responseBody;
+    private JsonNode bookings;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/naver/bookings.json")) {
+            if (in == null) {
+                throw new IllegalStateException("naver/bookings.json 리소스가 없습니다.");
+            }
+            responseBody = in.readAllBytes();
+        }
+        bookings = objectMapper.readTree(responseBody);
+    }
+
+    @Benchmark
+    public List<NaverBookingDTO> readAndParsePage() throws IOException {
+        return parseAll(objectMapper.readTree(responseBody));
+    }
+
+    @Benchmark
+    public List<NaverBookingDTO> parseBookingNodes() {
+        return parseAll(bookings);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> parseBookingTimes() {
+        List<LocalDateTime> times = new ArrayList<>(bookings.size());
+        for (JsonNode node : bookings) {
+            times.add(NaverBookingTimeParser.parseDateTime(node.get("snapshotJson").get("startDateTime").asText()));
+        }
+        return times;
+    }
+
+    private List<NaverBookingDTO> parseAll(JsonNode root) {
+        List<NaverBookingDTO> result = new ArrayList<>(root.size());
+        for (JsonNode node : root) {
+            NaverBookingDTO dto = NaverBookingApiCrawlerService.parseBookingNode(node);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package web.kplay.studentmanagement.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엑셀 학생명단 조회 벤치마크 (키오스크 전화번호 검색, 네이버 예약 반 이름 조회)
+ * - 정확히 일치하는 이름, 부분 일치만 되는 이름, 없는 이름을 각각 조회
+ * - 명단 크기 1천/1만 명
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentCourseExcelLookupBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rosterSize;
+
+    private StudentCourseExcelService service;
+    private String exactName;
+    private String partialName;
+    private String phone;
+    private String phoneLast4;
+
+    @Setup
+    public void setUp() {
+        service = ExcelRosterFixtures.loadedService(rosterSize);
+        int middle = rosterSize / 2;
+        exactName = ExcelRosterFixtures.studentName(middle);
+        // 성을 뺀 이름은 명단과 정확히 일치하지 않아 부분 매칭까지 내려간다
+        partialName = exactName.substring(1);
+        phone = ExcelRosterFixtures.parentPhone(middle);
+        phoneLast4 = phone.substring(phone.length() - 4);
+    }
+
+    @Benchmark
+    public String courseNameExact() {
+        return service.getCourseName(exactName);
+    }
+
+    @Benchmark
+    public String courseNamePartial() {
+        return service.getCourseName(partialName);
+    }
+
+    @Benchmark
+    public String courseNameMiss() {
+        return service.getCourseName("없는학생");
+    }
+
+    @Benchmark
+    public String courseNameByNameAndPhone() {
+        return service.getCourseNameByNameAndPhone(exactName, phone);
+    }
+
+    @Benchmark
+    public List<Map.Entry<String, String>> findByPhoneLast4() {
+        return service.findByPhoneLast4(phoneLast4);
+    }
+
+    @Benchmark
+    public String normalizePhoneLast4() {
+        return StudentCourseExcelService.normalizePhoneLast4(phone);
+    }
+}
@@ -0,0 +1,101 @@
+package web.kplay.studentmanagement.service.attendance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import web.kplay.studentmanagement.domain.attendance.Attendance;
+import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
+import web.kplay.studentmanagement.domain.course.Course;
+import web.kplay.studentmanagement.domain.reservation.NaverBooking;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.dto.attendance.AttendanceResponse;
+import web.kplay.studentmanagement.service.AdditionalClassExcelService;
+import web.kplay.studentmanagement.service.ExcelRosterFixtures;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출석 응답 변환(toResponse) 벤치마크 - 출석부 화면 목록 1건당 비용
+ * - 시스템 학생 / 네이버 예약(엑셀 반 이름 조회 포함) / 수동 추가 출석을 같은 비율로 변환
+ * - 엑셀 명단 크기에 따라 네이버 예약 행의 반 이름 조회 비용이 달라진다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AttendanceResponseBenchmark {
+
+    private static final int ROWS = 90;
+
+    @Param({"1000", "10000"})
+    private int rosterSize;
+
+    private AttendanceService attendanceService;
+    private List<Attendance> attendances;
+    // 상수로 넘기면 JIT가 결과를 미리 계산할 수 있어 상태 필드에서 읽는다
+    private String phone;
+
+    @Setup
+    public void setUp() {
+        attendanceService = new AttendanceService(null, null, null, null, null, null,
+                ExcelRosterFixtures.loadedService(rosterSize), new AdditionalClassExcelService(),
+                null, null, null, null);
+
+        phone = "010-1234-5678";
+        LocalDate today = LocalDate.now();
+        Course course = Course.builder().id(1L).courseName("Core").maxStudents(10).durationMinutes(120).build();
+        attendances = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalTime time = LocalTime.of(14, 0).plusMinutes(10L * (i % 30));
+            Attendance.AttendanceBuilder builder = Attendance.builder()
+                    .id((long) i)
+                    .attendanceDate(today)
+                    .attendanceTime(time)
+                    .durationMinutes(120)
+                    .expectedLeaveTime(time.plusHours(2))
+                    .status(i % 2 == 0 ? AttendanceStatus.PRESENT : AttendanceStatus.NOTYET)
+                    .checkInTime(i % 2 == 0 ? today.atTime(time) : null);
+            switch (i % 3) {
+                case 0 -> builder.student(Student.builder()
+                                .id((long) i)
+                                .studentName(ExcelRosterFixtures.studentName(i))
+                                .parentPhone(ExcelRosterFixtures.parentPhone(i))
+                                .assignedVocabulary(i % 2 == 0)
+                                .build())
+                        .course(course);
+                case 1 -> builder.naverBooking(NaverBooking.builder()
+                        .id((long) i)
+                        .bookingNumber("B" + i)
+                        .name("학부모" + i)
+                        .studentName(ExcelRosterFixtures.studentName(rosterSize - 1 - i))
+                        .phone(ExcelRosterFixtures.parentPhone(i))
+                        .build());
+                default -> builder.manualStudentName(ExcelRosterFixtures.studentName(i) + " ")
+                        .manualParentPhone(ExcelRosterFixtures.parentPhone(i));
+            }
+            attendances.add(builder.build());
+        }
+    }
+
+    @Benchmark
+    public List<AttendanceResponse> toResponseList() {
+        List<AttendanceResponse> responses = new ArrayList<>(attendances.size());
+        for (Attendance attendance : attendances) {
+            responses.add(attendanceService.toResponse(attendance));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public String maskPhone() {
+        return AttendanceService.maskPhone(phone);
+    }
+}
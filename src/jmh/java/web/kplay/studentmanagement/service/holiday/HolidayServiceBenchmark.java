@@ -0,0 +1,95 @@
+package web.kplay.studentmanagement.service.holiday;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import web.kplay.studentmanagement.domain.holiday.Holiday;
+import web.kplay.studentmanagement.repository.HolidayRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영업일 계산 벤치마크 (수강권 종료일 계산)
+ * - 24영업일(월 수강권) ~ 1500영업일(약 5년) 후 날짜
+ * - 연도별 달력은 첫 호출에서 만들어 캐시하므로 반복 호출 비용을 측정하고, 달력 생성 비용은 따로 측정
+ * DB 대신 고정 공휴일(양력 기념일)만 돌려주는 저장소를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HolidayServiceBenchmark {
+
+    private static final MonthDay[] FIXED_HOLIDAYS = {
+            MonthDay.of(1, 1), MonthDay.of(3, 1), MonthDay.of(5, 5), MonthDay.of(6, 6),
+            MonthDay.of(8, 15), MonthDay.of(10, 3), MonthDay.of(10, 9), MonthDay.of(12, 25)
+    };
+
+    @Param({"24", "300", "1500"})
+    private int businessDays;
+
+    private HolidayService holidayService;
+    private LocalDate startDate;
+    private List<LocalDate> holidayDates;
+
+    @Setup
+    public void setUp() {
+        holidayService = new HolidayService(fixedHolidayRepository());
+        startDate = LocalDate.of(2026, 3, 2);
+        holidayDates = holidays(2026).stream().map(Holiday::getDate).toList();
+    }
+
+    @Benchmark
+    public LocalDate addBusinessDays() {
+        return holidayService.addBusinessDays(startDate, businessDays);
+    }
+
+    @Benchmark
+    public int calculateBusinessDays() {
+        return holidayService.calculateBusinessDays(startDate, startDate.plusDays(businessDays));
+    }
+
+    @Benchmark
+    public BusinessDayCalendar buildCalendar() {
+        return BusinessDayCalendar.of(2026, holidayDates);
+    }
+
+    private static HolidayRepository fixedHolidayRepository() {
+        return (HolidayRepository) Proxy.newProxyInstance(HolidayRepository.class.getClassLoader(),
+                new Class<?>[]{HolidayRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByDateRange" -> {
+                        LocalDate from = (LocalDate) args[0];
+                        LocalDate to = (LocalDate) args[1];
+                        List<Holiday> result = new ArrayList<>();
+                        for (int year = from.getYear(); year <= to.getYear(); year++) {
+                            holidays(year).stream()
+                                    .filter(h -> !h.getDate().isBefore(from) && !h.getDate().isAfter(to))
+                                    .forEach(result::add);
+                        }
+                        yield result;
+                    }
+                    case "findByYear" -> holidays((Integer) args[0]);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FixedHolidayRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<Holiday> holidays(int year) {
+        List<Holiday> holidays = new ArrayList<>();
+        for (MonthDay day : FIXED_HOLIDAYS) {
+            holidays.add(Holiday.builder().date(day.atYear(year)).name("공휴일").build());
+        }
+        return holidays;
+    }
+}
@@ -0,0 +1,43 @@
+package web.kplay.studentmanagement.service.sms;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문자 타입(SMS/LMS) 판별 벤치마크 - EUC-KR 90바이트 기준
+ * - 등원 알림처럼 짧은 한글, 90바이트 경계 근처 한글, 긴 공지 문자, 영문/숫자만 있는 문자
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SmsMessageTypeBenchmark {
+
+    @Param({"short", "boundary", "long", "ascii"})
+    private String kind;
+
+    private String message;
+
+    @Setup
+    public void setUp() {
+        message = switch (kind) {
+            case "short" -> "[리틀베어] 김도윤 학생이 14:02에 등원했습니다.";
+            case "boundary" -> "[리틀베어 리딩클럽] 김도윤 학생이 14:02에 등원했습니다. 하원 예정 시간은 16:00입니다. 감사합니다.";
+            case "long" -> ("[리틀베어 리딩클럽] 3월 휴원 안내입니다. 3월 1일(삼일절)은 휴원하며 보강 일정은 "
+                    + "개별 안내드리겠습니다. 문의사항은 학원으로 연락 주세요. ").repeat(3);
+            default -> "Little Bear Reading Club: check-in 14:02, expected leave 16:00. Reply STOP to opt out.";
+        };
+    }
+
+    @Benchmark
+    public String resolveMsgType() {
+        return AligoSMSClient.resolveMsgType(message);
+    }
+}
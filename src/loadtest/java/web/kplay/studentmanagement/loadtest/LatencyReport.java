@@ -0,0 +1,104 @@
+package web.kplay.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 지연 시간(p50/p95/p99/max)과 오류율 보고서
+ * - 오류율 = (5xx + 전송 실패) / 전체 요청, 4xx(중복 출석, 마감된 시간대 등)는 거절로 따로 집계
+ * - 콘솔 표와 JSON 파일(reportDir/report-yyyyMMdd-HHmmss.json)로 남긴다
+ */
+public class LatencyReport {
+
+    private final List<Row> rows;
+    private final Map<String, Object> context;
+
+    public LatencyReport(Map<String, LoadDriver.EndpointStats> stats, Map<String, Object> context) {
+        this.rows = stats.values().stream()
+                .map(Row::of)
+                .sorted(Comparator.comparing(Row::endpoint))
+                .toList();
+        this.context = context;
+    }
+
+    public String toTable() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-58s %8s %9s %9s %9s %9s %8s %8s%n",
+                "endpoint", "count", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "error%", "reject%"));
+        for (Row row : rows) {
+            sb.append(String.format("%-58s %8d %9.1f %9.1f %9.1f %9.1f %8.2f %8.2f%n",
+                    row.endpoint(), row.count(), row.p50Millis(), row.p95Millis(), row.p99Millis(), row.maxMillis(),
+                    row.errorRate() * 100, row.rejectRate() * 100));
+        }
+        return sb.toString();
+    }
+
+    public Path writeJson(Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve("report-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+
+        Map<String, Object> json = new LinkedHashMap<>(context);
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (Row row : rows) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("endpoint", row.endpoint());
+            entry.put("count", row.count());
+            entry.put("p50Millis", row.p50Millis());
+            entry.put("p95Millis", row.p95Millis());
+            entry.put("p99Millis", row.p99Millis());
+            entry.put("maxMillis", row.maxMillis());
+            entry.put("clientErrors", row.clientErrors());
+            entry.put("serverErrors", row.serverErrors());
+            entry.put("failures", row.failures());
+            entry.put("errorRate", row.errorRate());
+            entry.put("rejectRate", row.rejectRate());
+            endpoints.add(entry);
+        }
+        json.put("endpoints", endpoints);
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+        return file;
+    }
+
+    /**
+     * 정렬된 표본에서 nearest-rank 방식 백분위 (밀리초)
+     */
+    static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return sortedNanos[Math.max(0, Math.min(rank, sortedNanos.length) - 1)] / 1_000_000.0;
+    }
+
+    record Row(String endpoint, long count, double p50Millis, double p95Millis, double p99Millis, double maxMillis,
+               long clientErrors, long serverErrors, long failures) {
+
+        static Row of(LoadDriver.EndpointStats stats) {
+            long[] sorted = stats.sortedLatenciesNanos();
+            return new Row(stats.label(), sorted.length,
+                    percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 99),
+                    percentileMillis(sorted, 100),
+                    stats.clientErrors(), stats.serverErrors(), stats.failures());
+        }
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) (serverErrors + failures) / count;
+        }
+
+        double rejectRate() {
+            return count == 0 ? 0 : (double) clientErrors / count;
+        }
+    }
+}
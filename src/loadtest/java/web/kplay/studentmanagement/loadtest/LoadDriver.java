@@ -0,0 +1,235 @@
+package web.kplay.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 발생기
+ * - 요청마다 엔드포인트 이름(메서드 + 경로 패턴)별로 응답 시간과 결과(2xx/4xx/5xx/전송 실패)를 기록
+ * - 동시 사용자는 고정 스레드 풀로 흉내 낸다 (Java 17 기준, 가상 스레드 미사용)
+ */
+public class LoadDriver implements AutoCloseable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public LoadDriver(String baseUrl, int threads) {
+        this.baseUrl = baseUrl;
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+    }
+
+    /**
+     * 작업을 풀에 넣고 모두 끝날 때까지 대기
+     */
+    public void runAll(List<Runnable> tasks) {
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ignored) {
+                // 요청 단위 실패는 이미 통계에 기록됨
+            }
+        }
+    }
+
+    public Response get(String label, String path, String token) {
+        return send(label, request(path, token).GET().build());
+    }
+
+    public Response post(String label, String path, Object body, String token) {
+        return send(label, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build());
+    }
+
+    /**
+     * 로그인 후 액세스 토큰 반환 (실패하면 null)
+     */
+    public String login(String username, String password) {
+        Response response = post("POST /api/auth/login", "/api/auth/login",
+                Map.of("username", username, "password", password), null);
+        if (!response.isSuccess()) {
+            return null;
+        }
+        Object token = response.asMap().get("accessToken");
+        return token != null ? token.toString() : null;
+    }
+
+    public Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(String label, HttpRequest request) {
+        EndpointStats endpoint = stats.computeIfAbsent(label, EndpointStats::new);
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            endpoint.record(System.nanoTime() - startedAt, response.statusCode());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            endpoint.recordFailure(System.nanoTime() - startedAt);
+            return new Response(0, new byte[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            endpoint.recordFailure(System.nanoTime() - startedAt);
+            return new Response(0, new byte[0]);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public class Response {
+        private final int status;
+        private final byte[] body;
+
+        Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int status() {
+            return status;
+        }
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public int bodyLength() {
+            return body.length;
+        }
+
+        public Map<String, Object> asMap() {
+            return read(new TypeReference<>() {
+            });
+        }
+
+        public List<Map<String, Object>> asList() {
+            return read(new TypeReference<>() {
+            });
+        }
+
+        private <T> T read(TypeReference<T> type) {
+            try {
+                return objectMapper.readValue(body, type);
+            } catch (IOException e) {
+                throw new IllegalStateException("응답 해석 실패 (status=" + status + ")", e);
+            }
+        }
+    }
+
+    /**
+     * 엔드포인트별 응답 시간 표본과 결과 집계
+     */
+    public static class EndpointStats {
+        private final String label;
+        private final List<Long> latenciesNanos = new ArrayList<>();
+        private long success;
+        private long clientErrors;
+        private long serverErrors;
+        private long failures;
+
+        EndpointStats(String label) {
+            this.label = label;
+        }
+
+        synchronized void record(long nanos, int status) {
+            latenciesNanos.add(nanos);
+            if (status >= 500) {
+                serverErrors++;
+            } else if (status >= 400) {
+                clientErrors++;
+            } else {
+                success++;
+            }
+        }
+
+        synchronized void recordFailure(long nanos) {
+            latenciesNanos.add(nanos);
+            failures++;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public synchronized long[] sortedLatenciesNanos() {
+            return latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+
+        public synchronized long count() {
+            return latenciesNanos.size();
+        }
+
+        public synchronized long success() {
+            return success;
+        }
+
+        public synchronized long clientErrors() {
+            return clientErrors;
+        }
+
+        public synchronized long serverErrors() {
+            return serverErrors;
+        }
+
+        public synchronized long failures() {
+            return failures;
+        }
+    }
+}
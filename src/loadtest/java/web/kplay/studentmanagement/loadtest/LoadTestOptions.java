@@ -0,0 +1,73 @@
+package web.kplay.studentmanagement.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 지정, gradle -Ploadtest.students=2000 형태로 전달)
+ *
+ * @param students            생성할 재원생 수 (학부모 계정도 학생 수만큼)
+ * @param naverBookingsToday  오늘 날짜 네이버 예약 수 (스텁 네이버 서버가 응답)
+ * @param rushSeconds         등원 러시 구간 길이 - 오늘 수업 학생 전원이 이 시간 안에 키오스크로 등원
+ * @param parents             예약 오픈 시점에 동시에 몰리는 학부모 수
+ * @param boards              출석부/알림 화면을 띄워 둔 관리자 탭 수
+ * @param pollSeconds         관리자 화면 폴링 주기
+ * @param exports             동시에 엑셀을 내려받는 관리자 수
+ * @param exportRepeats       관리자 1명당 엑셀 내려받기 횟수
+ * @param threads             HTTP 요청 스레드 수 (동시 요청 상한)
+ * @param smsLatencyMillis    스텁 SMS 서버 응답 지연
+ * @param naverLatencyMillis  스텁 네이버 서버 응답 지연
+ * @param scenarios           실행할 시나리오 (kiosk, reservation, export 순서대로, board는 항상 배경으로 실행)
+ * @param reportDir           결과 보고서 디렉토리
+ */
+public record LoadTestOptions(
+        int students,
+        int naverBookingsToday,
+        int rushSeconds,
+        int parents,
+        int boards,
+        int pollSeconds,
+        int exports,
+        int exportRepeats,
+        int threads,
+        int smsLatencyMillis,
+        int naverLatencyMillis,
+        List<String> scenarios,
+        Path reportDir
+) {
+
+    // 키오스크는 전화번호 뒷 4자리로 찾으므로 학생 + 오늘 네이버 예약이 4자리 안에서 겹치지 않아야 한다
+    private static final int MAX_PHONE_SUFFIXES = 10000;
+
+    public LoadTestOptions {
+        if (students < 1 || students + naverBookingsToday > MAX_PHONE_SUFFIXES) {
+            throw new IllegalArgumentException("students + naverBookingsToday는 1 ~ " + MAX_PHONE_SUFFIXES + " 사이여야 합니다.");
+        }
+        parents = Math.min(parents, students);
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                intProperty("students", 500),
+                intProperty("naverBookingsToday", 40),
+                intProperty("rushSeconds", 60),
+                intProperty("parents", 200),
+                intProperty("boards", 5),
+                intProperty("pollSeconds", 5),
+                intProperty("exports", 3),
+                intProperty("exportRepeats", 5),
+                intProperty("threads", 64),
+                intProperty("smsLatencyMillis", 80),
+                intProperty("naverLatencyMillis", 300),
+                Arrays.stream(System.getProperty("loadtest.scenarios", "kiosk,reservation,export").split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .toList(),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+}
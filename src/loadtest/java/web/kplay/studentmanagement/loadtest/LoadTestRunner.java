@@ -0,0 +1,86 @@
+package web.kplay.studentmanagement.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import web.kplay.studentmanagement.StudentManagementApplication;
+import web.kplay.studentmanagement.loadtest.scenario.AdminBoardPollingScenario;
+import web.kplay.studentmanagement.loadtest.scenario.ExcelExportScenario;
+import web.kplay.studentmanagement.loadtest.scenario.KioskCheckInScenario;
+import web.kplay.studentmanagement.loadtest.scenario.ParentReservationStormScenario;
+import web.kplay.studentmanagement.loadtest.scenario.Scenario;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 실행 (./gradlew loadTest)
+ * 1. 알리고/네이버 스텁 서버 시작
+ * 2. 애플리케이션을 loadtest 프로필(기본 H2 메모리 DB)로 같은 JVM에서 기동
+ * 3. 가상 학원 데이터 생성
+ * 4. 관리자 화면 폴링을 배경으로 두고 선택한 시나리오를 순서대로 실행
+ * 5. 엔드포인트별 지연 시간/오류율 보고서 출력 및 저장
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final List<Scenario> SCENARIOS = List.of(
+            new KioskCheckInScenario(),
+            new ParentReservationStormScenario(),
+            new ExcelExportScenario());
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        Map<String, Scenario> scenariosByName = SCENARIOS.stream()
+                .collect(Collectors.toMap(Scenario::name, Function.identity()));
+        for (String name : options.scenarios()) {
+            if (!scenariosByName.containsKey(name)) {
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (가능: " + scenariosByName.keySet() + ")");
+            }
+        }
+
+        try (StubServers stubs = new StubServers(options.smsLatencyMillis(), options.naverLatencyMillis());
+             ConfigurableApplicationContext context = SpringApplication.run(StudentManagementApplication.class,
+                     "--spring.profiles.active=loadtest",
+                     "--server.port=0",
+                     "--sms.aligo.send-url=" + stubs.smsSendUrl(),
+                     "--naver.booking.api-url=" + stubs.naverBookingsUrl())) {
+
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            SyntheticAcademy academy = new SyntheticAcademyGenerator(context).generate(options);
+            stubs.setNaverBookings(academy.todayNaverBookings());
+
+            long startedAt = System.currentTimeMillis();
+            try (LoadDriver driver = new LoadDriver(baseUrl, options.threads())) {
+                AdminBoardPollingScenario boards = new AdminBoardPollingScenario();
+                boards.start(driver, academy, options);
+                try {
+                    for (String name : options.scenarios()) {
+                        log.info("시나리오 시작: {}", name);
+                        scenariosByName.get(name).run(driver, academy, options);
+                    }
+                } finally {
+                    boards.stop();
+                }
+
+                Map<String, Object> reportContext = new LinkedHashMap<>();
+                reportContext.put("options", options);
+                reportContext.put("elapsedSeconds", (System.currentTimeMillis() - startedAt) / 1000.0);
+                reportContext.put("smsStubHits", stubs.smsHits());
+                reportContext.put("naverStubHits", stubs.naverHits());
+
+                LatencyReport report = new LatencyReport(driver.stats(), reportContext);
+                System.out.println(report.toTable());
+                Path file = report.writeJson(options.reportDir());
+                log.info("부하 테스트 보고서 저장: {} (문자 스텁 {}건, 네이버 스텁 {}건)",
+                        file.toAbsolutePath(), stubs.smsHits(), stubs.naverHits());
+            }
+        }
+        // 스케줄러 등 비데몬 스레드가 남아 있을 수 있으므로 명시적으로 종료
+        System.exit(0);
+    }
+}
@@ -0,0 +1,120 @@
+package web.kplay.studentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 연동 스텁 서버 (알리고 문자, 네이버 파트너 예약 API)
+ * - 설정한 지연 시간 후 실제 API와 같은 형식으로 응답해 외부 호출 대기가 부하 결과에 반영되게 한다
+ * - 빈 포트에 바인딩하며 호출 횟수를 보고서에 함께 남긴다
+ */
+@Slf4j
+public class StubServers implements AutoCloseable {
+
+    private static final String SMS_PATH = "/sms/send/";
+    private static final String NAVER_PATH = "/naver/bookings";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final long smsLatencyMillis;
+    private final long naverLatencyMillis;
+    private final AtomicLong smsHits = new AtomicLong();
+    private final AtomicLong naverHits = new AtomicLong();
+    private volatile List<Map<String, Object>> naverBookings = List.of();
+
+    public StubServers(long smsLatencyMillis, long naverLatencyMillis) throws IOException {
+        this.smsLatencyMillis = smsLatencyMillis;
+        this.naverLatencyMillis = naverLatencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(SMS_PATH, this::handleSms);
+        server.createContext(NAVER_PATH, this::handleNaver);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        log.info("스텁 서버 시작: {}", baseUrl());
+    }
+
+    public String smsSendUrl() {
+        return baseUrl() + SMS_PATH;
+    }
+
+    public String naverBookingsUrl() {
+        return baseUrl() + NAVER_PATH;
+    }
+
+    /**
+     * 네이버 스텁이 돌려줄 오늘 예약 (데이터 생성 후 설정)
+     */
+    public void setNaverBookings(List<Map<String, Object>> bookings) {
+        this.naverBookings = List.copyOf(bookings);
+    }
+
+    public long smsHits() {
+        return smsHits.get();
+    }
+
+    public long naverHits() {
+        return naverHits.get();
+    }
+
+    private void handleSms(HttpExchange exchange) throws IOException {
+        long id = smsHits.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        pause(smsLatencyMillis);
+        respond(exchange, Map.of(
+                "result_code", "1",
+                "message", "success",
+                "msg_id", String.valueOf(900_000_000L + id),
+                "success_cnt", 1,
+                "error_cnt", 0,
+                "msg_type", "SMS"));
+    }
+
+    private void handleNaver(HttpExchange exchange) throws IOException {
+        naverHits.incrementAndGet();
+        pause(naverLatencyMillis);
+        // 한 페이지(50건)에 모두 담기도록 생성하므로 첫 페이지만 돌려준다
+        String query = exchange.getRequestURI().getRawQuery();
+        boolean firstPage = query != null && query.matches(".*(^|&)page=0(&|$).*");
+        respond(exchange, firstPage ? naverBookings : List.of());
+    }
+
+    private void respond(HttpExchange exchange, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,28 @@
+package web.kplay.studentmanagement.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 생성된 가상 학원 데이터 중 시나리오가 사용하는 값
+ *
+ * @param today              기준 날짜
+ * @param adminUsername      관리자 계정
+ * @param adminPassword      관리자 비밀번호
+ * @param parents            학부모 계정 (자녀 1명씩)
+ * @param kioskPhoneSuffixes 오늘 등원할 학생/네이버 예약의 전화번호 뒷 4자리
+ * @param todayNaverBookings 스텁 네이버 서버가 돌려줄 오늘 예약 (파트너 API 응답 형식)
+ */
+public record SyntheticAcademy(
+        LocalDate today,
+        String adminUsername,
+        String adminPassword,
+        List<ParentAccount> parents,
+        List<String> kioskPhoneSuffixes,
+        List<Map<String, Object>> todayNaverBookings
+) {
+
+    public record ParentAccount(String username, String password, Long studentId) {
+    }
+}
@@ -0,0 +1,250 @@
+package web.kplay.studentmanagement.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.kplay.studentmanagement.domain.attendance.Attendance;
+import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
+import web.kplay.studentmanagement.domain.consultation.Consultation;
+import web.kplay.studentmanagement.domain.course.Course;
+import web.kplay.studentmanagement.domain.course.Enrollment;
+import web.kplay.studentmanagement.domain.reservation.NaverBooking;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.domain.user.User;
+import web.kplay.studentmanagement.domain.user.UserRole;
+import web.kplay.studentmanagement.repository.BulkWriter;
+import web.kplay.studentmanagement.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 가상 학원 데이터 생성 (빈 DB 전용)
+ * - 선생님 4명과 반 4개(Able/Basic/Core/Development), 재원생 N명과 학부모 N명, 학생별 활성 수강권
+ * - 지난 30일 출석 기록(학생마다 3일에 한 번 수업) + 오늘 오후 4시대 수업 출석 대기 행
+ * - 지난 30일 네이버 예약, 학생별 상담 기록 1건(엑셀 내보내기 대상)
+ * 학생 전화번호 뒷 4자리는 0000부터, 오늘 네이버 예약은 9999부터 거꾸로 매겨 키오스크 조회가 겹치지 않게 한다.
+ */
+@Slf4j
+public class SyntheticAcademyGenerator {
+
+    static final String ADMIN_USERNAME = "lt-admin";
+    static final String PASSWORD = "loadtest1!";
+
+    private static final int CHUNK_SIZE = 2000;
+    private static final String[] COURSES = {"Able", "Basic", "Core", "Development"};
+    private static final int[] DURATIONS = {60, 90, 120, 150};
+    private static final String[] FAMILY = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN = {"도윤", "서연", "하준", "지우", "민서", "예준", "시우", "주원", "유나", "연우"};
+    private static final ZoneId KOREA = ZoneId.of("Asia/Seoul");
+
+    private final UserRepository userRepository;
+    private final BulkWriter bulkWriter;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random = new Random(20260301L);
+
+    public SyntheticAcademyGenerator(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.bulkWriter = context.getBean(BulkWriter.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    public SyntheticAcademy generate(LoadTestOptions options) {
+        if (userRepository.findByUsername(ADMIN_USERNAME).isPresent()) {
+            throw new IllegalStateException("이미 부하 테스트 데이터가 있습니다. 빈 DB에서 실행하세요.");
+        }
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now(KOREA);
+        // BCrypt는 느리므로 모든 계정이 같은 해시를 쓴다
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        List<User> teachers = new ArrayList<>();
+        List<Course> courses = new ArrayList<>();
+        inTransaction(() -> {
+            bulkWriter.persistAll(List.of(User.builder()
+                    .username(ADMIN_USERNAME).password(encodedPassword).name("부하테스트 관리자")
+                    .role(UserRole.ADMIN).build()));
+            for (int c = 0; c < COURSES.length; c++) {
+                User teacher = User.builder()
+                        .username("lt-teacher-" + c).password(encodedPassword).name(COURSES[c] + " 선생님")
+                        .role(UserRole.TEACHER).build();
+                teachers.add(teacher);
+                courses.add(Course.builder()
+                        .courseName(COURSES[c]).teacher(teacher)
+                        .maxStudents(12).durationMinutes(DURATIONS[c]).build());
+            }
+            bulkWriter.persistAll(teachers);
+            bulkWriter.persistAll(courses);
+        });
+
+        // 학생과 학부모
+        List<Student> students = new ArrayList<>(options.students());
+        List<User> parentUsers = new ArrayList<>(options.students());
+        for (int i = 0; i < options.students(); i++) {
+            String phone = studentParentPhone(i);
+            User parent = User.builder()
+                    .username("lt-parent-" + i).password(encodedPassword).name(name(i + 7) + " 학부모")
+                    .phoneNumber(phone).role(UserRole.PARENT).build();
+            parentUsers.add(parent);
+            students.add(Student.builder()
+                    .studentName(name(i) + (i >= FAMILY.length * GIVEN.length ? String.valueOf(i) : ""))
+                    .parentUser(parent).parentName(parent.getName()).parentPhone(phone)
+                    .school("가상초등학교").grade(String.valueOf(i % 6 + 1))
+                    .defaultCourse(courses.get(i % COURSES.length))
+                    .build());
+        }
+        persistInChunks(parentUsers);
+        persistInChunks(students);
+
+        List<Enrollment> enrollments = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            enrollments.add(Enrollment.builder()
+                    .student(students.get(i)).course(courses.get(i % COURSES.length))
+                    .startDate(today.minusMonths(1)).endDate(today.plusMonths(2))
+                    .totalCount(24).remainingCount(24 - 8).build());
+        }
+        persistInChunks(enrollments);
+
+        // 지난 30일 + 오늘 출석
+        List<Attendance> attendances = new ArrayList<>();
+        List<String> kioskPhoneSuffixes = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            Course course = courses.get(i % COURSES.length);
+            LocalTime classTime = LocalTime.of(16, 0).plusMinutes(30L * (i % 4));
+            for (int d = 30; d >= 0; d--) {
+                LocalDate date = today.minusDays(d);
+                if ((date.toEpochDay() + i) % 3 != 0) {
+                    continue;
+                }
+                Attendance.AttendanceBuilder builder = Attendance.builder()
+                        .student(student).course(course)
+                        .attendanceDate(date).attendanceTime(classTime)
+                        .durationMinutes(course.getDurationMinutes())
+                        .expectedLeaveTime(classTime.plusMinutes(course.getDurationMinutes()));
+                if (d == 0) {
+                    builder.status(AttendanceStatus.NOTYET);
+                    kioskPhoneSuffixes.add(phoneSuffix(i));
+                } else {
+                    int roll = random.nextInt(100);
+                    AttendanceStatus status = roll < 85 ? AttendanceStatus.PRESENT : roll < 93 ? AttendanceStatus.LATE : AttendanceStatus.ABSENT;
+                    builder.status(status);
+                    if (status != AttendanceStatus.ABSENT) {
+                        LocalDateTime checkIn = date.atTime(classTime).plusMinutes(random.nextInt(20) - 10);
+                        builder.checkInTime(checkIn)
+                                .checkOutTime(checkIn.plusMinutes(course.getDurationMinutes()))
+                                .classCompleted(true);
+                    }
+                }
+                attendances.add(builder.build());
+            }
+        }
+        persistInChunks(attendances);
+
+        // 지난 30일 네이버 예약 (재원생 학부모의 체험/추가 수업 예약)
+        List<NaverBooking> pastBookings = new ArrayList<>();
+        int pastCount = options.naverBookingsToday() * 20;
+        for (int j = 0; j < pastCount; j++) {
+            LocalDate date = today.minusDays(1 + j % 30);
+            LocalDateTime start = date.atTime(14 + j % 6, 0);
+            int studentIndex = j % students.size();
+            pastBookings.add(NaverBooking.builder()
+                    .bookingNumber("LT-P-" + j).status("RC03")
+                    .name(parentUsers.get(studentIndex).getName()).studentName(students.get(studentIndex).getStudentName())
+                    .phone(studentParentPhone(studentIndex)).product("리틀베어 리딩클럽 체험수업")
+                    .bookingTime(date.toString()).bookingDate(date)
+                    .bookingStartAt(start).bookingEndAt(start.plusHours(1))
+                    .build());
+        }
+        persistInChunks(pastBookings);
+
+        // 상담 기록 (학생별 1건, 지난 30일 안)
+        List<Consultation> consultations = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            consultations.add(Consultation.builder()
+                    .student(students.get(i)).consultant(teachers.get(i % teachers.size()))
+                    .consultationDate(today.minusDays(i % 30)).consultationTime(LocalTime.of(18, 0))
+                    .title("정기 상담").content("리딩 레벨 점검 및 다음 달 수업 계획 안내")
+                    .build());
+        }
+        persistInChunks(consultations);
+
+        List<Map<String, Object>> todayNaverBookings = new ArrayList<>();
+        for (int j = 0; j < options.naverBookingsToday(); j++) {
+            String suffix = String.format("%04d", 9999 - j);
+            kioskPhoneSuffixes.add(suffix);
+            todayNaverBookings.add(naverBookingJson(j, today, suffix));
+        }
+
+        List<SyntheticAcademy.ParentAccount> parents = new ArrayList<>(options.parents());
+        for (int i = 0; i < options.parents(); i++) {
+            parents.add(new SyntheticAcademy.ParentAccount(parentUsers.get(i).getUsername(), PASSWORD, students.get(i).getId()));
+        }
+
+        log.info("가상 학원 데이터 생성 완료: 학생 {}명, 출석 {}건, 네이버 예약 {}건(오늘 {}건), 상담 {}건, {}ms",
+                students.size(), attendances.size(), pastBookings.size(), todayNaverBookings.size(),
+                consultations.size(), System.currentTimeMillis() - startedAt);
+        return new SyntheticAcademy(today, ADMIN_USERNAME, PASSWORD, parents, kioskPhoneSuffixes, todayNaverBookings);
+    }
+
+    private <T> void persistInChunks(List<T> entities) {
+        for (int from = 0; from < entities.size(); from += CHUNK_SIZE) {
+            List<T> chunk = entities.subList(from, Math.min(from + CHUNK_SIZE, entities.size()));
+            inTransaction(() -> bulkWriter.persistAll(chunk));
+        }
+    }
+
+    private void inTransaction(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    /**
+     * 네이버 파트너 API 예약 1건 (NaverBookingApiCrawlerService.parseBookingNode가 읽는 필드)
+     */
+    private Map<String, Object> naverBookingJson(int j, LocalDate today, String phoneSuffix) {
+        LocalDateTime start = today.atTime(16, 0).plusMinutes(30L * (j % 4));
+        DateTimeFormatter utc = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("startDateTime", start.atZone(KOREA).withZoneSameInstant(ZoneOffset.UTC).format(utc));
+        snapshot.put("endDateTime", start.plusHours(1).atZone(KOREA).withZoneSameInstant(ZoneOffset.UTC).format(utc));
+        snapshot.put("customFormInputJson", List.of(
+                Map.of("title", "학생이름", "value", "체험" + name(j)),
+                Map.of("title", "학교/학년", "value", "가상초등학교 " + (j % 6 + 1) + "학년")));
+
+        Map<String, Object> booking = new LinkedHashMap<>();
+        booking.put("bookingId", 1_900_000_000L + j);
+        booking.put("bookingStatusCode", "RC03");
+        booking.put("name", name(j + 3) + " 학부모");
+        booking.put("phone", "0108888" + phoneSuffix);
+        booking.put("startDate", today.toString());
+        booking.put("bizItemName", "리틀베어 리딩클럽 체험수업");
+        booking.put("snapshotJson", snapshot);
+        return booking;
+    }
+
+    private static String studentParentPhone(int i) {
+        return String.format("010-%04d-%s", 1000 + (i * 37) % 9000, phoneSuffix(i));
+    }
+
+    private static String phoneSuffix(int i) {
+        return String.format("%04d", i);
+    }
+
+    private static String name(int i) {
+        return FAMILY[i % FAMILY.length] + GIVEN[(i / FAMILY.length) % GIVEN.length];
+    }
+}
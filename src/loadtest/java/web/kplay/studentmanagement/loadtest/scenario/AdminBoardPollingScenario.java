@@ -0,0 +1,71 @@
+package web.kplay.studentmanagement.loadtest.scenario;
+
+import lombok.extern.slf4j.Slf4j;
+import web.kplay.studentmanagement.loadtest.LoadDriver;
+import web.kplay.studentmanagement.loadtest.LoadTestOptions;
+import web.kplay.studentmanagement.loadtest.SyntheticAcademy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 화면 폴링 (다른 시나리오가 도는 동안 배경 부하)
+ * - 관리자 탭 boards개가 pollSeconds 간격으로 오늘 출석부, 새 예약, 안 읽은 알림 수, 대시보드 통계를 조회
+ * - start로 시작하고 stop으로 멈춘다
+ */
+@Slf4j
+public class AdminBoardPollingScenario {
+
+    private final List<Thread> boards = new ArrayList<>();
+    private volatile boolean running;
+
+    public void start(LoadDriver driver, SyntheticAcademy academy, LoadTestOptions options) {
+        String token = driver.login(academy.adminUsername(), academy.adminPassword());
+        running = true;
+        for (int i = 0; i < options.boards(); i++) {
+            long offsetMillis = options.pollSeconds() * 1000L * i / Math.max(1, options.boards());
+            Thread board = new Thread(() -> poll(driver, academy, token, options.pollSeconds() * 1000L, offsetMillis),
+                    "loadtest-board-" + i);
+            board.setDaemon(true);
+            boards.add(board);
+            board.start();
+        }
+        log.info("관리자 화면 폴링 시작: {}개, {}초 간격", options.boards(), options.pollSeconds());
+    }
+
+    public void stop() {
+        running = false;
+        boards.forEach(Thread::interrupt);
+        for (Thread board : boards) {
+            try {
+                board.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void poll(LoadDriver driver, SyntheticAcademy academy, String token, long intervalMillis, long offsetMillis) {
+        if (!sleep(offsetMillis)) {
+            return;
+        }
+        while (running) {
+            driver.get("GET /api/attendances/date/{date}", "/api/attendances/date/" + academy.today(), token);
+            driver.get("GET /api/reservations/new", "/api/reservations/new", token);
+            driver.get("GET /api/notifications/unread-count", "/api/notifications/unread-count", token);
+            driver.get("GET /api/dashboard/stats", "/api/dashboard/stats", token);
+            if (!sleep(intervalMillis)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package web.kplay.studentmanagement.loadtest.scenario;
+
+import lombok.extern.slf4j.Slf4j;
+import web.kplay.studentmanagement.loadtest.LoadDriver;
+import web.kplay.studentmanagement.loadtest.LoadTestOptions;
+import web.kplay.studentmanagement.loadtest.SyntheticAcademy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엑셀 내보내기 (월말 정산 시점)
+ * - 관리자 exports명이 동시에 지난 한 달 상담 이력을 exportRepeats번씩 내려받는다
+ */
+@Slf4j
+public class ExcelExportScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "export";
+    }
+
+    @Override
+    public void run(LoadDriver driver, SyntheticAcademy academy, LoadTestOptions options) {
+        String token = driver.login(academy.adminUsername(), academy.adminPassword());
+        LocalDate endDate = academy.today();
+        LocalDate startDate = endDate.minusDays(30);
+        String path = "/api/consultations/export/date-range?startDate=" + startDate + "&endDate=" + endDate;
+
+        AtomicLong bytes = new AtomicLong();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < options.exports(); i++) {
+            tasks.add(() -> {
+                for (int r = 0; r < options.exportRepeats(); r++) {
+                    LoadDriver.Response response = driver.get("GET /api/consultations/export/date-range", path, token);
+                    bytes.addAndGet(response.bodyLength());
+                }
+            });
+        }
+        driver.runAll(tasks);
+        log.info("엑셀 내보내기 {}건 완료 (총 {}KB)", options.exports() * options.exportRepeats(), bytes.get() / 1024);
+    }
+}
@@ -0,0 +1,56 @@
+package web.kplay.studentmanagement.loadtest.scenario;
+
+import lombok.extern.slf4j.Slf4j;
+import web.kplay.studentmanagement.loadtest.LoadDriver;
+import web.kplay.studentmanagement.loadtest.LoadTestOptions;
+import web.kplay.studentmanagement.loadtest.SyntheticAcademy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 키오스크 등원 러시
+ * - 관리자가 오늘 네이버 예약을 동기화(스텁 네이버 서버 호출)한 뒤
+ * - 오늘 수업이 있는 학생과 네이버 예약자가 rushSeconds 동안 무작위 순서로 도착해 전화번호 뒷 4자리 조회 후 출석
+ */
+@Slf4j
+public class KioskCheckInScenario implements Scenario {
+
+    private static final String SEARCH = "POST /api/attendances/search-by-phone";
+    private static final String CHECK_IN = "POST /api/attendances/checkin-by-phone";
+
+    @Override
+    public String name() {
+        return "kiosk";
+    }
+
+    @Override
+    public void run(LoadDriver driver, SyntheticAcademy academy, LoadTestOptions options) {
+        String adminToken = driver.login(academy.adminUsername(), academy.adminPassword());
+        driver.post("POST /api/naver-booking/sync", "/api/naver-booking/sync?date=" + academy.today(), Map.of(), adminToken);
+
+        List<String> arrivals = new ArrayList<>(academy.kioskPhoneSuffixes());
+        Collections.shuffle(arrivals, new Random(7));
+        long rushNanos = options.rushSeconds() * 1_000_000_000L;
+        long startedAt = System.nanoTime();
+
+        List<Runnable> tasks = new ArrayList<>(arrivals.size());
+        for (int i = 0; i < arrivals.size(); i++) {
+            String phoneLast4 = arrivals.get(i);
+            long arriveAt = startedAt + rushNanos * i / Math.max(1, arrivals.size());
+            tasks.add(() -> {
+                LockSupport.parkNanos(arriveAt - System.nanoTime());
+                Map<String, Object> body = Map.of("phoneLast4", phoneLast4);
+                if (driver.post(SEARCH, "/api/attendances/search-by-phone", body, null).isSuccess()) {
+                    driver.post(CHECK_IN, "/api/attendances/checkin-by-phone", body, null);
+                }
+            });
+        }
+        driver.runAll(tasks);
+        log.info("키오스크 등원 {}건 완료 ({}초 분산)", arrivals.size(), options.rushSeconds());
+    }
+}
@@ -0,0 +1,101 @@
+package web.kplay.studentmanagement.loadtest.scenario;
+
+import lombok.extern.slf4j.Slf4j;
+import web.kplay.studentmanagement.loadtest.LoadDriver;
+import web.kplay.studentmanagement.loadtest.LoadTestOptions;
+import web.kplay.studentmanagement.loadtest.SyntheticAcademy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 학부모 예약 폭주 (예약 오픈 직후 상황)
+ * - 학부모들이 동시에 로그인해 이틀 뒤 재원생 수업 시간대를 조회하고
+ * - 남은 자리가 있는 시간대 중 하나를 예약한 뒤 내 예약 목록을 확인
+ * 마감된 시간대 예약 거절(4xx)은 정상 동작이므로 보고서에서 거절로 따로 집계된다.
+ */
+@Slf4j
+public class ParentReservationStormScenario implements Scenario {
+
+    private static final String CONSULTATION_TYPE = "재원생수업";
+
+    @Override
+    public String name() {
+        return "reservation";
+    }
+
+    @Override
+    public void run(LoadDriver driver, SyntheticAcademy academy, LoadTestOptions options) {
+        LocalDate date = academy.today().plusDays(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Runnable> tasks = new ArrayList<>();
+        for (SyntheticAcademy.ParentAccount parent : academy.parents()) {
+            tasks.add(() -> {
+                String token = driver.login(parent.username(), parent.password());
+                if (token == null) {
+                    return;
+                }
+                awaitQuietly(start);
+                LoadDriver.Response slots = driver.get("GET /api/reservations/time-slot-status/{date}",
+                        "/api/reservations/time-slot-status/" + date + "?consultationType=" + CONSULTATION_TYPE, token);
+                String time = pickAvailableTime(slots, parent.studentId());
+                if (time != null) {
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("studentId", parent.studentId());
+                    body.put("reservationDate", date.toString());
+                    body.put("reservationTime", time);
+                    body.put("consultationType", CONSULTATION_TYPE);
+                    body.put("reservationSource", "WEB");
+                    driver.post("POST /api/reservations", "/api/reservations", body, token);
+                }
+                driver.get("GET /api/reservations/my-reservations", "/api/reservations/my-reservations", token);
+            });
+        }
+
+        // 로그인은 미리 끝내고 조회/예약만 동시에 출발시킨다
+        Thread opener = new Thread(() -> {
+            sleepQuietly(2000);
+            start.countDown();
+        });
+        opener.start();
+        driver.runAll(tasks);
+        log.info("학부모 예약 폭주 {}명 완료", tasks.size());
+    }
+
+    private String pickAvailableTime(LoadDriver.Response slots, Long studentId) {
+        if (!slots.isSuccess()) {
+            return null;
+        }
+        List<String> available = new ArrayList<>();
+        for (Map<String, Object> slot : slots.asList()) {
+            if ("AVAILABLE".equals(slot.get("status"))) {
+                available.add(String.valueOf(slot.get("time")));
+            }
+        }
+        if (available.isEmpty()) {
+            return null;
+        }
+        // 학생마다 고르게 흩어 일부 시간대에 경합이 생기도록 한다
+        return available.get((int) (studentId % available.size()));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package web.kplay.studentmanagement.loadtest.scenario;
+
+import web.kplay.studentmanagement.loadtest.LoadDriver;
+import web.kplay.studentmanagement.loadtest.LoadTestOptions;
+import web.kplay.studentmanagement.loadtest.SyntheticAcademy;
+
+/**
+ * 부하 시나리오 (한 번 실행하면 끝날 때까지 블로킹)
+ */
+public interface Scenario {
+
+    String name();
+
+    void run(LoadDriver driver, SyntheticAcademy academy, LoadTestOptions options);
+}
@@ -0,0 +1,46 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Java 마이그레이션 공통 기능
+ * MySQL은 ADD COLUMN / CREATE INDEX IF NOT EXISTS를 지원하지 않으므로 JDBC 메타데이터로 존재 여부를 확인한 뒤 실행한다.
+ * (ddl-auto로 컬럼/인덱스가 먼저 생긴 운영 DB 대비 + MySQL과 H2(MySQL 호환 모드)에서 같은 마이그레이션 실행)
+ */
+final class MigrationSupport {
+
+    private MigrationSupport() {
+    }
+
+    static void addColumnIfMissing(Connection connection, String table, String column, String definition) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            if (columns.next()) {
+                return;
+            }
+        }
+        execute(connection, "ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+    }
+
+    static void createIndexIfMissing(Connection connection, String index, String table, String columns) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return;
+                }
+            }
+        }
+        execute(connection, "CREATE INDEX " + index + " ON " + table + " (" + columns + ")");
+    }
+
+    static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
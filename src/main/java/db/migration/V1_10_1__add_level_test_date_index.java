@@ -0,0 +1,15 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 월별 레벨테스트 캘린더 (test_date 범위 조회)
+ */
+public class V1_10_1__add_level_test_date_index extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        MigrationSupport.createIndexIfMissing(context.getConnection(), "idx_level_tests_test_date", "level_tests", "test_date");
+    }
+}
@@ -0,0 +1,22 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+/**
+ * 레코딩 스트리밍 변환 결과 컬럼
+ * 이 컬럼이 추가된 뒤 Flyway로 넘어오기 전까지 ddl-auto(update)로 이미 컬럼이 생긴 환경이 있으므로 확인 후 추가
+ */
+public class V1_6__add_recording_transcode_columns extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        MigrationSupport.addColumnIfMissing(connection, "recordings", "transcode_status", "VARCHAR(20)");
+        MigrationSupport.addColumnIfMissing(connection, "recordings", "stream_url", "VARCHAR(255)");
+        MigrationSupport.addColumnIfMissing(connection, "recordings", "waveform_url", "VARCHAR(255)");
+        MigrationSupport.addColumnIfMissing(connection, "recordings", "duration_seconds", "DOUBLE");
+    }
+}
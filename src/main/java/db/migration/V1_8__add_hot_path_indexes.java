@@ -0,0 +1,38 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+/**
+ * 자주 실행되는 조회 조건에 맞춘 인덱스 (ddl-auto로 일부 인덱스가 먼저 만들어진 환경 대비해 확인 후 생성)
+ */
+public class V1_8__add_hot_path_indexes extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 출결 일자별 조회 (findByDate, 대시보드 오늘 출결)
+        MigrationSupport.createIndexIfMissing(connection, "idx_attendances_date", "attendances", "attendance_date");
+        // 학생별 기간 출결 (마이페이지, 학부모 달력)
+        MigrationSupport.createIndexIfMissing(connection, "idx_attendances_student_date", "attendances", "student_id, attendance_date");
+        // 신규 예약 피드
+        MigrationSupport.createIndexIfMissing(connection, "idx_reservations_created_at", "reservations", "created_at");
+        // 일자별 예약/시간대 중복 확인, 관리자 예약 목록 기간 조회
+        MigrationSupport.createIndexIfMissing(connection, "idx_reservations_date_time_status", "reservations",
+                "reservation_date, reservation_time, status");
+        // 학생별 향후 예약
+        MigrationSupport.createIndexIfMissing(connection, "idx_reservations_student_date", "reservations", "student_id, reservation_date");
+        // 학생별 활성 수강권
+        MigrationSupport.createIndexIfMissing(connection, "idx_enrollments_student_active", "enrollments", "student_id, is_active");
+        // 자동 문자 중복 발송 확인
+        MigrationSupport.createIndexIfMissing(connection, "idx_messages_student_type_sent", "messages",
+                "student_id, message_type, sent_at");
+        // 발송일 기간 조회
+        MigrationSupport.createIndexIfMissing(connection, "idx_messages_sent_at", "messages", "sent_at");
+        // 문자 발송 이력 기간 조회/통계
+        MigrationSupport.createIndexIfMissing(connection, "idx_sms_history_created_at", "sms_history", "created_at");
+    }
+}
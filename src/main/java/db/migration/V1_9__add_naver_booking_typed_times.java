@@ -0,0 +1,89 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import web.kplay.studentmanagement.service.NaverBookingTimeParser;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 네이버 예약 일시를 문자열 대신 날짜/시간 컬럼으로 저장 (한국시간)
+ * 기존 데이터는 수집 시와 같은 NaverBookingTimeParser로 채운다
+ * - 파트너 API 수집분: order_date/confirm_date가 UTC 시각(…Z)이며 이용 시작/종료 일시
+ * - 예약 목록 화면/수동 보정분: booking_time이 이용 일시, order_date/confirm_date는 신청/확정 일시
+ */
+public class V1_9__add_naver_booking_typed_times extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        MigrationSupport.execute(connection, "ALTER TABLE naver_bookings ADD COLUMN booking_date DATE");
+        MigrationSupport.execute(connection, "ALTER TABLE naver_bookings ADD COLUMN booking_start_at DATETIME(6)");
+        MigrationSupport.execute(connection, "ALTER TABLE naver_bookings ADD COLUMN booking_end_at DATETIME(6)");
+        MigrationSupport.execute(connection, "ALTER TABLE naver_bookings ADD COLUMN ordered_at DATETIME(6)");
+        MigrationSupport.execute(connection, "ALTER TABLE naver_bookings ADD COLUMN confirmed_at DATETIME(6)");
+        MigrationSupport.execute(connection, "CREATE INDEX idx_naver_bookings_booking_date ON naver_bookings (booking_date)");
+
+        backfill(connection);
+    }
+
+    private void backfill(Connection connection) throws Exception {
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, booking_time, order_date, confirm_date FROM naver_bookings");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE naver_bookings SET booking_date = ?, booking_start_at = ?, booking_end_at = ?,"
+                             + " ordered_at = ?, confirmed_at = ? WHERE id = ?")) {
+            int pending = 0;
+            while (rows.next()) {
+                String bookingTime = rows.getString("booking_time");
+                String orderDate = rows.getString("order_date");
+                String confirmDate = rows.getString("confirm_date");
+
+                LocalDateTime startAt;
+                LocalDateTime endAt = null;
+                LocalDateTime orderedAt = null;
+                LocalDateTime confirmedAt = null;
+                if (orderDate != null && orderDate.trim().endsWith("Z")) {
+                    startAt = NaverBookingTimeParser.parseDateTime(orderDate);
+                    endAt = NaverBookingTimeParser.parseDateTime(confirmDate);
+                } else {
+                    startAt = NaverBookingTimeParser.parseDateTime(bookingTime);
+                    orderedAt = NaverBookingTimeParser.parseDateTime(orderDate);
+                    confirmedAt = NaverBookingTimeParser.parseDateTime(confirmDate);
+                }
+                LocalDate bookingDate = NaverBookingTimeParser.parseDate(bookingTime);
+                if (bookingDate == null && startAt != null) {
+                    bookingDate = startAt.toLocalDate();
+                }
+
+                update.setDate(1, bookingDate != null ? Date.valueOf(bookingDate) : null);
+                update.setTimestamp(2, toTimestamp(startAt));
+                update.setTimestamp(3, toTimestamp(endAt));
+                update.setTimestamp(4, toTimestamp(orderedAt));
+                update.setTimestamp(5, toTimestamp(confirmedAt));
+                update.setLong(6, rows.getLong("id"));
+                update.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
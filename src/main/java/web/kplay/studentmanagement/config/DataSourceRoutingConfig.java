@@ -0,0 +1,67 @@
+package web.kplay.studentmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (app.datasource.read.enabled=true 일 때)
+ * - 쓰기 풀: spring.datasource.* (출석 체크 등 쓰기 트랜잭션 전용)
+ * - 읽기 풀: app.datasource.read.* (복제본 주소, 미지정 시 같은 DB를 별도 풀로 사용)
+ * 목록 조회/엑셀 내보내기처럼 무거운 읽기 작업이 쓰기 커넥션을 차지하지 않도록 풀을 나눈다.
+ * 쓰기 커밋 직후에는 (read-after-write-ms + 마지막 복제 지연) 동안 읽기도 쓰기 풀로 보내 방금 쓴 내용을 읽게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("write-pool");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.read.hikari")
+    public HikariDataSource readDataSource(DataSourceProperties properties,
+                                           @Value("${app.datasource.read.url}") String url,
+                                           @Value("${app.datasource.read.username}") String username,
+                                           @Value("${app.datasource.read.password}") String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("read-pool");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("readDataSource") DataSource readDataSource,
+                                               @Value("${app.datasource.read.max-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(readDataSource, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${app.datasource.read.read-after-write-ms:1000}") long readAfterWriteMillis) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(writeDataSource, readDataSource, replicaLagMonitor::isReadAvailable,
+                        () -> readAfterWriteMillis + replicaLagMonitor.getLagSeconds() * 1000L));
+    }
+}
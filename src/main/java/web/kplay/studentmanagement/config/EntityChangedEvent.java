@@ -0,0 +1,8 @@
+package web.kplay.studentmanagement.config;
+
+/**
+ * 커밋된 엔티티 변경 (추가/수정/삭제) - EntityChangeEventPublisher가 트랜잭션 커밋 후 발행
+ * 캐시 무효화처럼 커밋된 데이터만 봐야 하는 처리는 @EventListener로 이 이벤트를 구독한다.
+ */
+public record EntityChangedEvent(Object entity) {
+}
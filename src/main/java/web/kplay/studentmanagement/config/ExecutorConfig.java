@@ -0,0 +1,65 @@
+package web.kplay.studentmanagement.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업 스레드 풀 설정
+ * 풀 크기는 DB 커넥션 풀(쓰기 10개, 읽기 6개)을 넘지 않도록 작게 유지
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 마이페이지 섹션 병렬 조회용 스레드 풀
+     * 섹션마다 읽기 풀 커넥션을 하나씩 사용하므로 동시 실행 수를 4개로 제한
+     * 큐가 차면 요청 스레드에서 직접 조회 - 거절로 마이페이지 전체가 실패하지 않도록
+     */
+    @Bean(name = "myPageExecutor")
+    public ThreadPoolTaskExecutor myPageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("mypage-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 레코딩 변환(ffmpeg) 작업용 스레드 풀
+     * CPU를 많이 쓰므로 동시 변환은 2개로 제한하고, 큐가 차면 거절 - 대기 상태로 남은 건은 스케줄러가 다시 넣는다
+     */
+    @Bean(name = "recordingTranscodeExecutor")
+    public ThreadPoolTaskExecutor recordingTranscodeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("transcode-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 관리자 알림 SSE 전송용 단일 스레드
+     * 이벤트를 발행 순서대로 보내기 위해 스레드는 하나만 두고, 커밋한 요청 스레드가 전송을 기다리지 않도록 분리
+     * 큐가 차면 거절 - 빠진 이벤트는 재연결 시 Last-Event-ID 재전송으로 복구된다
+     */
+    @Bean(name = "adminNotificationExecutor")
+    public ThreadPoolTaskExecutor adminNotificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("admin-sse-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package web.kplay.studentmanagement.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.service.invoice.InvoiceSummaryService;
+
+/**
+ * 청구서 월별 집계 테이블이 비어 있으면 기존 청구서로 초기 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvoiceSummaryInitializer implements CommandLineRunner {
+
+    private final InvoiceSummaryService invoiceSummaryService;
+
+    @Override
+    public void run(String... args) {
+        try {
+            invoiceSummaryService.backfillIfEmpty();
+        } catch (Exception e) {
+            log.error("청구서 월별 집계 초기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package web.kplay.studentmanagement.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 업무 지표(Micrometer) 설정
+ * - 서비스 메서드의 @Timed를 타이머로 기록 (kplay.* 지표는 application.yml에서 백분위 히스토그램 활성화)
+ * - HTTP 요청, Hikari 풀, Hibernate 통계, @Scheduled 실행 시간(tasks.scheduled.execution)은 스프링 부트 자동 설정
+ * 수집 주소: /actuator/prometheus (SecurityConfig의 지표 수집 계정 또는 관리자)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package web.kplay.studentmanagement.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 읽기/쓰기 커넥션 분리
+ * - @Transactional(readOnly = true) 트랜잭션은 읽기 풀, 나머지(쓰기, 트랜잭션 밖 조회)는 쓰기 풀 사용
+ * - 읽기 DB를 쓸 수 없으면(복제 지연, 연결 실패) 읽기 전용 트랜잭션도 쓰기 풀로 보낸다
+ * - 쓰기 트랜잭션이 커밋되면 readAfterWriteMillis 동안은 이 서버의 읽기 전용 트랜잭션도 쓰기 풀로 보낸다
+ *   (방금 저장한 내용을 다시 조회하거나 캐시를 다시 채울 때 복제본에 아직 반영되지 않은 옛 데이터를 읽지 않도록)
+ * 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        WRITE, READ
+    }
+
+    private final BooleanSupplier readAvailable;
+    private final LongSupplier readAfterWriteMillis;
+
+    // 이 시각(epoch ms)까지는 읽기 전용 트랜잭션도 쓰기 풀 사용
+    private volatile long writeRouteUntil;
+
+    public ReadWriteRoutingDataSource(DataSource writeDataSource, DataSource readDataSource,
+                                      BooleanSupplier readAvailable) {
+        this(writeDataSource, readDataSource, readAvailable, () -> 0L);
+    }
+
+    public ReadWriteRoutingDataSource(DataSource writeDataSource, DataSource readDataSource,
+                                      BooleanSupplier readAvailable, LongSupplier readAfterWriteMillis) {
+        this.readAvailable = readAvailable;
+        this.readAfterWriteMillis = readAfterWriteMillis;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.WRITE, writeDataSource);
+        targets.put(Route.READ, readDataSource);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(writeDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return readAvailable.getAsBoolean() && System.currentTimeMillis() >= writeRouteUntil
+                    ? Route.READ : Route.WRITE;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    routeReadsToWriteAfterCommit();
+                }
+            });
+        }
+        return Route.WRITE;
+    }
+
+    private void routeReadsToWriteAfterCommit() {
+        long window = readAfterWriteMillis.getAsLong();
+        if (window > 0) {
+            writeRouteUntil = Math.max(writeRouteUntil, System.currentTimeMillis() + window);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package web.kplay.studentmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+
+/**
+ * 읽기 DB 상태 확인 (5초마다)
+ * - MySQL 복제본이면 SHOW REPLICA STATUS의 지연 시간이 기준을 넘거나 복제가 멈췄을 때 사용 중지
+ * - 복제본이 아니면(같은 DB, H2, 권한 없음) 연결만 되면 사용
+ * - 커넥션을 못 받았을 때 읽기 풀이 모두 사용 중(active == total)이면 DB 장애가 아니므로 이전 상태를 유지,
+ *   풀이 비어 있거나 여유가 있는데도 못 받았으면 DB에 연결할 수 없는 것으로 보고 사용 중지
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String[][] STATUS_QUERIES = {
+            {"SHOW REPLICA STATUS", "Seconds_Behind_Source"},
+            {"SHOW SLAVE STATUS", "Seconds_Behind_Master"}
+    };
+
+    private final DataSource readDataSource;
+    private final long maxLagSeconds;
+
+    private volatile boolean readAvailable = true;
+    private volatile boolean replicaStatusSupported = true;
+    private volatile long lagSeconds;
+
+    public ReplicaLagMonitor(DataSource readDataSource, long maxLagSeconds) {
+        this.readDataSource = readDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReadAvailable() {
+        return readAvailable;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연 시간 (초, 복제본이 아니면 0)
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read.check-interval-ms:5000}")
+    public void check() {
+        boolean available;
+        try (Connection connection = readDataSource.getConnection()) {
+            Long lag = readLagSeconds(connection);
+            available = lag == null || lag <= maxLagSeconds;
+            if (available) {
+                lagSeconds = lag != null ? lag : 0L;
+            }
+            if (!available) {
+                log.debug("읽기 DB 복제 지연: {}초 (기준 {}초)", lag == Long.MAX_VALUE ? "복제 중지" : lag, maxLagSeconds);
+            }
+        } catch (SQLTransientConnectionException e) {
+            if (isPoolSaturated()) {
+                log.debug("읽기 풀이 모두 사용 중이라 상태 확인을 건너뜁니다.");
+                return;
+            }
+            log.debug("읽기 DB 연결 실패: {}", e.getMessage());
+            available = false;
+        } catch (SQLException e) {
+            log.debug("읽기 DB 연결 실패: {}", e.getMessage());
+            available = false;
+        }
+
+        if (available != readAvailable) {
+            readAvailable = available;
+            if (available) {
+                log.info("읽기 DB 복구 - 읽기 전용 트랜잭션을 다시 읽기 DB로 보냅니다.");
+            } else {
+                log.warn("읽기 DB 사용 불가(복제 지연 {}초 초과 또는 연결 실패) - 읽기 전용 트랜잭션을 쓰기 DB로 보냅니다.", maxLagSeconds);
+            }
+        }
+    }
+
+    /**
+     * 읽기 풀의 커넥션이 모두 사용 중인지 (풀 정보가 없으면 false)
+     */
+    private boolean isPoolSaturated() {
+        if (!(readDataSource instanceof HikariDataSource hikari) || hikari.getHikariPoolMXBean() == null) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int total = pool.getTotalConnections();
+        return total > 0 && pool.getActiveConnections() >= total;
+    }
+
+    /**
+     * 복제 지연 시간 (초)
+     * @return 복제본이 아니면 null, 복제가 멈췄으면 Long.MAX_VALUE
+     */
+    private Long readLagSeconds(Connection connection) throws SQLException {
+        if (!replicaStatusSupported) {
+            return null;
+        }
+        for (String[] query : STATUS_QUERIES) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(query[0])) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long lag = rs.getLong(query[1]);
+                return rs.wasNull() ? Long.MAX_VALUE : lag;
+            } catch (SQLException e) {
+                if (!connection.isValid(2)) {
+                    throw e;
+                }
+            }
+        }
+        // MySQL이 아니거나 REPLICATION CLIENT 권한이 없음 - 이후로는 연결 상태만 확인
+        replicaStatusSupported = false;
+        log.info("읽기 DB 복제 상태를 조회할 수 없어 연결 상태만 확인합니다.");
+        return null;
+    }
+}
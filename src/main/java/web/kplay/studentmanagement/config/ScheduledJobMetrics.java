@@ -0,0 +1,25 @@
+package web.kplay.studentmanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄 작업 처리 건수 지표 (kplay.scheduler.rows, job 태그)
+ * 실행 시간은 스프링이 tasks.scheduled.execution 타이머로 기록하므로 여기서는 건수만 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 처리 건수 기록
+     * @param job 작업 이름 (메서드 이름)
+     * @param rows 이번 실행에서 처리한 건수
+     */
+    public void recordRows(String job, long rows) {
+        meterRegistry.counter("kplay.scheduler.rows", "job", job).increment(rows);
+    }
+}
@@ -1,26 +1,35 @@
 package web.kplay.studentmanagement.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import web.kplay.studentmanagement.security.JwtAuthenticationEntryPoint;
 import web.kplay.studentmanagement.security.JwtAuthenticationFilter;
 import web.kplay.studentmanagement.security.JwtTokenProvider;
+import web.kplay.studentmanagement.security.StreamTicketStore;
 import web.kplay.studentmanagement.security.UserDetailsServiceImpl;
 
 import java.util.Arrays;
@@ -35,10 +44,11 @@ public class SecurityConfig {
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtAuthenticationEntryPoint unauthorizedHandler;
     private final JwtTokenProvider jwtTokenProvider;
+    private final StreamTicketStore streamTicketStore;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, streamTicketStore);
     }
 
     @Bean
@@ -73,7 +83,43 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 운영 지표(/actuator/**) 전용 보안 설정
+     * health는 공개, prometheus는 지표 수집 계정(HTTP Basic, app.metrics.*) 또는 관리자 JWT로만 조회
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   @Value("${app.metrics.username:metrics}") String metricsUsername,
+                                                   @Value("${app.metrics.password:}") String metricsPassword) throws Exception {
+        InMemoryUserDetailsManager metricsUsers = new InMemoryUserDetailsManager();
+        if (StringUtils.hasText(metricsPassword)) {
+            metricsUsers.createUser(User.withUsername(metricsUsername)
+                    .password(passwordEncoder().encode(metricsPassword))
+                    .roles("METRICS")
+                    .build());
+        }
+        DaoAuthenticationProvider metricsProvider = new DaoAuthenticationProvider();
+        metricsProvider.setUserDetailsService(metricsUsers);
+        metricsProvider.setPasswordEncoder(passwordEncoder());
+
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().hasAnyRole("METRICS", "ADMIN")
+                )
+                .authenticationManager(new ProviderManager(metricsProvider))
+                .httpBasic(Customizer.withDefaults())
+                .addFilterBefore(jwtAuthenticationFilter(), BasicAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
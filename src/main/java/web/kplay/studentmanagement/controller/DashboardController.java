@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import web.kplay.studentmanagement.dto.DashboardStatsResponse;
+import web.kplay.studentmanagement.security.UserDetailsImpl;
 import web.kplay.studentmanagement.service.DashboardService;
 
 @RestController
@@ -18,9 +19,9 @@ public class DashboardController {
 
     @GetMapping("/stats")
     public ResponseEntity<DashboardStatsResponse> getDashboardStats(Authentication authentication) {
-        log.info("Dashboard stats API called by user: {}", authentication.getName());
-        DashboardStatsResponse stats = dashboardService.getDashboardStats(authentication.getName());
-        log.info("Dashboard stats response: {}", stats);
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        DashboardStatsResponse stats = dashboardService.getDashboardStats(userDetails.getId(), userDetails.getRole());
+        log.debug("Dashboard stats response: user={}, {}", userDetails.getUsername(), stats);
         return ResponseEntity.ok(stats);
     }
 }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
 import web.kplay.studentmanagement.dto.attendance.AttendanceCheckInRequest;
 import web.kplay.studentmanagement.dto.attendance.AttendanceResponse;
+import web.kplay.studentmanagement.dto.attendance.ParentCalendarEntry;
 import web.kplay.studentmanagement.service.attendance.AttendanceService;
 
 import java.time.LocalDate;
@@ -267,12 +268,12 @@ public class AttendanceController {
     // 학부모 자녀 월별 출석 조회
     @GetMapping("/my-child/monthly")
     @PreAuthorize("hasRole('PARENT')")
-    public ResponseEntity<List<AttendanceResponse>> getMyChildMonthlyAttendances(
+    public ResponseEntity<List<ParentCalendarEntry>> getMyChildMonthlyAttendances(
             @RequestParam int year,
             @RequestParam int month,
             Authentication authentication) {
         String username = authentication.getName();
-        List<AttendanceResponse> responses = attendanceService.getMyChildMonthlyAttendances(username, year, month);
+        List<ParentCalendarEntry> responses = attendanceService.getMyChildMonthlyAttendances(username, year, month);
         return ResponseEntity.ok(responses);
     }
 
@@ -290,12 +291,12 @@ public class AttendanceController {
     // 학부모 자녀 월별 수업 정보 조회
     @GetMapping("/my-child/schedules/monthly")
     @PreAuthorize("hasRole('PARENT')")
-    public ResponseEntity<List<AttendanceResponse>> getMyChildMonthlySchedules(
+    public ResponseEntity<List<ParentCalendarEntry>> getMyChildMonthlySchedules(
             @RequestParam int year,
             @RequestParam int month,
             Authentication authentication) {
         String username = authentication.getName();
-        List<AttendanceResponse> responses = attendanceService.getMyChildMonthlySchedules(username, year, month);
+        List<ParentCalendarEntry> responses = attendanceService.getMyChildMonthlySchedules(username, year, month);
         return ResponseEntity.ok(responses);
     }
 
@@ -41,7 +41,7 @@ public class EnrollmentController {
 
     @GetMapping("/my")
     public ResponseEntity<List<EnrollmentResponse>> getMyEnrollments(Authentication authentication) {
-        List<EnrollmentResponse> enrollments = enrollmentService.getEnrollmentsByUser(authentication.getName());
+        List<EnrollmentResponse> enrollments = enrollmentService.getEnrollmentsByUser(authentication);
         return ResponseEntity.ok(enrollments);
     }
 
@@ -0,0 +1,80 @@
+package web.kplay.studentmanagement.controller.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import web.kplay.studentmanagement.dto.file.ChunkedUploadInitRequest;
+import web.kplay.studentmanagement.dto.file.ChunkedUploadStatusResponse;
+import web.kplay.studentmanagement.dto.file.StoredFileResponse;
+import web.kplay.studentmanagement.service.file.ChunkedUploadService;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 분할(재개 가능) 업로드
+ * 1) POST /api/files/uploads                      업로드 시작 (uploadId, chunkSize 발급)
+ * 2) PUT  /api/files/uploads/{uploadId}?offset=N  청크 전송 (본문: application/octet-stream, 헤더: X-Chunk-SHA256)
+ * 3) GET  /api/files/uploads/{uploadId}           빠진 청크 확인 (끊긴 뒤 재개할 때)
+ * 4) POST /api/files/uploads/{uploadId}/complete  완료 - 저장된 파일 경로 반환
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/files/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    private static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-SHA256";
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    public ResponseEntity<ChunkedUploadStatusResponse> initiate(
+            @Valid @RequestBody ChunkedUploadInitRequest request,
+            Authentication authentication) {
+        return ResponseEntity.ok(chunkedUploadService.initiate(request, authentication.getName()));
+    }
+
+    @PutMapping("/{uploadId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    public ResponseEntity<ChunkedUploadStatusResponse> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam("offset") long offset,
+            @RequestHeader(value = CHUNK_CHECKSUM_HEADER, required = false) String checksum,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.writeChunk(
+                uploadId, authentication.getName(), offset, checksum, request.getInputStream()));
+    }
+
+    @GetMapping("/{uploadId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    public ResponseEntity<ChunkedUploadStatusResponse> getStatus(
+            @PathVariable String uploadId,
+            Authentication authentication) {
+        return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId, authentication.getName()));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    public ResponseEntity<StoredFileResponse> complete(
+            @PathVariable String uploadId,
+            Authentication authentication) {
+        return ResponseEntity.ok(chunkedUploadService.complete(uploadId, authentication.getName()));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    public ResponseEntity<Map<String, String>> abort(
+            @PathVariable String uploadId,
+            Authentication authentication) {
+        chunkedUploadService.abort(uploadId, authentication.getName());
+        return ResponseEntity.ok(Map.of("message", "업로드 취소 완료"));
+    }
+}
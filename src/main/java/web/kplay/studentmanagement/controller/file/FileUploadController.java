@@ -1,18 +1,21 @@
 package web.kplay.studentmanagement.controller.file;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import web.kplay.studentmanagement.security.StreamTicketStore;
+import web.kplay.studentmanagement.security.UserDetailsImpl;
+import web.kplay.studentmanagement.service.file.FileRangeResponder;
 import web.kplay.studentmanagement.service.file.FileStorageService;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -25,6 +28,8 @@ import java.util.Map;
 public class FileUploadController {
 
     private final FileStorageService fileStorageService;
+    private final FileRangeResponder fileRangeResponder;
+    private final StreamTicketStore streamTicketStore;
 
     /**
      * 녹음 파일 업로드 (상담용)
@@ -138,75 +143,54 @@ public class FileUploadController {
     }
 
     /**
-     * 파일 다운로드 (보안 검증 포함)
+     * 파일 재생/다운로드용 티켓 발급 (audio 태그는 Authorization 헤더를 보낼 수 없음)
+     * 발급한 파일 경로에만 쓸 수 있으며, /download?filePath=...&ticket=... 으로 접근한다
+     */
+    @PostMapping("/download-ticket")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'PARENT')")
+    public ResponseEntity<Map<String, String>> issueDownloadTicket(@RequestParam("filePath") String filePath,
+                                                                   @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        // 경로 검증 (Path Traversal/없는 파일이면 예외)
+        fileStorageService.resolveStoredFile(filePath);
+        return ResponseEntity.ok(Map.of("ticket", streamTicketStore.issueForFile(userDetails.getUsername(), filePath)));
+    }
+
+    /**
+     * 파일 다운로드/재생 (보안 검증 포함)
      * @param filePath 다운로드할 파일 경로
-     * @return 파일 리소스 (바이너리 데이터)
      * Path Traversal 방지를 위한 보안 검증 추가
+     * Range 요청(206)과 ETag/Last-Modified 조건부 요청(304)을 지원하며, 오디오는 inline으로 보내 브라우저에서 바로 재생/탐색할 수 있다
      */
     @GetMapping("/download/**")
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'PARENT')")
-    public ResponseEntity<Resource> downloadFile(@RequestParam("filePath") String filePath) {
+    public void downloadFile(@RequestParam("filePath") String filePath,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
 
         try {
-            // 입력 검증: null 또는 빈 문자열 체크
-            if (filePath == null || filePath.trim().isEmpty()) {
-                throw new IllegalArgumentException("파일 경로가 제공되지 않았습니다.");
-            }
-
-            // 보안 검증: ".." 경로 조작 문자 차단
-            if (filePath.contains("..")) {
-                log.warn("Path Traversal attempt detected: {}", filePath);
-                throw new SecurityException("부적절한 파일 경로입니다.");
-            }
-
-            // 파일 경로 정규화 (앞의 "/" 제거)
-            String normalizedPath = filePath.startsWith("/") ? filePath.substring(1) : filePath;
+            Path file = fileStorageService.resolveStoredFile(filePath);
 
-            Path fileStorageLocation = fileStorageService.getFileStorageLocation();
-            Path file = fileStorageLocation.resolve(normalizedPath).normalize();
-
-            // 보안 검증: 요청된 파일이 허용된 디렉토리 내에 있는지 확인
-            if (!file.startsWith(fileStorageLocation)) {
-                log.warn("Attempt to access file outside directory: {}", filePath);
-                throw new SecurityException("파일 경로가 유효하지 않습니다.");
-            }
-
-            Resource resource = new UrlResource(file.toUri());
-
-            if (!resource.exists() || !resource.isReadable()) {
-                throw new RuntimeException("파일을 찾을 수 없거나 읽을 수 없습니다: " + filePath);
-            }
-
-            // 파일명 추출
-            String fileName = file.getFileName().toString();
-            
             // Content-Type 결정
             String contentType = Files.probeContentType(file);
             if (contentType == null) {
                 contentType = "application/octet-stream";
             }
+            boolean inline = contentType.startsWith("audio/");
 
-            // 파일명 URL 인코딩 (한글 등 지원)
-            String encodedFileName = java.net.URLEncoder.encode(fileName, java.nio.charset.StandardCharsets.UTF_8).replace("+", "%20");
-
-            log.info("File download: {}, contentType: {}", fileName, contentType);
+            log.debug("File download: {}, contentType: {}, range: {}",
+                    file.getFileName(), contentType, request.getHeader(HttpHeaders.RANGE));
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName)
-                    .body(resource);
+            fileRangeResponder.serve(file, contentType, inline, request, response);
 
         } catch (SecurityException | IllegalArgumentException ex) {
             log.error("Security validation failed: {}", ex.getMessage());
             throw ex;
-        } catch (java.io.IOException ex) {
-            log.error("File path error: {}", filePath, ex);
-            throw new RuntimeException("파일을 읽을 수 없습니다: " + filePath, ex);
         }
     }
 
     /**서s 이
      * 파일 삭제 (관리자/선생토님만 가능)
+     * 기존 방식(UUID 경로) 파일만 삭제 - 공유 저장 파일은 소유 항목(레코딩 등) 삭제 시 해제된다
      * @param filePath 삭제할 파일 경로
      * @return 삭제 결과 메시지
      */
@@ -216,7 +200,7 @@ public class FileUploadController {
 
         log.info("File deletion request: {}", filePath);
 
-        fileStorageService.deleteFile(filePath);
+        fileStorageService.deleteUntrackedFile(filePath);
 
         Map<String, String> response = new HashMap<>();
         response.put("message", "파일 삭제 성공");
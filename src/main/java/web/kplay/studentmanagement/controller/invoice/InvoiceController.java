@@ -172,12 +172,15 @@ public class InvoiceController {
     }
 
     /**
-     * 청구서 통계
+     * 청구서 통계 (발급일 기간, 학생 조건 선택)
      */
     @GetMapping("/statistics")
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
-    public ResponseEntity<InvoiceStatistics> getStatistics() {
-        InvoiceStatistics statistics = invoiceService.getStatistics();
+    public ResponseEntity<InvoiceStatistics> getStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long studentId) {
+        InvoiceStatistics statistics = invoiceService.getStatistics(startDate, endDate, studentId);
         return ResponseEntity.ok(statistics);
     }
 }
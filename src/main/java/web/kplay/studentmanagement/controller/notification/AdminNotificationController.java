@@ -1,9 +1,15 @@
 package web.kplay.studentmanagement.controller.notification;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import web.kplay.studentmanagement.domain.notification.AdminNotification;
+import web.kplay.studentmanagement.security.StreamTicketStore;
+import web.kplay.studentmanagement.security.UserDetailsImpl;
 import web.kplay.studentmanagement.service.notification.AdminNotificationService;
 
 import java.util.List;
@@ -15,12 +21,33 @@ import java.util.Map;
 public class AdminNotificationController {
 
     private final AdminNotificationService notificationService;
+    private final StreamTicketStore streamTicketStore;
 
     @GetMapping
     public ResponseEntity<List<AdminNotification>> getNotifications() {
         return ResponseEntity.ok(notificationService.getNotifications());
     }
 
+    /**
+     * 알림 스트림 접속용 1회용 티켓 발급 (EventSource는 Authorization 헤더를 보낼 수 없음)
+     */
+    @PostMapping("/stream-ticket")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> issueStreamTicket(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(Map.of("ticket", streamTicketStore.issue(userDetails.getUsername())));
+    }
+
+    /**
+     * 실시간 알림 스트림 (SSE) - ?ticket=으로 인증, Last-Event-ID(또는 lastEventId 파라미터) 이후 이벤트부터 전송
+     * 티켓이 1회용이라 클라이언트가 새 티켓으로 다시 연결할 때는 lastEventId 파라미터로 이어받는다
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                             @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam) {
+        return notificationService.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<Map<String, Long>> getUnreadCount() {
         return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount()));
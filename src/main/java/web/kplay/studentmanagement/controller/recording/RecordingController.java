@@ -4,15 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import web.kplay.studentmanagement.domain.recording.Recording;
+import web.kplay.studentmanagement.domain.recording.TranscodeStatus;
 import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.dto.file.StoredFileResponse;
 import web.kplay.studentmanagement.exception.ResourceNotFoundException;
 import web.kplay.studentmanagement.repository.RecordingRepository;
 import web.kplay.studentmanagement.repository.StudentRepository;
+import web.kplay.studentmanagement.service.file.ChunkedUploadService;
 import web.kplay.studentmanagement.service.file.FileStorageService;
 import web.kplay.studentmanagement.service.message.AutomatedMessageService;
+import web.kplay.studentmanagement.service.recording.RecordingTranscodeService;
 
 import java.util.List;
 import java.util.Map;
@@ -26,7 +31,9 @@ public class RecordingController {
     private final RecordingRepository recordingRepository;
     private final StudentRepository studentRepository;
     private final FileStorageService fileStorageService;
+    private final ChunkedUploadService chunkedUploadService;
     private final AutomatedMessageService automatedMessageService;
+    private final RecordingTranscodeService recordingTranscodeService;
 
     @GetMapping("/student/{studentId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'PARENT')")
@@ -47,31 +54,70 @@ public class RecordingController {
 
         String fileUrl = fileStorageService.storeFile(file, "recording");
 
+        return ResponseEntity.ok(registerRecording(student, sessionNumber, fileUrl, file.getOriginalFilename(), memo));
+    }
+
+    /**
+     * 분할 업로드로 올린 레코딩 등록 (/api/files/uploads 로 fileType=recording 업로드 후 호출)
+     */
+    @PostMapping("/upload/chunked")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    public ResponseEntity<?> completeChunkedRecording(
+            @RequestParam("studentId") Long studentId,
+            @RequestParam("sessionNumber") Integer sessionNumber,
+            @RequestParam("uploadId") String uploadId,
+            @RequestParam(value = "memo", required = false) String memo,
+            Authentication authentication) {
+
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("학생을 찾을 수 없습니다"));
+
+        StoredFileResponse stored = chunkedUploadService.complete(uploadId, authentication.getName());
+
+        return ResponseEntity.ok(registerRecording(student, sessionNumber, stored.getFilePath(), stored.getFileName(), memo));
+    }
+
+    private Map<String, Object> registerRecording(Student student, Integer sessionNumber,
+                                                  String fileUrl, String fileName, String memo) {
         Recording recording = Recording.builder()
                 .student(student)
                 .sessionNumber(sessionNumber)
                 .fileUrl(fileUrl)
-                .fileName(file.getOriginalFilename())
+                .fileName(fileName)
                 .memo(memo)
+                .transcodeStatus(TranscodeStatus.PENDING)
                 .build();
 
-        recordingRepository.save(recording);
+        try {
+            recordingRepository.save(recording);
+        } catch (RuntimeException e) {
+            // 등록에 실패하면 방금 저장소에 반영한 파일 참조를 되돌린다 (같은 내용을 쓰는 다른 레코딩이 있으면 참조 수만 감소)
+            fileStorageService.releaseFile(fileUrl);
+            throw e;
+        }
+
+        // 스트리밍용 변환/파형 생성은 백그라운드에서 처리 (응답은 바로 반환)
+        recordingTranscodeService.submit(recording.getId());
 
         // 레코딩 업로드 완료 문자 발송
         automatedMessageService.sendRecordingUploadNotification(student, sessionNumber);
 
         log.info("레코딩 업로드 완료: 학생={}, 회차={}", student.getStudentName(), sessionNumber);
 
-        return ResponseEntity.ok(Map.of(
+        return Map.of(
                 "message", "레코딩 업로드 완료",
                 "id", recording.getId()
-        ));
+        );
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> delete(@PathVariable Long id) {
-        recordingRepository.deleteById(id);
+        Recording recording = recordingTranscodeService.deleteRecording(id);
+        // 같은 내용을 다른 레코딩이 참조하고 있으면 참조 수만 줄어든다
+        fileStorageService.releaseFile(recording.getFileUrl());
+        fileStorageService.releaseFile(recording.getStreamUrl());
+        fileStorageService.releaseFile(recording.getWaveformUrl());
         return ResponseEntity.ok(Map.of("message", "삭제 완료"));
     }
 }
@@ -54,9 +54,7 @@ public class NaverBookingController {
     public ResponseEntity<List<NaverBookingDTO>> getBookingsByDate(@PathVariable String date) {
         try {
             // DB에서 해당 날짜의 예약만 조회
-            List<NaverBooking> bookings = naverBookingRepository.findAll().stream()
-                .filter(b -> date.equals(b.getBookingTime()))
-                .toList();
+            List<NaverBooking> bookings = naverBookingRepository.findByBookingDate(java.time.LocalDate.parse(date));
             
             List<NaverBookingDTO> dtos = bookings.stream()
                 .map(entity -> NaverBookingDTO.builder()
@@ -2,6 +2,7 @@ package web.kplay.studentmanagement.controller.reservation;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,8 +10,10 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import web.kplay.studentmanagement.dto.reservation.ReservationCreateRequest;
+import web.kplay.studentmanagement.dto.reservation.ReservationFeedResponse;
 import web.kplay.studentmanagement.dto.reservation.ReservationResponse;
 import web.kplay.studentmanagement.domain.reservation.ReservationPeriod;
+import web.kplay.studentmanagement.domain.reservation.ReservationStatus;
 import web.kplay.studentmanagement.service.reservation.ReservationService;
 import web.kplay.studentmanagement.service.reservation.ReservationPeriodService;
 
@@ -58,9 +61,15 @@ public class ReservationController {
 
     @GetMapping("/all")
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
-    public ResponseEntity<List<ReservationResponse>> getAllReservations() {
-        List<ReservationResponse> responses = reservationService.getAllActiveReservations();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<Page<ReservationResponse>> getAllReservations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(defaultValue = "false") boolean hideAttended,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getAllActiveReservations(
+                startDate, endDate, status, hideAttended, page, size));
     }
 
     @GetMapping("/date/{date}")
@@ -142,10 +151,11 @@ public class ReservationController {
 
     @GetMapping("/new")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ReservationResponse>> getNewReservations(
-            @RequestParam String since) {
-        List<ReservationResponse> responses = reservationService.getNewReservationsSince(since);
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<ReservationFeedResponse> getNewReservations(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(reservationService.getNewReservationFeed(cursor, since, limit));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,45 @@
+package web.kplay.studentmanagement.controller.setting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import web.kplay.studentmanagement.dto.cache.CacheRegionStatsResponse;
+import web.kplay.studentmanagement.service.cache.ReferenceCacheService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ReferenceCacheController {
+
+    private final ReferenceCacheService referenceCacheService;
+
+    /**
+     * 영역별 캐시 적중률
+     */
+    @GetMapping
+    public ResponseEntity<List<CacheRegionStatsResponse>> getStatistics() {
+        return ResponseEntity.ok(referenceCacheService.getStatistics());
+    }
+
+    /**
+     * 전체 캐시 비우기 (DB를 직접 수정한 경우)
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        referenceCacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 영역 캐시 비우기
+     */
+    @DeleteMapping("/{region}")
+    public ResponseEntity<Void> evictRegion(@PathVariable String region) {
+        referenceCacheService.evictRegion(region);
+        return ResponseEntity.noContent().build();
+    }
+}
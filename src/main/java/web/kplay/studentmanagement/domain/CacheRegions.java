@@ -0,0 +1,25 @@
+package web.kplay.studentmanagement.domain;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역 이름 (hibernate-cache.conf의 영역과 같아야 함)
+ * 자주 읽고 거의 바뀌지 않는 기준 데이터만 캐시한다.
+ */
+public final class CacheRegions {
+
+    public static final String COURSE = "reference-course";
+    public static final String HOLIDAY = "reference-holiday";
+    public static final String SMS_CONFIG = "reference-sms-config";
+    public static final String SMS_TEMPLATE = "reference-sms-template";
+    public static final String SITE_SETTING = "reference-site-setting";
+    public static final String TERMS = "reference-terms";
+    public static final String CONSULTATION_TEMPLATE = "reference-consultation-template";
+    public static final String USER_MENU_SETTING = "reference-user-menu-setting";
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+            COURSE, HOLIDAY, SMS_CONFIG, SMS_TEMPLATE, SITE_SETTING, TERMS, CONSULTATION_TEMPLATE, USER_MENU_SETTING);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,17 @@
+package web.kplay.studentmanagement.domain;
+
+/**
+ * 대량 저장 엔티티용 ID 생성기 설정
+ * IDENTITY는 INSERT마다 키를 돌려받아야 해서 Hibernate가 INSERT를 배치로 묶지 못한다.
+ * 대량으로 쌓이는 테이블은 id_generators 테이블에서 ALLOCATION_SIZE개씩 ID를 미리 받아 쓴다 (pooled 최적화).
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
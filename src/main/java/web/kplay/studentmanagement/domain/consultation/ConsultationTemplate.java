@@ -4,10 +4,15 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import web.kplay.studentmanagement.domain.BaseEntity;
+import web.kplay.studentmanagement.domain.CacheRegions;
 
 @Entity
 @Table(name = "consultation_templates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CONSULTATION_TEMPLATE)
 @Getter @Setter
 @NoArgsConstructor
 public class ConsultationTemplate extends BaseEntity {
@@ -2,11 +2,16 @@ package web.kplay.studentmanagement.domain.course;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import web.kplay.studentmanagement.domain.BaseEntity;
+import web.kplay.studentmanagement.domain.CacheRegions;
 import web.kplay.studentmanagement.domain.user.User;
 
 @Entity
 @Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,37 @@
+package web.kplay.studentmanagement.domain.file;
+
+import jakarta.persistence.*;
+import lombok.*;
+import web.kplay.studentmanagement.domain.BaseEntity;
+
+/**
+ * 내용 기반(SHA-256) 저장 파일
+ * 같은 내용의 파일은 하나만 저장하고, 참조 수가 0이 될 때 실제 파일을 삭제한다.
+ */
+@Entity
+@Table(name = "stored_files",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"storage_path"}),
+       indexes = @Index(name = "idx_stored_files_hash", columnList = "content_hash"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoredFile extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 저장 경로 ("/{fileType}/{해시 앞 2자리}/{해시}{확장자}")
+    @Column(name = "storage_path", nullable = false, length = 200)
+    private String storagePath;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+}
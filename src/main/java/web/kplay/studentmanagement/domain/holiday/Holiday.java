@@ -2,12 +2,17 @@ package web.kplay.studentmanagement.domain.holiday;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import web.kplay.studentmanagement.domain.BaseEntity;
+import web.kplay.studentmanagement.domain.CacheRegions;
 
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "holidays")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.HOLIDAY)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,39 @@
+package web.kplay.studentmanagement.domain.invoice;
+
+import jakarta.persistence.*;
+import lombok.*;
+import web.kplay.studentmanagement.domain.BaseEntity;
+
+import java.time.LocalDate;
+
+/**
+ * 청구서 월별 집계 엔티티
+ * 발급월(issueDate 기준) x 상태별 청구서 수와 금액 합계
+ * 청구서 상태가 바뀔 때마다 해당 월을 다시 집계한다.
+ */
+@Entity
+@Table(name = "invoice_monthly_summaries",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"month_start", "status"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class InvoiceMonthlySummary extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart; // 발급월 1일
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InvoiceStatus status;
+
+    @Column(nullable = false)
+    private Long invoiceCount; // 청구서 수
+
+    @Column(nullable = false)
+    private Long totalAmount; // 청구 금액 합계
+}
@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "level_tests")
+@Table(name = "level_tests", indexes = {
+        @Index(name = "idx_level_tests_test_date", columnList = "test_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -3,12 +3,16 @@ package web.kplay.studentmanagement.domain.message;
 import jakarta.persistence.*;
 import lombok.*;
 import web.kplay.studentmanagement.domain.BaseEntity;
+import web.kplay.studentmanagement.domain.IdGenerators;
 import web.kplay.studentmanagement.domain.student.Student;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        @Index(name = "idx_messages_student_type_sent", columnList = "student_id, message_type, sent_at"),
+        @Index(name = "idx_messages_sent_at", columnList = "sent_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,7 +20,10 @@ import java.time.LocalDateTime;
 public class Message extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "message_id")
+    @TableGenerator(name = "message_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "messages", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,4 +30,15 @@ public class Recording extends BaseEntity {
     private String fileName;
 
     private String memo;
+
+    // 스트리밍용 변환 결과 (변환 전이거나 인코더가 없으면 원본 fileUrl로 재생)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TranscodeStatus transcodeStatus;
+
+    private String streamUrl; // 변환된 음원 경로
+
+    private String waveformUrl; // 파형/길이 메타데이터(JSON) 경로
+
+    private Double durationSeconds;
 }
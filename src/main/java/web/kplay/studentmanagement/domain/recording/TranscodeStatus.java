@@ -0,0 +1,12 @@
+package web.kplay.studentmanagement.domain.recording;
+
+/**
+ * 레코딩 변환(스트리밍용 음원/파형 생성) 상태
+ */
+public enum TranscodeStatus {
+    PENDING,     // 대기
+    PROCESSING,  // 변환 중
+    COMPLETED,   // 완료
+    SKIPPED,     // 인코더가 없어 원본으로 재생 (파형만 생성했거나 생성 불가)
+    FAILED       // 실패
+}
@@ -3,11 +3,15 @@ package web.kplay.studentmanagement.domain.reservation;
 import jakarta.persistence.*;
 import lombok.*;
 import web.kplay.studentmanagement.domain.BaseEntity;
+import web.kplay.studentmanagement.domain.IdGenerators;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "naver_bookings")
+@Table(name = "naver_bookings", indexes = {
+        @Index(name = "idx_naver_bookings_booking_date", columnList = "booking_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -15,7 +19,10 @@ import java.time.LocalDateTime;
 public class NaverBooking extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "naver_booking_id")
+    @TableGenerator(name = "naver_booking_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "naver_bookings", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -42,5 +49,17 @@ public class NaverBooking extends BaseEntity {
     private String confirmDate;    // 확정일시
     private String cancelDate;     // 취소일시
 
+    // 수집 시 위 문자열을 해석해 저장한 값 (한국시간, NaverBookingTimeParser)
+    @Column(name = "booking_date")
+    private LocalDate bookingDate;          // 이용일
+
+    private LocalDateTime bookingStartAt;   // 이용 시작 일시
+
+    private LocalDateTime bookingEndAt;     // 이용 종료 일시 (파트너 API 수집분만)
+
+    private LocalDateTime orderedAt;        // 신청 일시 (예약 목록 화면 수집분만)
+
+    private LocalDateTime confirmedAt;      // 확정 일시 (예약 목록 화면 수집분만)
+
     private LocalDateTime syncedAt; // 동기화 시간
 }
@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_created_at", columnList = "created_at"),
+        @Index(name = "idx_reservations_date_time_status", columnList = "reservation_date, reservation_time, status"),
+        @Index(name = "idx_reservations_student_date", columnList = "student_id, reservation_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
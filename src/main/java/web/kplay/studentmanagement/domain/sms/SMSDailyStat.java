@@ -0,0 +1,44 @@
+package web.kplay.studentmanagement.domain.sms;
+
+import jakarta.persistence.*;
+import lombok.*;
+import web.kplay.studentmanagement.domain.BaseEntity;
+
+import java.time.LocalDate;
+
+/**
+ * SMS 일별 발송 집계 엔티티
+ * 발송일 x 카테고리 x 상태별 발송 건수와 비용 합계
+ * 발송할 때마다 해당 행을 증가시키며, SMS 통계 화면은 발송 내역 대신 이 행만 읽는다.
+ */
+@Entity
+@Table(name = "sms_daily_stats",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"stat_date", "category", "status"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SMSDailyStat extends BaseEntity {
+
+    public static final String DEFAULT_CATEGORY = "etc";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate; // 발송일
+
+    @Column(nullable = false, length = 50)
+    private String category; // 카테고리 (없으면 etc)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SMSHistory.SMSStatus status;
+
+    @Column(nullable = false)
+    private Long messageCount; // 발송 건수
+
+    @Column(nullable = false)
+    private Long totalCost; // 비용 합계 (원)
+}
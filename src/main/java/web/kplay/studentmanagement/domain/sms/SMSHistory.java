@@ -3,11 +3,14 @@ package web.kplay.studentmanagement.domain.sms;
 import jakarta.persistence.*;
 import lombok.*;
 import web.kplay.studentmanagement.domain.BaseEntity;
+import web.kplay.studentmanagement.domain.IdGenerators;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sms_history")
+@Table(name = "sms_history", indexes = {
+        @Index(name = "idx_sms_history_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +19,10 @@ import java.time.LocalDateTime;
 public class SMSHistory extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "sms_history_id")
+    @TableGenerator(name = "sms_history_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "sms_history", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 20)
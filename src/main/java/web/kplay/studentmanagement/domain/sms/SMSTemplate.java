@@ -2,10 +2,15 @@ package web.kplay.studentmanagement.domain.sms;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import web.kplay.studentmanagement.domain.BaseEntity;
+import web.kplay.studentmanagement.domain.CacheRegions;
 
 @Entity
 @Table(name = "sms_templates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SMS_TEMPLATE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,12 @@
+package web.kplay.studentmanagement.dto;
+
+/**
+ * 대시보드 집계 쿼리 결과 (한 번의 조회로 모든 카운터 반환)
+ */
+public interface DashboardCounts {
+    long getTotalStudents();
+    long getTodaySchedules();
+    long getExpectedStudents();
+    long getTodayAttendance();
+    long getExpiringEnrollments();
+}
@@ -0,0 +1,24 @@
+package web.kplay.studentmanagement.dto.attendance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 학부모 달력용 출석/수업 항목 (JPQL 생성자 프로젝션)
+ * 달력 표시에 필요한 날짜, 시간, 상태, 수업명만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ParentCalendarEntry {
+    private Long studentId;
+    private String studentName;
+    private LocalDate attendanceDate;
+    private LocalTime startTime;
+    private Integer durationMinutes;
+    private AttendanceStatus status;
+    private String courseName;
+}
@@ -0,0 +1,22 @@
+package web.kplay.studentmanagement.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 2차 캐시 영역별 통계 (애플리케이션 시작 이후 누적)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsResponse {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio; // 0.0 ~ 1.0 (조회가 없으면 0)
+}
@@ -0,0 +1,28 @@
+package web.kplay.studentmanagement.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadInitRequest {
+
+    @NotBlank(message = "파일명은 필수입니다")
+    private String fileName;
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long fileSize;
+
+    // 저장 디렉토리 구분 (audio, document, recording)
+    @NotBlank(message = "파일 종류는 필수입니다")
+    private String fileType;
+
+    // 청크 크기 (없으면 서버 기본값 5MB)
+    private Integer chunkSize;
+}
@@ -0,0 +1,27 @@
+package web.kplay.studentmanagement.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 분할 업로드 상태
+ * - missingChunks: 아직 받지 않은 청크 번호 (재개 시 이 청크만 다시 보내면 된다)
+ * - 청크 i의 오프셋은 i * chunkSize
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChunkedUploadStatusResponse {
+    private String uploadId;
+    private String fileName;
+    private long fileSize;
+    private int chunkSize;
+    private int totalChunks;
+    private int receivedChunks;
+    private List<Integer> missingChunks;
+}
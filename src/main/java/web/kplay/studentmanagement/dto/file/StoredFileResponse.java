@@ -0,0 +1,16 @@
+package web.kplay.studentmanagement.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFileResponse {
+    private String fileName;
+    private String filePath;
+    private long fileSize;
+}
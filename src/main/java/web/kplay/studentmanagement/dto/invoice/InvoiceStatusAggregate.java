@@ -0,0 +1,17 @@
+package web.kplay.studentmanagement.dto.invoice;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import web.kplay.studentmanagement.domain.invoice.InvoiceStatus;
+
+/**
+ * 상태별 청구서 집계 (건수, 금액 합계)
+ */
+@Getter
+@AllArgsConstructor
+public class InvoiceStatusAggregate {
+
+    private InvoiceStatus status;
+    private Long count;
+    private Long amount;
+}
@@ -0,0 +1,14 @@
+package web.kplay.studentmanagement.dto.mypage;
+
+/**
+ * 마이페이지 학생 통계 집계 쿼리 결과
+ */
+public interface MyPageStatsCounts {
+    long getPresentCount();
+    long getLateCount();
+    long getAbsentCount();
+    long getMonthlyAttendanceCount();
+    long getActiveEnrollmentCount();
+    long getUpcomingReservationCount();
+    long getConsultationCount();
+}
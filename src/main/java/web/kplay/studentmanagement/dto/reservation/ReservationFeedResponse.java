@@ -0,0 +1,23 @@
+package web.kplay.studentmanagement.dto.reservation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 신규 예약 피드 응답 (커서 페이지네이션)
+ * - nextCursor: 다음 요청에 cursor로 넘길 값 (마지막으로 받은 예약 ID)
+ * - hasMore: 이번 페이지 이후에 이미 쌓여 있는 예약이 더 있는지 여부
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationFeedResponse {
+    private List<ReservationResponse> reservations;
+    private Long nextCursor;
+    private boolean hasMore;
+}
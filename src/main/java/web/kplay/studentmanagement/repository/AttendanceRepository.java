@@ -1,58 +1,91 @@
 package web.kplay.studentmanagement.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.attendance.Attendance;
 import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
+import web.kplay.studentmanagement.dto.DashboardCounts;
+import web.kplay.studentmanagement.dto.attendance.ParentCalendarEntry;
+import web.kplay.studentmanagement.dto.mypage.MyPageStatsCounts;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
-    List<Attendance> findByStudentId(Long studentId);
+    // 출석 목록 조회는 응답 변환(toResponse)에서 쓰는 학생/네이버 예약/수업/담당 선생님을 함께 조회 (행마다 추가 조회 방지)
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.student.id = :studentId")
+    List<Attendance> findByStudentId(@Param("studentId") Long studentId);
 
-    @Query("SELECT a FROM Attendance a WHERE a.student.id = :studentId AND a.attendanceDate BETWEEN :startDate AND :endDate")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.student.id = :studentId AND a.attendanceDate BETWEEN :startDate AND :endDate")
     List<Attendance> findByStudentAndDateRange(@Param("studentId") Long studentId,
                                                  @Param("startDate") LocalDate startDate,
                                                  @Param("endDate") LocalDate endDate);
 
     List<Attendance> findByStatus(AttendanceStatus status);
 
-    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.course WHERE a.attendanceDate = :date")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.attendanceDate = :date")
     List<Attendance> findByDate(@Param("date") LocalDate date);
 
     // 출석한 순서대로 (등원 시간 오름차순)
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceDate = :date ORDER BY a.checkInTime ASC")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.attendanceDate = :date ORDER BY a.checkInTime ASC")
     List<Attendance> findByDateOrderByCheckInTime(@Param("date") LocalDate date);
 
     // 하원 예정 순서대로 (예상 하원 시간 오름차순)
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceDate = :date ORDER BY a.expectedLeaveTime ASC")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.attendanceDate = :date ORDER BY a.expectedLeaveTime ASC")
     List<Attendance> findByDateOrderByExpectedLeaveTime(@Param("date") LocalDate date);
 
     // 오늘 출석한 학생만 조회 (등원 시간 순서)
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceDate = :date AND a.checkInTime IS NOT NULL ORDER BY a.checkInTime ASC")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.attendanceDate = :date AND a.checkInTime IS NOT NULL ORDER BY a.checkInTime ASC")
     List<Attendance> findAttendedByDate(@Param("date") LocalDate date);
 
     // 오늘 출석하지 않은 학생 조회 (예정되었으나 체크인 안 함)
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceDate = :date AND a.checkInTime IS NULL")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.attendanceDate = :date AND a.checkInTime IS NULL")
     List<Attendance> findNotAttendedByDate(@Param("date") LocalDate date);
 
     // 하원 완료된 학생만 조회 (하원 시간 순서)
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceDate = :date AND a.checkOutTime IS NOT NULL ORDER BY a.checkOutTime ASC")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.attendanceDate = :date AND a.checkOutTime IS NOT NULL ORDER BY a.checkOutTime ASC")
     List<Attendance> findCheckedOutByDate(@Param("date") LocalDate date);
 
     // 아직 하원하지 않은 학생 조회 (등원했으나 하원 안 함, 예상 하원 시간 순서)
-    @Query("SELECT a FROM Attendance a WHERE a.attendanceDate = :date AND a.checkInTime IS NOT NULL AND a.checkOutTime IS NULL ORDER BY a.expectedLeaveTime ASC")
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.student LEFT JOIN FETCH a.naverBooking LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher WHERE a.attendanceDate = :date AND a.checkInTime IS NOT NULL AND a.checkOutTime IS NULL ORDER BY a.expectedLeaveTime ASC")
     List<Attendance> findNotCheckedOutByDate(@Param("date") LocalDate date);
 
     // 마이페이지용 메서드
     List<Attendance> findTop10ByStudentIdOrderByCheckInTimeDesc(Long studentId);
 
+    // 마이페이지용 최근 출석 (수업 정보 함께 조회, 개수는 pageable로 제한)
+    @Query("SELECT a FROM Attendance a LEFT JOIN FETCH a.course WHERE a.student.id = :studentId ORDER BY a.checkInTime DESC")
+    List<Attendance> findRecentWithCourseByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    /**
+     * 마이페이지 학생 통계 집계 (출석/지각/결석, 이번 달 출석, 활성 수강권, 예정 예약, 상담 수를 한 번에 조회)
+     * @param studentId 학생 ID
+     * @param today 오늘 날짜 (이후 예약만 카운트)
+     * @param monthStart 이번 달 시작 시각
+     * @param monthEnd 이번 달 종료 시각
+     * @return MyPageStatsCounts 학생 통계 카운터
+     */
+    @Query(value = "SELECT " +
+           "(SELECT COUNT(*) FROM attendances a WHERE a.student_id = :studentId AND a.status = 'PRESENT') AS presentCount, " +
+           "(SELECT COUNT(*) FROM attendances a WHERE a.student_id = :studentId AND a.status = 'LATE') AS lateCount, " +
+           "(SELECT COUNT(*) FROM attendances a WHERE a.student_id = :studentId AND a.status = 'ABSENT') AS absentCount, " +
+           "(SELECT COUNT(*) FROM attendances a WHERE a.student_id = :studentId AND a.check_in_time BETWEEN :monthStart AND :monthEnd) AS monthlyAttendanceCount, " +
+           "(SELECT COUNT(*) FROM enrollments e WHERE e.student_id = :studentId AND e.is_active = true) AS activeEnrollmentCount, " +
+           "(SELECT COUNT(*) FROM reservations r WHERE r.student_id = :studentId AND r.reservation_date > :today AND r.status IN ('CONFIRMED', 'PENDING')) AS upcomingReservationCount, " +
+           "(SELECT COUNT(*) FROM consultations c WHERE c.student_id = :studentId) AS consultationCount",
+           nativeQuery = true)
+    MyPageStatsCounts findMyPageStatsCounts(@Param("studentId") Long studentId,
+                                            @Param("today") LocalDate today,
+                                            @Param("monthStart") LocalDateTime monthStart,
+                                            @Param("monthEnd") LocalDateTime monthEnd);
+
     Long countByStudentIdAndStatus(Long studentId, AttendanceStatus status);
 
     Long countByStudentIdAndCheckInTimeBetween(Long studentId, LocalDateTime start, LocalDateTime end);
@@ -80,6 +113,45 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.attendanceDate = :date")
     int countByScheduleDate(@Param("date") LocalDate date);
 
+    /**
+     * 관리자 대시보드 집계 (학생 수, 오늘 스케줄/예약/출석 수, 만료 임박 수강권 수를 한 번에 조회)
+     * @param today 오늘 날짜
+     * @param expiringUntil 만료 임박 기준일 (포함)
+     * @return DashboardCounts 대시보드 카운터
+     */
+    @Query(value = "SELECT " +
+           "(SELECT COUNT(*) FROM students) AS totalStudents, " +
+           "(SELECT COUNT(*) FROM course_schedules cs WHERE cs.schedule_date = :today) AS todaySchedules, " +
+           "(SELECT COUNT(*) FROM attendances a WHERE a.attendance_date = :today) AS expectedStudents, " +
+           "(SELECT COUNT(*) FROM attendances a WHERE a.attendance_date = :today AND a.check_in_time IS NOT NULL) AS todayAttendance, " +
+           "(SELECT COUNT(*) FROM enrollments e WHERE e.end_date BETWEEN :today AND :expiringUntil AND e.is_active = true) AS expiringEnrollments",
+           nativeQuery = true)
+    DashboardCounts findAdminDashboardCounts(@Param("today") LocalDate today,
+                                             @Param("expiringUntil") LocalDate expiringUntil);
+
+    /**
+     * 선생님 대시보드 집계 (담당 수업 기준으로만 카운트)
+     * @param teacherId 선생님 ID
+     * @param today 오늘 날짜
+     * @param expiringUntil 만료 임박 기준일 (포함)
+     * @return DashboardCounts 담당 수업의 대시보드 카운터
+     */
+    @Query(value = "SELECT " +
+           "(SELECT COUNT(DISTINCT e.student_id) FROM enrollments e JOIN courses c ON e.course_id = c.id " +
+           "  WHERE c.teacher_id = :teacherId AND e.is_active = true) AS totalStudents, " +
+           "(SELECT COUNT(*) FROM course_schedules cs JOIN courses c ON cs.course_id = c.id " +
+           "  WHERE cs.schedule_date = :today AND c.teacher_id = :teacherId) AS todaySchedules, " +
+           "(SELECT COUNT(*) FROM attendances a JOIN courses c ON a.course_id = c.id " +
+           "  WHERE a.attendance_date = :today AND c.teacher_id = :teacherId) AS expectedStudents, " +
+           "(SELECT COUNT(*) FROM attendances a JOIN courses c ON a.course_id = c.id " +
+           "  WHERE a.attendance_date = :today AND a.check_in_time IS NOT NULL AND c.teacher_id = :teacherId) AS todayAttendance, " +
+           "(SELECT COUNT(*) FROM enrollments e JOIN courses c ON e.course_id = c.id " +
+           "  WHERE e.end_date BETWEEN :today AND :expiringUntil AND e.is_active = true AND c.teacher_id = :teacherId) AS expiringEnrollments",
+           nativeQuery = true)
+    DashboardCounts findTeacherDashboardCounts(@Param("teacherId") Long teacherId,
+                                               @Param("today") LocalDate today,
+                                               @Param("expiringUntil") LocalDate expiringUntil);
+
     /**
      * 여러 학생의 특정 날짜 출석 기록 조회 (학부모용)
      * @param studentIds 학생 ID 목록
@@ -91,6 +163,16 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
            "ORDER BY a.attendanceTime ASC")
     List<Attendance> findByStudentIdInAndScheduleScheduleDate(@Param("studentIds") List<Long> studentIds, @Param("date") LocalDate date);
 
+    // 학부모 달력용 경량 조회 (엔티티 대신 필요한 컬럼만)
+    @Query("SELECT new web.kplay.studentmanagement.dto.attendance.ParentCalendarEntry(" +
+           "st.id, st.studentName, a.attendanceDate, a.attendanceTime, COALESCE(a.durationMinutes, c.durationMinutes), a.status, c.courseName) " +
+           "FROM Attendance a JOIN a.student st LEFT JOIN a.course c " +
+           "WHERE st.id IN :studentIds AND a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY a.attendanceDate ASC, a.attendanceTime ASC")
+    List<ParentCalendarEntry> findCalendarEntries(@Param("studentIds") Collection<Long> studentIds,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
     // 월별 출석 조회
     @Query("SELECT a FROM Attendance a JOIN FETCH a.student st LEFT JOIN FETCH a.course c LEFT JOIN FETCH c.teacher t " +
            "WHERE a.student.id IN :studentIds AND a.attendanceDate BETWEEN :startDate AND :endDate " +
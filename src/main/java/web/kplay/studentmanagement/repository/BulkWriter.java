@@ -0,0 +1,58 @@
+package web.kplay.studentmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대량 저장 도우미 (배치 작업, 엑셀 가져오기, 동기화 작업용)
+ * - batch_size건마다 flush해서 INSERT를 JDBC 배치로 보내고, 저장한 엔티티만 detach해서 영속성 컨텍스트 크기를 제한한다
+ * - INSERT가 배치로 묶이려면 엔티티가 IDENTITY가 아닌 테이블 생성기(IdGenerators)를 써야 한다
+ * 호출한 쪽 트랜잭션 안에서만 동작한다. 저장한 엔티티는 반환 후 준영속 상태이고,
+ * 호출한 쪽이 앞서 조회한 엔티티는 그대로 관리된다.
+ */
+@Component
+public class BulkWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * 신규 엔티티 일괄 저장 (ID는 persist 시점에 할당되므로 반환 후 바로 사용할 수 있다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> int persistAll(Collection<T> entities) {
+        List<T> batch = new ArrayList<>(batchSize);
+        for (T entity : entities) {
+            entityManager.persist(entity);
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                flushAndDetach(batch);
+            }
+        }
+        flushAndDetach(batch);
+        return entities.size();
+    }
+
+    /**
+     * 쌓인 INSERT를 배치로 내보내고 이번 배치에서 저장한 엔티티만 영속성 컨텍스트에서 분리
+     */
+    private void flushAndDetach(List<?> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        batch.forEach(entityManager::detach);
+        batch.clear();
+    }
+}
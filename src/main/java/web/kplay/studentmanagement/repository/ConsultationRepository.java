@@ -1,5 +1,6 @@
 package web.kplay.studentmanagement.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,9 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
     @Query("SELECT c FROM Consultation c JOIN FETCH c.student LEFT JOIN FETCH c.consultant WHERE c.student.id = :studentId ORDER BY c.consultationDate DESC")
     List<Consultation> findByStudentIdOrderByDateDesc(@Param("studentId") Long studentId);
 
+    @Query("SELECT c FROM Consultation c JOIN FETCH c.student LEFT JOIN FETCH c.consultant WHERE c.student.id IN :studentIds ORDER BY c.consultationDate DESC")
+    List<Consultation> findByStudentIdInOrderByDateDesc(@Param("studentIds") List<Long> studentIds);
+
     @Query("SELECT c FROM Consultation c JOIN FETCH c.student LEFT JOIN FETCH c.consultant ORDER BY c.consultationDate DESC")
     List<Consultation> findAllByOrderByConsultationDateDesc();
 
@@ -30,6 +34,14 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
     // 마이페이지용 메서드
     List<Consultation> findTop5ByStudentIdOrderByConsultationDateDesc(Long studentId);
 
+    // 마이페이지용 최근 상담 (상담자 함께 조회, 개수는 pageable로 제한)
+    @Query("SELECT c FROM Consultation c JOIN FETCH c.consultant WHERE c.student.id = :studentId ORDER BY c.consultationDate DESC")
+    List<Consultation> findRecentWithConsultantByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    // 선생님 마이페이지용 최근 상담 (학생 함께 조회, 개수는 pageable로 제한)
+    @Query("SELECT c FROM Consultation c JOIN FETCH c.student JOIN FETCH c.consultant WHERE c.consultant.id = :consultantId ORDER BY c.consultationDate DESC")
+    List<Consultation> findRecentWithStudentByConsultantId(@Param("consultantId") Long consultantId, Pageable pageable);
+
     /**
      * 특정 상담사(선생님)의 총 상담 개수 조회 (선생님 마이페이지용)
      * @param consultantId 상담사(선생님) ID
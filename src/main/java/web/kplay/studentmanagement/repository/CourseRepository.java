@@ -1,6 +1,9 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.course.Course;
 
@@ -10,6 +13,7 @@ import java.util.Optional;
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Course> findByIsActive(Boolean isActive);
 
     List<Course> findByTeacherId(Long teacherId);
@@ -22,5 +26,6 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      * @param courseName 조회할 수업명
      * @return Optional<Course> 해당 수업명의 수업 정보 (없으면 empty)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Course> findByCourseName(String courseName);
 }
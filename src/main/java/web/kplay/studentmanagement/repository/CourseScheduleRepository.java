@@ -15,6 +15,8 @@ public interface CourseScheduleRepository extends JpaRepository<CourseSchedule,
 
     List<CourseSchedule> findByCourseId(Long courseId);
 
+    List<CourseSchedule> findByCourseIdIn(java.util.Collection<Long> courseIds);
+
     List<CourseSchedule> findByScheduleDate(LocalDate scheduleDate);
 
     List<CourseSchedule> findByScheduleDateBetween(LocalDate startDate, LocalDate endDate);
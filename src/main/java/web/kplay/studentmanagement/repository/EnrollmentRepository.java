@@ -43,9 +43,17 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     // 마이페이지용 메서드
     List<Enrollment> findByStudentIdAndIsActiveTrue(Long studentId);
+
+    @Query("SELECT e FROM Enrollment e LEFT JOIN FETCH e.course WHERE e.student.id = :studentId AND e.isActive = true")
+    List<Enrollment> findActiveWithCourseByStudentId(@Param("studentId") Long studentId);
     
     List<Enrollment> findByStudentAndIsActiveTrue(web.kplay.studentmanagement.domain.student.Student student);
 
+    // 학부모 화면용: 여러 자녀의 활성 수강권 일괄 조회
+    @Query("SELECT e FROM Enrollment e JOIN FETCH e.student LEFT JOIN FETCH e.course " +
+           "WHERE e.student.id IN :studentIds AND e.isActive = true ORDER BY e.student.id, e.id")
+    List<Enrollment> findActiveWithStudentAndCourseByStudentIdIn(@Param("studentIds") List<Long> studentIds);
+
     Integer countByStudentIdAndIsActiveTrue(Long studentId);
     
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = :courseId AND e.isActive = true")
@@ -1,7 +1,10 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.holiday.Holiday;
@@ -14,15 +17,18 @@ import java.util.Optional;
 public interface HolidayRepository extends JpaRepository<Holiday, Long> {
 
     // 특정 날짜가 공휴일인지 확인
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Holiday> findByDate(LocalDate date);
 
     // 특정 기간 내의 공휴일 조회
     @Query("SELECT h FROM Holiday h WHERE h.date BETWEEN :startDate AND :endDate ORDER BY h.date")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Holiday> findByDateRange(@Param("startDate") LocalDate startDate,
                                     @Param("endDate") LocalDate endDate);
 
     // 특정 연도의 공휴일 조회
     @Query("SELECT h FROM Holiday h WHERE YEAR(h.date) = :year ORDER BY h.date")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Holiday> findByYear(@Param("year") int year);
 
     // 특정 연도의 공휴일 개수 조회
@@ -34,5 +40,6 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> {
     boolean existsByYear(@Param("year") int year);
 
     // 날짜 존재 여부 확인
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByDate(LocalDate date);
 }
@@ -0,0 +1,32 @@
+package web.kplay.studentmanagement.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import web.kplay.studentmanagement.domain.invoice.InvoiceMonthlySummary;
+import web.kplay.studentmanagement.dto.invoice.InvoiceStatusAggregate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface InvoiceMonthlySummaryRepository extends JpaRepository<InvoiceMonthlySummary, Long> {
+
+    // 특정 월 집계 삭제 (재집계 전)
+    @Modifying
+    @Query("DELETE FROM InvoiceMonthlySummary s WHERE s.monthStart = :monthStart")
+    int deleteByMonthStart(@Param("monthStart") LocalDate monthStart);
+
+    // 전체 월 집계를 상태별로 합산
+    @Query("SELECT new web.kplay.studentmanagement.dto.invoice.InvoiceStatusAggregate(s.status, SUM(s.invoiceCount), SUM(s.totalAmount)) " +
+           "FROM InvoiceMonthlySummary s GROUP BY s.status")
+    List<InvoiceStatusAggregate> sumByStatus();
+
+    // 월 구간 집계를 상태별로 합산
+    @Query("SELECT new web.kplay.studentmanagement.dto.invoice.InvoiceStatusAggregate(s.status, SUM(s.invoiceCount), SUM(s.totalAmount)) " +
+           "FROM InvoiceMonthlySummary s WHERE s.monthStart BETWEEN :startMonth AND :endMonth GROUP BY s.status")
+    List<InvoiceStatusAggregate> sumByStatusBetween(@Param("startMonth") LocalDate startMonth,
+                                                    @Param("endMonth") LocalDate endMonth);
+}
@@ -1,30 +1,80 @@
 package web.kplay.studentmanagement.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.invoice.Invoice;
 import web.kplay.studentmanagement.domain.invoice.InvoiceStatus;
+import web.kplay.studentmanagement.dto.invoice.InvoiceStatusAggregate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
-    List<Invoice> findByStudentId(Long studentId);
+    // 청구서 목록 조회는 응답 변환(toResponse)에서 쓰는 학생/발급자를 함께 조회 (행마다 추가 조회 방지)
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.student LEFT JOIN FETCH i.issuedBy")
+    List<Invoice> findAllWithStudentAndIssuer();
 
-    List<Invoice> findByStatus(InvoiceStatus status);
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.student LEFT JOIN FETCH i.issuedBy WHERE i.student.id = :studentId")
+    List<Invoice> findByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.student LEFT JOIN FETCH i.issuedBy WHERE i.status = :status")
+    List<Invoice> findByStatus(@Param("status") InvoiceStatus status);
 
     Optional<Invoice> findByInvoiceNumber(String invoiceNumber);
 
-    @Query("SELECT i FROM Invoice i WHERE i.dueDate < :date AND i.status = 'PENDING'")
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.student LEFT JOIN FETCH i.issuedBy WHERE i.dueDate < :date AND i.status = 'PENDING'")
     List<Invoice> findOverdueInvoices(@Param("date") LocalDate date);
 
-    List<Invoice> findByIssueDateBetween(LocalDate startDate, LocalDate endDate);
+    // 연체 대상 청구서 ID (대기 상태 + 납부기한 경과)
+    @Query("SELECT i.id FROM Invoice i WHERE i.status = web.kplay.studentmanagement.domain.invoice.InvoiceStatus.PENDING AND i.dueDate < :date")
+    List<Long> findOverdueInvoiceIds(@Param("date") LocalDate date);
+
+    // ID 목록의 대기 청구서를 한 번에 연체 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Invoice i SET i.status = web.kplay.studentmanagement.domain.invoice.InvoiceStatus.OVERDUE, i.updatedAt = :now " +
+           "WHERE i.id IN :ids AND i.status = web.kplay.studentmanagement.domain.invoice.InvoiceStatus.PENDING")
+    int markOverdueByIds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    // ID 목록 청구서의 발급일 (월별 집계 재계산용)
+    @Query("SELECT DISTINCT i.issueDate FROM Invoice i WHERE i.id IN :ids")
+    List<LocalDate> findDistinctIssueDatesByIdIn(@Param("ids") List<Long> ids);
+
+    // ID 목록 청구서를 학생과 함께 조회 (알림 일괄 발송용)
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.student WHERE i.id IN :ids")
+    List<Invoice> findAllWithStudentByIdIn(@Param("ids") List<Long> ids);
 
-    @Query("SELECT i FROM Invoice i WHERE i.student.id = :studentId AND i.status = :status")
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.student LEFT JOIN FETCH i.issuedBy WHERE i.issueDate BETWEEN :startDate AND :endDate")
+    List<Invoice> findByIssueDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT i FROM Invoice i JOIN FETCH i.student LEFT JOIN FETCH i.issuedBy WHERE i.student.id = :studentId AND i.status = :status")
     List<Invoice> findByStudentIdAndStatus(@Param("studentId") Long studentId, @Param("status") InvoiceStatus status);
+
+    // 청구서 발급일 목록 (월별 집계 재계산용)
+    @Query("SELECT DISTINCT i.issueDate FROM Invoice i")
+    List<LocalDate> findDistinctIssueDates();
+
+    /**
+     * 상태별 청구서 건수/금액 합계 (DB 집계)
+     * 모든 조건은 선택이며 null이면 무시
+     * @param startDate 발급일 시작 (포함)
+     * @param endDate 발급일 종료 (포함)
+     * @param studentId 학생 ID
+     * @return 상태별 집계 목록
+     */
+    @Query("SELECT new web.kplay.studentmanagement.dto.invoice.InvoiceStatusAggregate(i.status, COUNT(i), COALESCE(SUM(i.amount), 0L)) " +
+           "FROM Invoice i " +
+           "WHERE (:startDate IS NULL OR i.issueDate >= :startDate) " +
+           "AND (:endDate IS NULL OR i.issueDate <= :endDate) " +
+           "AND (:studentId IS NULL OR i.student.id = :studentId) " +
+           "GROUP BY i.status")
+    List<InvoiceStatusAggregate> aggregateByStatus(@Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate,
+                                                   @Param("studentId") Long studentId);
 }
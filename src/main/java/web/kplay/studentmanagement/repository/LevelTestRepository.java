@@ -38,8 +38,9 @@ public interface LevelTestRepository extends JpaRepository<LevelTest, Long> {
 
     // 캘린더용 추가 메서드
     // 특정 월의 모든 레벨테스트 조회 (캘린더 뷰)
-    @Query("SELECT lt FROM LevelTest lt WHERE YEAR(lt.testDate) = :year AND MONTH(lt.testDate) = :month ORDER BY lt.testDate ASC, lt.testTime ASC")
-    List<LevelTest> findByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    // monthStart 포함, nextMonthStart 제외 (test_date 인덱스 사용)
+    @Query("SELECT lt FROM LevelTest lt WHERE lt.testDate >= :monthStart AND lt.testDate < :nextMonthStart ORDER BY lt.testDate ASC, lt.testTime ASC")
+    List<LevelTest> findByMonth(@Param("monthStart") LocalDate monthStart, @Param("nextMonthStart") LocalDate nextMonthStart);
 
     // 특정 주의 모든 레벨테스트 조회 (주간 뷰)
     @Query("SELECT lt FROM LevelTest lt WHERE lt.testDate BETWEEN :weekStart AND :weekEnd ORDER BY lt.testDate ASC, lt.testTime ASC")
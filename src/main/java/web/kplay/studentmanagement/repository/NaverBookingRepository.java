@@ -5,12 +5,20 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import web.kplay.studentmanagement.domain.reservation.NaverBooking;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface NaverBookingRepository extends JpaRepository<NaverBooking, Long> {
     Optional<NaverBooking> findByBookingNumber(String bookingNumber);
+
+    // 동기화 시 기존 예약 일괄 조회
+    List<NaverBooking> findByBookingNumberIn(Collection<String> bookingNumbers);
     
-    @Query("SELECT nb FROM NaverBooking nb WHERE nb.bookingTime LIKE CONCAT(:date, '%')")
-    List<NaverBooking> findByBookingDate(@Param("date") String date);
+    List<NaverBooking> findByBookingDate(LocalDate bookingDate);
+
+    @Query("SELECT nb FROM NaverBooking nb WHERE nb.bookingDate BETWEEN :startDate AND :endDate ORDER BY nb.bookingStartAt")
+    List<NaverBooking> findByBookingDateBetween(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
 }
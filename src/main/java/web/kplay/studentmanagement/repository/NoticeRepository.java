@@ -3,7 +3,9 @@ package web.kplay.studentmanagement.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.notice.Notice;
 
@@ -23,4 +25,9 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
     // 제목 또는 내용 검색
     @Query("SELECT n FROM Notice n WHERE n.isActive = true AND (n.title LIKE %:keyword% OR n.content LIKE %:keyword%)")
     Page<Notice> searchNotices(String keyword, Pageable pageable);
+
+    // 조회수 일괄 증가 (조회 버퍼 flush용)
+    @Modifying
+    @Query("UPDATE Notice n SET n.viewCount = COALESCE(n.viewCount, 0) + :delta WHERE n.id = :id")
+    int addViewCount(@Param("id") Long id, @Param("delta") int delta);
 }
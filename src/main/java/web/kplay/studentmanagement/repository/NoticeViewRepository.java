@@ -1,7 +1,11 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import web.kplay.studentmanagement.domain.notice.NoticeView;
 
@@ -19,4 +23,12 @@ public interface NoticeViewRepository extends JpaRepository<NoticeView, Long> {
     List<NoticeView> findByNoticeIdWithUser(@Param("noticeId") Long noticeId);
     
     long countByNoticeId(Long noticeId);
+
+    // 조회 기록 저장 - (notice_id, user_id) 유니크 제약에 걸리면 무시
+    // 네이티브 DML은 영향 테이블을 지정하지 않으면 Hibernate가 2차 캐시 전체를 비우므로 notice_views만 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notice_views"))
+    @Query(value = "INSERT IGNORE INTO notice_views (notice_id, user_id, created_at, updated_at) " +
+                   "VALUES (:noticeId, :userId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("noticeId") Long noticeId, @Param("userId") Long userId);
 }
@@ -1,12 +1,55 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import web.kplay.studentmanagement.domain.recording.Recording;
+import web.kplay.studentmanagement.domain.recording.TranscodeStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecordingRepository extends JpaRepository<Recording, Long> {
     List<Recording> findByStudentIdOrderBySessionNumberDesc(Long studentId);
+
+    // 삭제용 조회 - 행 잠금으로 진행 중인 변환 결과 기록과 순서를 맞춘다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Recording r WHERE r.id = :id")
+    Optional<Recording> findByIdForUpdate(@Param("id") Long id);
+
+    // 변환 작업 선점 - 대기 상태일 때만 변환 중으로 바꾼다 (중복 실행 방지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Recording r SET r.transcodeStatus = 'PROCESSING', r.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.id = :id AND r.transcodeStatus = 'PENDING'")
+    int claimForTranscode(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Recording r SET r.transcodeStatus = :status, r.streamUrl = :streamUrl, " +
+           "r.waveformUrl = :waveformUrl, r.durationSeconds = :durationSeconds, r.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.id = :id")
+    int updateTranscodeResult(@Param("id") Long id,
+                              @Param("status") TranscodeStatus status,
+                              @Param("streamUrl") String streamUrl,
+                              @Param("waveformUrl") String waveformUrl,
+                              @Param("durationSeconds") Double durationSeconds);
+
+    // 재시작 등으로 멈춘 작업을 다시 대기 상태로
+    @Transactional
+    @Modifying
+    @Query("UPDATE Recording r SET r.transcodeStatus = 'PENDING', r.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE r.transcodeStatus = 'PROCESSING' AND r.updatedAt < :before")
+    int resetStalledTranscodes(@Param("before") LocalDateTime before);
+
+    @Query("SELECT r.id FROM Recording r WHERE r.transcodeStatus IN :statuses ORDER BY r.id")
+    List<Long> findIdsByTranscodeStatusIn(@Param("statuses") Collection<TranscodeStatus> statuses);
 }
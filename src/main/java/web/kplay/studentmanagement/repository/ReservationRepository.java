@@ -1,9 +1,12 @@
 package web.kplay.studentmanagement.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
 import web.kplay.studentmanagement.domain.reservation.Reservation;
 import web.kplay.studentmanagement.domain.reservation.ReservationStatus;
 
@@ -14,7 +17,9 @@ import java.util.List;
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    List<Reservation> findByStudentId(Long studentId);
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.student LEFT JOIN FETCH r.enrollment e LEFT JOIN FETCH e.course " +
+           "WHERE r.student.id = :studentId")
+    List<Reservation> findByStudentId(@Param("studentId") Long studentId);
 
     List<Reservation> findByStudentIdAndReservationDate(Long studentId, LocalDate date);
 
@@ -30,7 +35,8 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     List<Reservation> findByStudentIdAndStatus(@Param("studentId") Long studentId,
                                                  @Param("status") ReservationStatus status);
 
-    @Query("SELECT r FROM Reservation r JOIN FETCH r.student LEFT JOIN FETCH r.enrollment WHERE r.reservationDate = :date AND r.status IN :statuses")
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.student LEFT JOIN FETCH r.enrollment e LEFT JOIN FETCH e.course " +
+           "WHERE r.reservationDate = :date AND r.status IN :statuses")
     List<Reservation> findByDateAndStatuses(@Param("date") LocalDate date,
                                              @Param("statuses") List<ReservationStatus> statuses);
 
@@ -38,11 +44,50 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     List<Reservation> findByDateRange(@Param("startDate") LocalDate startDate,
                                        @Param("endDate") LocalDate endDate);
 
+    // 관리자 예약 목록: 날짜 구간 + 상태 + (선택) 출석 완료 제외, 페이지 단위 조회
+    @Query(value = "SELECT r FROM Reservation r JOIN FETCH r.student s LEFT JOIN FETCH r.enrollment e LEFT JOIN FETCH e.course " +
+                   "WHERE r.reservationDate BETWEEN :startDate AND :endDate AND r.status IN :statuses " +
+                   "AND (:hideAttended = false OR NOT EXISTS (SELECT 1 FROM Attendance a WHERE a.student = s " +
+                   "AND a.attendanceDate = r.reservationDate AND a.status IN :attendedStatuses))",
+           countQuery = "SELECT COUNT(r) FROM Reservation r " +
+                   "WHERE r.reservationDate BETWEEN :startDate AND :endDate AND r.status IN :statuses " +
+                   "AND (:hideAttended = false OR NOT EXISTS (SELECT 1 FROM Attendance a WHERE a.student = r.student " +
+                   "AND a.attendanceDate = r.reservationDate AND a.status IN :attendedStatuses))")
+    Page<Reservation> findActiveInWindow(@Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate,
+                                         @Param("statuses") List<ReservationStatus> statuses,
+                                         @Param("hideAttended") boolean hideAttended,
+                                         @Param("attendedStatuses") List<AttendanceStatus> attendedStatuses,
+                                         Pageable pageable);
+
+    // 예약 ID 중 같은 날 출석(출석/지각) 기록이 있는 예약 ID
+    @Query("SELECT r.id FROM Reservation r WHERE r.id IN :ids AND EXISTS (SELECT 1 FROM Attendance a " +
+           "WHERE a.student = r.student AND a.attendanceDate = r.reservationDate AND a.status IN :attendedStatuses)")
+    List<Long> findAttendedIds(@Param("ids") List<Long> ids,
+                               @Param("attendedStatuses") List<AttendanceStatus> attendedStatuses);
+
+    // 신규 예약 피드: ID 커서 이후 예약 (PK 인덱스 범위 조회)
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.student LEFT JOIN FETCH r.enrollment e LEFT JOIN FETCH e.course " +
+           "WHERE r.id > :cursor ORDER BY r.id ASC")
+    List<Reservation> findFeedAfterId(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 신규 예약 피드 첫 조회: 생성 시각 이후 예약 (created_at 인덱스 범위 조회)
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.student LEFT JOIN FETCH r.enrollment e LEFT JOIN FETCH e.course " +
+           "WHERE r.createdAt > :since ORDER BY r.id ASC")
+    List<Reservation> findFeedCreatedAfter(@Param("since") LocalDateTime since, Pageable pageable);
+
     // 마이페이지용 메서드
     @Query("SELECT r FROM Reservation r WHERE r.student.id = :studentId AND r.reservationDate > :date")
     List<Reservation> findByStudentIdAndScheduleDateAfter(@Param("studentId") Long studentId,
                                                             @Param("date") LocalDate date);
 
+    // 마이페이지용 예정 예약 (상태 조건을 DB에서 처리)
+    @Query("SELECT r FROM Reservation r WHERE r.student.id = :studentId AND r.reservationDate > :date AND r.status IN :statuses " +
+           "ORDER BY r.reservationDate ASC, r.reservationTime ASC")
+    List<Reservation> findUpcomingByStudentId(@Param("studentId") Long studentId,
+                                              @Param("date") LocalDate date,
+                                              @Param("statuses") List<ReservationStatus> statuses);
+
     // 자동 차감용 메서드
     @Query("SELECT r FROM Reservation r " +
            "WHERE r.reservationDate = :date " +
@@ -81,7 +126,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * @param studentIds 학생 ID 목록
      * @return List<Reservation> 해당 학생들의 예약 목록 (최신순)
      */
-    @Query("SELECT r FROM Reservation r JOIN FETCH r.student st " +
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.student st LEFT JOIN FETCH r.enrollment e LEFT JOIN FETCH e.course " +
            "WHERE r.student.id IN :studentIds " +
            "ORDER BY r.reservationDate DESC, r.reservationTime DESC")
     List<Reservation> findByStudentIdInOrderByReservationDateDesc(@Param("studentIds") List<Long> studentIds);
@@ -98,4 +143,9 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.enrollment.id = :enrollmentId AND r.status IN ('PENDING', 'CONFIRMED')")
     int countActiveByEnrollmentId(@Param("enrollmentId") Long enrollmentId);
+
+    // 수강권별 예약 중인 횟수 일괄 조회 - [enrollmentId, count]
+    @Query("SELECT r.enrollment.id, COUNT(r) FROM Reservation r " +
+           "WHERE r.enrollment.id IN :enrollmentIds AND r.status IN ('PENDING', 'CONFIRMED') GROUP BY r.enrollment.id")
+    List<Object[]> countActiveByEnrollmentIds(@Param("enrollmentIds") List<Long> enrollmentIds);
 }
@@ -1,6 +1,9 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.sms.SMSConfig;
 
@@ -12,10 +15,12 @@ public interface SMSConfigRepository extends JpaRepository<SMSConfig, Long> {
     /**
      * 활성 설정 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SMSConfig> findByIsActiveTrue();
 
     /**
      * 최신 설정 조회 (ID 기준)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SMSConfig> findTopByOrderByIdDesc();
 }
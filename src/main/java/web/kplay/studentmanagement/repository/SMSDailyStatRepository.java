@@ -0,0 +1,68 @@
+package web.kplay.studentmanagement.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import web.kplay.studentmanagement.domain.sms.SMSDailyStat;
+import web.kplay.studentmanagement.domain.sms.SMSHistory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SMSDailyStatRepository extends JpaRepository<SMSDailyStat, Long> {
+
+    // 발송 집계 증가 - (stat_date, category, status) 행이 없으면 생성
+    // 영향 테이블을 sms_daily_stats로 지정해 발송마다 2차 캐시 전체(SMS 설정/템플릿 등)가 비워지지 않도록 한다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sms_daily_stats"))
+    @Query(value = "INSERT INTO sms_daily_stats (stat_date, category, status, message_count, total_cost, created_at, updated_at) " +
+                   "VALUES (:statDate, :category, :status, :count, :cost, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE message_count = message_count + :count, total_cost = total_cost + :cost, updated_at = NOW()",
+           nativeQuery = true)
+    int increment(@Param("statDate") LocalDate statDate,
+                  @Param("category") String category,
+                  @Param("status") String status,
+                  @Param("count") long count,
+                  @Param("cost") long cost);
+
+    // 기간 집계 삭제 (재집계 전, startDate 포함, endDate 제외)
+    @Modifying
+    @Query("DELETE FROM SMSDailyStat s WHERE s.statDate >= :startDate AND s.statDate < :endDate")
+    int deleteByPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 발송 내역으로 기간 집계 재생성 (발송일 x 카테고리 x 상태, startDate 포함, endDate 제외)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sms_daily_stats"))
+    @Query(value = "INSERT INTO sms_daily_stats (stat_date, category, status, message_count, total_cost, created_at, updated_at) " +
+                   "SELECT DATE(h.created_at), COALESCE(NULLIF(h.category, ''), 'etc'), h.status, COUNT(*), COALESCE(SUM(h.cost), 0), NOW(), NOW() " +
+                   "FROM sms_history h " +
+                   "WHERE h.created_at >= :startTime AND h.created_at < :endTime " +
+                   "GROUP BY DATE(h.created_at), COALESCE(NULLIF(h.category, ''), 'etc'), h.status",
+           nativeQuery = true)
+    int insertFromHistory(@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
+
+    // 기간 발송 건수 합계 (startDate 포함, endDate 제외)
+    @Query("SELECT COALESCE(SUM(s.messageCount), 0) FROM SMSDailyStat s " +
+           "WHERE s.statDate >= :startDate AND s.statDate < :endDate AND s.status = :status")
+    long sumCount(@Param("startDate") LocalDate startDate,
+                  @Param("endDate") LocalDate endDate,
+                  @Param("status") SMSHistory.SMSStatus status);
+
+    // 기간 발송 비용 합계 (startDate 포함, endDate 제외)
+    @Query("SELECT COALESCE(SUM(s.totalCost), 0) FROM SMSDailyStat s " +
+           "WHERE s.statDate >= :startDate AND s.statDate < :endDate AND s.status = :status")
+    long sumCost(@Param("startDate") LocalDate startDate,
+                 @Param("endDate") LocalDate endDate,
+                 @Param("status") SMSHistory.SMSStatus status);
+
+    // 기간 집계 행 조회 (카테고리별 화면용)
+    @Query("SELECT s FROM SMSDailyStat s WHERE s.statDate >= :startDate AND s.statDate < :endDate ORDER BY s.statDate ASC")
+    List<SMSDailyStat> findByPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
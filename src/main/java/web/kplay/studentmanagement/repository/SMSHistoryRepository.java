@@ -6,7 +6,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.sms.SMSHistory;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,16 +19,10 @@ public interface SMSHistoryRepository extends JpaRepository<SMSHistory, Long> {
     List<SMSHistory> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
     /**
-     * 오늘 발송 건수 조회
+     * 기간 발송 건수 조회 (start 포함, end 제외 - created_at 인덱스 사용)
      */
-    @Query("SELECT COUNT(s) FROM SMSHistory s WHERE DATE(s.createdAt) = :date AND s.status = 'SENT'")
-    long countSentToday(@Param("date") LocalDate date);
-
-    /**
-     * 이번 달 발송 건수 조회
-     */
-    @Query("SELECT COUNT(s) FROM SMSHistory s WHERE YEAR(s.createdAt) = :year AND MONTH(s.createdAt) = :month AND s.status = 'SENT'")
-    long countSentThisMonth(@Param("year") int year, @Param("month") int month);
+    @Query("SELECT COUNT(s) FROM SMSHistory s WHERE s.createdAt >= :start AND s.createdAt < :end AND s.status = 'SENT'")
+    long countSentBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     /**
      * 최근 발송 내역 조회
@@ -1,6 +1,9 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.sms.SMSTemplate;
 
@@ -12,11 +15,13 @@ public interface SMSTemplateRepository extends JpaRepository<SMSTemplate, Long>
     /**
      * 활성 템플릿 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<SMSTemplate> findByIsActiveTrue();
 
     /**
      * 카테고리별 템플릿 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<SMSTemplate> findByCategoryAndIsActiveTrue(String category);
 
     /**
@@ -1,10 +1,14 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import web.kplay.studentmanagement.domain.setting.SiteSetting;
 
 import java.util.Optional;
 
 public interface SiteSettingRepository extends JpaRepository<SiteSetting, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SiteSetting> findBySettingKey(String settingKey);
 }
@@ -0,0 +1,33 @@
+package web.kplay.studentmanagement.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import web.kplay.studentmanagement.domain.file.StoredFile;
+
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByStoragePath(String storagePath);
+
+    // 참조 수 증가 (중복 업로드)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount + 1 WHERE f.storagePath = :storagePath")
+    int incrementRefCount(@Param("storagePath") String storagePath);
+
+    // 참조 수 감소 (마지막 참조는 deleteLastReference로 처리)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1 WHERE f.storagePath = :storagePath AND f.refCount > 1")
+    int decrementRefCount(@Param("storagePath") String storagePath);
+
+    // 마지막 참조 제거 - 삭제된 행이 있을 때만 실제 파일을 지운다
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoredFile f WHERE f.storagePath = :storagePath AND f.refCount <= 1")
+    int deleteLastReference(@Param("storagePath") String storagePath);
+}
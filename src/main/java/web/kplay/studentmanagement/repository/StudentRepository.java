@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.student.Student;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,10 +29,22 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     List<Student> findByParentPhoneAndIsActive(String parentPhone, Boolean isActive);
     
     List<Student> findByParentUser(web.kplay.studentmanagement.domain.user.User parentUser);
+
+    // 학부모 계정에 연결된 자녀 ID
+    @Query("SELECT s.id FROM Student s WHERE s.parentUser.username = :username ORDER BY s.id")
+    List<Long> findIdsByParentUsername(@Param("username") String username);
+
+    // 학부모 계정 전화번호와 일치하는 재원 중 자녀 ID
+    @Query("SELECT s.id FROM Student s, User u WHERE u.username = :username " +
+           "AND s.parentPhone = u.phoneNumber AND s.isActive = true ORDER BY s.id")
+    List<Long> findActiveIdsByParentUserPhone(@Param("username") String username);
     
     List<Student> findByParentPhoneAndParentUserIsNull(String parentPhone);
     
     List<Student> findByStudentName(String studentName);
+
+    // 엑셀 가져오기용 이름 일괄 조회
+    List<Student> findByStudentNameInOrderByIdAsc(Collection<String> studentNames);
     
     List<Student> findByStudentNameAndParentPhone(String studentName, String parentPhone);
     
@@ -1,6 +1,9 @@
 package web.kplay.studentmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import web.kplay.studentmanagement.domain.terms.Terms;
 import web.kplay.studentmanagement.domain.terms.TermsType;
@@ -9,5 +12,6 @@ import java.util.Optional;
 
 @Repository
 public interface TermsRepository extends JpaRepository<Terms, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Terms> findByTypeAndIsActiveTrue(TermsType type);
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
 import web.kplay.studentmanagement.domain.attendance.Attendance;
 import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
 import web.kplay.studentmanagement.domain.course.Enrollment;
@@ -26,6 +27,7 @@ public class AttendanceScheduler {
     private final AttendanceRepository attendanceRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final AutomatedMessageService automatedMessageService;
+    private final ScheduledJobMetrics scheduledJobMetrics;
 
     /**
      * 5분마다 실행: 수업 시작 후 15분 지난 미출석자에게 알림 발송 및 횟수 차감
@@ -38,6 +40,7 @@ public class AttendanceScheduler {
 
         List<Attendance> attendances = attendanceRepository.findByDate(today);
 
+        int notifiedCount = 0;
         for (Attendance attendance : attendances) {
             // 체크인하지 않았고, 수업 시작 시간이 15분 이상 지났고, 아직 알림 안 보낸 경우
             if (attendance.getCheckInTime() == null 
@@ -66,17 +69,20 @@ public class AttendanceScheduler {
                     
                     // 알림 발송 표시
                     attendance.markLateNotificationSent();
+                    notifiedCount++;
                     
                     log.info("No-show notification sent: student={}, time={}", 
                         student.getStudentName(), attendance.getAttendanceTime());
                 } else if (attendance.getNaverBooking() != null) {
                     // 네이버 예약 학생 - 결석 문자 발송 안 함
                     attendance.markLateNotificationSent();
+                    notifiedCount++;
                     log.info("No-show (Naver, no message): student={}, time={}", 
                         attendance.getNaverBooking().getStudentName(), attendance.getAttendanceTime());
                 }
             }
         }
+        scheduledJobMetrics.recordRows("checkLateStudents", notifiedCount);
     }
 
     /**
@@ -121,6 +127,7 @@ public class AttendanceScheduler {
             }
         }
 
+        scheduledJobMetrics.recordRows("checkAbsentStudents", absentCount);
         if (absentCount > 0) {
             log.info("Absent check completed: {} students marked as absent", absentCount);
         }
@@ -0,0 +1,40 @@
+package web.kplay.studentmanagement.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.service.invoice.InvoiceMessageService;
+import web.kplay.studentmanagement.service.invoice.InvoiceService;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvoiceScheduler {
+
+    private final InvoiceService invoiceService;
+    private final InvoiceMessageService invoiceMessageService;
+    private final ScheduledJobMetrics scheduledJobMetrics;
+
+    /**
+     * 매일 오전 1시: 납부기한 지난 청구서 일괄 연체 처리 후 연체 알림 발송
+     * 상태 변경 트랜잭션이 커밋된 뒤 문자를 보내므로 발송 실패가 연체 처리에 영향을 주지 않음
+     */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void processOverdueInvoices() {
+        List<Long> overdueIds = invoiceService.updateOverdueInvoices();
+        scheduledJobMetrics.recordRows("processOverdueInvoices", overdueIds.size());
+        if (overdueIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            invoiceMessageService.sendOverdueNotifications(overdueIds);
+        } catch (Exception e) {
+            log.error("연체 알림 일괄 발송 실패: {}", e.getMessage(), e);
+        }
+    }
+}
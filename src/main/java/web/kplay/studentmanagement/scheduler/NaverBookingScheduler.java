@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
 import web.kplay.studentmanagement.controller.reservation.NaverBookingSseController;
 import web.kplay.studentmanagement.service.NaverBookingApiCrawlerService;
 import web.kplay.studentmanagement.service.message.sms.SmsService;
@@ -15,6 +16,7 @@ public class NaverBookingScheduler {
 
     private final NaverBookingApiCrawlerService crawlerService;
     private final SmsService smsService;
+    private final ScheduledJobMetrics scheduledJobMetrics;
 
     // 매일 오전 9시 00분에 실행
     @Scheduled(cron = "0 30 8 * * *")
@@ -22,7 +24,8 @@ public class NaverBookingScheduler {
         log.info("=== 네이버 예약 자동 크롤링 시작 (매일 오전 9시) ===");
         String result = "FAIL";
         try {
-            crawlerService.crawlNaverBookings(null);
+            int crawled = crawlerService.crawlNaverBookings(null).size();
+            scheduledJobMetrics.recordRows("scheduledCrawling", crawled);
             log.info("=== 네이버 예약 자동 크롤링 완료 ===");
             result = "OK";
 
@@ -0,0 +1,53 @@
+package web.kplay.studentmanagement.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.service.notice.NoticeService;
+import web.kplay.studentmanagement.service.notice.NoticeViewBuffer;
+
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeViewScheduler {
+
+    private final NoticeViewBuffer noticeViewBuffer;
+    private final NoticeService noticeService;
+    private final ScheduledJobMetrics scheduledJobMetrics;
+
+    /**
+     * 5초마다 공지사항 조회 버퍼를 DB에 반영
+     * 반영에 실패하면 꺼낸 내용을 버퍼에 되돌려 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flushNoticeViews() {
+        Map<Long, Long> counts = noticeViewBuffer.drainCounts();
+        Set<NoticeViewBuffer.ViewKey> views = noticeViewBuffer.drainViews();
+        if (counts.isEmpty() && views.isEmpty()) {
+            return;
+        }
+
+        try {
+            noticeService.applyViewBatch(counts, views);
+            scheduledJobMetrics.recordRows("flushNoticeViews", counts.size() + views.size());
+            log.debug("공지사항 조회 반영: 공지 {}건, 조회 기록 {}건", counts.size(), views.size());
+        } catch (Exception e) {
+            noticeViewBuffer.restore(counts, views);
+            log.error("공지사항 조회 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회 버퍼 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushNoticeViews();
+    }
+}
@@ -14,23 +14,27 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Set<String> SSE_TICKET_PATHS = Set.of("/api/notifications/stream");
+    private static final String FILE_TICKET_PATH_PREFIX = "/api/files/download";
+
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final StreamTicketStore streamTicketStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                      HttpServletResponse response,
                                      FilterChain filterChain) throws ServletException, IOException {
         try {
-            String jwt = getJwtFromRequest(request);
+            String username = getUsernameFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            if (username != null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
                 UsernamePasswordAuthenticationToken authentication =
@@ -50,6 +54,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private String getUsernameFromRequest(HttpServletRequest request) {
+        String jwt = getJwtFromRequest(request);
+        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+            return tokenProvider.getUsernameFromToken(jwt);
+        }
+
+        // EventSource는 헤더를 지정할 수 없으므로 SSE 스트림에 한해 1회용 티켓 허용 (JWT를 URL에 싣지 않음)
+        if (SSE_TICKET_PATHS.contains(request.getRequestURI())) {
+            return streamTicketStore.redeem(request.getParameter("ticket"));
+        }
+
+        // <audio src>도 헤더를 지정할 수 없으므로 파일 재생/다운로드에 한해 해당 파일 전용 티켓 허용
+        if (request.getRequestURI().startsWith(FILE_TICKET_PATH_PREFIX)) {
+            return streamTicketStore.resolveForFile(request.getParameter("ticket"), request.getParameter("filePath"));
+        }
+
+        return null;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
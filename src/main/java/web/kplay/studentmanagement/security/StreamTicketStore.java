@@ -0,0 +1,81 @@
+package web.kplay.studentmanagement.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SSE 스트림/파일 재생 접속용 티켓 저장소
+ * EventSource와 audio 태그는 Authorization 헤더를 지정할 수 없으므로, JWT 대신 짧게 유효한 티켓을 쿼리 파라미터로 받는다.
+ * - 스트림 티켓은 발급 후 30초 동안 한 번만 사용 가능 (URL이 로그/히스토리에 남아도 재사용 불가)
+ * - 파일 티켓은 발급한 파일 경로에만 쓸 수 있고 30분 동안 재사용 가능 (재생 위치 이동마다 Range 요청이 새로 나가므로)
+ */
+@Component
+public class StreamTicketStore {
+
+    private static final long TICKET_TTL_MILLIS = 30_000L;
+    private static final long FILE_TICKET_TTL_MILLIS = 30 * 60 * 1000L;
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Map<String, FileTicket> fileTickets = new ConcurrentHashMap<>();
+
+    /**
+     * 티켓 발급 (만료된 티켓은 이때 함께 정리)
+     */
+    public String issue(String username) {
+        long now = System.currentTimeMillis();
+        tickets.values().removeIf(ticket -> ticket.expiresAt() <= now);
+
+        String value = UUID.randomUUID().toString();
+        tickets.put(value, new Ticket(username, now + TICKET_TTL_MILLIS));
+        return value;
+    }
+
+    /**
+     * 티켓 사용 - 유효하면 발급받은 사용자명을 반환하고 티켓은 폐기, 아니면 null
+     */
+    public String redeem(String value) {
+        if (value == null) {
+            return null;
+        }
+        Ticket ticket = tickets.remove(value);
+        if (ticket == null || ticket.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return ticket.username();
+    }
+
+    /**
+     * 파일 재생/다운로드용 티켓 발급 (만료된 티켓은 이때 함께 정리)
+     */
+    public String issueForFile(String username, String filePath) {
+        long now = System.currentTimeMillis();
+        fileTickets.values().removeIf(ticket -> ticket.expiresAt() <= now);
+
+        String value = UUID.randomUUID().toString();
+        fileTickets.put(value, new FileTicket(username, filePath, now + FILE_TICKET_TTL_MILLIS));
+        return value;
+    }
+
+    /**
+     * 파일 티켓 확인 - 만료 전이고 발급한 파일 경로와 같으면 사용자명을 반환 (티켓은 유지), 아니면 null
+     */
+    public String resolveForFile(String value, String filePath) {
+        if (value == null || filePath == null) {
+            return null;
+        }
+        FileTicket ticket = fileTickets.get(value);
+        if (ticket == null || ticket.expiresAt() <= System.currentTimeMillis() || !ticket.filePath().equals(filePath)) {
+            return null;
+        }
+        return ticket.username();
+    }
+
+    private record Ticket(String username, long expiresAt) {
+    }
+
+    private record FileTicket(String username, String filePath, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package web.kplay.studentmanagement.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -31,6 +32,7 @@ public class AdditionalClassExcelService {
     /**
      * 엑셀 파일 업로드 및 데이터 갱신
      */
+    @Timed(value = "kplay.excel.parse", extraTags = {"file", "additional-class"})
     public int uploadAndReload(MultipartFile file) throws Exception {
         // 헤더 검증
         try (InputStream is = file.getInputStream();
@@ -0,0 +1,26 @@
+package web.kplay.studentmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.config.EntityChangedEvent;
+import web.kplay.studentmanagement.domain.attendance.Attendance;
+import web.kplay.studentmanagement.domain.course.Enrollment;
+
+/**
+ * 출석/수강권 변경이 커밋된 뒤 대시보드 통계 캐시 무효화
+ * (EntityChangeEventPublisher가 발행하는 EntityChangedEvent 구독)
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheEvictionListener {
+
+    private final DashboardStatsCache dashboardStatsCache;
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Attendance || event.entity() instanceof Enrollment) {
+            dashboardStatsCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package web.kplay.studentmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.dto.DashboardStatsResponse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 통계 캐시
+ * - 역할별(관리자 전체, 선생님별) 짧은 TTL 캐시
+ * - 출석/수강권 변경이 커밋되면 DashboardCacheEvictionListener가 전체 무효화
+ */
+@Slf4j
+@Component
+public class DashboardStatsCache {
+
+    private static final long TTL_MILLIS = 30_000L;
+
+    private final Map<String, CachedStats> cache = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가 - 조회 도중 무효화된 결과를 캐시에 넣지 않기 위함
+    private final AtomicLong generation = new AtomicLong();
+
+    public DashboardStatsResponse get(String key, Supplier<DashboardStatsResponse> loader) {
+        long now = System.currentTimeMillis();
+        CachedStats cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.stats();
+        }
+
+        long loadGeneration = generation.get();
+        DashboardStatsResponse stats = loader.get();
+        if (generation.get() == loadGeneration) {
+            cache.put(key, new CachedStats(stats, now + TTL_MILLIS));
+        }
+        return stats;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        if (!cache.isEmpty()) {
+            cache.clear();
+            log.debug("대시보드 통계 캐시 무효화");
+        }
+    }
+
+    private record CachedStats(DashboardStatsResponse stats, long expiresAt) {
+    }
+}
@@ -2,6 +2,7 @@ package web.kplay.studentmanagement.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import web.kplay.studentmanagement.domain.reservation.NaverBooking;
 import web.kplay.studentmanagement.dto.NaverBookingDTO;
+import web.kplay.studentmanagement.repository.BulkWriter;
 import web.kplay.studentmanagement.repository.NaverBookingRepository;
 
 import java.time.LocalDate;
@@ -25,8 +27,13 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,8 +43,15 @@ public class NaverBookingApiCrawlerService {
     private final NaverBookingRepository naverBookingRepository;
     private final web.kplay.studentmanagement.repository.AttendanceRepository attendanceRepository;
     private final StudentCourseExcelService studentCourseExcelService;
+    private final BulkWriter bulkWriter;
+    private final MeterRegistry meterRegistry;
 
-    private static final String API_BASE_URL = "https://partner.booking.naver.com/api/businesses/1047988/bookings";
+    @Value("${naver.booking.api-url:https://partner.booking.naver.com/api/businesses/1047988/bookings}")
+    private String apiBaseUrl;
+
+    // 고정 쿠키 (설정하면 Selenium 로그인 없이 사용, 부하 테스트의 스텁 서버용)
+    @Value("${naver.booking.cookie:}")
+    private String fixedCookie;
     
     @Value("${naver.id:}")
     private String naverId;
@@ -115,6 +129,9 @@ public class NaverBookingApiCrawlerService {
     }
     
     private String getCookieString() {
+        if (fixedCookie != null && !fixedCookie.isBlank()) {
+            return fixedCookie;
+        }
         // 쿠키가 없거나 만료되었으면 갱신
         if (cachedNidAut == null || cachedNidSes == null || System.currentTimeMillis() > cookieExpireTime) {
             refreshCookiesWithSelenium();
@@ -144,10 +161,13 @@ public class NaverBookingApiCrawlerService {
                     "%s?bizItemTypes=STANDARD&bookingStatusCodes=&dateDropdownType=TODAY&dateFilter=USEDATE" +
                     "&endDateTime=%s&maxDays=31&nPayChargedStatusCodes=&orderBy=&orderByStartDate=ASC" +
                     "&paymentStatusCodes=&searchValue=&startDateTime=%s&page=%d&size=50&noCache=%d",
-                    API_BASE_URL, timestamp, timestamp, page, System.currentTimeMillis()
+                    apiBaseUrl, timestamp, timestamp, page, System.currentTimeMillis()
                 );
                 
-                List<NaverBookingDTO> pageBookings = fetchBookingsFromApi(url);
+                // 페이지별 API 응답 시간 (kplay.crawler.page)
+                List<NaverBookingDTO> pageBookings = meterRegistry.timer("kplay.crawler.page", "crawler", "api")
+                        .recordCallable(() -> fetchBookingsFromApi(url));
+                meterRegistry.counter("kplay.crawler.bookings", "crawler", "api").increment(pageBookings.size());
                 
                 if (pageBookings.isEmpty()) {
                     break;
@@ -216,7 +236,7 @@ public class NaverBookingApiCrawlerService {
         return bookings;
     }
 
-    private NaverBookingDTO parseBookingNode(JsonNode node) {
+    static NaverBookingDTO parseBookingNode(JsonNode node) {
         try {
             String bookingNumber = node.get("bookingId").asText();
             String status = node.get("bookingStatusCode").asText();
@@ -280,10 +300,13 @@ public class NaverBookingApiCrawlerService {
         int savedCount = 0;
         int updatedCount = 0;
 
-        for (NaverBookingDTO dto : bookings) {
+        // 기존 예약은 한 번에 조회하고, 같은 예약번호가 여러 번 오면 마지막 것만 반영
+        Map<String, NaverBooking> existingByNumber = findExistingBookings(bookings);
+        List<NaverBooking> newBookings = new ArrayList<>();
+
+        for (NaverBookingDTO dto : deduplicate(bookings)) {
             try {
-                NaverBooking existingEntity = naverBookingRepository.findByBookingNumber(dto.getBookingNumber())
-                        .orElse(null);
+                NaverBooking existingEntity = existingByNumber.get(dto.getBookingNumber());
 
                 boolean isNew = (existingEntity == null);
 
@@ -299,37 +322,61 @@ public class NaverBookingApiCrawlerService {
                         .product(dto.getProduct())
                         .orderDate(dto.getOrderDate())
                         .confirmDate(dto.getConfirmDate())
+                        // API 수집분: bookingTime = 이용일, orderDate/confirmDate = 시작/종료 시각(UTC)
+                        .bookingDate(NaverBookingTimeParser.parseDate(dto.getBookingTime()))
+                        .bookingStartAt(NaverBookingTimeParser.parseDateTime(dto.getOrderDate()))
+                        .bookingEndAt(NaverBookingTimeParser.parseDateTime(dto.getConfirmDate()))
                         .syncedAt(now)
                         .build();
 
-                naverBookingRepository.save(entity);
-
-                // 신규 예약이고 확정 상태이면 출석 레코드 생성
-                if (isNew && "RC03".equals(entity.getStatus())) {
-                    createAttendanceForNaverBooking(entity);
+                if (isNew) {
+                    newBookings.add(entity);
+                    continue;
                 }
 
+                naverBookingRepository.save(entity);
+
                 // 기존 예약이 취소된 경우 출석 레코드 삭제
-                if (!isNew && !"RC03".equals(entity.getStatus())) {
+                if (!"RC03".equals(entity.getStatus())) {
                     deleteAttendanceForCancelledBooking(entity);
                 }
-
-                if (isNew) {
-                    savedCount++;
-                } else {
-                    updatedCount++;
-                }
+                updatedCount++;
             } catch (Exception e) {
                 log.error("예약 저장 실패: {}", dto.getBookingNumber(), e);
             }
         }
 
+        // 신규 예약은 배치 INSERT 후 확정 상태인 건만 출석 레코드 생성
+        savedCount = bulkWriter.persistAll(newBookings);
+        for (NaverBooking entity : newBookings) {
+            if ("RC03".equals(entity.getStatus())) {
+                createAttendanceForNaverBooking(entity);
+            }
+        }
+
         log.info("DB 저장 완료: 신규 {}건, 업데이트 {}건", savedCount, updatedCount);
     }
 
+    private Map<String, NaverBooking> findExistingBookings(List<NaverBookingDTO> bookings) {
+        Set<String> bookingNumbers = bookings.stream()
+                .map(NaverBookingDTO::getBookingNumber)
+                .collect(Collectors.toSet());
+        return naverBookingRepository.findByBookingNumberIn(bookingNumbers).stream()
+                .collect(Collectors.toMap(NaverBooking::getBookingNumber, Function.identity()));
+    }
+
+    private Collection<NaverBookingDTO> deduplicate(List<NaverBookingDTO> bookings) {
+        Map<String, NaverBookingDTO> byNumber = new LinkedHashMap<>();
+        bookings.forEach(dto -> byNumber.put(dto.getBookingNumber(), dto));
+        return byNumber.values();
+    }
+
     private void deleteAttendanceForCancelledBooking(NaverBooking naverBooking) {
         try {
-            LocalDate bookingDate = LocalDate.parse(naverBooking.getBookingTime());
+            LocalDate bookingDate = naverBooking.getBookingDate();
+            if (bookingDate == null) {
+                return;
+            }
             attendanceRepository.findByDate(bookingDate).stream()
                 .filter(a -> a.getNaverBooking() != null && a.getNaverBooking().getId().equals(naverBooking.getId()))
                 .forEach(a -> {
@@ -344,22 +391,15 @@ public class NaverBookingApiCrawlerService {
 
     private void createAttendanceForNaverBooking(NaverBooking naverBooking) {
         try {
-            // bookingTime 파싱: "2026-01-23" -> LocalDate
-            LocalDate bookingDate = LocalDate.parse(naverBooking.getBookingTime());
-            
-            // orderDate에서 시작 시간 파싱: "2026-01-23T00:00:00Z" -> 한국시간으로 변환
-            LocalTime bookingTime = LocalTime.of(9, 0); // 기본값
-            
-            if (naverBooking.getOrderDate() != null) {
-                try {
-                    // UTC 시간을 한국 시간으로 변환 (+9시간)
-                    java.time.Instant startInstant = java.time.Instant.parse(naverBooking.getOrderDate());
-                    java.time.ZonedDateTime koreaTime = startInstant.atZone(java.time.ZoneId.of("Asia/Seoul"));
-                    bookingTime = koreaTime.toLocalTime();
-                } catch (Exception e) {
-                    log.warn("시간 파싱 실패, 기본값 사용: {}", e.getMessage());
-                }
+            // 수집 시 해석해 둔 이용일/시작 시각 사용 (시작 시각이 없으면 9시)
+            LocalDate bookingDate = naverBooking.getBookingDate();
+            if (bookingDate == null) {
+                log.warn("이용일 정보 없음: {}, 원본: {}", naverBooking.getBookingNumber(), naverBooking.getBookingTime());
+                return;
             }
+            LocalTime bookingTime = naverBooking.getBookingStartAt() != null
+                    ? naverBooking.getBookingStartAt().toLocalTime()
+                    : LocalTime.of(9, 0);
             
             log.info("네이버 예약 파싱: 날짜={}, 시작시간={}", bookingDate, bookingTime);
             
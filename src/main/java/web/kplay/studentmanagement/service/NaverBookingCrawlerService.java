@@ -1,5 +1,7 @@
 package web.kplay.studentmanagement.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -14,12 +16,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import web.kplay.studentmanagement.domain.reservation.NaverBooking;
 import web.kplay.studentmanagement.dto.NaverBookingDTO;
+import web.kplay.studentmanagement.repository.BulkWriter;
 import web.kplay.studentmanagement.repository.NaverBookingRepository;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,6 +38,8 @@ public class NaverBookingCrawlerService {
     private final NaverBookingRepository naverBookingRepository;
     private final web.kplay.studentmanagement.repository.AttendanceRepository attendanceRepository;
     private final StudentCourseExcelService studentCourseExcelService;
+    private final BulkWriter bulkWriter;
+    private final MeterRegistry meterRegistry;
 
     private static final String NAVER_BOOKING_BASE_URL = "https://partner.booking.naver.com/bizes/1047988/booking-list-view";
     private static final String NAVER_ID = "littlebearrc";
@@ -145,6 +155,8 @@ public class NaverBookingCrawlerService {
             log.info("네이버 예약 관리 페이지로 이동");
             String naverBookingUrl = buildNaverBookingUrl();
             log.info("접속 URL: {}", naverBookingUrl);
+            // 목록 페이지 로드~스크롤~행 추출 시간 (kplay.crawler.page)
+            Timer.Sample pageSample = Timer.start(meterRegistry);
             driver.get(naverBookingUrl);
             Thread.sleep(3000);
             
@@ -248,6 +260,8 @@ public class NaverBookingCrawlerService {
                 }
             }
             
+            pageSample.stop(meterRegistry.timer("kplay.crawler.page", "crawler", "selenium"));
+            meterRegistry.counter("kplay.crawler.bookings", "crawler", "selenium").increment(bookings.size());
             log.info("크롤링 완료: 총 {}건", bookings.size());
             
             // DB에 저장
@@ -271,10 +285,13 @@ public class NaverBookingCrawlerService {
         int savedCount = 0;
         int updatedCount = 0;
         
-        for (NaverBookingDTO dto : bookings) {
+        // 기존 예약은 한 번에 조회하고, 같은 예약번호가 여러 번 오면 마지막 것만 반영
+        Map<String, NaverBooking> existingByNumber = findExistingBookings(bookings);
+        List<NaverBooking> newBookings = new ArrayList<>();
+
+        for (NaverBookingDTO dto : deduplicate(bookings)) {
             try {
-                NaverBooking existingEntity = naverBookingRepository.findByBookingNumber(dto.getBookingNumber())
-                    .orElse(null);
+                NaverBooking existingEntity = existingByNumber.get(dto.getBookingNumber());
                 
                 boolean isNew = (existingEntity == null);
                 
@@ -294,33 +311,53 @@ public class NaverBookingCrawlerService {
                     .orderDate(dto.getOrderDate())
                     .confirmDate(dto.getConfirmDate())
                     .cancelDate(dto.getCancelDate())
+                    // 목록 화면 수집분: "26. 1. 20.(화) 오전 10:00" 형식
+                    .bookingDate(NaverBookingTimeParser.parseDate(dto.getBookingTime()))
+                    .bookingStartAt(NaverBookingTimeParser.parseDateTime(dto.getBookingTime()))
+                    .orderedAt(NaverBookingTimeParser.parseDateTime(dto.getOrderDate()))
+                    .confirmedAt(NaverBookingTimeParser.parseDateTime(dto.getConfirmDate()))
                     .syncedAt(now)
                     .build();
                 
-                naverBookingRepository.save(entity);
-                
-                // 신규 예약이고 확정 상태이면 출석 레코드 생성
                 if (isNew) {
-                    log.info("신규 예약: {}, 상태: {}", entity.getName(), entity.getStatus());
-                    if ("확정".equals(entity.getStatus().replace(" ", "")) || "예약확정".equals(entity.getStatus().replace(" ", ""))) {
-                        createAttendanceForNaverBooking(entity);
-                    } else {
-                        log.warn("예약 상태가 '확정'이 아님: {}", entity.getStatus());
-                    }
-                }
-                
-                if (isNew) {
-                    savedCount++;
-                } else {
-                    updatedCount++;
+                    newBookings.add(entity);
+                    continue;
                 }
+
+                naverBookingRepository.save(entity);
+                updatedCount++;
             } catch (Exception e) {
                 log.error("예약 저장 실패: {}", dto.getBookingNumber(), e);
             }
         }
-        
+
+        // 신규 예약은 배치 INSERT 후 확정 상태인 건만 출석 레코드 생성
+        savedCount = bulkWriter.persistAll(newBookings);
+        for (NaverBooking entity : newBookings) {
+            log.info("신규 예약: {}, 상태: {}", entity.getName(), entity.getStatus());
+            if ("확정".equals(entity.getStatus().replace(" ", "")) || "예약확정".equals(entity.getStatus().replace(" ", ""))) {
+                createAttendanceForNaverBooking(entity);
+            } else {
+                log.warn("예약 상태가 '확정'이 아님: {}", entity.getStatus());
+            }
+        }
+
         log.info("DB 저장 완료: 신규 {}건, 업데이트 {}건", savedCount, updatedCount);
     }
+
+    private Map<String, NaverBooking> findExistingBookings(List<NaverBookingDTO> bookings) {
+        Set<String> bookingNumbers = bookings.stream()
+                .map(NaverBookingDTO::getBookingNumber)
+                .collect(Collectors.toSet());
+        return naverBookingRepository.findByBookingNumberIn(bookingNumbers).stream()
+                .collect(Collectors.toMap(NaverBooking::getBookingNumber, Function.identity()));
+    }
+
+    private Collection<NaverBookingDTO> deduplicate(List<NaverBookingDTO> bookings) {
+        Map<String, NaverBookingDTO> byNumber = new LinkedHashMap<>();
+        bookings.forEach(dto -> byNumber.put(dto.getBookingNumber(), dto));
+        return byNumber.values();
+    }
     
     public List<NaverBookingDTO> getTodayBookings() {
         return naverBookingRepository.findAll().stream()
@@ -344,14 +381,7 @@ public class NaverBookingCrawlerService {
     }
     
     public List<NaverBookingDTO> getBookingsByDate(String date) {
-        // 2026-01-20 -> 26. 1. 20. 형식으로 변환
-        String[] parts = date.split("-");
-        String year = parts[0].substring(2); // 2026 -> 26
-        String month = String.valueOf(Integer.parseInt(parts[1])); // 01 -> 1
-        String day = String.valueOf(Integer.parseInt(parts[2])); // 20 -> 20
-        String naverDateFormat = year + ". " + month + ". " + day + ".";
-        
-        return naverBookingRepository.findByBookingDate(naverDateFormat).stream()
+        return naverBookingRepository.findByBookingDate(java.time.LocalDate.parse(date)).stream()
             .map(entity -> NaverBookingDTO.builder()
                 .status(entity.getStatus())
                 .name(entity.getName())
@@ -380,51 +410,14 @@ public class NaverBookingCrawlerService {
      */
     private void createAttendanceForNaverBooking(NaverBooking naverBooking) {
         try {
-            // bookingTime 파싱: "26. 1. 20.(화) 오전 10:00" -> LocalDate, LocalTime
-            String bookingTimeStr = naverBooking.getBookingTime();
-            log.info("네이버 예약 시간 파싱 시작: {}", bookingTimeStr);
-            
-            // 날짜 부분 추출: "26. 1. 20.(화)" -> "2026-01-20"
-            String[] parts = bookingTimeStr.split("\\)");
-            if (parts.length < 2) {
-                log.warn("잘못된 예약 시간 형식: {}", bookingTimeStr);
-                return;
-            }
-            
-            String datePart = parts[0].replace("(", "").trim(); // "26. 1. 20.(화" -> "26. 1. 20."
-            String[] dateTokens = datePart.split("\\.");
-            if (dateTokens.length < 3) {
-                log.warn("날짜 파싱 실패: {}", datePart);
+            // 수집 시 해석해 둔 이용 일시 사용
+            java.time.LocalDateTime bookingStartAt = naverBooking.getBookingStartAt();
+            if (bookingStartAt == null) {
+                log.warn("잘못된 예약 시간 형식: {}", naverBooking.getBookingTime());
                 return;
             }
-            
-            int year = 2000 + Integer.parseInt(dateTokens[0].trim());
-            int month = Integer.parseInt(dateTokens[1].trim());
-            int day = Integer.parseInt(dateTokens[2].trim());
-            java.time.LocalDate bookingDate = java.time.LocalDate.of(year, month, day);
-            
-            // 시간 부분 추출: "오전 10:00" or "오후 4:00"
-            String timePart = parts[1].trim(); // " 오전 10:00" or " 오후 4:00"
-            String[] timeTokens = timePart.split(" ");
-            if (timeTokens.length < 2) {
-                log.warn("시간 파싱 실패: {}", timePart);
-                return;
-            }
-            
-            String ampm = timeTokens[0].trim(); // "오전" or "오후"
-            String time = timeTokens[1].trim(); // "10:00" or "4:00"
-            String[] hourMin = time.split(":");
-            int hour = Integer.parseInt(hourMin[0]);
-            int minute = Integer.parseInt(hourMin[1]);
-            
-            // 오후면 12시간 추가 (12시는 제외)
-            if ("오후".equals(ampm) && hour != 12) {
-                hour += 12;
-            } else if ("오전".equals(ampm) && hour == 12) {
-                hour = 0;
-            }
-            
-            java.time.LocalTime bookingTime = java.time.LocalTime.of(hour, minute);
+            java.time.LocalDate bookingDate = bookingStartAt.toLocalDate();
+            java.time.LocalTime bookingTime = bookingStartAt.toLocalTime();
             
             log.info("파싱 결과: 날짜={}, 시간={}", bookingDate, bookingTime);
             
@@ -0,0 +1,118 @@
+package web.kplay.studentmanagement.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 네이버 예약 일시 문자열 해석 (수집 시 한 번만 호출해 NaverBooking의 날짜/시간 컬럼에 저장)
+ * 지원 형식
+ * - 파트너 API: "2026-01-23", "2026-01-23T01:00:00Z" (UTC → 한국시간)
+ * - 예약 목록 화면: "26. 1. 23.(금) 오후 2:00"
+ * - 수동 보정 데이터: "2026-01-23 14:00"
+ * 해석할 수 없으면 null을 돌려준다.
+ */
+public final class NaverBookingTimeParser {
+
+    private static final ZoneId KOREA = ZoneId.of("Asia/Seoul");
+
+    // "26. 1. 23.(금) 오후 2:00" - 요일과 시간은 없을 수 있음
+    private static final Pattern KOREAN_FORMAT = Pattern.compile(
+            "(\\d{2,4})\\.\\s*(\\d{1,2})\\.\\s*(\\d{1,2})\\.?\\s*(?:\\([^)]*\\))?\\s*(?:(오전|오후)\\s*(\\d{1,2}):(\\d{2}))?");
+
+    // "2026-01-23" 또는 "2026-01-23 14:00"
+    private static final Pattern ISO_LOCAL_FORMAT = Pattern.compile(
+            "(\\d{4})-(\\d{2})-(\\d{2})(?:[ T](\\d{1,2}):(\\d{2})(?::\\d{2})?)?");
+
+    private NaverBookingTimeParser() {
+    }
+
+    /**
+     * 예약 일자 (시간 정보가 없어도 날짜만 있으면 반환)
+     */
+    public static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        if (isInstant(text)) {
+            LocalDateTime dateTime = parseInstant(text);
+            return dateTime != null ? dateTime.toLocalDate() : null;
+        }
+
+        Matcher iso = ISO_LOCAL_FORMAT.matcher(text);
+        if (iso.lookingAt()) {
+            return toDate(iso.group(1), iso.group(2), iso.group(3));
+        }
+        Matcher korean = KOREAN_FORMAT.matcher(text);
+        if (korean.lookingAt()) {
+            return toDate(korean.group(1), korean.group(2), korean.group(3));
+        }
+        return null;
+    }
+
+    /**
+     * 예약 일시 (한국시간, 시간 정보가 없으면 null)
+     */
+    public static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        if (isInstant(text)) {
+            return parseInstant(text);
+        }
+
+        Matcher iso = ISO_LOCAL_FORMAT.matcher(text);
+        if (iso.lookingAt()) {
+            LocalDate date = toDate(iso.group(1), iso.group(2), iso.group(3));
+            if (date == null || iso.group(4) == null) {
+                return null;
+            }
+            return date.atTime(Integer.parseInt(iso.group(4)), Integer.parseInt(iso.group(5)));
+        }
+
+        Matcher korean = KOREAN_FORMAT.matcher(text);
+        if (korean.lookingAt()) {
+            LocalDate date = toDate(korean.group(1), korean.group(2), korean.group(3));
+            if (date == null || korean.group(4) == null) {
+                return null;
+            }
+            // 오전 12시 = 0시, 오후 12시 = 12시
+            int hour = Integer.parseInt(korean.group(5)) % 12 + ("오후".equals(korean.group(4)) ? 12 : 0);
+            return date.atTime(hour, Integer.parseInt(korean.group(6)));
+        }
+        return null;
+    }
+
+    private static boolean isInstant(String text) {
+        return text.length() > 10 && text.charAt(10) == 'T'
+                && (text.endsWith("Z") || text.lastIndexOf('+') > 10 || text.lastIndexOf('-') > 10);
+    }
+
+    private static LocalDateTime parseInstant(String text) {
+        try {
+            return Instant.parse(text).atZone(KOREA).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return OffsetDateTime.parse(text).atZoneSameInstant(KOREA).toLocalDateTime();
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static LocalDate toDate(String year, String month, String day) {
+        try {
+            int y = Integer.parseInt(year);
+            return LocalDate.of(y < 100 ? 2000 + y : y, Integer.parseInt(month), Integer.parseInt(day));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package web.kplay.studentmanagement.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.springframework.stereotype.Service;
@@ -45,6 +46,7 @@ public class StudentCourseExcelService {
     /**
      * 엑셀 파일 업로드 및 데이터 갱신
      */
+    @Timed(value = "kplay.excel.parse", extraTags = {"file", "student-list"})
     public int uploadAndReload(MultipartFile file) throws Exception {
         // 헤더 검증
         try (InputStream is = file.getInputStream();
@@ -75,8 +77,6 @@ public class StudentCourseExcelService {
         log.info("엑셀 파일 저장 완료: {}", path);
         
         // 데이터 다시 로드
-        studentCourseMap.clear();
-        studentPhoneMap.clear();
         loadExcelData();
         
         return studentCourseMap.size();
@@ -114,8 +114,10 @@ public class StudentCourseExcelService {
         }
     }
 
-    private void loadFromInputStream(InputStream is) throws Exception {
+    void loadFromInputStream(InputStream is) throws Exception {
         Workbook workbook = WorkbookFactory.create(is);
+        studentCourseMap.clear();
+        studentPhoneMap.clear();
         Sheet sheet = workbook.getSheetAt(0);
 
         int loadCount = 0;
@@ -197,7 +199,7 @@ public class StudentCourseExcelService {
         return courseDurationMap.get(courseName);
     }
 
-    private String normalizePhoneLast4(String phone) {
+    static String normalizePhoneLast4(String phone) {
         if (phone == null) return null;
         String digits = phone.replaceAll("[^0-9]", "");
         return digits.length() >= 4 ? digits.substring(digits.length() - 4) : null;
@@ -256,6 +258,7 @@ public class StudentCourseExcelService {
     /**
      * 엑셀 원본 데이터 전체 조회
      */
+    @Timed(value = "kplay.excel.parse", extraTags = {"file", "student-list-rows"})
     public List<Map<String, String>> getAllExcelRows() {
         File excelFile = new File(EXCEL_DIR + EXCEL_FILENAME);
         if (!excelFile.exists()) {
@@ -310,6 +313,7 @@ public class StudentCourseExcelService {
     /**
      * 전화번호 뒷4자리로 엑셀 학생 검색
      */
+    @Timed("kplay.excel.lookup")
     public List<Map.Entry<String, String>> findByPhoneLast4(String phoneLast4) {
         return studentPhoneMap.entrySet().stream()
                 .filter(e -> e.getValue().length() >= 4 && e.getValue().substring(e.getValue().length() - 4).equals(phoneLast4))
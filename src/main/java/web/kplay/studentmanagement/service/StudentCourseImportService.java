@@ -1,5 +1,6 @@
 package web.kplay.studentmanagement.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
@@ -13,7 +14,11 @@ import web.kplay.studentmanagement.repository.StudentRepository;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,6 +28,7 @@ public class StudentCourseImportService {
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
 
+    @Timed(value = "kplay.excel.parse", extraTags = {"file", "student-course-import"})
     @Transactional
     public Map<String, Object> importFromExcel(MultipartFile file) throws IOException {
         Workbook workbook = WorkbookFactory.create(file.getInputStream());
@@ -32,6 +38,9 @@ public class StudentCourseImportService {
         int skipCount = 0;
         int errorCount = 0;
 
+        // 학생은 행마다 조회하지 않고 이름으로 한 번에 조회 (같은 이름이면 먼저 등록된 학생)
+        Map<String, Student> studentsByName = findStudentsByName(sheet);
+
         // 2번째 행부터 읽기 (1번째 행은 헤더)
         for (int i = 1; i <= sheet.getLastRowNum(); i++) {
             Row row = sheet.getRow(i);
@@ -75,10 +84,7 @@ public class StudentCourseImportService {
             }
 
             // Student 조회 (이름으로)
-            Student student = studentRepository.findByStudentName(studentName)
-                    .stream()
-                    .findFirst()
-                    .orElse(null);
+            Student student = studentsByName.get(studentName);
 
             if (student == null) {
                 log.warn("존재하지 않는 학생: {}", studentName);
@@ -86,9 +92,8 @@ public class StudentCourseImportService {
                 continue;
             }
 
-            // 기본 반 설정
+            // 기본 반 설정 (변경 감지로 커밋 시 UPDATE를 배치로 실행)
             student.setDefaultCourse(course);
-            studentRepository.save(student);
             successCount++;
             log.info("학생 반 설정: {} -> {}", studentName, courseName);
         }
@@ -104,4 +109,20 @@ public class StudentCourseImportService {
         log.info("엑셀 임포트 완료: 성공={}, 건너뜀={}, 실패={}", successCount, skipCount, errorCount);
         return result;
     }
+
+    private Map<String, Student> findStudentsByName(Sheet sheet) {
+        Set<String> names = new HashSet<>();
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            Row row = sheet.getRow(i);
+            Cell nameCell = row != null ? row.getCell(0) : null;
+            if (nameCell != null && nameCell.getCellType() == CellType.STRING) {
+                names.add(nameCell.getStringCellValue().trim());
+            }
+        }
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        return studentRepository.findByStudentNameInOrderByIdAsc(names).stream()
+                .collect(Collectors.toMap(Student::getStudentName, Function.identity(), (first, second) -> first));
+    }
 }
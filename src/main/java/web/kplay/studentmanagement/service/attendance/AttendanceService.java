@@ -1,5 +1,6 @@
 package web.kplay.studentmanagement.service.attendance;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import web.kplay.studentmanagement.domain.reservation.NaverBooking;
 import web.kplay.studentmanagement.domain.student.Student;
 import web.kplay.studentmanagement.dto.attendance.AttendanceCheckInRequest;
 import web.kplay.studentmanagement.dto.attendance.AttendanceResponse;
+import web.kplay.studentmanagement.dto.attendance.ParentCalendarEntry;
 import web.kplay.studentmanagement.dto.attendance.StudentSearchResponse;
 import web.kplay.studentmanagement.exception.BusinessException;
 import web.kplay.studentmanagement.exception.ResourceNotFoundException;
@@ -20,14 +22,14 @@ import web.kplay.studentmanagement.repository.AttendanceRepository;
 import web.kplay.studentmanagement.repository.CourseScheduleRepository;
 import web.kplay.studentmanagement.repository.EnrollmentRepository;
 import web.kplay.studentmanagement.repository.StudentRepository;
-import web.kplay.studentmanagement.repository.UserRepository;
-import web.kplay.studentmanagement.domain.user.User;
 import web.kplay.studentmanagement.service.StudentCourseExcelService;
 import web.kplay.studentmanagement.service.AdditionalClassExcelService;
+import web.kplay.studentmanagement.service.parent.ParentScopeResolver;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -42,13 +44,14 @@ public class AttendanceService {
     private final StudentRepository studentRepository;
     private final CourseScheduleRepository scheduleRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final UserRepository userRepository;
     private final web.kplay.studentmanagement.service.message.AutomatedMessageService automatedMessageService;
     private final web.kplay.studentmanagement.repository.NaverBookingRepository naverBookingRepository;
     private final StudentCourseExcelService studentCourseExcelService;
     private final AdditionalClassExcelService additionalClassExcelService;
     private final web.kplay.studentmanagement.repository.CourseRepository courseRepository;
     private final web.kplay.studentmanagement.repository.ReservationRepository reservationRepository;
+    private final ParentScopeResolver parentScopeResolver;
+    private final ParentCalendarCache parentCalendarCache;
 
     /**
      * 출석 체크인 (부모님 핸드폰 뒷자리 4자리 검증 포함)
@@ -58,6 +61,7 @@ public class AttendanceService {
      * @throws ResourceNotFoundException 학생을 찾을 수 없는 경우
      * @throws IllegalArgumentException 부모님 핸드폰 번호가 일치하지 않는 경우
      */
+    @Timed(value = "kplay.attendance.checkin", extraTags = {"channel", "request"})
     @Transactional
     public AttendanceResponse checkIn(AttendanceCheckInRequest request) {
         Student student = studentRepository.findById(request.getStudentId())
@@ -162,6 +166,7 @@ public class AttendanceService {
     /**
      * 전화번호 뒷자리로 학생 검색 (출석 체크 전 확인용)
      */
+    @Timed("kplay.attendance.search")
     @Transactional(readOnly = true)
     public List<StudentSearchResponse> searchStudentByPhone(String phoneLast4) {
         // 입력값 검증
@@ -310,6 +315,7 @@ public class AttendanceService {
     /**
      * 출석 체크인 (학생 확인 후)
      */
+    @Timed(value = "kplay.attendance.checkin", extraTags = {"channel", "phone"})
     @Transactional
     public AttendanceResponse checkInByPhone(String phoneLast4, LocalTime expectedLeaveTime) {
         LocalDateTime now = LocalDateTime.now();
@@ -527,6 +533,7 @@ public class AttendanceService {
     /**
      * 출석 ID로 체크인 (수동 추가 학생용)
      */
+    @Timed(value = "kplay.attendance.checkin", extraTags = {"channel", "attendance"})
     @Transactional
     public AttendanceResponse checkInByAttendanceId(Long attendanceId) {
         Attendance attendance = attendanceRepository.findById(attendanceId)
@@ -679,29 +686,6 @@ public class AttendanceService {
                 .collect(Collectors.toList());
     }
     
-    private String parseNaverBookingTime(String bookingTime) {
-        // "26. 1. 20.(화) 오전 10:00" -> "10:00"
-        // "26. 1. 20.(화) 오후 4:00" -> "16:00"
-        try {
-            if (bookingTime.contains("오전")) {
-                String time = bookingTime.split("오전")[1].trim();
-                String[] timeParts = time.split(":");
-                int hour = Integer.parseInt(timeParts[0].trim());
-                if (hour == 12) hour = 0; // 오전 12시는 00시
-                return String.format("%02d:%s", hour, timeParts[1]);
-            } else if (bookingTime.contains("오후")) {
-                String time = bookingTime.split("오후")[1].trim();
-                String[] timeParts = time.split(":");
-                int hour = Integer.parseInt(timeParts[0].trim());
-                if (hour != 12) hour += 12; // 오후는 +12 (단, 12시는 그대로)
-                return String.format("%02d:%s", hour, timeParts[1]);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to parse booking time: {}", bookingTime);
-        }
-        return bookingTime;
-    }
-
     /**
      * 부모님 핸드폰 번호 뒷자리 4자리 검증
      * 
@@ -951,21 +935,14 @@ public class AttendanceService {
      */
     @Transactional(readOnly = true)
     public List<AttendanceResponse> getMyChildAttendances(String username, LocalDate date) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 학부모의 자녀 목록 조회 (부모 전화번호로 매칭)
-        List<Student> myStudents = studentRepository.findByParentPhoneAndIsActive(user.getPhoneNumber(), true);
+        // 학부모의 자녀 목록 조회 (부모 전화번호로 매칭, 요청 단위 캐시)
+        List<Long> studentIds = parentScopeResolver.getActiveChildIdsByPhone(username);
         
-        if (myStudents.isEmpty()) {
+        if (studentIds.isEmpty()) {
             return List.of();
         }
         
         // 자녀들의 출석 기록 조회
-        List<Long> studentIds = myStudents.stream()
-                .map(Student::getId)
-                .collect(Collectors.toList());
-        
         List<Attendance> attendances = attendanceRepository.findByStudentIdInAndScheduleScheduleDate(studentIds, date);
         
         return attendances.stream()
@@ -974,37 +951,14 @@ public class AttendanceService {
     }
 
     /**
-     * 학부모 자녀 월별 출석 조회
+     * 학부모 자녀 월별 출석 조회 (달력용 경량 조회, 학생/월 단위 캐시)
      */
     @Transactional(readOnly = true)
-    public List<AttendanceResponse> getMyChildMonthlyAttendances(String username, int year, int month) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 학부모의 자녀 목록 조회 (부모 전화번호로 매칭)
-        List<Student> myStudents = studentRepository.findByParentPhoneAndIsActive(user.getPhoneNumber(), true);
-        
-        if (myStudents.isEmpty()) {
-            return List.of();
-        }
-        
-        // 월의 시작일과 마지막일 계산
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        
-        // 자녀들의 출석 기록 조회
-        List<Long> studentIds = myStudents.stream()
-                .map(Student::getId)
-                .collect(Collectors.toList());
-        
-        List<Attendance> attendances = attendanceRepository.findByStudentIdInAndScheduleScheduleDateBetween(studentIds, startDate, endDate);
-        
-        return attendances.stream()
-                .map(this::toResponse).filter(response -> response != null)
-                .collect(Collectors.toList());
+    public List<ParentCalendarEntry> getMyChildMonthlyAttendances(String username, int year, int month) {
+        return getMyChildCalendar(username, YearMonth.of(year, month));
     }
 
-    private AttendanceResponse toResponse(Attendance attendance) {
+    AttendanceResponse toResponse(Attendance attendance) {
         boolean isNaver = attendance.getNaverBooking() != null;
         Student student = attendance.getStudent();
         boolean isManual = !isNaver && student == null && (attendance.getCourse() != null || attendance.getManualStudentName() != null);
@@ -1097,21 +1051,14 @@ public class AttendanceService {
      */
     @Transactional(readOnly = true)
     public List<AttendanceResponse> getMyChildSchedules(String username, LocalDate date) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 학부모의 자녀 목록 조회
-        List<Student> myStudents = studentRepository.findByParentPhoneAndIsActive(user.getPhoneNumber(), true);
+        // 학부모의 자녀 목록 조회 (부모 전화번호로 매칭, 요청 단위 캐시)
+        List<Long> studentIds = parentScopeResolver.getActiveChildIdsByPhone(username);
         
-        if (myStudents.isEmpty()) {
+        if (studentIds.isEmpty()) {
             return List.of();
         }
         
         // 자녀들의 수업 스케줄 조회 (출석 여부 상관없이)
-        List<Long> studentIds = myStudents.stream()
-                .map(Student::getId)
-                .collect(Collectors.toList());
-        
         // 해당 날짜의 스케줄에서 자녀가 등록된 수업 조회
         List<Attendance> attendances = attendanceRepository.findByStudentIdInAndScheduleScheduleDate(studentIds, date);
         
@@ -1121,34 +1068,24 @@ public class AttendanceService {
     }
 
     /**
-     * 학부모 자녀 월별 수업 정보 조회
+     * 학부모 자녀 월별 수업 정보 조회 (달력용 경량 조회, 학생/월 단위 캐시)
      */
     @Transactional(readOnly = true)
-    public List<AttendanceResponse> getMyChildMonthlySchedules(String username, int year, int month) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 학부모의 자녀 목록 조회
-        List<Student> myStudents = studentRepository.findByParentPhoneAndIsActive(user.getPhoneNumber(), true);
-        
-        if (myStudents.isEmpty()) {
+    public List<ParentCalendarEntry> getMyChildMonthlySchedules(String username, int year, int month) {
+        return getMyChildCalendar(username, YearMonth.of(year, month));
+    }
+
+    /**
+     * 학부모 자녀 월별 달력 항목 (출석 기록 = 수업 일정이므로 출석/수업 달력이 같은 데이터를 공유)
+     */
+    private List<ParentCalendarEntry> getMyChildCalendar(String username, YearMonth month) {
+        List<Long> studentIds = parentScopeResolver.getActiveChildIdsByPhone(username);
+        if (studentIds.isEmpty()) {
             return List.of();
         }
-        
-        // 월의 시작일과 마지막일 계산
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        
-        // 자녀들의 수업 스케줄 조회
-        List<Long> studentIds = myStudents.stream()
-                .map(Student::getId)
-                .collect(Collectors.toList());
-        
-        List<Attendance> attendances = attendanceRepository.findByStudentIdInAndScheduleScheduleDateBetween(studentIds, startDate, endDate);
-        
-        return attendances.stream()
-                .map(this::toResponse).filter(response -> response != null)
-                .collect(Collectors.toList());
+
+        return parentCalendarCache.get(studentIds, month, missingIds ->
+                attendanceRepository.findCalendarEntries(missingIds, month.atDay(1), month.atEndOfMonth()));
     }
 
     /**
@@ -1255,6 +1192,7 @@ public class AttendanceService {
     /**
      * 학생 ID로 출석 체크인
      */
+    @Timed(value = "kplay.attendance.checkin", extraTags = {"channel", "student"})
     @Transactional
     public AttendanceResponse checkInByStudentId(Long studentId) {
         LocalDateTime now = LocalDateTime.now();
@@ -1314,6 +1252,7 @@ public class AttendanceService {
     /**
      * 네이버 예약 ID로 출석 체크인
      */
+    @Timed(value = "kplay.attendance.checkin", extraTags = {"channel", "naver-booking"})
     @Transactional
     public AttendanceResponse checkInByNaverBookingId(Long naverBookingId) {
         LocalDateTime now = LocalDateTime.now();
@@ -1367,7 +1306,7 @@ public class AttendanceService {
     }
 
     // 전화번호 마스킹 (01012345678 -> 010****5678)
-    private String maskPhone(String phone) {
+    static String maskPhone(String phone) {
         if (phone == null || phone.length() < 8) return phone;
         String digits = phone.replaceAll("[^0-9]", "");
         if (digits.length() < 8) return phone;
@@ -0,0 +1,92 @@
+package web.kplay.studentmanagement.service.attendance;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.dto.attendance.ParentCalendarEntry;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 학부모 달력 캐시 - (학생, 월) 단위
+ * - 출석 변경이 커밋되면 ParentCalendarCacheEvictionListener가 해당 학생의 모든 월을 무효화
+ * - 일괄 UPDATE처럼 리스너를 거치지 않는 변경은 TTL(10분)로 보완
+ * - 학부모가 여러 달을 넘겨봐도 메모리가 계속 늘지 않도록 최대 항목 수를 제한 (오래 안 쓴 항목부터 제거)
+ */
+@Component
+public class ParentCalendarCache {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final long MAX_ENTRIES = 20_000;
+
+    private final Cache<MonthKey, List<ParentCalendarEntry>> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // 무효화가 일어날 때마다 증가 - 조회 도중 무효화된 결과를 캐시에 넣지 않기 위함
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 여러 학생의 한 달 달력 조회 - 캐시에 없는 학생만 loader로 한 번에 조회
+     * loader는 학생 ID 목록을 받아 해당 학생들의 항목 전체를 반환
+     */
+    public List<ParentCalendarEntry> get(Collection<Long> studentIds, YearMonth month,
+                                         Function<Collection<Long>, List<ParentCalendarEntry>> loader) {
+        Map<Long, List<ParentCalendarEntry>> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long studentId : studentIds) {
+            List<ParentCalendarEntry> cached = cache.getIfPresent(new MonthKey(studentId, month));
+            if (cached != null) {
+                result.put(studentId, cached);
+            } else {
+                missing.add(studentId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadGeneration = generation.get();
+            Map<Long, List<ParentCalendarEntry>> loaded = new HashMap<>();
+            missing.forEach(studentId -> loaded.put(studentId, new ArrayList<>()));
+            for (ParentCalendarEntry entry : loader.apply(missing)) {
+                loaded.get(entry.getStudentId()).add(entry);
+            }
+
+            loaded.forEach((studentId, entries) -> {
+                List<ParentCalendarEntry> immutable = List.copyOf(entries);
+                result.put(studentId, immutable);
+                if (generation.get() == loadGeneration) {
+                    cache.put(new MonthKey(studentId, month), immutable);
+                }
+            });
+        }
+
+        // 날짜/시간 순으로 합치기
+        return result.values().stream()
+                .flatMap(List::stream)
+                .sorted((a, b) -> {
+                    int byDate = a.getAttendanceDate().compareTo(b.getAttendanceDate());
+                    return byDate != 0 ? byDate : a.getStartTime().compareTo(b.getStartTime());
+                })
+                .toList();
+    }
+
+    public void evictStudent(Long studentId) {
+        if (studentId != null) {
+            generation.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> key.studentId().equals(studentId));
+        }
+    }
+
+    private record MonthKey(Long studentId, YearMonth month) {
+    }
+}
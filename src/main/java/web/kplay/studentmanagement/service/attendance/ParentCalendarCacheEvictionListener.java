@@ -0,0 +1,25 @@
+package web.kplay.studentmanagement.service.attendance;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.config.EntityChangedEvent;
+import web.kplay.studentmanagement.domain.attendance.Attendance;
+
+/**
+ * 출석 변경이 커밋된 뒤 해당 학생의 학부모 달력 캐시 무효화
+ * (날짜가 바뀌는 수정도 있으므로 월 단위가 아니라 학생 단위로 무효화, EntityChangedEvent 구독)
+ */
+@Component
+@RequiredArgsConstructor
+public class ParentCalendarCacheEvictionListener {
+
+    private final ParentCalendarCache parentCalendarCache;
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Attendance attendance && attendance.getStudent() != null) {
+            parentCalendarCache.evictStudent(attendance.getStudent().getId());
+        }
+    }
+}
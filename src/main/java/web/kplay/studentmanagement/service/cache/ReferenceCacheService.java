@@ -0,0 +1,81 @@
+package web.kplay.studentmanagement.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import web.kplay.studentmanagement.domain.CacheRegions;
+import web.kplay.studentmanagement.dto.cache.CacheRegionStatsResponse;
+import web.kplay.studentmanagement.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기준 데이터 2차 캐시 관리
+ * - JPA로 수정하면 Hibernate가 해당 엔티티와 조회 결과 캐시를 자동으로 갱신/무효화한다
+ * - DB를 직접 수정한 경우 관리자가 영역 단위로 비울 수 있다
+ * - 영역별 적중률은 Hibernate 통계(hibernate.generate_statistics)로 집계
+ */
+@Slf4j
+@Service
+public class ReferenceCacheService {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private final SessionFactory sessionFactory;
+
+    public ReferenceCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * 영역별 적중/실패/저장 횟수 (엔티티 영역 + 조회 결과 영역)
+     */
+    public List<CacheRegionStatsResponse> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStatsResponse> result = new ArrayList<>();
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            result.add(toResponse(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+        result.add(toResponse(QUERY_RESULTS_REGION, statistics.getQueryRegionStatistics(QUERY_RESULTS_REGION)));
+        return result;
+    }
+
+    /**
+     * 전체 기준 데이터 캐시 비우기
+     */
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        log.info("2차 캐시 전체 무효화");
+    }
+
+    /**
+     * 특정 영역 비우기 (조회 결과 캐시도 함께 비워 지워진 ID를 다시 읽지 않도록 한다)
+     */
+    public void evictRegion(String region) {
+        if (!CacheRegions.ENTITY_REGIONS.contains(region)) {
+            throw new ResourceNotFoundException("캐시 영역을 찾을 수 없습니다: " + region);
+        }
+        sessionFactory.getCache().evictRegion(region);
+        sessionFactory.getCache().evictQueryRegions();
+        log.info("2차 캐시 영역 무효화: {}", region);
+    }
+
+    private CacheRegionStatsResponse toResponse(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return CacheRegionStatsResponse.builder().region(region).build();
+        }
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        return CacheRegionStatsResponse.builder()
+                .region(region)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(regionStatistics.getPutCount())
+                .hitRatio(hits + misses > 0 ? (double) hits / (hits + misses) : 0.0)
+                .build();
+    }
+}
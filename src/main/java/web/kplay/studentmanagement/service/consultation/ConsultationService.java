@@ -16,6 +16,7 @@ import web.kplay.studentmanagement.repository.ConsultationRepository;
 import web.kplay.studentmanagement.repository.StudentRepository;
 import web.kplay.studentmanagement.repository.UserRepository;
 import web.kplay.studentmanagement.security.UserDetailsImpl;
+import web.kplay.studentmanagement.service.parent.ParentScopeResolver;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +30,7 @@ public class ConsultationService {
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
     private final web.kplay.studentmanagement.service.message.AutomatedMessageService automatedMessageService;
+    private final ParentScopeResolver parentScopeResolver;
 
     @Transactional
     public ConsultationResponse createConsultation(ConsultationRequest request) {
@@ -85,13 +87,12 @@ public class ConsultationService {
      */
     @Transactional(readOnly = true)
     public List<ConsultationResponse> getConsultationsByParent(String username) {
-        User parent = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("부모님 정보를 찾을 수 없습니다."));
-        
-        List<Student> children = studentRepository.findByParentUser(parent);
-        
-        return children.stream()
-                .flatMap(child -> consultationRepository.findByStudentIdOrderByDateDesc(child.getId()).stream())
+        List<Long> childIds = parentScopeResolver.getLinkedChildIds(username);
+        if (childIds.isEmpty()) {
+            return List.of();
+        }
+
+        return consultationRepository.findByStudentIdInOrderByDateDesc(childIds).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
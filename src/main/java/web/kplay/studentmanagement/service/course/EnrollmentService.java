@@ -2,9 +2,12 @@ package web.kplay.studentmanagement.service.course;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import web.kplay.studentmanagement.domain.course.Course;
+import web.kplay.studentmanagement.domain.course.CourseSchedule;
 import web.kplay.studentmanagement.domain.course.Enrollment;
 import web.kplay.studentmanagement.domain.enrollment.EnrollmentAdjustment;
 import web.kplay.studentmanagement.domain.student.Student;
@@ -26,9 +29,14 @@ import web.kplay.studentmanagement.repository.enrollment.EnrollmentAdjustmentRep
 import web.kplay.studentmanagement.repository.ConsultationRepository;
 import web.kplay.studentmanagement.repository.ReservationRepository;
 import web.kplay.studentmanagement.service.message.AutomatedMessageService;
+import web.kplay.studentmanagement.service.parent.ParentScopeResolver;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,6 +54,7 @@ public class EnrollmentService {
     private final web.kplay.studentmanagement.service.holiday.HolidayService holidayService;
     private final AutomatedMessageService automatedMessageService;
     private final web.kplay.studentmanagement.repository.CourseScheduleRepository courseScheduleRepository;
+    private final ParentScopeResolver parentScopeResolver;
 
     /**
      * 미가입자 학생 + 수강권 동시 등록
@@ -220,29 +229,22 @@ public class EnrollmentService {
     }
 
     /**
-     * 사용자별 수강권 조회 (학생 본인 또는 학부모의 자녀)
+     * 사용자별 수강권 조회 (학부모의 자녀)
+     * - 역할은 인증 정보의 권한으로 판단 (사용자 조회 없이 자녀 ID 조회 1회 + 수강권 조회 1회)
      */
     @Transactional(readOnly = true)
-    public List<EnrollmentResponse> getEnrollmentsByUser(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username));
-        
-        List<Enrollment> enrollments;
-        
-        if (user.getRole() == UserRole.PARENT) {
-            // 학부모인 경우 자녀들의 수강권 조회
-            List<Student> children = studentRepository.findByParentUser(user);
-            enrollments = children.stream()
-                    .flatMap(child -> enrollmentRepository.findByStudentAndIsActiveTrue(child).stream())
-                    .toList();
-        } else {
+    public List<EnrollmentResponse> getEnrollmentsByUser(Authentication authentication) {
+        if (!authentication.getAuthorities().contains(new SimpleGrantedAuthority(UserRole.PARENT.getKey()))) {
             // 관리자나 선생님은 빈 리스트 반환
-            enrollments = List.of();
+            return List.of();
         }
-        
-        return enrollments.stream()
-                .map(this::toResponse)
-                .toList();
+
+        // 학부모인 경우 자녀들의 수강권을 한 번에 조회
+        List<Long> childIds = parentScopeResolver.getLinkedChildIds(authentication.getName());
+        if (childIds.isEmpty()) {
+            return List.of();
+        }
+        return toResponses(enrollmentRepository.findActiveWithStudentAndCourseByStudentIdIn(childIds));
     }
 
     @Transactional(readOnly = true)
@@ -389,14 +391,51 @@ public class EnrollmentService {
     }
 
     private EnrollmentResponse toResponse(Enrollment enrollment) {
+        Course course = enrollment.getCourse();
+        int reservedCount = reservationRepository.countActiveByEnrollmentId(enrollment.getId());
+        List<CourseSchedule> schedules = course != null ? courseScheduleRepository.findByCourseId(course.getId()) : null;
+        return toResponse(enrollment, reservedCount, schedules);
+    }
+
+    /**
+     * 여러 수강권 변환 - 예약 중인 횟수와 수업 스케줄을 각각 IN 쿼리 1회로 조회
+     */
+    private List<EnrollmentResponse> toResponses(List<Enrollment> enrollments) {
+        if (enrollments.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> enrollmentIds = enrollments.stream().map(Enrollment::getId).toList();
+        Map<Long, Integer> reservedCounts = new HashMap<>();
+        for (Object[] row : reservationRepository.countActiveByEnrollmentIds(enrollmentIds)) {
+            reservedCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+
+        Set<Long> courseIds = enrollments.stream()
+                .map(Enrollment::getCourse)
+                .filter(Objects::nonNull)
+                .map(Course::getId)
+                .collect(Collectors.toSet());
+        Map<Long, List<CourseSchedule>> schedulesByCourse = courseIds.isEmpty() ? Map.of()
+                : courseScheduleRepository.findByCourseIdIn(courseIds).stream()
+                        .collect(Collectors.groupingBy(schedule -> schedule.getCourse().getId()));
+
+        return enrollments.stream()
+                .map(enrollment -> toResponse(
+                        enrollment,
+                        reservedCounts.getOrDefault(enrollment.getId(), 0),
+                        enrollment.getCourse() != null
+                                ? schedulesByCourse.getOrDefault(enrollment.getCourse().getId(), List.of())
+                                : null))
+                .toList();
+    }
+
+    private EnrollmentResponse toResponse(Enrollment enrollment, int reservedCount, List<CourseSchedule> schedules) {
         // 레코딩 파일 현황 계산 (프론트에서 미사용, 호환성 유지)
         int totalSessions = enrollment.getTotalCount();
         int expectedRecordings = totalSessions / 6;
         int offset = enrollment.getStudent().getRecordingOffset() != null ? enrollment.getStudent().getRecordingOffset() : 0;
 
-        // 예약 중인 횟수
-        int reservedCount = reservationRepository.countActiveByEnrollmentId(enrollment.getId());
-
         Course course = enrollment.getCourse();
         return EnrollmentResponse.builder()
                 .id(enrollment.getId())
@@ -422,7 +461,7 @@ public class EnrollmentService {
                 .holdEndDate(enrollment.getHoldEndDate())
                 .isOnHold(enrollment.getIsOnHold())
                 .totalHoldDays(enrollment.getTotalHoldDays())
-                .courseSchedules(course != null ? courseScheduleRepository.findByCourseId(course.getId()).stream()
+                .courseSchedules(schedules != null ? schedules.stream()
                     .map(s -> s.getDayOfWeek() + "|" + (s.getStartTime() != null ? s.getStartTime().toString().substring(0, 5) : "") + "|" + (s.getEndTime() != null ? s.getEndTime().toString().substring(0, 5) : ""))
                     .distinct()
                     .map(key -> { String[] p = key.split("\\|"); return EnrollmentResponse.ScheduleInfo.builder().dayOfWeek(p[0]).startTime(p[1]).endTime(p[2]).build(); })
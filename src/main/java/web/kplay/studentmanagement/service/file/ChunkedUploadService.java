@@ -0,0 +1,312 @@
+package web.kplay.studentmanagement.service.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import web.kplay.studentmanagement.dto.file.ChunkedUploadInitRequest;
+import web.kplay.studentmanagement.dto.file.ChunkedUploadStatusResponse;
+import web.kplay.studentmanagement.dto.file.StoredFileResponse;
+import web.kplay.studentmanagement.exception.BusinessException;
+import web.kplay.studentmanagement.exception.ResourceNotFoundException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 분할(재개 가능) 업로드
+ * - 시작 시 전체 크기만큼의 임시 파일을 만들고, 각 청크는 자기 오프셋 위치에 바로 쓴다 (메모리 버퍼링 없음)
+ * - 청크마다 SHA-256을 검증하고 통과한 청크만 수신 완료로 표시 (실패하면 같은 청크를 다시 보내면 된다)
+ * - 청크끼리 겹치지 않으므로 여러 청크를 동시에 올릴 수 있고, 완료 시 조립 복사 없이 그대로 저장소로 이동한다
+ * 업로드 세션은 메모리에 보관하며 24시간 동안 진행이 없으면 정리한다.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final long MAX_UPLOAD_SIZE = 1024L * 1024 * 1024; // 1GB
+    private static final int DEFAULT_CHUNK_SIZE = 5 * 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 256 * 1024;
+    private static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final Duration SESSION_TTL = Duration.ofHours(24);
+    private static final Set<String> ALLOWED_FILE_TYPES = Set.of("audio", "document", "recording");
+
+    private final FileStorageService fileStorageService;
+    private final Path uploadTempLocation;
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+        this.uploadTempLocation = fileStorageService.getTempLocation().resolve("chunked");
+        try {
+            Files.createDirectories(this.uploadTempLocation);
+        } catch (IOException ex) {
+            throw new RuntimeException("분할 업로드 임시 디렉토리를 생성할 수 없습니다.", ex);
+        }
+    }
+
+    /**
+     * 업로드 시작 - 업로드 ID와 청크 구성을 돌려준다
+     */
+    public ChunkedUploadStatusResponse initiate(ChunkedUploadInitRequest request, String username) {
+        String fileName = StringUtils.cleanPath(request.getFileName());
+        if (fileName.contains("..") || fileName.contains("/")) {
+            throw new SecurityException("파일명에 부적절한 경로가 포함되어 있습니다: " + fileName);
+        }
+        if (!ALLOWED_FILE_TYPES.contains(request.getFileType())) {
+            throw new BusinessException("지원하지 않는 파일 종류입니다: " + request.getFileType());
+        }
+        if (request.getFileSize() > MAX_UPLOAD_SIZE) {
+            throw new BusinessException("파일 크기가 최대 허용 크기(1GB)를 초과했습니다.");
+        }
+        String extension = fileStorageService.getFileExtension(fileName);
+
+        int chunkSize = request.getChunkSize() != null ? request.getChunkSize() : DEFAULT_CHUNK_SIZE;
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE) {
+            throw new BusinessException("청크 크기는 256KB ~ 16MB 사이여야 합니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path dataFile = uploadTempLocation.resolve(uploadId + ".part");
+        try {
+            // 전체 크기의 희소 파일을 미리 만들어 두고 청크는 위치 지정 쓰기로 채운다
+            try (FileChannel channel = FileChannel.open(dataFile,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+                channel.write(ByteBuffer.allocate(1), request.getFileSize() - 1);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("업로드 임시 파일을 만들 수 없습니다.", ex);
+        }
+
+        UploadSession session = new UploadSession(uploadId, username, fileName, extension,
+                request.getFileType(), request.getFileSize(), chunkSize, dataFile);
+        sessions.put(uploadId, session);
+
+        log.info("분할 업로드 시작: id={}, 파일={}, 크기={}, 청크={}개",
+                uploadId, fileName, request.getFileSize(), session.totalChunks);
+        return toStatus(session);
+    }
+
+    /**
+     * 청크 수신 - 요청 본문을 해당 오프셋에 바로 기록하면서 SHA-256 검증
+     * @param offset 청크 시작 위치 (chunkSize의 배수)
+     * @param checksum 청크 본문의 SHA-256 (16진수)
+     */
+    public ChunkedUploadStatusResponse writeChunk(String uploadId, String username, long offset,
+                                                  String checksum, InputStream body) {
+        UploadSession session = getSession(uploadId, username);
+        if (offset < 0 || offset >= session.fileSize || offset % session.chunkSize != 0) {
+            throw new BusinessException("잘못된 청크 오프셋입니다: " + offset);
+        }
+        if (checksum == null || checksum.isBlank()) {
+            throw new BusinessException("청크 체크섬(SHA-256)이 필요합니다.");
+        }
+
+        int index = (int) (offset / session.chunkSize);
+        long expectedLength = Math.min(session.chunkSize, session.fileSize - offset);
+        MessageDigest digest = FileStorageService.newSha256();
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(session.dataFile, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[IO_BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new BusinessException("청크 크기가 예상보다 큽니다 (예상: " + expectedLength + "바이트)");
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    written += channel.write(byteBuffer, offset + written);
+                }
+            }
+        } catch (IOException ex) {
+            // 연결이 끊긴 청크는 수신 완료로 표시하지 않으므로 그대로 다시 보내면 된다
+            log.warn("청크 수신 중단: id={}, 청크={}, {}", uploadId, index, ex.getMessage());
+            throw new BusinessException("청크 수신이 중단되었습니다. 다시 전송해 주세요.");
+        }
+
+        if (written != expectedLength) {
+            throw new BusinessException("청크 크기가 맞지 않습니다 (예상: " + expectedLength + ", 수신: " + written + ")");
+        }
+        String actual = HexFormat.of().formatHex(digest.digest());
+        if (!actual.equalsIgnoreCase(checksum.trim())) {
+            throw new BusinessException("청크 체크섬이 일치하지 않습니다. 다시 전송해 주세요.");
+        }
+
+        session.markReceived(index);
+        return toStatus(session);
+    }
+
+    /**
+     * 업로드 상태 조회 (재개 시 빠진 청크 확인용)
+     */
+    public ChunkedUploadStatusResponse getStatus(String uploadId, String username) {
+        return toStatus(getSession(uploadId, username));
+    }
+
+    /**
+     * 업로드 완료 - 모든 청크가 있으면 전체 해시를 계산해 저장소에 반영
+     */
+    public StoredFileResponse complete(String uploadId, String username) {
+        UploadSession session = getSession(uploadId, username);
+        if (!session.isComplete()) {
+            throw new BusinessException("아직 받지 않은 청크가 있습니다: " + session.missingChunks().size() + "개");
+        }
+        if (sessions.remove(uploadId) == null) {
+            throw new BusinessException("이미 완료 처리 중인 업로드입니다.");
+        }
+
+        try {
+            String hash = fileStorageService.hashFile(session.dataFile);
+            String filePath = fileStorageService.commitTempFile(session.dataFile, hash, session.fileType, session.extension);
+            log.info("분할 업로드 완료: id={}, 파일={} -> {}", uploadId, session.fileName, filePath);
+            return StoredFileResponse.builder()
+                    .fileName(session.fileName)
+                    .filePath(filePath)
+                    .fileSize(session.fileSize)
+                    .build();
+        } catch (IOException ex) {
+            deleteQuietly(session.dataFile);
+            throw new RuntimeException("업로드 파일 저장에 실패했습니다: " + session.fileName, ex);
+        }
+    }
+
+    /**
+     * 업로드 취소
+     */
+    public void abort(String uploadId, String username) {
+        UploadSession session = getSession(uploadId, username);
+        sessions.remove(uploadId);
+        deleteQuietly(session.dataFile);
+        log.info("분할 업로드 취소: id={}", uploadId);
+    }
+
+    /**
+     * 오래된 업로드 세션 정리 (1시간마다)
+     * 세션은 메모리에만 있으므로 서버가 재시작되면 임시 파일만 남는다 - 세션이 없는 오래된 .part 파일도 함께 지운다
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000L)
+    public void cleanupExpiredSessions() {
+        Instant cutoff = Instant.now().minus(SESSION_TTL);
+        sessions.values().removeIf(session -> {
+            if (session.lastActivity.isBefore(cutoff)) {
+                deleteQuietly(session.dataFile);
+                log.info("만료된 분할 업로드 정리: id={}, 파일={}", session.uploadId, session.fileName);
+                return true;
+            }
+            return false;
+        });
+        cleanupOrphanedParts(cutoff);
+    }
+
+    private void cleanupOrphanedParts(Instant cutoff) {
+        Set<Path> activeFiles = new HashSet<>();
+        sessions.values().forEach(session -> activeFiles.add(session.dataFile));
+
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(uploadTempLocation, "*.part")) {
+            for (Path part : parts) {
+                if (!activeFiles.contains(part)
+                        && Files.getLastModifiedTime(part).toInstant().isBefore(cutoff)) {
+                    deleteQuietly(part);
+                    log.info("세션 없는 분할 업로드 임시 파일 정리: {}", part.getFileName());
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("분할 업로드 임시 디렉토리 정리 실패: {}", uploadTempLocation, ex);
+        }
+    }
+
+    private UploadSession getSession(String uploadId, String username) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || !session.username.equals(username)) {
+            throw new ResourceNotFoundException("업로드를 찾을 수 없습니다: " + uploadId);
+        }
+        session.lastActivity = Instant.now();
+        return session;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("임시 파일 삭제 실패: {}", file, ex);
+        }
+    }
+
+    private ChunkedUploadStatusResponse toStatus(UploadSession session) {
+        List<Integer> missing = session.missingChunks();
+        return ChunkedUploadStatusResponse.builder()
+                .uploadId(session.uploadId)
+                .fileName(session.fileName)
+                .fileSize(session.fileSize)
+                .chunkSize(session.chunkSize)
+                .totalChunks(session.totalChunks)
+                .receivedChunks(session.totalChunks - missing.size())
+                .missingChunks(missing)
+                .build();
+    }
+
+    private static final class UploadSession {
+        private final String uploadId;
+        private final String username;
+        private final String fileName;
+        private final String extension;
+        private final String fileType;
+        private final long fileSize;
+        private final int chunkSize;
+        private final int totalChunks;
+        private final Path dataFile;
+        private final BitSet received;
+        private volatile Instant lastActivity = Instant.now();
+
+        private UploadSession(String uploadId, String username, String fileName, String extension,
+                              String fileType, long fileSize, int chunkSize, Path dataFile) {
+            this.uploadId = uploadId;
+            this.username = username;
+            this.fileName = fileName;
+            this.extension = extension;
+            this.fileType = fileType;
+            this.fileSize = fileSize;
+            this.chunkSize = chunkSize;
+            this.totalChunks = (int) ((fileSize + chunkSize - 1) / chunkSize);
+            this.dataFile = dataFile;
+            this.received = new BitSet(totalChunks);
+        }
+
+        private synchronized void markReceived(int index) {
+            received.set(index);
+        }
+
+        private synchronized boolean isComplete() {
+            return received.cardinality() == totalChunks;
+        }
+
+        private synchronized List<Integer> missingChunks() {
+            List<Integer> missing = new ArrayList<>();
+            for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+                missing.add(i);
+            }
+            return missing;
+        }
+    }
+}
@@ -5,21 +5,38 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import web.kplay.studentmanagement.domain.file.StoredFile;
+import web.kplay.studentmanagement.exception.BusinessException;
+import web.kplay.studentmanagement.exception.ResourceNotFoundException;
+import web.kplay.studentmanagement.repository.StoredFileRepository;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 
 @Slf4j
 @Service
 public class FileStorageService {
 
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final int LOCK_STRIPES = 64;
+
     private final Path fileStorageLocation;
+    private final Path tempLocation;
+    private final StoredFileRepository storedFileRepository;
+
+    // 같은 저장 경로에 대한 업로드/삭제를 직렬화 (참조 수와 실제 파일 상태를 맞추기 위함)
+    private final Object[] pathLocks = new Object[LOCK_STRIPES];
     private static final long MAX_FILE_SIZE = 50 * 1024 * 1024; // 50MB
     private static final String[] ALLOWED_AUDIO_EXTENSIONS = {".mp3", ".m4a", ".wav", ".aac", ".ogg"};
     private static final String[] ALLOWED_FILE_EXTENSIONS = {".pdf", ".jpg", ".jpeg", ".png", ".doc", ".docx", ".txt"};
@@ -35,11 +52,16 @@ public class FileStorageService {
         "text/plain"
     };
 
-    public FileStorageService(@Value("${file.upload-dir:uploads}") String uploadDir) {
+    public FileStorageService(@Value("${file.upload-dir:uploads}") String uploadDir,
+                              StoredFileRepository storedFileRepository) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.tempLocation = this.fileStorageLocation.resolve(TEMP_DIRECTORY);
+        this.storedFileRepository = storedFileRepository;
+        Arrays.setAll(this.pathLocks, i -> new Object());
 
         try {
             Files.createDirectories(this.fileStorageLocation);
+            Files.createDirectories(this.tempLocation);
             log.info("파일 저장 디렉토리 생성: {}", this.fileStorageLocation);
         } catch (Exception ex) {
             throw new RuntimeException("파일 저장 디렉토리를 생성할 수 없습니다.", ex);
@@ -48,6 +70,8 @@ public class FileStorageService {
 
     /**
      * 파일 업로드 (보안 검증 강화)
+     * 업로드를 한 번만 읽으면서 SHA-256을 계산해 임시 파일에 쓰고, 같은 내용이 이미 있으면 참조 수만 늘린다.
+     * 새 내용이면 "/{fileType}/{해시 앞 2자리}/{해시}{확장자}" 위치로 원자적으로 이동한다.
      */
     public String storeFile(MultipartFile file, String fileType) {
         // 파일명 정규화
@@ -75,22 +99,22 @@ public class FileStorageService {
             // 파일 확장자 체크 (경로 조작 방지만)
             String extension = getFileExtension(originalFileName);
 
-            // 고유 파일명 생성 (날짜 + UUID + 원본 확장자)
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String uniqueFileName = timestamp + "_" + UUID.randomUUID().toString().substring(0, 8) + extension;
-
-            // 파일 타입별 하위 디렉토리 생성
-            Path typeDirectory = this.fileStorageLocation.resolve(fileType);
-            Files.createDirectories(typeDirectory);
-
-            // 파일 저장
-            Path targetLocation = typeDirectory.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            // 임시 파일에 쓰면서 해시 계산
+            Path tempFile = createTempFile("upload_", ".part");
+            String hash;
+            try (DigestInputStream in = new DigestInputStream(file.getInputStream(), newSha256())) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                hash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(tempFile);
+                throw ex;
+            }
 
-            log.info("파일 업로드 완료: {} -> {}", originalFileName, uniqueFileName);
+            String storedPath = commitTempFile(tempFile, hash, fileType, extension);
+            log.info("파일 업로드 완료: {} -> {}", originalFileName, storedPath);
 
             // 저장된 파일의 상대 경로 반환
-            return "/" + fileType + "/" + uniqueFileName;
+            return storedPath;
 
         } catch (IOException ex) {
             throw new RuntimeException("파일 저장에 실패했습니다: " + originalFileName, ex);
@@ -98,36 +122,173 @@ public class FileStorageService {
     }
 
     /**
-     * 파일 삭제
+     * 서버에서 만든 파일(변환 결과 등)을 저장소에 반영하고 저장 경로 반환
+     * tempFile은 createTempFile로 만든 파일이어야 하며 호출 후에는 남지 않는다.
      */
-    public void deleteFile(String filePath) {
-        try {
-            if (filePath == null || filePath.isEmpty()) {
-                return;
+    public String storeLocalFile(Path tempFile, String fileType, String extension) throws IOException {
+        return commitTempFile(tempFile, hashFile(tempFile), fileType, extension);
+    }
+
+    /**
+     * 저장소와 같은 파일시스템에 임시 파일 생성
+     */
+    public Path createTempFile(String prefix, String suffix) throws IOException {
+        return Files.createTempFile(this.tempLocation, prefix, suffix);
+    }
+
+    /**
+     * 파일 전체의 SHA-256 (16진수)
+     */
+    String hashFile(Path file) throws IOException {
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
             }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-            // 파일 경로 정규화 (앞의 "/" 제거)
-            String normalizedPath = filePath.startsWith("/") ? filePath.substring(1) : filePath;
-            Path fileToDelete = this.fileStorageLocation.resolve(normalizedPath).normalize();
+    /**
+     * 해시 계산이 끝난 임시 파일을 저장소에 반영 (이미 있으면 임시 파일을 지우고 참조 수 증가)
+     */
+    String commitTempFile(Path tempFile, String hash, String fileType, String extension) throws IOException {
+        String storedPath = "/" + fileType + "/" + hash.substring(0, 2) + "/" + hash + extension;
+        Path target = this.fileStorageLocation.resolve(storedPath.substring(1)).normalize();
+        if (!target.startsWith(this.fileStorageLocation)) {
+            Files.deleteIfExists(tempFile);
+            throw new SecurityException("파일 경로가 유효하지 않습니다.");
+        }
+
+        synchronized (lockFor(storedPath)) {
+            try {
+                if (storedFileRepository.incrementRefCount(storedPath) > 0 && Files.exists(target)) {
+                    log.debug("중복 파일 업로드 - 기존 파일 재사용: {}", storedPath);
+                    return storedPath;
+                }
 
-            // 보안: 저장 디렉토리 밖의 파일 삭제 시도 방지
-            if (!fileToDelete.startsWith(this.fileStorageLocation)) {
-                throw new RuntimeException("파일 경로가 유효하지 않습니다.");
+                Files.createDirectories(target.getParent());
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+                if (storedFileRepository.findByStoragePath(storedPath).isEmpty()) {
+                    storedFileRepository.save(StoredFile.builder()
+                            .storagePath(storedPath)
+                            .contentHash(hash)
+                            .fileSize(Files.size(target))
+                            .refCount(1)
+                            .build());
+                }
+                return storedPath;
+            } finally {
+                Files.deleteIfExists(tempFile);
             }
+        }
+    }
 
-            Files.deleteIfExists(fileToDelete);
+    /**
+     * 파일 참조 해제 - 파일을 가진 엔티티(레코딩 등)가 삭제/교체될 때 참조 하나당 한 번만 호출
+     * 내용 기반 저장소의 파일은 참조 수를 줄이고, 마지막 참조일 때만 실제 파일을 지운다.
+     */
+    public void releaseFile(String filePath) {
+        if (filePath == null || filePath.isEmpty()) {
+            return;
+        }
+        String storedPath = toStoredPath(filePath);
+        try {
+            synchronized (lockFor(storedPath)) {
+                if (storedFileRepository.decrementRefCount(storedPath) > 0) {
+                    log.info("파일 참조 해제: {}", filePath);
+                    return;
+                }
+                // 참조 테이블에 없는 기존 방식(UUID 경로) 파일은 바로 삭제
+                storedFileRepository.deleteLastReference(storedPath);
+                Files.deleteIfExists(resolvePath(storedPath));
+            }
             log.info("파일 삭제 완료: {}", filePath);
+        } catch (IOException ex) {
+            log.error("파일 삭제 실패: {}", filePath, ex);
+            throw new RuntimeException("파일 삭제에 실패했습니다: " + filePath, ex);
+        }
+    }
 
+    /**
+     * 경로로 직접 파일 삭제 (파일 삭제 API용) - 참조 테이블에 없는 기존 방식(UUID 경로) 파일만 허용
+     * 내용 기반 저장소의 파일은 여러 항목이 함께 쓰므로 경로만으로 지우면 다른 항목의 참조까지 줄어든다.
+     * 이런 파일은 소유한 엔티티를 삭제할 때 releaseFile로만 해제한다.
+     */
+    public void deleteUntrackedFile(String filePath) {
+        if (filePath == null || filePath.isEmpty()) {
+            return;
+        }
+        String storedPath = toStoredPath(filePath);
+        try {
+            synchronized (lockFor(storedPath)) {
+                if (storedFileRepository.findByStoragePath(storedPath).isPresent()) {
+                    throw new BusinessException("공유 저장 파일은 경로로 삭제할 수 없습니다. 파일을 사용하는 항목을 삭제해 주세요.");
+                }
+                Files.deleteIfExists(resolvePath(storedPath));
+            }
+            log.info("파일 삭제 완료: {}", filePath);
         } catch (IOException ex) {
             log.error("파일 삭제 실패: {}", filePath, ex);
             throw new RuntimeException("파일 삭제에 실패했습니다: " + filePath, ex);
         }
     }
 
+    /**
+     * 요청 경로를 저장 경로("/"로 시작) 형식으로 정규화 (저장 디렉토리 밖이면 예외)
+     */
+    private String toStoredPath(String filePath) {
+        String normalizedPath = filePath.startsWith("/") ? filePath.substring(1) : filePath;
+        // 보안: 저장 디렉토리 밖의 파일 삭제 시도 방지
+        if (!this.fileStorageLocation.resolve(normalizedPath).normalize().startsWith(this.fileStorageLocation)) {
+            throw new RuntimeException("파일 경로가 유효하지 않습니다.");
+        }
+        return "/" + normalizedPath;
+    }
+
+    private Path resolvePath(String storedPath) {
+        return this.fileStorageLocation.resolve(storedPath.substring(1)).normalize();
+    }
+
+    /**
+     * 저장된 파일 경로 확인 (Path Traversal 방지 + 존재 여부 검증)
+     */
+    public Path resolveStoredFile(String filePath) {
+        // 입력 검증: null 또는 빈 문자열 체크
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new IllegalArgumentException("파일 경로가 제공되지 않았습니다.");
+        }
+
+        // 보안 검증: ".." 경로 조작 문자 차단
+        if (filePath.contains("..")) {
+            log.warn("Path Traversal attempt detected: {}", filePath);
+            throw new SecurityException("부적절한 파일 경로입니다.");
+        }
+
+        // 파일 경로 정규화 (앞의 "/" 제거)
+        String normalizedPath = filePath.startsWith("/") ? filePath.substring(1) : filePath;
+        Path file = this.fileStorageLocation.resolve(normalizedPath).normalize();
+
+        // 보안 검증: 요청된 파일이 허용된 디렉토리 내에 있는지 확인
+        if (!file.startsWith(this.fileStorageLocation)) {
+            log.warn("Attempt to access file outside directory: {}", filePath);
+            throw new SecurityException("파일 경로가 유효하지 않습니다.");
+        }
+
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new ResourceNotFoundException("파일을 찾을 수 없거나 읽을 수 없습니다: " + filePath);
+        }
+        return file;
+    }
+
     /**
      * 파일 확장자 추출
      */
-    private String getFileExtension(String fileName) {
+    String getFileExtension(String fileName) {
         int lastDotIndex = fileName.lastIndexOf('.');
         if (lastDotIndex == -1) {
             throw new RuntimeException("파일 확장자가 없습니다: " + fileName);
@@ -179,10 +340,29 @@ public class FileStorageService {
         );
     }
 
+    private Object lockFor(String storedPath) {
+        return pathLocks[Math.floorMod(storedPath.hashCode(), LOCK_STRIPES)];
+    }
+
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", ex);
+        }
+    }
+
     /**
      * 파일 저장 위치 반환
      */
     public Path getFileStorageLocation() {
         return fileStorageLocation;
     }
+
+    /**
+     * 임시 파일 위치 반환 (저장소와 같은 파일시스템이라 원자적 이동 가능)
+     */
+    Path getTempLocation() {
+        return tempLocation;
+    }
 }
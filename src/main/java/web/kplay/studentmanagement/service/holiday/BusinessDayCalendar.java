@@ -0,0 +1,142 @@
+package web.kplay.studentmanagement.service.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 연도별 영업일 달력
+ * - 영업일 여부를 BitSet으로 보관 (인덱스 = dayOfYear - 1)
+ * - 누적 영업일 수 배열(prefix sum)로 구간 영업일 수를 O(1)에 계산
+ * - N영업일 후 날짜는 누적 배열 이진 탐색으로 O(log n)에 계산
+ * 생성 후 변경되지 않으므로 여러 스레드에서 공유해도 안전하다.
+ */
+public final class BusinessDayCalendar {
+
+    private final int year;
+    private final int length;
+    private final BitSet openDays;
+    private final BitSet holidays;
+
+    // prefix[i] = 1월 1일부터 (i-1)번째 인덱스까지의 영업일 수 (prefix[0] = 0)
+    private final int[] prefix;
+
+    private BusinessDayCalendar(int year, BitSet openDays, BitSet holidays) {
+        this.year = year;
+        this.length = LocalDate.of(year, 1, 1).lengthOfYear();
+        this.openDays = openDays;
+        this.holidays = holidays;
+        this.prefix = new int[length + 1];
+        for (int i = 0; i < length; i++) {
+            prefix[i + 1] = prefix[i] + (openDays.get(i) ? 1 : 0);
+        }
+    }
+
+    /**
+     * 해당 연도의 공휴일 목록으로 달력 생성 (일요일과 공휴일은 휴무)
+     */
+    public static BusinessDayCalendar of(int year, Collection<LocalDate> holidays) {
+        LocalDate first = LocalDate.of(year, 1, 1);
+        int length = first.lengthOfYear();
+        BitSet openDays = new BitSet(length);
+        BitSet holidayDays = new BitSet(length);
+
+        // 1월 1일 이후 첫 일요일의 인덱스부터 7일 간격으로 휴무 처리
+        openDays.set(0, length);
+        int firstSunday = (DayOfWeek.SUNDAY.getValue() - first.getDayOfWeek().getValue() + 7) % 7;
+        for (int i = firstSunday; i < length; i += 7) {
+            openDays.clear(i);
+        }
+
+        for (LocalDate holiday : holidays) {
+            if (holiday != null && holiday.getYear() == year) {
+                openDays.clear(holiday.getDayOfYear() - 1);
+                holidayDays.set(holiday.getDayOfYear() - 1);
+            }
+        }
+
+        return new BusinessDayCalendar(year, openDays, holidayDays);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * 해당 연도의 전체 영업일 수
+     */
+    public int totalBusinessDays() {
+        return prefix[length];
+    }
+
+    /**
+     * 영업일 여부 (해당 연도의 날짜만 허용)
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        return openDays.get(indexOf(date));
+    }
+
+    /**
+     * 공휴일 여부 (일요일 제외, 등록된 공휴일만)
+     */
+    public boolean isHoliday(LocalDate date) {
+        return holidays.get(indexOf(date));
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 사이의 영업일 수
+     */
+    public int countBusinessDays(LocalDate from, LocalDate to) {
+        int fromIndex = indexOf(from);
+        int toIndex = indexOf(to);
+        if (fromIndex > toIndex) {
+            return 0;
+        }
+        return prefix[toIndex + 1] - prefix[fromIndex];
+    }
+
+    /**
+     * 해당 날짜 다음날부터 연말까지의 영업일 수
+     */
+    public int countBusinessDaysAfter(LocalDate date) {
+        return prefix[length] - prefix[indexOf(date) + 1];
+    }
+
+    /**
+     * 1월 1일부터 센 n번째 영업일 (1-based)
+     * n이 연간 영업일 수를 초과하면 IllegalArgumentException
+     */
+    public LocalDate nthBusinessDay(int n) {
+        if (n < 1 || n > prefix[length]) {
+            throw new IllegalArgumentException("영업일 순번이 범위를 벗어났습니다: " + year + "년 " + n);
+        }
+
+        // prefix[i + 1] >= n 을 만족하는 최소 i 탐색
+        int low = 0;
+        int high = length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prefix[mid + 1] >= n) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return LocalDate.ofYearDay(year, low + 1);
+    }
+
+    /**
+     * 해당 날짜 다음날부터 센 n번째 영업일 (같은 연도 안에 있어야 함)
+     */
+    public LocalDate addBusinessDays(LocalDate date, int n) {
+        return nthBusinessDay(prefix[indexOf(date) + 1] + n);
+    }
+
+    private int indexOf(LocalDate date) {
+        if (date.getYear() != year) {
+            throw new IllegalArgumentException("다른 연도의 날짜입니다: " + date + " (달력 연도: " + year + ")");
+        }
+        return date.getDayOfYear() - 1;
+    }
+}
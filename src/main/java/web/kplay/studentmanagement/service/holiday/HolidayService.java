@@ -5,15 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
+import web.kplay.studentmanagement.config.EntityChangedEvent;
 import web.kplay.studentmanagement.domain.holiday.Holiday;
 import web.kplay.studentmanagement.repository.HolidayRepository;
 
 import jakarta.annotation.PostConstruct;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -37,6 +38,9 @@ public class HolidayService {
     
     // 공휴일 캐시 (년도별)
     private final Map<Integer, List<Holiday>> holidayCache = new ConcurrentHashMap<>();
+
+    // 영업일 달력 캐시 (년도별) - 공휴일 변경이 커밋되면 holidayCache와 함께 무효화 (onEntityChanged)
+    private final Map<Integer, BusinessDayCalendar> calendarCache = new ConcurrentHashMap<>();
     
     @Value("${holiday.api.key:}")
     private String holidayApiKey;
@@ -69,6 +73,7 @@ public class HolidayService {
                                 savedCount++;
                             }
                         }
+                        evictYear(year);
                         log.info("공휴일 API 데이터 저장 완료: {}년 {}개", year, savedCount);
                     } else {
                         // API 실패 시 기본 공휴일 저장
@@ -80,6 +85,7 @@ public class HolidayService {
                                 savedCount++;
                             }
                         }
+                        evictYear(year);
                         log.info("공휴일 기본 데이터 저장 완료: {}년 {}개", year, savedCount);
                     }
                 } catch (Exception e) {
@@ -111,7 +117,6 @@ public class HolidayService {
                     }
                 }
                 if (savedCount > 0) {
-                    holidayCache.remove(year);
                     log.info("공휴일 동기화: {}년 {}개 추가", year, savedCount);
                 }
             } catch (Exception e) {
@@ -237,41 +242,52 @@ public class HolidayService {
     }
 
     /**
-     * 캐시된 공휴일 데이터로 특정 날짜가 공휴일인지 확인
+     * 특정 년도의 영업일 달력 조회 (캐시 사용)
+     */
+    public BusinessDayCalendar getCalendar(int year) {
+        return calendarCache.computeIfAbsent(year, y -> BusinessDayCalendar.of(y,
+                getHolidaysByYear(y).stream().map(Holiday::getDate).toList()));
+    }
+
+    /**
+     * 공휴일 추가/삭제가 커밋된 뒤 해당 년도 캐시 무효화 (EntityChangedEvent 구독)
+     * 커밋 전에 비우면 동시에 들어온 영업일 계산이 커밋 전 데이터로 달력을 다시 만들고, 달력 캐시는 만료가 없어 그대로 남는다.
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entity() instanceof Holiday holiday && holiday.getDate() != null) {
+            evictYear(holiday.getDate().getYear());
+        }
+    }
+
+    /**
+     * 해당 년도의 공휴일/영업일 캐시 무효화
+     */
+    private void evictYear(int year) {
+        holidayCache.remove(year);
+        calendarCache.remove(year);
+    }
+
+    /**
+     * 캐시된 영업일 달력으로 특정 날짜가 공휴일인지 확인
      */
     public boolean isHoliday(LocalDate date) {
-        List<Holiday> holidays = getHolidaysByYear(date.getYear());
-        return holidays.stream().anyMatch(h -> h.getDate().equals(date));
+        return getCalendar(date.getYear()).isHoliday(date);
     }
 
     /**
      * 영업일 계산 (시작일 불포함, 다음날부터 카운트)
      */
     public LocalDate calculateEndDate(LocalDate startDate, int businessDays) {
-        LocalDate currentDate = startDate;
-        int count = 0;
-        
-        while (count < businessDays) {
-            currentDate = currentDate.plusDays(1);
-            if (isBusinessDay(currentDate)) {
-                count++;
-            }
-        }
-        
-        return currentDate;
+        return addBusinessDays(startDate, businessDays);
     }
 
     /**
      * 영업일인지 확인 (주말, 공휴일 제외)
      */
     public boolean isBusinessDay(LocalDate date) {
-        // 주말 체크 (일요일만 - 학원 토요일 운영)
-        if (isWeekend(date)) {
-            return false;
-        }
-        
-        // 공휴일 체크
-        return !isHoliday(date);
+        // 주말(일요일만 - 학원 토요일 운영)과 공휴일이 달력에 반영되어 있음
+        return getCalendar(date.getYear()).isBusinessDay(date);
     }
 
     /**
@@ -285,49 +301,49 @@ public class HolidayService {
 
     /**
      * 공휴일을 제외한 실제 수업 일수 계산
-     * 주말(토,일)과 공휴일을 제외
+     * 주말(일요일)과 공휴일을 제외, 연도별 누적 영업일 수로 계산
      */
     @Transactional(readOnly = true)
     public int calculateBusinessDays(LocalDate startDate, LocalDate endDate) {
         int totalDays = 0;
-        LocalDate current = startDate;
 
-        while (!current.isAfter(endDate)) {
-            // 주말이 아니고 공휴일이 아닌 경우만 카운트
-            if (isBusinessDay(current)) {
-                totalDays++;
-            }
-            current = current.plusDays(1);
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            LocalDate from = year == startDate.getYear() ? startDate : LocalDate.of(year, 1, 1);
+            LocalDate to = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+            totalDays += getCalendar(year).countBusinessDays(from, to);
         }
 
         return totalDays;
     }
 
     /**
-     * 공휴일을 제외한 N일 후의 날짜 계산
+     * 공휴일을 제외한 N일 후의 날짜 계산 (시작일 불포함)
      * 수강권 종료일 계산 시 사용
+     * 연도 단위로 건너뛴 뒤 해당 연도 달력에서 이진 탐색
      */
     @Transactional(readOnly = true)
     public LocalDate addBusinessDays(LocalDate startDate, int businessDays) {
-        LocalDate current = startDate;
-        int daysAdded = 0;
-
-        while (daysAdded < businessDays) {
-            current = current.plusDays(1);
-            // 주말이 아니고 공휴일이 아닌 경우만 카운트
-            if (isBusinessDay(current)) {
-                daysAdded++;
-            }
+        if (businessDays <= 0) {
+            return startDate;
         }
 
-        return current;
-    }
+        int year = startDate.getYear();
+        BusinessDayCalendar calendar = getCalendar(year);
+        int remaining = businessDays;
 
-    /**
-     * 주말 여부 확인 (일요일만 주말 - 학원 토요일 운영)
-     */
-    private boolean isWeekend(LocalDate date) {
-        return date.getDayOfWeek() == DayOfWeek.SUNDAY;
+        int available = calendar.countBusinessDaysAfter(startDate);
+        if (remaining <= available) {
+            return calendar.addBusinessDays(startDate, remaining);
+        }
+        remaining -= available;
+
+        while (true) {
+            calendar = getCalendar(++year);
+            if (remaining <= calendar.totalBusinessDays()) {
+                return calendar.nthBusinessDay(remaining);
+            }
+            remaining -= calendar.totalBusinessDays();
+        }
     }
 
     /**
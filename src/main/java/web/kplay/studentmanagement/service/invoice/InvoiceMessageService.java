@@ -3,8 +3,12 @@ package web.kplay.studentmanagement.service.invoice;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import web.kplay.studentmanagement.domain.invoice.Invoice;
+import web.kplay.studentmanagement.domain.invoice.InvoiceStatus;
 import web.kplay.studentmanagement.domain.message.Message;
 import web.kplay.studentmanagement.domain.message.MessageType;
 import web.kplay.studentmanagement.exception.ResourceNotFoundException;
@@ -14,6 +18,10 @@ import web.kplay.studentmanagement.service.message.sms.SmsService;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 청구서 문자 발송 서비스
@@ -27,6 +35,10 @@ public class InvoiceMessageService {
     private final InvoiceRepository invoiceRepository;
     private final MessageRepository messageRepository;
     private final SmsService smsService;
+    private final PlatformTransactionManager transactionManager;
+
+    // 연체 알림 일괄 발송 시 한 번에 조회할 청구서 수
+    private static final int NOTIFICATION_BATCH_SIZE = 100;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
 
@@ -78,6 +90,57 @@ public class InvoiceMessageService {
                 invoiceId, invoice.getStudent().getStudentName());
     }
 
+    /**
+     * 연체 알림 문자 일괄 발송
+     * 묶음마다 메시지 이력 저장 → 트랜잭션 밖에서 발송 → 결과 기록 순서로 짧은 트랜잭션만 사용
+     * (외부 문자 API 호출 동안 DB 커넥션과 행 잠금을 잡고 있지 않도록)
+     * @param invoiceIds 연체 처리된 청구서 ID 목록
+     * @return 발송 성공 건수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sendOverdueNotifications(List<Long> invoiceIds) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int sentCount = 0;
+
+        for (int from = 0; from < invoiceIds.size(); from += NOTIFICATION_BATCH_SIZE) {
+            List<Long> batch = invoiceIds.subList(from, Math.min(from + NOTIFICATION_BATCH_SIZE, invoiceIds.size()));
+
+            List<PendingSms> pending = transactionTemplate.execute(status -> {
+                List<Invoice> invoices = invoiceRepository.findAllWithStudentByIdIn(batch).stream()
+                        .filter(invoice -> invoice.getStatus() == InvoiceStatus.OVERDUE)
+                        .filter(invoice -> invoice.getStudent().getParentPhone() != null
+                                && !invoice.getStudent().getParentPhone().isBlank())
+                        .collect(Collectors.toList());
+
+                return messageRepository.saveAll(invoices.stream()
+                                .map(invoice -> buildPendingMessage(invoice, buildOverdueMessage(invoice), MessageType.PAYMENT_OVERDUE))
+                                .collect(Collectors.toList()))
+                        .stream()
+                        .map(message -> new PendingSms(message.getId(), message.getRecipientPhone(), message.getContent()))
+                        .collect(Collectors.toList());
+            });
+
+            Map<Long, SmsResult> results = new HashMap<>();
+            for (PendingSms sms : pending) {
+                results.put(sms.messageId(), send(sms));
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    messageRepository.findAllById(results.keySet()).forEach(message -> {
+                        SmsResult result = results.get(message.getId());
+                        if (result.isSent()) {
+                            message.markAsSent(result.sentAt(), result.externalMessageId());
+                        } else {
+                            message.markAsFailed("SMS 발송 실패: " + result.error());
+                        }
+                    }));
+            sentCount += (int) results.values().stream().filter(SmsResult::isSent).count();
+        }
+
+        log.info("연체 알림 일괄 발송 완료: 대상 {}건, 성공 {}건", invoiceIds.size(), sentCount);
+        return sentCount;
+    }
+
     /**
      * 납부 완료 확인 문자 발송
      */
@@ -196,7 +259,15 @@ public class InvoiceMessageService {
      * 실제 문자 발송
      */
     private void sendMessage(Invoice invoice, String content, MessageType messageType) {
-        Message message = Message.builder()
+        Message savedMessage = messageRepository.save(buildPendingMessage(invoice, content, messageType));
+        deliver(savedMessage);
+    }
+
+    /**
+     * 발송 대기 메시지 생성
+     */
+    private Message buildPendingMessage(Invoice invoice, String content, MessageType messageType) {
+        return Message.builder()
                 .student(invoice.getStudent())
                 .recipientPhone(invoice.getStudent().getParentPhone())
                 .recipientName(invoice.getStudent().getParentName())
@@ -204,19 +275,37 @@ public class InvoiceMessageService {
                 .content(content)
                 .sendStatus("PENDING")
                 .build();
+    }
 
-        Message savedMessage = messageRepository.save(message);
-
+    /**
+     * 저장된 메시지를 SMS로 발송하고 결과 기록
+     */
+    private boolean deliver(Message message) {
         try {
             String externalMessageId = smsService.sendSms(
-                    invoice.getStudent().getParentPhone(),
-                    content
+                    message.getRecipientPhone(),
+                    message.getContent()
             );
 
-            savedMessage.markAsSent(LocalDateTime.now(), externalMessageId);
+            message.markAsSent(LocalDateTime.now(), externalMessageId);
+            return true;
+        } catch (Exception e) {
+            log.error("청구서 문자 발송 실패: {}", e.getMessage(), e);
+            message.markAsFailed("SMS 발송 실패: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 트랜잭션 밖에서 문자 한 건 발송
+     */
+    private SmsResult send(PendingSms sms) {
+        try {
+            String externalMessageId = smsService.sendSms(sms.phone(), sms.content());
+            return new SmsResult(LocalDateTime.now(), externalMessageId, null);
         } catch (Exception e) {
             log.error("청구서 문자 발송 실패: {}", e.getMessage(), e);
-            savedMessage.markAsFailed("SMS 발송 실패: " + e.getMessage());
+            return new SmsResult(null, null, e.getMessage());
         }
     }
 
@@ -226,4 +315,13 @@ public class InvoiceMessageService {
     private String formatAmount(Integer amount) {
         return String.format("%,d", amount);
     }
+
+    private record PendingSms(Long messageId, String phone, String content) {
+    }
+
+    private record SmsResult(LocalDateTime sentAt, String externalMessageId, String error) {
+        boolean isSent() {
+            return sentAt != null;
+        }
+    }
 }
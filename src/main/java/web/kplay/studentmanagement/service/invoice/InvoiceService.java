@@ -2,7 +2,6 @@ package web.kplay.studentmanagement.service.invoice;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import web.kplay.studentmanagement.domain.invoice.Invoice;
@@ -17,8 +16,12 @@ import web.kplay.studentmanagement.repository.StudentRepository;
 import web.kplay.studentmanagement.repository.UserRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +35,10 @@ public class InvoiceService {
     private final InvoiceRepository invoiceRepository;
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
+    private final InvoiceSummaryService invoiceSummaryService;
+
+    // 연체 일괄 처리 시 한 번의 UPDATE에 넣을 최대 ID 수
+    private static final int OVERDUE_BATCH_SIZE = 1000;
 
     /**
      * 청구서 생성
@@ -63,6 +70,7 @@ public class InvoiceService {
 
         Invoice savedInvoice = invoiceRepository.save(invoice);
         savedInvoice.generateInvoiceNumber();
+        invoiceSummaryService.refreshMonthAfterCommit(savedInvoice.getIssueDate());
 
         log.info("청구서 생성: id={}, 학생={}, 금액={}원, 납부기한={}",
                 savedInvoice.getId(), student.getStudentName(),
@@ -86,7 +94,7 @@ public class InvoiceService {
      */
     @Transactional(readOnly = true)
     public List<InvoiceResponse> getAllInvoices() {
-        return invoiceRepository.findAll().stream()
+        return invoiceRepository.findAllWithStudentAndIssuer().stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
@@ -156,6 +164,7 @@ public class InvoiceService {
                 request.getDueDate(),
                 request.getDescription()
         );
+        invoiceSummaryService.refreshMonthAfterCommit(invoice.getIssueDate());
 
         log.info("청구서 수정: id={}, 제목={}", id, request.getTitle());
 
@@ -179,6 +188,7 @@ public class InvoiceService {
         }
 
         invoice.markAsPaid(request.getPaymentMethod());
+        invoiceSummaryService.refreshMonthAfterCommit(invoice.getIssueDate());
 
         log.info("청구서 납부 완료: id={}, 학생={}, 금액={}원, 결제수단={}",
                 invoice.getId(),
@@ -202,6 +212,7 @@ public class InvoiceService {
         }
 
         invoice.cancel(reason);
+        invoiceSummaryService.refreshMonthAfterCommit(invoice.getIssueDate());
 
         log.info("청구서 취소: id={}, 사유={}", id, reason);
 
@@ -221,6 +232,7 @@ public class InvoiceService {
         }
 
         invoiceRepository.delete(invoice);
+        invoiceSummaryService.refreshMonthAfterCommit(invoice.getIssueDate());
         log.info("청구서 삭제: id={}", id);
     }
 
@@ -239,66 +251,103 @@ public class InvoiceService {
     }
 
     /**
-     * 연체 청구서 자동 업데이트 (매일 오전 1시 실행)
+     * 연체 청구서 일괄 업데이트 (InvoiceScheduler에서 매일 오전 1시 실행)
+     * 엔티티를 로딩하지 않고 ID 단위 UPDATE로 처리
+     * @return 연체 처리된 청구서 ID 목록
      */
-    @Scheduled(cron = "0 0 1 * * *")
     @Transactional
-    public void updateOverdueInvoices() {
+    public List<Long> updateOverdueInvoices() {
         LocalDate today = LocalDate.now();
-        List<Invoice> overdueInvoices = invoiceRepository.findOverdueInvoices(today);
-
-        for (Invoice invoice : overdueInvoices) {
-            invoice.markAsOverdue();
-            log.info("연체 처리: 청구서ID={}, 학생={}, 연체일수={}일",
-                    invoice.getId(),
-                    invoice.getStudent().getStudentName(),
-                    ChronoUnit.DAYS.between(invoice.getDueDate(), today));
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> overdueIds = invoiceRepository.findOverdueInvoiceIds(today);
+
+        int updatedCount = 0;
+        Set<LocalDate> issueDates = new HashSet<>();
+        for (int from = 0; from < overdueIds.size(); from += OVERDUE_BATCH_SIZE) {
+            List<Long> batch = overdueIds.subList(from, Math.min(from + OVERDUE_BATCH_SIZE, overdueIds.size()));
+            updatedCount += invoiceRepository.markOverdueByIds(batch, now);
+            issueDates.addAll(invoiceRepository.findDistinctIssueDatesByIdIn(batch));
         }
+        invoiceSummaryService.refreshMonthsAfterCommit(issueDates);
 
-        log.info("연체 청구서 자동 업데이트 완료: {}건", overdueInvoices.size());
+        log.info("연체 청구서 자동 업데이트 완료: {}건", updatedCount);
+        return overdueIds;
     }
 
     /**
      * 청구서 통계
+     * - 조건 없음 또는 월 단위 기간: 월별 집계 테이블 합산
+     * - 그 외(학생별, 일 단위 기간): 상태별 DB 집계 쿼리
+     * @param startDate 발급일 시작 (선택)
+     * @param endDate 발급일 종료 (선택)
+     * @param studentId 학생 ID (선택)
      */
     @Transactional(readOnly = true)
-    public InvoiceStatistics getStatistics() {
-        List<Invoice> allInvoices = invoiceRepository.findAll();
-
-        long totalCount = allInvoices.size();
-        long pendingCount = allInvoices.stream()
-                .filter(i -> i.getStatus() == InvoiceStatus.PENDING)
-                .count();
-        long paidCount = allInvoices.stream()
-                .filter(i -> i.getStatus() == InvoiceStatus.PAID)
-                .count();
-        long overdueCount = allInvoices.stream()
-                .filter(i -> i.getStatus() == InvoiceStatus.OVERDUE)
-                .count();
-
-        int totalAmount = allInvoices.stream()
-                .mapToInt(Invoice::getAmount)
-                .sum();
-        int paidAmount = allInvoices.stream()
-                .filter(i -> i.getStatus() == InvoiceStatus.PAID)
-                .mapToInt(Invoice::getAmount)
-                .sum();
-        int unpaidAmount = allInvoices.stream()
-                .filter(i -> i.getStatus() == InvoiceStatus.PENDING || i.getStatus() == InvoiceStatus.OVERDUE)
-                .mapToInt(Invoice::getAmount)
-                .sum();
+    public InvoiceStatistics getStatistics(LocalDate startDate, LocalDate endDate, Long studentId) {
+        List<InvoiceStatusAggregate> aggregates;
+
+        if (studentId == null && startDate == null && endDate == null) {
+            aggregates = invoiceSummaryService.sumByStatus(null, null);
+        } else if (studentId == null && isWholeMonthRange(startDate, endDate)) {
+            aggregates = invoiceSummaryService.sumByStatus(YearMonth.from(startDate), YearMonth.from(endDate));
+        } else {
+            aggregates = invoiceRepository.aggregateByStatus(startDate, endDate, studentId);
+        }
+
+        long totalCount = 0;
+        long pendingCount = 0;
+        long paidCount = 0;
+        long overdueCount = 0;
+        long totalAmount = 0;
+        long paidAmount = 0;
+        long unpaidAmount = 0;
+
+        for (InvoiceStatusAggregate aggregate : aggregates) {
+            long count = aggregate.getCount();
+            long amount = aggregate.getAmount() != null ? aggregate.getAmount() : 0L;
+
+            totalCount += count;
+            totalAmount += amount;
+
+            switch (aggregate.getStatus()) {
+                case PENDING -> {
+                    pendingCount += count;
+                    unpaidAmount += amount;
+                }
+                case PAID -> {
+                    paidCount += count;
+                    paidAmount += amount;
+                }
+                case OVERDUE -> {
+                    overdueCount += count;
+                    unpaidAmount += amount;
+                }
+                default -> {
+                }
+            }
+        }
 
         return InvoiceStatistics.builder()
                 .totalCount(totalCount)
                 .pendingCount(pendingCount)
                 .paidCount(paidCount)
                 .overdueCount(overdueCount)
-                .totalAmount(totalAmount)
-                .paidAmount(paidAmount)
-                .unpaidAmount(unpaidAmount)
+                .totalAmount((int) totalAmount)
+                .paidAmount((int) paidAmount)
+                .unpaidAmount((int) unpaidAmount)
                 .build();
     }
 
+    /**
+     * 기간이 월 1일 ~ 월 말일로 딱 맞는지 확인 (월별 집계 사용 가능 여부)
+     */
+    private boolean isWholeMonthRange(LocalDate startDate, LocalDate endDate) {
+        return startDate != null && endDate != null
+                && !startDate.isAfter(endDate)
+                && startDate.getDayOfMonth() == 1
+                && endDate.equals(YearMonth.from(endDate).atEndOfMonth());
+    }
+
     /**
      * Entity -> DTO 변환
      */
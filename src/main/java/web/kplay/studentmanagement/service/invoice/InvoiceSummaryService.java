@@ -0,0 +1,143 @@
+package web.kplay.studentmanagement.service.invoice;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.domain.invoice.InvoiceMonthlySummary;
+import web.kplay.studentmanagement.dto.invoice.InvoiceStatusAggregate;
+import web.kplay.studentmanagement.repository.InvoiceMonthlySummaryRepository;
+import web.kplay.studentmanagement.repository.InvoiceRepository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 청구서 월별 집계 서비스
+ * - 청구서 생성/수정/납부/취소/연체/삭제가 커밋되면 해당 발급월을 별도 트랜잭션으로 재집계
+ * - 청구 현황 화면은 월별 집계 행만 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InvoiceSummaryService {
+
+    private final InvoiceRepository invoiceRepository;
+    private final InvoiceMonthlySummaryRepository summaryRepository;
+    private final ScheduledJobMetrics scheduledJobMetrics;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Object refreshLock = new Object();
+
+    /**
+     * 발급일이 속한 월을 호출 트랜잭션이 커밋된 뒤 재집계
+     * 납부/취소 트랜잭션과 분리해 집계 쿼리의 잠금 경합이나 실패가 결제를 롤백시키지 않도록 한다.
+     */
+    public void refreshMonthAfterCommit(LocalDate issueDate) {
+        refreshMonthsAfterCommit(List.of(issueDate));
+    }
+
+    /**
+     * 여러 발급일의 월 집계를 커밋 후 재집계 (같은 월은 한 번만)
+     * 실패하면 로그만 남기고 새벽 전체 재계산에서 보정된다.
+     */
+    public void refreshMonthsAfterCommit(Collection<LocalDate> issueDates) {
+        Set<LocalDate> months = issueDates.stream()
+                .map(date -> date.withDayOfMonth(1))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (months.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    months.forEach(InvoiceSummaryService.this::refreshQuietly);
+                }
+            });
+        } else {
+            months.forEach(this::refreshQuietly);
+        }
+    }
+
+    /**
+     * 월 집계 재계산 - 매번 새 트랜잭션에서, 서버 안에서는 한 번에 하나씩 실행
+     * 재집계가 순서대로 돌기 때문에 마지막 재집계는 앞선 커밋을 모두 본 스냅샷으로 저장된다.
+     */
+    void refreshMonth(LocalDate monthStart) {
+        synchronized (refreshLock) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<InvoiceStatusAggregate> aggregates = invoiceRepository.aggregateByStatus(
+                        monthStart, YearMonth.from(monthStart).atEndOfMonth(), null);
+
+                summaryRepository.deleteByMonthStart(monthStart);
+                summaryRepository.saveAll(aggregates.stream()
+                        .map(aggregate -> InvoiceMonthlySummary.builder()
+                                .monthStart(monthStart)
+                                .status(aggregate.getStatus())
+                                .invoiceCount(aggregate.getCount())
+                                .totalAmount(aggregate.getAmount())
+                                .build())
+                        .collect(Collectors.toList()));
+            });
+        }
+    }
+
+    private void refreshQuietly(LocalDate monthStart) {
+        try {
+            refreshMonth(monthStart);
+        } catch (RuntimeException e) {
+            log.error("청구서 월별 집계 실패 (새벽 전체 재계산에서 보정): month={}", monthStart, e);
+        }
+    }
+
+    /**
+     * 월별 집계가 비어 있으면 전체 청구서로 초기 집계
+     */
+    public void backfillIfEmpty() {
+        if (summaryRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 전체 월 집계 재계산 (매일 새벽 1시 30분, 동시 수정으로 어긋난 집계 보정)
+     */
+    @Scheduled(cron = "0 30 1 * * *")
+    public void rebuildAll() {
+        List<LocalDate> issueDates = invoiceRepository.findDistinctIssueDates();
+        issueDates.stream()
+                .map(date -> date.withDayOfMonth(1))
+                .distinct()
+                .forEach(this::refreshMonth);
+        scheduledJobMetrics.recordRows("rebuildAll", issueDates.size());
+        log.info("청구서 월별 집계 재계산 완료: 발급일 {}개", issueDates.size());
+    }
+
+    /**
+     * 월별 집계 기준 상태별 합계
+     * @param startMonth 시작 월 (null이면 전체)
+     * @param endMonth 종료 월 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public List<InvoiceStatusAggregate> sumByStatus(YearMonth startMonth, YearMonth endMonth) {
+        if (startMonth == null || endMonth == null) {
+            return summaryRepository.sumByStatus();
+        }
+        return summaryRepository.sumByStatusBetween(startMonth.atDay(1), endMonth.atDay(1));
+    }
+}
@@ -15,6 +15,7 @@ import web.kplay.studentmanagement.repository.StudentRepository;
 import web.kplay.studentmanagement.repository.UserRepository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -153,7 +154,8 @@ public class LevelTestService {
      */
     @Transactional(readOnly = true)
     public List<LevelTestResponse> getLevelTestsByMonth(int year, int month) {
-        return levelTestRepository.findByYearAndMonth(year, month).stream()
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return levelTestRepository.findByMonth(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1)).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
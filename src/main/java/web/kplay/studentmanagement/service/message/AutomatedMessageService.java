@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
 import web.kplay.studentmanagement.domain.course.Enrollment;
 import web.kplay.studentmanagement.domain.leveltest.LevelTest;
 import web.kplay.studentmanagement.domain.message.Message;
@@ -39,6 +40,7 @@ public class AutomatedMessageService {
     private final web.kplay.studentmanagement.repository.StudentRepository studentRepository;
     private final web.kplay.studentmanagement.repository.ConsultationRepository consultationRepository;
     private final web.kplay.studentmanagement.repository.NaverBookingRepository naverBookingRepository;
+    private final ScheduledJobMetrics scheduledJobMetrics;
     
     @Value("${app.homepage-url:https://littlebear-readingclub.com}")
     private String homepageUrl;
@@ -391,6 +393,7 @@ public class AutomatedMessageService {
                 count++;
             }
         }
+        scheduledJobMetrics.recordRows("sendReservationOpenNotification", count);
         log.info("재원생 예약 알림 발송 완료: {}명", count);
     }
 
@@ -472,6 +475,7 @@ public class AutomatedMessageService {
                     enrollment.getStudent().getStudentName(), enrollment.getEndDate(), daysRemaining);
         }
 
+        scheduledJobMetrics.recordRows("sendEnrollmentExpiryNotifications", expiringEnrollments.size());
         log.info("수강권 만료 알림 일괄 발송 완료: 총 {}건", expiringEnrollments.size());
     }
 
@@ -511,22 +515,16 @@ public class AutomatedMessageService {
         }
 
         // 2. 네이버 예약 레벨테스트 조회
-        String tomorrowStr = tomorrow.toString(); // "2026-02-20"
-        List<NaverBooking> naverBookings = naverBookingRepository.findAll().stream()
-                .filter(nb -> nb.getBookingTime() != null && nb.getBookingTime().startsWith(tomorrowStr))
+        List<NaverBooking> naverBookings = naverBookingRepository.findByBookingDate(tomorrow).stream()
                 .filter(nb -> nb.getProduct() != null && nb.getProduct().contains("레벨테스트"))
                 .filter(nb -> nb.getStatus() == null || !nb.getStatus().contains("취소"))
                 .toList();
 
         for (NaverBooking booking : naverBookings) {
             String studentName = booking.getStudentName() != null ? booking.getStudentName() : booking.getName();
-            String timeStr = "예정";
-            try {
-                String[] parts = booking.getBookingTime().split(" ");
-                if (parts.length > 1) {
-                    timeStr = parts[1].split(":")[0] + "시";
-                }
-            } catch (Exception ignored) {}
+            String timeStr = booking.getBookingStartAt() != null
+                    ? booking.getBookingStartAt().getHour() + "시"
+                    : "예정";
 
             String content = String.format(
                     "안녕하세요.\n리틀베어 리딩클럽입니다.\n\n" +
@@ -543,6 +541,7 @@ public class AutomatedMessageService {
                     studentName, tomorrow);
         }
 
+        scheduledJobMetrics.recordRows("sendLevelTestReminders", count);
         log.info("레벨테스트 전날 알림 발송 완료: 총 {}건", count);
     }
 
@@ -642,6 +641,7 @@ public class AutomatedMessageService {
                     enrollment.getStudent().getStudentName(), enrollment.getEndDate());
         }
 
+        scheduledJobMetrics.recordRows("sendEnrollmentCompletedNotifications", completedEnrollments.size());
         log.info("수강 기간 완료 알림 발송 완료: 총 {}건", completedEnrollments.size());
     }
 }
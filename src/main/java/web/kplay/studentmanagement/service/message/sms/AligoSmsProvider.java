@@ -32,7 +32,9 @@ public class AligoSmsProvider implements SmsProvider {
     @Value("${sms.aligo.enabled:false}")
     private boolean enabled;
 
-    private static final String SEND_URL = "https://apis.aligo.in/send/";
+    // 부하 테스트에서는 스텁 서버 주소로 바꿔 실제 문자가 나가지 않도록 한다
+    @Value("${sms.aligo.send-url:https://apis.aligo.in/send/}")
+    private String sendUrl;
 
     @Override
     public String sendSms(String recipientPhone, String content) {
@@ -73,7 +75,7 @@ public class AligoSmsProvider implements SmsProvider {
 
             HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
-            ResponseEntity<String> response = restTemplate.postForEntity(SEND_URL, request, String.class);
+            ResponseEntity<String> response = restTemplate.postForEntity(sendUrl, request, String.class);
 
             if (response.getStatusCode() == HttpStatus.OK) {
                 log.info("알리고 SMS 발송 성공: 수신자={}, 타입={}, 길이={}자, 응답={}", 
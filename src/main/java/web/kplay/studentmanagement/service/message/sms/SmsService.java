@@ -1,5 +1,7 @@
 package web.kplay.studentmanagement.service.message.sms;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,12 +21,15 @@ public class SmsService {
 
     private final Map<String, SmsProvider> providers;
     private final SmsProvider activeProvider;
+    private final MeterRegistry meterRegistry;
 
     @Value("${sms.provider:test}")
     private String providerName;
 
     public SmsService(List<SmsProvider> smsProviders,
-                      @Value("${sms.provider:test}") String providerName) {
+                      @Value("${sms.provider:test}") String providerName,
+                      MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
         // 모든 SmsProvider를 Map으로 저장
         this.providers = smsProviders.stream()
                 .collect(Collectors.toMap(
@@ -39,18 +44,24 @@ public class SmsService {
     }
 
     /**
-     * SMS 발송
+     * SMS 발송 (제공자 호출 시간을 kplay.sms.send 타이머에 제공자/결과별로 기록)
      */
     public String sendSms(String recipientPhone, String content) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             log.info("SMS 발송 시작: 제공자={}, 수신자={}",
                     activeProvider.getProviderName(), recipientPhone);
             String externalMessageId = activeProvider.sendSms(recipientPhone, content);
+            outcome = "success";
             log.info("SMS 발송 완료: externalMessageId={}", externalMessageId);
             return externalMessageId;
         } catch (Exception e) {
             log.error("SMS 발송 실패: {}", e.getMessage(), e);
             throw new RuntimeException("SMS 발송 중 오류가 발생했습니다.", e);
+        } finally {
+            sample.stop(meterRegistry.timer("kplay.sms.send",
+                    "provider", activeProvider.getProviderName().toLowerCase(), "outcome", outcome));
         }
     }
 
@@ -0,0 +1,51 @@
+package web.kplay.studentmanagement.service.mypage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.dto.mypage.MyPageResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 학생별 마이페이지 캐시
+ * - 짧은 TTL(1분) 캐시, 학생 관련 데이터 변경이 커밋되면 MyPageCacheEvictionListener가 해당 학생만 무효화
+ * - 최대 항목 수를 제한하고 만료된 항목은 Caffeine이 제거
+ */
+@Component
+public class MyPageCache {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final long MAX_ENTRIES = 5_000;
+
+    private final Cache<Long, MyPageResponse> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // 무효화가 일어날 때마다 증가 - 조회 도중 무효화된 결과를 캐시에 넣지 않기 위함
+    private final AtomicLong generation = new AtomicLong();
+
+    public MyPageResponse get(Long studentId, Supplier<MyPageResponse> loader) {
+        MyPageResponse cached = cache.getIfPresent(studentId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        MyPageResponse page = loader.get();
+        if (generation.get() == loadGeneration) {
+            cache.put(studentId, page);
+        }
+        return page;
+    }
+
+    public void evict(Long studentId) {
+        if (studentId != null) {
+            generation.incrementAndGet();
+            cache.invalidate(studentId);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package web.kplay.studentmanagement.service.mypage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import web.kplay.studentmanagement.config.EntityChangedEvent;
+import web.kplay.studentmanagement.domain.attendance.Attendance;
+import web.kplay.studentmanagement.domain.consultation.Consultation;
+import web.kplay.studentmanagement.domain.course.Enrollment;
+import web.kplay.studentmanagement.domain.leveltest.LevelTest;
+import web.kplay.studentmanagement.domain.message.Message;
+import web.kplay.studentmanagement.domain.reservation.Reservation;
+import web.kplay.studentmanagement.domain.student.Student;
+
+/**
+ * 마이페이지에 표시되는 엔티티 변경이 커밋된 뒤 해당 학생의 마이페이지 캐시 무효화
+ * (Student, Enrollment, Attendance, Reservation, LevelTest, Message, Consultation의 EntityChangedEvent 구독)
+ */
+@Component
+@RequiredArgsConstructor
+public class MyPageCacheEvictionListener {
+
+    private final MyPageCache myPageCache;
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        myPageCache.evict(studentIdOf(event.entity()));
+    }
+
+    private Long studentIdOf(Object entity) {
+        Student student = null;
+        if (entity instanceof Student s) {
+            return s.getId();
+        } else if (entity instanceof Enrollment e) {
+            student = e.getStudent();
+        } else if (entity instanceof Attendance a) {
+            student = a.getStudent();
+        } else if (entity instanceof Reservation r) {
+            student = r.getStudent();
+        } else if (entity instanceof LevelTest lt) {
+            student = lt.getStudent();
+        } else if (entity instanceof Message m) {
+            student = m.getStudent();
+        } else if (entity instanceof Consultation c) {
+            student = c.getStudent();
+        }
+        // 프록시의 ID 조회는 초기화를 일으키지 않음
+        return student != null ? student.getId() : null;
+    }
+}
@@ -0,0 +1,213 @@
+package web.kplay.studentmanagement.service.mypage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import web.kplay.studentmanagement.domain.attendance.Attendance;
+import web.kplay.studentmanagement.domain.consultation.Consultation;
+import web.kplay.studentmanagement.domain.course.Enrollment;
+import web.kplay.studentmanagement.domain.leveltest.LevelTest;
+import web.kplay.studentmanagement.domain.message.Message;
+import web.kplay.studentmanagement.domain.reservation.Reservation;
+import web.kplay.studentmanagement.domain.reservation.ReservationStatus;
+import web.kplay.studentmanagement.dto.attendance.AttendanceResponse;
+import web.kplay.studentmanagement.dto.consultation.ConsultationResponse;
+import web.kplay.studentmanagement.dto.course.EnrollmentResponse;
+import web.kplay.studentmanagement.dto.leveltest.LevelTestResponse;
+import web.kplay.studentmanagement.dto.message.MessageResponse;
+import web.kplay.studentmanagement.dto.mypage.MyPageResponse;
+import web.kplay.studentmanagement.dto.mypage.MyPageStatsCounts;
+import web.kplay.studentmanagement.dto.reservation.ReservationResponse;
+import web.kplay.studentmanagement.repository.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 마이페이지 섹션별 조회
+ * - 섹션마다 별도의 읽기 전용 트랜잭션(커넥션)으로 실행되어 병렬 조회 가능
+ * - 화면에 필요한 연관 엔티티는 fetch join으로 함께 조회하고, 학생 정보는 호출자가 넘긴 값을 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MyPageSectionReader {
+
+    private static final List<ReservationStatus> UPCOMING_STATUSES =
+            List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING);
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final ReservationRepository reservationRepository;
+    private final LevelTestRepository levelTestRepository;
+    private final MessageRepository messageRepository;
+    private final ConsultationRepository consultationRepository;
+
+    // 활성화된 수강권 목록
+    public List<EnrollmentResponse> loadActiveEnrollments(Long studentId, String studentName) {
+        return enrollmentRepository.findActiveWithCourseByStudentId(studentId).stream()
+                .map(enrollment -> toEnrollmentResponse(enrollment, studentId, studentName))
+                .collect(Collectors.toList());
+    }
+
+    // 최근 출석 기록 (최근 10개)
+    public List<AttendanceResponse> loadRecentAttendances(Long studentId, String studentName) {
+        return attendanceRepository.findRecentWithCourseByStudentId(studentId, PageRequest.of(0, 10)).stream()
+                .map(attendance -> toAttendanceResponse(attendance, studentId, studentName))
+                .collect(Collectors.toList());
+    }
+
+    // 예정된 예약 (오늘 이후, 확정/대기만)
+    public List<ReservationResponse> loadUpcomingReservations(Long studentId, String studentName) {
+        return reservationRepository.findUpcomingByStudentId(studentId, LocalDate.now(), UPCOMING_STATUSES).stream()
+                .map(reservation -> toReservationResponse(reservation, studentId, studentName))
+                .collect(Collectors.toList());
+    }
+
+    // 예정된 레벨테스트 (오늘 이후)
+    public List<LevelTestResponse> loadUpcomingLevelTests(Long studentId, String studentName) {
+        return levelTestRepository.findByStudentIdAndTestDateAfter(studentId, LocalDate.now()).stream()
+                .map(levelTest -> toLevelTestResponse(levelTest, studentId, studentName))
+                .collect(Collectors.toList());
+    }
+
+    // 최근 받은 문자 메시지 (최근 20개)
+    public List<MessageResponse> loadRecentMessages(Long studentId, String studentName) {
+        return messageRepository.findTop20ByStudentIdOrderByCreatedAtDesc(studentId).stream()
+                .map(message -> toMessageResponse(message, studentId, studentName))
+                .collect(Collectors.toList());
+    }
+
+    // 최근 상담 기록 (최근 5개)
+    public List<ConsultationResponse> loadRecentConsultations(Long studentId, String studentName) {
+        return consultationRepository.findRecentWithConsultantByStudentId(studentId, PageRequest.of(0, 5)).stream()
+                .map(consultation -> toConsultationResponse(consultation, studentId, studentName))
+                .collect(Collectors.toList());
+    }
+
+    // 선생님이 진행한 최근 상담 이력 (최근 5개)
+    public List<ConsultationResponse> loadTeacherConsultations(Long teacherId) {
+        return consultationRepository.findRecentWithStudentByConsultantId(teacherId, PageRequest.of(0, 5)).stream()
+                .map(consultation -> toConsultationResponse(consultation,
+                        consultation.getStudent().getId(), consultation.getStudent().getStudentName()))
+                .collect(Collectors.toList());
+    }
+
+    // 학생 통계 (집계 쿼리 1회)
+    public MyPageResponse.MyPageStats loadStats(Long studentId) {
+        YearMonth currentMonth = YearMonth.now();
+        MyPageStatsCounts counts = attendanceRepository.findMyPageStatsCounts(
+                studentId,
+                LocalDate.now(),
+                currentMonth.atDay(1).atStartOfDay(),
+                currentMonth.atEndOfMonth().atTime(23, 59, 59));
+
+        return MyPageResponse.MyPageStats.builder()
+                .totalAttendanceCount(counts.getPresentCount())
+                .monthlyAttendanceCount(counts.getMonthlyAttendanceCount())
+                .totalLateCount(counts.getLateCount())
+                .totalAbsentCount(counts.getAbsentCount())
+                .activeEnrollmentCount((int) counts.getActiveEnrollmentCount())
+                .upcomingReservationCount((int) counts.getUpcomingReservationCount())
+                .consultationCount((int) counts.getConsultationCount()) // 학생이 받은 상담 개수
+                .attendanceRate(MyPageService.calculateAttendanceRate(
+                        counts.getPresentCount(), counts.getLateCount(), counts.getAbsentCount()))
+                .build();
+    }
+
+    // ===== DTO 변환 메서드 =====
+
+    private EnrollmentResponse toEnrollmentResponse(Enrollment enrollment, Long studentId, String studentName) {
+        return EnrollmentResponse.builder()
+                .id(enrollment.getId())
+                .studentId(studentId)
+                .studentName(studentName)
+                .courseId(enrollment.getCourse() != null ? enrollment.getCourse().getId() : null)
+                .courseName(enrollment.getCourse() != null ? enrollment.getCourse().getCourseName() : null)
+                .startDate(enrollment.getStartDate())
+                .endDate(enrollment.getEndDate())
+                .totalCount(enrollment.getTotalCount())
+                .usedCount(enrollment.getUsedCount())
+                .remainingCount(enrollment.getRemainingCount())
+                .isActive(enrollment.getIsActive())
+                .memo(enrollment.getMemo())
+                .build();
+    }
+
+    private AttendanceResponse toAttendanceResponse(Attendance attendance, Long studentId, String studentName) {
+        return AttendanceResponse.builder()
+                .id(attendance.getId())
+                .studentId(studentId)
+                .studentName(studentName)
+                .courseName(attendance.getCourse() != null ? attendance.getCourse().getCourseName() : null)
+                .checkInTime(attendance.getCheckInTime())
+                .checkOutTime(attendance.getCheckOutTime())
+                .expectedLeaveTime(attendance.getExpectedLeaveTime())
+                .status(attendance.getStatus())
+                .reason(attendance.getReason())
+                .memo(attendance.getMemo())
+                .build();
+    }
+
+    private ReservationResponse toReservationResponse(Reservation reservation, Long studentId, String studentName) {
+        return ReservationResponse.builder()
+                .id(reservation.getId())
+                .studentId(studentId)
+                .studentName(studentName)
+                .reservationDate(reservation.getReservationDate())
+                .reservationTime(reservation.getReservationTime())
+                .enrollmentId(reservation.getEnrollment() != null ? reservation.getEnrollment().getId() : null)
+                .status(reservation.getStatus())
+                .memo(reservation.getMemo())
+                .cancelReason(reservation.getCancelReason())
+                .cancelledAt(reservation.getCancelledAt())
+                .reservationSource(reservation.getReservationSource())
+                .consultationType(reservation.getConsultationType())
+                .build();
+    }
+
+    private LevelTestResponse toLevelTestResponse(LevelTest levelTest, Long studentId, String studentName) {
+        return LevelTestResponse.builder()
+                .id(levelTest.getId())
+                .studentId(studentId)
+                .studentName(studentName)
+                .testDate(levelTest.getTestDate())
+                .testTime(levelTest.getTestTime())
+                .testResult(levelTest.getTestResult())
+                .recommendedLevel(levelTest.getRecommendedLevel())
+                .memo(levelTest.getMemo())
+                .testStatus(levelTest.getTestStatus())
+                .build();
+    }
+
+    private MessageResponse toMessageResponse(Message message, Long studentId, String studentName) {
+        return MessageResponse.builder()
+                .id(message.getId())
+                .studentId(studentId)
+                .studentName(studentName)
+                .recipientName(message.getRecipientName())
+                .recipientPhone(message.getRecipientPhone())
+                .messageType(message.getMessageType())
+                .content(message.getContent())
+                .sentAt(message.getSentAt())
+                .build();
+    }
+
+    private ConsultationResponse toConsultationResponse(Consultation consultation, Long studentId, String studentName) {
+        return ConsultationResponse.builder()
+                .id(consultation.getId())
+                .studentId(studentId)
+                .studentName(studentName)
+                .consultantId(consultation.getConsultant().getId())
+                .consultantName(consultation.getConsultant().getName())
+                .consultationDate(consultation.getConsultationDate())
+                .title(consultation.getTitle())
+                .content(consultation.getContent())
+                .recordingFileUrl(consultation.getRecordingFileUrl())
+                .attachmentFileUrl(consultation.getAttachmentFileUrl())
+                .build();
+    }
+}
@@ -21,6 +21,8 @@ import web.kplay.studentmanagement.repository.NoticeViewRepository;
 import web.kplay.studentmanagement.repository.UserRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,6 +35,7 @@ public class NoticeService {
     private final UserRepository userRepository;
     private final web.kplay.studentmanagement.repository.StudentRepository studentRepository;
     private final web.kplay.studentmanagement.service.message.AutomatedMessageService automatedMessageService;
+    private final NoticeViewBuffer noticeViewBuffer;
 
     /**
      * 공지사항 생성 (XSS 방지)
@@ -96,34 +99,29 @@ public class NoticeService {
     }
 
     /**
-     * 공지사항 조회 (조회수 증가 및 조회 기록)
+     * 공지사항 조회 (조회수 증가 및 조회 기록은 NoticeViewBuffer에 모았다가 일괄 반영)
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public NoticeResponse getNotice(Long id, Long userId) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("공지사항을 찾을 수 없습니다"));
 
-        // 조회수 증가
-        notice.incrementViewCount();
-
-        // 조회 기록 저장 (중복 방지)
-        if (userId != null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-            
-            // 이미 조회한 기록이 없으면 새로 생성
-            if (noticeViewRepository.findByNoticeIdAndUserId(id, userId).isEmpty()) {
-                NoticeView noticeView = NoticeView.builder()
-                        .notice(notice)
-                        .user(user)
-                        .build();
-                noticeViewRepository.save(noticeView);
-            }
-        }
+        noticeViewBuffer.record(id, userId);
 
         return toResponse(notice);
     }
 
+    /**
+     * 버퍼에 모인 조회수/조회 기록을 DB에 반영
+     */
+    @Transactional
+    public void applyViewBatch(Map<Long, Long> counts, Set<NoticeViewBuffer.ViewKey> views) {
+        counts.forEach((noticeId, count) -> noticeRepository.addViewCount(noticeId, count.intValue()));
+        for (NoticeViewBuffer.ViewKey view : views) {
+            noticeViewRepository.insertIgnore(view.noticeId(), view.userId());
+        }
+    }
+
     /**
      * 공지사항 조회자 목록 조회 (관리자용)
      */
@@ -222,12 +220,20 @@ public class NoticeService {
                 .authorName(notice.getAuthor() != null ? notice.getAuthor().getUsername() : null)
                 .isPinned(notice.getIsPinned())
                 .isActive(notice.getIsActive())
-                .viewCount(notice.getViewCount())
+                .viewCount(currentViewCount(notice))
                 .createdAt(notice.getCreatedAt())
                 .updatedAt(notice.getUpdatedAt())
                 .build();
     }
 
+    /**
+     * DB 조회수 + 아직 반영되지 않은 버퍼 조회수
+     */
+    private Integer currentViewCount(Notice notice) {
+        int stored = notice.getViewCount() != null ? notice.getViewCount() : 0;
+        return stored + (int) noticeViewBuffer.pendingCount(notice.getId());
+    }
+
     /**
      * NoticeView를 NoticeViewResponse로 변환
      */
@@ -0,0 +1,81 @@
+package web.kplay.studentmanagement.service.notice;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지사항 조회 버퍼 (write-behind)
+ * - 조회수는 공지별 LongAdder에 누적, 조회 기록은 (공지, 사용자) 집합에 모아둔다
+ * - NoticeViewScheduler가 주기적으로 비워서 DB에 일괄 반영
+ * 조회 시점에는 공지 행을 잠그지 않으므로 동시에 많은 학부모가 같은 공지를 열어도 대기가 생기지 않는다.
+ */
+@Component
+public class NoticeViewBuffer {
+
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+    private final Set<ViewKey> pendingViews = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 조회 1회 기록 (userId가 없으면 조회수만 증가)
+     */
+    public void record(Long noticeId, Long userId) {
+        pendingCounts.computeIfAbsent(noticeId, id -> new LongAdder()).increment();
+        if (userId != null) {
+            pendingViews.add(new ViewKey(noticeId, userId));
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingCount(Long noticeId) {
+        LongAdder adder = pendingCounts.get(noticeId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 꺼내고 0으로 되돌린다
+     * LongAdder는 맵에 그대로 두고 sumThenReset으로 비우므로, 비우는 도중 들어온 증가분은 이번 또는 다음 반영에 포함된다
+     */
+    public Map<Long, Long> drainCounts() {
+        Map<Long, Long> drained = new HashMap<>();
+        pendingCounts.forEach((noticeId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                drained.put(noticeId, count);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * 누적된 조회 기록을 꺼내고 버퍼에서 제거
+     */
+    public Set<ViewKey> drainViews() {
+        Set<ViewKey> drained = new HashSet<>();
+        for (ViewKey key : pendingViews) {
+            if (pendingViews.remove(key)) {
+                drained.add(key);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * DB 반영 실패 시 꺼냈던 내용을 다시 버퍼에 넣는다
+     */
+    public void restore(Map<Long, Long> counts, Set<ViewKey> views) {
+        counts.forEach((noticeId, count) ->
+                pendingCounts.computeIfAbsent(noticeId, id -> new LongAdder()).add(count));
+        pendingViews.addAll(views);
+    }
+
+    public record ViewKey(Long noticeId, Long userId) {
+    }
+}
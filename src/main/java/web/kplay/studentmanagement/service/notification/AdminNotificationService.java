@@ -4,18 +4,31 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import web.kplay.studentmanagement.domain.notification.AdminNotification;
 import web.kplay.studentmanagement.repository.AdminNotificationRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminNotificationService {
 
+    private static final int RECENT_LIMIT = 10;
+
     private final AdminNotificationRepository notificationRepository;
+    private final AdminNotificationStream notificationStream;
+
+    // 폴링 fallback용 최근 알림 (제거되지 않은 최신 10건, null이면 다음 조회 시 DB에서 다시 로드)
+    private volatile List<AdminNotification> recentNotifications;
+    private final AtomicLong recentVersion = new AtomicLong();
 
     public void createNotification(String type, String title, String content, Long referenceId) {
         AdminNotification notification = AdminNotification.builder()
@@ -27,11 +40,30 @@ public class AdminNotificationService {
                 .build();
         notificationRepository.save(notification);
         log.info("관리자 알림 생성: type={}, title={}", type, title);
+
+        afterCommit(() -> {
+            prependRecent(notification);
+            notificationStream.publish("notification", Map.of(
+                    "notification", notification,
+                    "unreadDelta", 1));
+        });
     }
 
-    @Transactional(readOnly = true)
     public List<AdminNotification> getNotifications() {
-        return notificationRepository.findTop10ByIsDismissedFalseOrderByCreatedAtDesc();
+        List<AdminNotification> cached = recentNotifications;
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = recentVersion.get();
+        List<AdminNotification> loaded = List.copyOf(notificationRepository.findTop10ByIsDismissedFalseOrderByCreatedAtDesc());
+        // 로드 중에 변경이 있었다면 캐시에 넣지 않음
+        synchronized (recentVersion) {
+            if (recentVersion.get() == version) {
+                recentNotifications = loaded;
+            }
+        }
+        return loaded;
     }
 
     @Transactional(readOnly = true)
@@ -39,13 +71,76 @@ public class AdminNotificationService {
         return notificationRepository.countByIsReadFalseAndIsDismissedFalse();
     }
 
+    /**
+     * 관리자 알림 실시간 스트림 구독
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return notificationStream.subscribe(lastEventId);
+    }
+
     @Transactional
     public void markAsRead(Long id) {
-        notificationRepository.findById(id).ifPresent(AdminNotification::markAsRead);
+        notificationRepository.findById(id).ifPresent(notification -> {
+            boolean wasUnread = !notification.isRead() && !notification.isDismissed();
+            notification.markAsRead();
+            afterCommit(() -> {
+                invalidateRecent();
+                notificationStream.publish("read", Map.of(
+                        "id", id,
+                        "unreadDelta", wasUnread ? -1 : 0));
+            });
+        });
     }
 
     @Transactional
     public void dismiss(Long id) {
-        notificationRepository.findById(id).ifPresent(AdminNotification::dismiss);
+        notificationRepository.findById(id).ifPresent(notification -> {
+            boolean wasUnread = !notification.isRead() && !notification.isDismissed();
+            notification.dismiss();
+            afterCommit(() -> {
+                invalidateRecent();
+                notificationStream.publish("dismiss", Map.of(
+                        "id", id,
+                        "unreadDelta", wasUnread ? -1 : 0));
+            });
+        });
+    }
+
+    private void prependRecent(AdminNotification notification) {
+        synchronized (recentVersion) {
+            recentVersion.incrementAndGet();
+            List<AdminNotification> cached = recentNotifications;
+            if (cached == null) {
+                return;
+            }
+            List<AdminNotification> updated = new ArrayList<>(RECENT_LIMIT);
+            updated.add(notification);
+            updated.addAll(cached.subList(0, Math.min(cached.size(), RECENT_LIMIT - 1)));
+            recentNotifications = List.copyOf(updated);
+        }
+    }
+
+    private void invalidateRecent() {
+        synchronized (recentVersion) {
+            recentVersion.incrementAndGet();
+            recentNotifications = null;
+        }
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 즉시 실행)
+     * 롤백된 예약 등의 알림이 스트림으로 나가지 않도록 한다
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
@@ -0,0 +1,133 @@
+package web.kplay.studentmanagement.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * 관리자 알림 SSE 스트림
+ * - 새 알림/읽음/제거 이벤트를 구독 중인 관리자 탭에 즉시 전송
+ * - 최근 이벤트를 링 버퍼에 보관해 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내준다
+ * - 버퍼 범위를 벗어난 ID로 재연결하면 resync 이벤트를 보내 클라이언트가 목록을 다시 조회하도록 한다
+ * - 실제 전송은 단일 스레드(adminNotificationExecutor)에서 처리 - 발행 순서를 지키고 커밋한 요청 스레드를 붙잡지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminNotificationStream {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final int EVENT_LOG_CAPACITY = 100;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Deque<StreamEvent> eventLog = new ArrayDeque<>(EVENT_LOG_CAPACITY);
+    private long lastSequence = 0L;
+
+    @Qualifier("adminNotificationExecutor")
+    private final Executor adminNotificationExecutor;
+
+    /**
+     * 스트림 구독 (lastEventId가 있으면 그 이후 이벤트를 먼저 재전송)
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = createEmitter();
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        // 재전송이 끝난 뒤에 구독자로 등록 - 같은 락 안에서 처리하므로 그 사이 발행된 이벤트는
+        // 재전송 목록에 들어가거나(등록 전 발행) 등록 후 전송 대상에 포함되어(등록 후 발행) 누락/중복/역전이 없다
+        int replayed = 0;
+        synchronized (eventLog) {
+            try {
+                if (lastEventId != null) {
+                    long oldest = eventLog.isEmpty() ? lastSequence + 1 : eventLog.peekFirst().id();
+                    // 서버 재시작으로 순번이 초기화됐거나 버퍼에서 밀려난 경우
+                    if (lastEventId > lastSequence || lastEventId < oldest - 1) {
+                        emitter.send(SseEmitter.event().name("resync").data("refresh"));
+                    } else {
+                        for (StreamEvent event : eventLog) {
+                            if (event.id() > lastEventId) {
+                                emitter.send(toSseEvent(event));
+                                replayed++;
+                            }
+                        }
+                    }
+                }
+                emitters.add(emitter);
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+        }
+
+        log.debug("관리자 알림 스트림 구독: 현재 구독자 {}명, 재전송 {}건", emitters.size(), replayed);
+        return emitter;
+    }
+
+    /**
+     * 이벤트 발행 - 링 버퍼에 기록 후 전송 스레드에 모든 구독자 전송을 맡긴다
+     */
+    public void publish(String name, Object data) {
+        synchronized (eventLog) {
+            StreamEvent event = new StreamEvent(++lastSequence, name, data);
+            if (eventLog.size() == EVENT_LOG_CAPACITY) {
+                eventLog.pollFirst();
+            }
+            eventLog.addLast(event);
+            // 이 시점까지 등록된 구독자에게만 전송 (이후 등록되는 구독자는 재전송으로 받는다)
+            // 락 안에서 넘겨야 전송 스레드의 작업 순서가 이벤트 순번과 같아진다
+            List<SseEmitter> targets = List.copyOf(emitters);
+            execute(() -> targets.forEach(emitter -> send(emitter, toSseEvent(event))), event.id());
+        }
+    }
+
+    /**
+     * 프록시/브라우저 연결 유지용 주석 전송 (끊어진 구독자 정리)
+     */
+    @Scheduled(fixedRate = 25000)
+    public void heartbeat() {
+        execute(() -> emitters.forEach(emitter -> send(emitter, SseEmitter.event().comment("ping"))), null);
+    }
+
+    private void execute(Runnable task, Long eventId) {
+        try {
+            adminNotificationExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.warn("관리자 알림 전송 대기열이 가득 참 - 재연결 시 재전송으로 복구: eventId={}", eventId);
+        }
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(StreamEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(event.name())
+                .data(event.data(), MediaType.APPLICATION_JSON);
+    }
+
+    private record StreamEvent(long id, String name, Object data) {
+    }
+}
@@ -0,0 +1,71 @@
+package web.kplay.studentmanagement.service.parent;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import web.kplay.studentmanagement.repository.StudentRepository;
+import web.kplay.studentmanagement.repository.UserRepository;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 학부모 자녀 범위 조회
+ * - 학부모 화면용 조회에서 자녀 ID 목록을 ID만 조회하는 쿼리 1회로 구하고, 같은 요청 안에서는 재사용
+ * - HTTP 요청 밖(스케줄러 등)에서 호출되면 캐시 없이 매번 조회
+ * - 자녀가 없을 때만 계정 존재 여부를 확인해, 없는 사용자면 기존과 같이 예외를 던진다
+ */
+@Component
+@RequiredArgsConstructor
+public class ParentScopeResolver {
+
+    private static final String ATTRIBUTE_PREFIX = ParentScopeResolver.class.getName() + ".";
+
+    private final StudentRepository studentRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 학부모 계정에 연결된(parentUser) 자녀 ID 목록
+     */
+    public List<Long> getLinkedChildIds(String username) {
+        return cached("linked." + username, () -> requireUserIfEmpty(username,
+                studentRepository.findIdsByParentUsername(username), "부모님 정보를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 학부모 계정 전화번호와 일치하는 재원 중 자녀 ID 목록
+     */
+    public List<Long> getActiveChildIdsByPhone(String username) {
+        return cached("phone." + username, () -> requireUserIfEmpty(username,
+                studentRepository.findActiveIdsByParentUserPhone(username), "사용자를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 자녀 ID 조회는 사용자 테이블과 조인하므로, 결과가 비었을 때 자녀가 없는 것인지 사용자가 없는 것인지 구분
+     */
+    private List<Long> requireUserIfEmpty(String username, List<Long> childIds, String notFoundMessage) {
+        if (childIds.isEmpty() && !userRepository.existsByUsername(username)) {
+            throw new RuntimeException(notFoundMessage);
+        }
+        return childIds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> cached(String key, Supplier<List<Long>> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+
+        String attributeName = ATTRIBUTE_PREFIX + key;
+        Object cached = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return (List<Long>) cached;
+        }
+
+        List<Long> childIds = List.copyOf(loader.get());
+        attributes.setAttribute(attributeName, childIds, RequestAttributes.SCOPE_REQUEST);
+        return childIds;
+    }
+}
@@ -14,6 +14,7 @@ import web.kplay.studentmanagement.exception.ResourceNotFoundException;
 import web.kplay.studentmanagement.repository.InvoiceRepository;
 import web.kplay.studentmanagement.repository.PaymentRepository;
 import web.kplay.studentmanagement.service.invoice.InvoiceService;
+import web.kplay.studentmanagement.service.invoice.InvoiceSummaryService;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -35,6 +36,7 @@ public class PaymentService {
     private final InvoiceRepository invoiceRepository;
     private final PortOneService portOneService;
     private final InvoiceService invoiceService;
+    private final InvoiceSummaryService invoiceSummaryService;
 
     @Value("${portone.pg-provider:nice}")
     private String defaultPgProvider;
@@ -168,6 +170,7 @@ public class PaymentService {
 
         // Invoice를 납부 완료 처리
         invoice.markAsPaid(paymentMethod);
+        invoiceSummaryService.refreshMonthAfterCommit(invoice.getIssueDate());
 
         log.info("결제 완료: paymentId={}, invoiceId={}, impUid={}, amount={}원",
                 savedPayment.getId(), invoice.getId(), request.getImpUid(), amount);
@@ -210,6 +213,7 @@ public class PaymentService {
         // Invoice도 함께 취소
         if (isFullCancel) {
             payment.getInvoice().cancel(request.getReason());
+            invoiceSummaryService.refreshMonthAfterCommit(payment.getInvoice().getIssueDate());
         }
 
         log.info("결제 취소: paymentId={}, impUid={}, amount={}, reason={}",
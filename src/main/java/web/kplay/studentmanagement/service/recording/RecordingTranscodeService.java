@@ -0,0 +1,290 @@
+package web.kplay.studentmanagement.service.recording;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.domain.recording.Recording;
+import web.kplay.studentmanagement.domain.recording.TranscodeStatus;
+import web.kplay.studentmanagement.exception.ResourceNotFoundException;
+import web.kplay.studentmanagement.repository.RecordingRepository;
+import web.kplay.studentmanagement.service.file.FileStorageService;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레코딩 후처리 (업로드 응답과 분리된 백그라운드 작업)
+ * - ffmpeg가 있으면 모노 AAC(기본 64kbps, faststart) 스트리밍용 음원을 만들고 원본보다 작을 때만 사용
+ * - 파형(최대 400개 구간)과 재생 길이를 JSON 파일로 저장
+ * - ffmpeg가 없으면 WAV 등 Java Sound가 읽을 수 있는 파일만 파형을 만들고 원본으로 재생 (SKIPPED)
+ * 변환 결과 파일도 내용 기반 저장소에 저장하므로 같은 원본을 다시 올려도 디스크가 늘지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecordingTranscodeService {
+
+    private static final int PCM_SAMPLE_RATE = 8000;
+    private static final long PROCESS_TIMEOUT_MINUTES = 15;
+    // ffmpeg 두 단계(음원 변환, 파형 추출)가 모두 시간 초과까지 가는 경우 + 해시/저장 여유 시간
+    private static final Duration STALLED_AFTER = Duration.ofMinutes(PROCESS_TIMEOUT_MINUTES * 2 + 15);
+
+    private final RecordingRepository recordingRepository;
+    private final FileStorageService fileStorageService;
+    private final ObjectMapper objectMapper;
+    private final ScheduledJobMetrics scheduledJobMetrics;
+    @Qualifier("recordingTranscodeExecutor")
+    private final ThreadPoolTaskExecutor recordingTranscodeExecutor;
+
+    @Value("${file.transcode.ffmpeg-path:ffmpeg}")
+    private String ffmpegPath;
+
+    @Value("${file.transcode.bitrate:64k}")
+    private String bitrate;
+
+    private volatile Boolean ffmpegAvailable;
+
+    /**
+     * 변환 작업 등록 (큐가 가득 차면 대기 상태로 두고 스케줄러가 다시 등록)
+     */
+    public void submit(Long recordingId) {
+        try {
+            recordingTranscodeExecutor.execute(() -> transcode(recordingId));
+        } catch (TaskRejectedException e) {
+            log.warn("레코딩 변환 대기열이 가득 참 - 나중에 다시 시도: recordingId={}", recordingId);
+        }
+    }
+
+    /**
+     * 대기 중이거나 멈춘 변환 작업 재등록 (10분마다)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void resubmitPending() {
+        int stalled = recordingRepository.resetStalledTranscodes(LocalDateTime.now().minus(STALLED_AFTER));
+        List<Long> pendingIds = recordingRepository.findIdsByTranscodeStatusIn(List.of(TranscodeStatus.PENDING));
+        scheduledJobMetrics.recordRows("resubmitPending", pendingIds.size());
+        if (!pendingIds.isEmpty()) {
+            log.info("레코딩 변환 재등록: {}건 (멈춘 작업 {}건 포함)", pendingIds.size(), stalled);
+            pendingIds.forEach(this::submit);
+        }
+    }
+
+    void transcode(Long recordingId) {
+        // 대기 상태일 때만 선점 (중복 등록된 작업은 여기서 걸러진다)
+        if (recordingRepository.claimForTranscode(recordingId) == 0) {
+            return;
+        }
+        Recording recording = recordingRepository.findById(recordingId).orElse(null);
+        if (recording == null) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        String streamUrl = null;
+        String waveformUrl = null;
+        try {
+            Path source = fileStorageService.resolveStoredFile(recording.getFileUrl());
+
+            WaveformBuilder waveform;
+            TranscodeStatus status;
+            if (isFfmpegAvailable()) {
+                streamUrl = encodeStreamRendition(source);
+                waveform = readWaveformWithFfmpeg(source);
+                status = TranscodeStatus.COMPLETED;
+            } else {
+                waveform = readWaveformWithJavaSound(source);
+                status = TranscodeStatus.SKIPPED;
+            }
+
+            Double durationSeconds = null;
+            if (waveform != null) {
+                durationSeconds = Math.round(waveform.durationSeconds() * 10) / 10.0;
+                waveformUrl = storeWaveform(waveform, durationSeconds);
+            }
+
+            if (recordingRepository.updateTranscodeResult(recordingId, status, streamUrl, waveformUrl, durationSeconds) == 0) {
+                // 변환 중에 레코딩이 삭제됨 - 만든 결과 파일 참조를 되돌린다
+                log.info("변환 중 삭제된 레코딩 - 결과 파일 정리: recordingId={}", recordingId);
+                releaseRenditions(streamUrl, waveformUrl);
+                return;
+            }
+            log.info("레코딩 변환 완료: recordingId={}, 상태={}, 길이={}초, {}ms",
+                    recordingId, status, durationSeconds, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("레코딩 변환 실패: recordingId={}", recordingId, e);
+            releaseRenditions(streamUrl, waveformUrl);
+            recordingRepository.updateTranscodeResult(recordingId, TranscodeStatus.FAILED, null, null, null);
+        }
+    }
+
+    /**
+     * 레코딩 삭제 - 행을 잠그고 지우므로, 진행 중인 변환은 결과를 기록하기 전이면 삭제를 보고 스스로 정리하고
+     * 이미 기록했다면 여기서 그 결과 파일 경로까지 돌려준다 (파일 삭제는 호출하는 쪽에서 커밋 후 처리)
+     */
+    @Transactional
+    public Recording deleteRecording(Long recordingId) {
+        Recording recording = recordingRepository.findByIdForUpdate(recordingId)
+                .orElseThrow(() -> new ResourceNotFoundException("레코딩을 찾을 수 없습니다"));
+        recordingRepository.delete(recording);
+        return recording;
+    }
+
+    private void releaseRenditions(String streamUrl, String waveformUrl) {
+        try {
+            fileStorageService.releaseFile(streamUrl);
+            fileStorageService.releaseFile(waveformUrl);
+        } catch (RuntimeException e) {
+            log.warn("변환 결과 파일 정리 실패: stream={}, waveform={}", streamUrl, waveformUrl, e);
+        }
+    }
+
+    /**
+     * 스트리밍용 음원 생성 - 원본보다 크면 버리고 원본으로 재생
+     */
+    private String encodeStreamRendition(Path source) throws IOException, InterruptedException {
+        Path output = fileStorageService.createTempFile("transcode_", ".m4a");
+        try {
+            Process process = new ProcessBuilder(ffmpegPath, "-y", "-v", "error", "-i", source.toString(),
+                    "-vn", "-ac", "1", "-c:a", "aac", "-b:a", bitrate, "-movflags", "+faststart", output.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            waitFor(process, "음원 변환");
+
+            if (Files.size(output) >= Files.size(source)) {
+                log.debug("변환 결과가 원본보다 커서 원본 사용: {}", source.getFileName());
+                return null;
+            }
+            return fileStorageService.storeLocalFile(output, "recording", ".m4a");
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    /**
+     * ffmpeg로 8kHz 모노 16비트 PCM을 받아 파형 계산
+     */
+    private WaveformBuilder readWaveformWithFfmpeg(Path source) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(ffmpegPath, "-v", "error", "-i", source.toString(),
+                "-vn", "-ac", "1", "-ar", String.valueOf(PCM_SAMPLE_RATE), "-f", "s16le", "-")
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        WaveformBuilder waveform = new WaveformBuilder(PCM_SAMPLE_RATE);
+        try (InputStream in = new BufferedInputStream(process.getInputStream())) {
+            int low;
+            int high;
+            while ((low = in.read()) != -1 && (high = in.read()) != -1) {
+                waveform.addSample((short) ((high << 8) | low));
+            }
+        }
+        waitFor(process, "파형 추출");
+        return waveform;
+    }
+
+    /**
+     * ffmpeg 없이 Java Sound로 파형 계산 (WAV/AIFF 등 지원 형식만, 아니면 null)
+     */
+    private WaveformBuilder readWaveformWithJavaSound(Path source) throws IOException {
+        try (AudioInputStream original = AudioSystem.getAudioInputStream(source.toFile())) {
+            AudioFormat format = original.getFormat();
+            int channels = format.getChannels();
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(),
+                    16, channels, channels * 2, format.getSampleRate(), false);
+
+            WaveformBuilder waveform = new WaveformBuilder(Math.round(format.getSampleRate()));
+            try (AudioInputStream in = AudioSystem.getAudioInputStream(pcm, original)) {
+                byte[] frame = new byte[channels * 2];
+                byte[] buffer = new byte[frame.length * 4096];
+                int read;
+                int filled = 0;
+                while ((read = in.read(buffer, 0, buffer.length)) != -1) {
+                    for (int i = 0; i < read; i++) {
+                        frame[filled++] = buffer[i];
+                        if (filled == frame.length) {
+                            // 채널 평균으로 모노 샘플 생성
+                            int sum = 0;
+                            for (int c = 0; c < channels; c++) {
+                                sum += (short) ((frame[c * 2 + 1] << 8) | (frame[c * 2] & 0xFF));
+                            }
+                            waveform.addSample(sum / channels);
+                            filled = 0;
+                        }
+                    }
+                }
+            }
+            return waveform;
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            log.debug("파형 생성 불가 (ffmpeg 없음, 지원하지 않는 형식): {}", source.getFileName());
+            return null;
+        }
+    }
+
+    private String storeWaveform(WaveformBuilder waveform, Double durationSeconds) throws IOException {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("durationSeconds", durationSeconds);
+        metadata.put("peaks", waveform.peaks());
+
+        Path output = fileStorageService.createTempFile("waveform_", ".json");
+        try {
+            objectMapper.writeValue(output.toFile(), metadata);
+            return fileStorageService.storeLocalFile(output, "recording", ".json");
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    private void waitFor(Process process, String step) throws IOException, InterruptedException {
+        if (!process.waitFor(PROCESS_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IOException(step + " 시간 초과");
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException(step + " 실패 (ffmpeg 종료 코드 " + process.exitValue() + ")");
+        }
+    }
+
+    private boolean isFfmpegAvailable() {
+        Boolean available = ffmpegAvailable;
+        if (available == null) {
+            try {
+                Process process = new ProcessBuilder(ffmpegPath, "-version")
+                        .redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+                available = process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+            } catch (IOException e) {
+                available = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            if (!available) {
+                log.warn("ffmpeg를 찾을 수 없어 레코딩은 원본으로 재생합니다: {}", ffmpegPath);
+            }
+            ffmpegAvailable = available;
+        }
+        return available;
+    }
+}
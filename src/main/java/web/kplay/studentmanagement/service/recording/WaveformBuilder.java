@@ -0,0 +1,71 @@
+package web.kplay.studentmanagement.service.recording;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 16비트 PCM 샘플에서 파형(구간별 최대 진폭)과 재생 길이 계산
+ * 짧은 구간(0.1초) 단위로 최대값을 모은 뒤 마지막에 정해진 개수로 줄이므로 전체 길이를 미리 몰라도 된다.
+ */
+class WaveformBuilder {
+
+    static final int WAVEFORM_POINTS = 400;
+
+    private final int sampleRate;
+    private final int windowSize;
+    private final List<Integer> windowPeaks = new ArrayList<>();
+    private long sampleCount = 0;
+    private int currentPeak = 0;
+    private int currentWindowSamples = 0;
+
+    WaveformBuilder(int sampleRate) {
+        this.sampleRate = sampleRate;
+        this.windowSize = Math.max(1, sampleRate / 10);
+    }
+
+    /**
+     * 모노 샘플 1개 추가 (-32768 ~ 32767)
+     */
+    void addSample(int sample) {
+        int amplitude = Math.abs(sample);
+        if (amplitude > currentPeak) {
+            currentPeak = amplitude;
+        }
+        sampleCount++;
+        if (++currentWindowSamples == windowSize) {
+            flushWindow();
+        }
+    }
+
+    double durationSeconds() {
+        return sampleRate > 0 ? (double) sampleCount / sampleRate : 0.0;
+    }
+
+    /**
+     * 0.0 ~ 1.0 범위로 정규화한 파형 (최대 WAVEFORM_POINTS개)
+     */
+    List<Double> peaks() {
+        if (currentWindowSamples > 0) {
+            flushWindow();
+        }
+        int size = windowPeaks.size();
+        int points = Math.min(WAVEFORM_POINTS, size);
+        List<Double> result = new ArrayList<>(points);
+        for (int i = 0; i < points; i++) {
+            int from = (int) ((long) i * size / points);
+            int to = (int) ((long) (i + 1) * size / points);
+            int peak = 0;
+            for (int j = from; j < to; j++) {
+                peak = Math.max(peak, windowPeaks.get(j));
+            }
+            result.add(Math.round(peak / 32768.0 * 1000) / 1000.0);
+        }
+        return result;
+    }
+
+    private void flushWindow() {
+        windowPeaks.add(currentPeak);
+        currentPeak = 0;
+        currentWindowSamples = 0;
+    }
+}
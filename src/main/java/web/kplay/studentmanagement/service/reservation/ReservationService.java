@@ -1,7 +1,12 @@
 package web.kplay.studentmanagement.service.reservation;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import web.kplay.studentmanagement.domain.attendance.Attendance;
@@ -12,6 +17,7 @@ import web.kplay.studentmanagement.domain.reservation.Reservation;
 import web.kplay.studentmanagement.domain.reservation.ReservationStatus;
 import web.kplay.studentmanagement.domain.student.Student;
 import web.kplay.studentmanagement.dto.reservation.ReservationCreateRequest;
+import web.kplay.studentmanagement.dto.reservation.ReservationFeedResponse;
 import web.kplay.studentmanagement.dto.reservation.ReservationResponse;
 import web.kplay.studentmanagement.exception.BusinessException;
 import web.kplay.studentmanagement.exception.ResourceNotFoundException;
@@ -23,14 +29,13 @@ import java.time.LocalDate;
 import java.util.stream.Collectors;
 import web.kplay.studentmanagement.repository.ReservationRepository;
 import web.kplay.studentmanagement.repository.StudentRepository;
-import web.kplay.studentmanagement.repository.UserRepository;
-import web.kplay.studentmanagement.domain.user.User;
+import web.kplay.studentmanagement.service.parent.ParentScopeResolver;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,14 +47,19 @@ public class ReservationService {
     private final StudentRepository studentRepository;
     private final CourseScheduleRepository scheduleRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final UserRepository userRepository;
     private final AttendanceRepository attendanceRepository;
     private final web.kplay.studentmanagement.service.message.AutomatedMessageService automatedMessageService;
     private final web.kplay.studentmanagement.repository.BlockedTimeSlotRepository blockedTimeSlotRepository;
     private final web.kplay.studentmanagement.service.notification.AdminNotificationService adminNotificationService;
     private final web.kplay.studentmanagement.repository.WaitlistRepository waitlistRepository;
+    private final ParentScopeResolver parentScopeResolver;
 
     private static final int MAX_RESERVATIONS_PER_SLOT = 9;
+    private static final int MAX_FEED_LIMIT = 200;
+    private static final int MAX_LIST_PAGE_SIZE = 100;
+    private static final int DEFAULT_WINDOW_PAST_DAYS = 30;
+    private static final int DEFAULT_WINDOW_FUTURE_DAYS = 90;
+    private static final List<AttendanceStatus> ATTENDED_STATUSES = List.of(AttendanceStatus.PRESENT, AttendanceStatus.LATE);
 
     @Transactional
     public ReservationResponse createLevelTestReservation(ReservationCreateRequest request) {
@@ -108,6 +118,7 @@ public class ReservationService {
         return toResponse(saved);
     }
 
+    @Timed("kplay.reservation.create")
     public ReservationResponse createReservation(ReservationCreateRequest request) {
         Student student = studentRepository.findById(request.getStudentId())
                 .orElseThrow(() -> new ResourceNotFoundException("학생을 찾을 수 없습니다"));
@@ -332,48 +343,42 @@ public class ReservationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 관리자/선생님 예약 목록 (날짜 구간 + 페이지)
+     * - 구간을 지정하지 않으면 오늘 기준 과거 30일 ~ 향후 90일
+     * - 출석 여부는 현재 페이지 예약에 대해서만 EXISTS 조회 1회로 계산
+     */
     @Transactional(readOnly = true)
-    public List<ReservationResponse> getAllActiveReservations() {
-        List<ReservationStatus> statuses = List.of(
-                ReservationStatus.CONFIRMED,
-                ReservationStatus.PENDING,
-                ReservationStatus.CANCELLED
-        );
-        List<Reservation> reservationList = reservationRepository.findByStatusIn(statuses);
-
-        // 출석 기록 일괄 조회: 학생ID+날짜 기준
-        java.util.Set<String> attendedKeys = new java.util.HashSet<>();
-        if (!reservationList.isEmpty()) {
-            List<Long> studentIds = reservationList.stream()
-                    .map(r -> r.getStudent().getId()).distinct().collect(Collectors.toList());
-            LocalDate minDate = reservationList.stream()
-                    .map(Reservation::getReservationDate).min(LocalDate::compareTo).orElse(LocalDate.now());
-            LocalDate maxDate = reservationList.stream()
-                    .map(Reservation::getReservationDate).max(LocalDate::compareTo).orElse(LocalDate.now());
-            List<Attendance> attendances = attendanceRepository.findByStudentIdInAndScheduleScheduleDateBetween(studentIds, minDate, maxDate);
-            for (Attendance a : attendances) {
-                if (a.getStatus() == AttendanceStatus.PRESENT || a.getStatus() == AttendanceStatus.LATE) {
-                    attendedKeys.add(a.getStudent().getId() + "_" + a.getAttendanceDate());
-                }
-            }
+    public Page<ReservationResponse> getAllActiveReservations(LocalDate startDate, LocalDate endDate,
+                                                              ReservationStatus status, boolean hideAttended,
+                                                              int page, int size) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = startDate != null ? startDate : today.minusDays(DEFAULT_WINDOW_PAST_DAYS);
+        LocalDate to = endDate != null ? endDate : today.plusDays(DEFAULT_WINDOW_FUTURE_DAYS);
+        if (from.isAfter(to)) {
+            throw new BusinessException("시작일은 종료일보다 이후일 수 없습니다.");
         }
 
-        java.util.Set<String> finalAttendedKeys = attendedKeys;
-        return reservationList.stream()
-                .map(r -> {
-                    ReservationResponse resp = toResponse(r);
-                    String key = r.getStudent().getId() + "_" + r.getReservationDate();
-                    return ReservationResponse.builder()
-                            .id(resp.getId()).studentId(resp.getStudentId()).studentName(resp.getStudentName())
-                            .studentEnglishLevel(resp.getStudentEnglishLevel()).courseName(resp.getCourseName())
-                            .reservationDate(resp.getReservationDate()).reservationTime(resp.getReservationTime())
-                            .enrollmentId(resp.getEnrollmentId()).status(resp.getStatus()).memo(resp.getMemo())
-                            .consultationType(resp.getConsultationType()).cancelReason(resp.getCancelReason())
-                            .cancelledAt(resp.getCancelledAt()).reservationSource(resp.getReservationSource())
-                            .canCancel(resp.getCanCancel()).attended(finalAttendedKeys.contains(key))
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<ReservationStatus> statuses = status != null
+                ? List.of(status)
+                : List.of(ReservationStatus.CONFIRMED, ReservationStatus.PENDING, ReservationStatus.CANCELLED);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_LIST_PAGE_SIZE)),
+                Sort.by(Sort.Order.desc("reservationDate"), Sort.Order.desc("reservationTime"), Sort.Order.desc("id")));
+
+        Page<Reservation> reservations = reservationRepository.findActiveInWindow(
+                from, to, statuses, hideAttended, ATTENDED_STATUSES, pageable);
+
+        Set<Long> attendedIds = Set.of();
+        // 출석 완료 제외 조회면 남은 예약은 모두 미출석
+        if (!hideAttended && reservations.hasContent()) {
+            List<Long> ids = reservations.getContent().stream().map(Reservation::getId).collect(Collectors.toList());
+            attendedIds = Set.copyOf(reservationRepository.findAttendedIds(ids, ATTENDED_STATUSES));
+        }
+
+        Set<Long> finalAttendedIds = attendedIds;
+        return reservations.map(r -> toResponseBuilder(r)
+                .attended(finalAttendedIds.contains(r.getId()))
+                .build());
     }
 
     public List<ReservationResponse> getReservationsByDate(LocalDate date) {
@@ -387,6 +392,10 @@ public class ReservationService {
     }
 
     private ReservationResponse toResponse(Reservation reservation) {
+        return toResponseBuilder(reservation).build();
+    }
+
+    private ReservationResponse.ReservationResponseBuilder toResponseBuilder(Reservation reservation) {
         String courseName = null;
         try {
             if (reservation.getEnrollment() != null && reservation.getEnrollment().getCourse() != null) {
@@ -411,8 +420,7 @@ public class ReservationService {
                 .cancelReason(reservation.getCancelReason())
                 .cancelledAt(reservation.getCancelledAt())
                 .reservationSource(reservation.getReservationSource())
-                .canCancel(reservation.canCancel())
-                .build();
+                .canCancel(reservation.canCancel());
     }
 
     /**
@@ -563,21 +571,14 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public List<ReservationResponse> getMyReservations(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 학부모의 자녀 목록 조회 (부모 전화번호로 매칭)
-        List<Student> myStudents = studentRepository.findByParentPhoneAndIsActive(user.getPhoneNumber(), true);
+        // 학부모의 자녀 목록 조회 (부모 전화번호로 매칭, 요청 단위 캐시)
+        List<Long> studentIds = parentScopeResolver.getActiveChildIdsByPhone(username);
         
-        if (myStudents.isEmpty()) {
+        if (studentIds.isEmpty()) {
             return List.of();
         }
         
         // 자녀들의 예약 목록 조회
-        List<Long> studentIds = myStudents.stream()
-                .map(Student::getId)
-                .collect(Collectors.toList());
-        
         List<Reservation> reservations = reservationRepository.findByStudentIdInOrderByReservationDateDesc(studentIds);
         
         return reservations.stream()
@@ -586,29 +587,43 @@ public class ReservationService {
     }
 
     /**
-     * 특정 시간 이후의 새로운 예약 조회 (관리자용 알림)
+     * 신규 예약 피드 조회 (관리자용 알림)
+     * - cursor가 있으면 해당 예약 ID 이후, 없으면 since(ISO 8601) 이후 생성된 예약부터 ID 오름차순으로 limit건
+     * - 응답의 nextCursor를 다음 요청에 넘기면 새로 생긴 예약만 조회된다
      */
     @Transactional(readOnly = true)
-    public List<ReservationResponse> getNewReservationsSince(String since) {
+    public ReservationFeedResponse getNewReservationFeed(Long cursor, String since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_LIMIT));
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<Reservation> rows;
+        if (cursor != null) {
+            rows = reservationRepository.findFeedAfterId(cursor, page);
+        } else if (since != null && !since.isBlank()) {
+            rows = reservationRepository.findFeedCreatedAfter(parseSince(since), page);
+        } else {
+            throw new BusinessException("cursor 또는 since 중 하나는 필요합니다.");
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Reservation> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = pageRows.isEmpty() ? cursor : pageRows.get(pageRows.size() - 1).getId();
+
+        return ReservationFeedResponse.builder()
+                .reservations(pageRows.stream().map(this::toResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private LocalDateTime parseSince(String since) {
         try {
             // ISO 8601 형식 (Z 포함) 파싱
             java.time.Instant instant = java.time.Instant.parse(since);
-            LocalDateTime sinceTime = LocalDateTime.ofInstant(instant, java.time.ZoneId.systemDefault());
-            log.info("since 시간 이후 예약 조회: {}", sinceTime);
-            
-            List<Reservation> reservations = reservationRepository.findAll().stream()
-                    .filter(r -> r.getCreatedAt().isAfter(sinceTime))
-                    .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                    .collect(Collectors.toList());
-            
-            log.info("since 이후 예약 개수: {}", reservations.size());
-                    
-            return reservations.stream()
-                    .map(this::toResponse)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error getting new reservations: {}", e.getMessage(), e);
-            return Collections.emptyList();
+            return LocalDateTime.ofInstant(instant, java.time.ZoneId.systemDefault());
+        } catch (java.time.format.DateTimeParseException e) {
+            throw new BusinessException("since 형식이 올바르지 않습니다: " + since);
         }
     }
 
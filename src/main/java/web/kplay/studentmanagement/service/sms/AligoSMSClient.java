@@ -49,13 +49,7 @@ public class AligoSMSClient {
             params.add("msg", message);
             params.add("testmode_yn", testMode ? "Y" : "N");
 
-            // 메시지 타입 설정 (EUC-KR 기준 90바이트 이하: SMS, 초과: LMS)
-            String msgType;
-            try {
-                msgType = message.getBytes("EUC-KR").length > 90 ? "LMS" : "SMS";
-            } catch (Exception e) {
-                msgType = message.length() > 45 ? "LMS" : "SMS";
-            }
+            String msgType = resolveMsgType(message);
             params.add("msg_type", msgType);
 
             // HTTP 헤더 설정
@@ -178,6 +172,17 @@ public class AligoSMSClient {
         return unitCost * successCount;
     }
 
+    /**
+     * 메시지 타입 결정 (EUC-KR 기준 90바이트 이하: SMS, 초과: LMS)
+     */
+    static String resolveMsgType(String message) {
+        try {
+            return message.getBytes("EUC-KR").length > 90 ? "LMS" : "SMS";
+        } catch (Exception e) {
+            return message.length() > 45 ? "LMS" : "SMS";
+        }
+    }
+
     /**
      * SMS 발송 응답 DTO
      */
@@ -2,12 +2,23 @@ package web.kplay.studentmanagement.service.sms;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
 import web.kplay.studentmanagement.domain.sms.SMSConfig;
+import web.kplay.studentmanagement.domain.sms.SMSDailyStat;
 import web.kplay.studentmanagement.domain.sms.SMSHistory;
 import web.kplay.studentmanagement.domain.sms.SMSTemplate;
+import web.kplay.studentmanagement.repository.BulkWriter;
 import web.kplay.studentmanagement.repository.SMSConfigRepository;
+import web.kplay.studentmanagement.repository.SMSDailyStatRepository;
 import web.kplay.studentmanagement.repository.SMSHistoryRepository;
 import web.kplay.studentmanagement.repository.SMSTemplateRepository;
 
@@ -23,10 +34,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SMSService {
 
+    // 새벽 재집계 대상 기간 (어제부터 거슬러 올라간 일수)
+    private static final int DAILY_STAT_REBUILD_DAYS = 7;
+
     private final SMSTemplateRepository templateRepository;
     private final SMSHistoryRepository historyRepository;
     private final SMSConfigRepository configRepository;
+    private final SMSDailyStatRepository dailyStatRepository;
     private final AligoSMSClient aligoSMSClient;
+    private final BulkWriter bulkWriter;
+    private final PlatformTransactionManager transactionManager;
+    private final ScheduledJobMetrics scheduledJobMetrics;
 
     // ========== 템플릿 관리 ==========
 
@@ -139,6 +157,7 @@ public class SMSService {
         }
 
         historyRepository.save(history);
+        recordDailyStat(category, history.getStatus(), 1, history.getCost());
 
         log.info("SMS 발송: 수신={}, 성공={}, 메시지ID={}", receiverNumber, response.isSuccess(), response.getMsgId());
 
@@ -170,7 +189,9 @@ public class SMSService {
                 config.getTestMode()
         );
 
-        // 각 수신자별 발송 내역 저장
+        // 각 수신자별 발송 내역 저장 (배치 INSERT)
+        int costPerReceiver = response.getCost() / receiverNumbers.size();
+        List<SMSHistory> histories = new ArrayList<>(receiverNumbers.size());
         for (String receiverNumber : receiverNumbers) {
             SMSHistory history = SMSHistory.builder()
                     .senderNumber(config.getSenderNumber())
@@ -178,7 +199,7 @@ public class SMSService {
                     .message(message)
                     .status(response.isSuccess() ? SMSHistory.SMSStatus.SENT : SMSHistory.SMSStatus.FAILED)
                     .msgId(response.getMsgId())
-                    .cost(response.getCost() / receiverNumbers.size())
+                    .cost(costPerReceiver)
                     .smsType(response.getSmsType())
                     .category(category)
                     .errorMessage(response.getErrorMessage())
@@ -190,8 +211,11 @@ public class SMSService {
                 history.markAsFailed(response.getErrorMessage());
             }
 
-            historyRepository.save(history);
+            histories.add(history);
         }
+        bulkWriter.persistAll(histories);
+        recordDailyStat(category, response.isSuccess() ? SMSHistory.SMSStatus.SENT : SMSHistory.SMSStatus.FAILED,
+                receiverNumbers.size(), costPerReceiver * receiverNumbers.size());
 
         log.info("대량 SMS 발송: 건수={}, 성공={}", receiverNumbers.size(), response.isSuccess());
 
@@ -238,17 +262,21 @@ public class SMSService {
         // 잔여 건수 조회
         int balance = aligoSMSClient.getRemainingCount(config.getApiKey(), config.getUserId());
 
-        // 오늘 발송 건수
-        long sentToday = historyRepository.countSentToday(LocalDate.now());
+        // 오늘/이번 달 발송 건수 (일별 집계 행만 조회)
+        LocalDate today = LocalDate.now();
+        YearMonth thisMonth = YearMonth.from(today);
+        LocalDate monthStart = thisMonth.atDay(1);
+        LocalDate nextMonthStart = thisMonth.plusMonths(1).atDay(1);
 
-        // 이번 달 발송 건수
-        YearMonth thisMonth = YearMonth.now();
-        long sentThisMonth = historyRepository.countSentThisMonth(thisMonth.getYear(), thisMonth.getMonthValue());
+        long sentToday = dailyStatRepository.sumCount(today, today.plusDays(1), SMSHistory.SMSStatus.SENT);
+        long sentThisMonth = dailyStatRepository.sumCount(monthStart, nextMonthStart, SMSHistory.SMSStatus.SENT);
+        long costThisMonth = dailyStatRepository.sumCost(monthStart, nextMonthStart, SMSHistory.SMSStatus.SENT);
 
         return Map.of(
                 "balance", balance,
                 "sentToday", sentToday,
                 "sentThisMonth", sentThisMonth,
+                "costThisMonth", costThisMonth,
                 "provider", config.getProvider().name()
         );
     }
@@ -329,8 +357,74 @@ public class SMSService {
         }
     }
 
+    // ========== 일별 집계 보정 ==========
+
+    /**
+     * 최근 일별 발송 집계 재계산 (매일 새벽 1시 40분, 어제까지 최근 7일)
+     * 커밋 후 증가가 실패했거나 발송 내역이 바뀌어 어긋난 집계를 발송 내역 기준으로 보정한다.
+     * 오늘 집계는 발송마다 계속 증가하고 있으므로 재계산하지 않는다.
+     */
+    @Scheduled(cron = "0 40 1 * * *")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildRecentDailyStats() {
+        LocalDate today = LocalDate.now();
+        int rows = 0;
+        for (LocalDate date = today.minusDays(DAILY_STAT_REBUILD_DAYS); date.isBefore(today); date = date.plusDays(1)) {
+            rows += rebuildDailyStats(date);
+        }
+        scheduledJobMetrics.recordRows("rebuildRecentDailyStats", rows);
+        log.info("SMS 일별 집계 재계산 완료: {}일, 집계 행 {}개", DAILY_STAT_REBUILD_DAYS, rows);
+    }
+
+    /**
+     * 하루치 일별 집계를 발송 내역으로 다시 만든다 (새 트랜잭션에서 삭제 후 재생성)
+     * @return 새로 만든 집계 행 수
+     */
+    int rebuildDailyStats(LocalDate statDate) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Integer rows = transactionTemplate.execute(tx -> {
+            dailyStatRepository.deleteByPeriod(statDate, statDate.plusDays(1));
+            return dailyStatRepository.insertFromHistory(statDate.atStartOfDay(), statDate.plusDays(1).atStartOfDay());
+        });
+        return rows != null ? rows : 0;
+    }
+
     // ========== 헬퍼 메서드 ==========
 
+    /**
+     * 일별 발송 집계 증가 - 발송 내역 트랜잭션이 커밋된 뒤 별도 트랜잭션으로 실행
+     * 같은 (일자, 카테고리, 상태) 집계 행은 모든 발송이 함께 갱신하므로, 호출 트랜잭션이 끝날 때까지
+     * 행 잠금을 쥐고 있지 않도록 짧은 트랜잭션으로 분리한다. 실패해도 발송 내역은 롤백되지 않는다.
+     */
+    private void recordDailyStat(String category, SMSHistory.SMSStatus status, long count, Integer cost) {
+        LocalDate statDate = LocalDate.now();
+        String statCategory = category != null && !category.isBlank() ? category : SMSDailyStat.DEFAULT_CATEGORY;
+        long statCost = cost != null ? cost : 0L;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementQuietly(statDate, statCategory, status, count, statCost);
+                }
+            });
+        } else {
+            incrementQuietly(statDate, statCategory, status, count, statCost);
+        }
+    }
+
+    private void incrementQuietly(LocalDate statDate, String category, SMSHistory.SMSStatus status, long count, long cost) {
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(tx ->
+                    dailyStatRepository.increment(statDate, category, status.name(), count, cost));
+        } catch (RuntimeException e) {
+            log.error("SMS 일별 집계 실패: date={}, category={}, status={}, count={}", statDate, category, status, count, e);
+        }
+    }
+
     private Map<String, Object> toTemplateMap(SMSTemplate template) {
         return Map.of(
                 "id", template.getId(),
@@ -0,0 +1,26 @@
+-- SMS 일별 발송 집계 테이블 (발송일 x 카테고리 x 상태)
+CREATE TABLE sms_daily_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stat_date DATE NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    message_count BIGINT NOT NULL,
+    total_cost BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_sms_daily_stats_date_category_status UNIQUE (stat_date, category, status)
+);
+
+-- 기존 발송 내역으로 초기 집계
+INSERT INTO sms_daily_stats (stat_date, category, status, message_count, total_cost, created_at, updated_at)
+SELECT DATE(h.created_at),
+       COALESCE(NULLIF(h.category, ''), 'etc'),
+       h.status,
+       COUNT(*),
+       COALESCE(SUM(h.cost), 0),
+       NOW(),
+       NOW()
+FROM sms_history h
+WHERE h.created_at IS NOT NULL
+GROUP BY DATE(h.created_at), COALESCE(NULLIF(h.category, ''), 'etc'), h.status;
@@ -0,0 +1,18 @@
+-- 대량 저장 테이블 ID 생성기 (IDENTITY 대신 테이블 생성기 + pooled 최적화로 INSERT 배치 허용)
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 ID + 할당 크기(50) 이후부터 시작
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'messages', COALESCE(MAX(id), 0) + 51 FROM messages
+WHERE NOT EXISTS (SELECT 1 FROM id_generators WHERE sequence_name = 'messages');
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'naver_bookings', COALESCE(MAX(id), 0) + 51 FROM naver_bookings
+WHERE NOT EXISTS (SELECT 1 FROM id_generators WHERE sequence_name = 'naver_bookings');
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'sms_history', COALESCE(MAX(id), 0) + 51 FROM sms_history
+WHERE NOT EXISTS (SELECT 1 FROM id_generators WHERE sequence_name = 'sms_history');
@@ -0,0 +1,14 @@
+-- 내용 기반(SHA-256) 중복 제거 파일 저장소 참조 수 테이블
+CREATE TABLE IF NOT EXISTS stored_files (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    storage_path VARCHAR(200) NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    file_size BIGINT NOT NULL,
+    ref_count INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_stored_files_storage_path UNIQUE (storage_path)
+);
+
+CREATE INDEX idx_stored_files_hash ON stored_files (content_hash);
@@ -0,0 +1,13 @@
+-- 청구서 월별 집계 테이블 (발급월 x 상태)
+-- ddl-auto로 이미 만들어진 환경이 있어 IF NOT EXISTS 사용
+CREATE TABLE IF NOT EXISTS invoice_monthly_summaries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    month_start DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    invoice_count BIGINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_invoice_monthly_summaries_month_status UNIQUE (month_start, status)
+);
@@ -0,0 +1,658 @@
+-- 기준 스키마 (V1_4 적용 전, ddl-auto로 만들어 운영하던 스키마)
+-- 빈 DB는 이 스크립트부터 순서대로 적용하고, 기존 DB는 1.4를 기준선으로 등록해 이 버전을 건너뛴다 (spring.flyway.baseline-version)
+-- MySQL과 H2(MySQL 호환 모드, 인덱스 실행 계획 테스트)에서 함께 실행되므로 두 DB가 모두 지원하는 구문만 사용
+
+create table admin_notifications (
+    is_dismissed bit not null,
+    is_read bit not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    reference_id bigint,
+    type varchar(50) not null,
+    content varchar(255) not null,
+    title varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table attendances (
+    additional_class_end_time time(6),
+    attendance_date date not null,
+    attendance_time time(6) not null,
+    class_completed bit not null,
+    duration_minutes integer,
+    expected_leave_time time(6),
+    grammar_class bit,
+    late_notification_sent bit not null,
+    original_expected_leave_time time(6),
+    phonics_class bit,
+    speaking_class bit,
+    vocabulary_class bit,
+    check_in_time datetime(6),
+    check_out_time datetime(6),
+    course_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    naver_booking_id bigint,
+    student_id bigint,
+    updated_at datetime(6),
+    dc_check varchar(50),
+    wr_check varchar(50),
+    reason varchar(200),
+    memo varchar(500),
+    reading_note varchar(500),
+    manual_parent_phone varchar(255),
+    manual_student_name varchar(255),
+    status enum ('ABSENT','EARLY_LEAVE','EXCUSED','LATE','NOTYET','PRESENT') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table blocked_time_slots (
+    block_date date,
+    block_time time(6) not null,
+    end_date date,
+    is_active bit not null,
+    start_date date,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    target_type varchar(20) not null,
+    reason varchar(200),
+    block_type enum ('RANGE','SINGLE','WEEKLY') not null,
+    day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY'),
+    primary key (id)
+) engine=InnoDB;
+
+create table consultation_templates (
+    sort_order integer not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    name varchar(100) not null,
+    content TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+create table consultations (
+    consultation_date date not null,
+    consultation_time time(6),
+    consultant_id bigint not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    updated_at datetime(6),
+    title varchar(100) not null,
+    attachment_file_url varchar(500),
+    recording_file_url varchar(500),
+    content varchar(2000) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table course_schedules (
+    current_students integer not null,
+    end_time time(6) not null,
+    is_cancelled bit not null,
+    schedule_date date not null,
+    start_time time(6) not null,
+    course_id bigint not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    day_of_week varchar(20),
+    cancel_reason varchar(200),
+    memo varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table courses (
+    duration_minutes integer not null,
+    is_active bit not null,
+    max_students integer not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    teacher_id bigint,
+    updated_at datetime(6),
+    color varchar(10),
+    level varchar(50),
+    course_name varchar(100) not null,
+    description varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table enrollments (
+    custom_duration_minutes integer,
+    end_date date not null,
+    hold_end_date date,
+    hold_start_date date,
+    is_active bit not null,
+    is_on_hold bit,
+    remaining_count integer not null,
+    start_date date not null,
+    total_count integer not null,
+    total_hold_days integer,
+    used_count integer not null,
+    course_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    updated_at datetime(6),
+    memo varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table holidays (
+    date date not null,
+    is_recurring bit not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    name varchar(100) not null,
+    description varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table invoices (
+    amount integer not null,
+    due_date date not null,
+    issue_date date not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    issued_by bigint,
+    paid_at datetime(6),
+    student_id bigint not null,
+    updated_at datetime(6),
+    invoice_number varchar(50),
+    payment_method varchar(100),
+    title varchar(100) not null,
+    memo varchar(500),
+    description varchar(1000),
+    status enum ('CANCELLED','OVERDUE','PAID','PENDING') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table level_tests (
+    message_notification_sent bit,
+    test_date date not null,
+    test_score integer,
+    test_time time(6) not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    teacher_id bigint,
+    updated_at datetime(6),
+    test_status varchar(20),
+    test_result varchar(50),
+    recommended_level varchar(200),
+    memo varchar(500),
+    feedback varchar(1000),
+    improvements varchar(1000),
+    strengths varchar(1000),
+    primary key (id)
+) engine=InnoDB;
+
+create table makeup_classes (
+    makeup_date date not null,
+    makeup_time time(6) not null,
+    original_date date not null,
+    course_id bigint not null,
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    reason varchar(500),
+    memo varchar(1000),
+    status enum ('CANCELLED','COMPLETED','SCHEDULED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table messages (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    sent_at datetime(6),
+    student_id bigint,
+    updated_at datetime(6),
+    recipient_phone varchar(20) not null,
+    send_status varchar(20) not null,
+    recipient_name varchar(50),
+    external_message_id varchar(100),
+    error_message varchar(500),
+    content varchar(1000) not null,
+    message_type enum ('ABSENT_WARNING','CHECK_IN','CHECK_OUT','ENROLLMENT_COUNT_EXPIRED','ENROLLMENT_EXPIRY','ENROLLMENT_PERIOD_EXPIRED','ENROLLMENT_REGISTER','GENERAL','HOLDING','INVOICE_ISSUED','LATE_NOTIFICATION','LEVEL_TEST','LEVEL_TEST_REMINDER','NOTICE','PAYMENT_CONFIRMED','PAYMENT_OVERDUE','PAYMENT_REMINDER','RECORDING_UPLOAD','RESERVATION_CANCEL','RESERVATION_CONFIRM','RESERVATION_OPEN','TEXTBOOK') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table naver_bookings (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    synced_at datetime(6),
+    updated_at datetime(6),
+    comment varchar(1000),
+    booking_number varchar(255) not null,
+    booking_time varchar(255),
+    cancel_date varchar(255),
+    confirm_date varchar(255),
+    deposit varchar(255),
+    name varchar(255),
+    `option` varchar(255),
+    order_date varchar(255),
+    phone varchar(255),
+    product varchar(255),
+    quantity varchar(255),
+    school varchar(255),
+    status varchar(255),
+    student_name varchar(255),
+    total_price varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table notice_views (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    notice_id bigint not null,
+    updated_at datetime(6),
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table notices (
+    is_active bit not null,
+    is_pinned bit not null,
+    view_count integer,
+    author_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    title varchar(200) not null,
+    content TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table parent_student_relations (
+    can_make_reservations bit not null,
+    can_receive_messages bit not null,
+    can_view_attendance bit not null,
+    can_view_grades bit not null,
+    can_view_invoices bit not null,
+    is_active bit not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    parent_id bigint not null,
+    student_id bigint not null,
+    updated_at datetime(6),
+    relationship varchar(20),
+    primary key (id)
+) engine=InnoDB;
+
+create table password_reset_codes (
+    fail_count integer not null,
+    used bit not null,
+    verified bit not null,
+    code varchar(6) not null,
+    created_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    id bigint not null auto_increment,
+    locked_until datetime(6),
+    phone_number varchar(20) not null,
+    username varchar(50) not null,
+    reset_token varchar(100),
+    primary key (id)
+) engine=InnoDB;
+
+create table payments (
+    amount integer not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    invoice_id bigint not null,
+    paid_at datetime(6),
+    updated_at datetime(6),
+    vbank_date datetime(6),
+    buyer_tel varchar(20),
+    card_number varchar(50),
+    payment_method varchar(50),
+    pg_provider varchar(50),
+    vbank_name varchar(50),
+    vbank_num varchar(50),
+    buyer_email varchar(100),
+    buyer_name varchar(100),
+    card_name varchar(100),
+    imp_uid varchar(100) not null,
+    merchant_uid varchar(100) not null,
+    vbank_holder varchar(100),
+    failed_reason varchar(500),
+    receipt_url varchar(500),
+    memo varchar(1000),
+    status enum ('CANCELLED','FAILED','PAID','PARTIAL_REFUNDED','PENDING','READY','REFUNDED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table recordings (
+    session_number integer not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    updated_at datetime(6),
+    file_name varchar(255),
+    file_url varchar(255) not null,
+    memo varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table reservation_periods (
+    is_active bit not null,
+    close_time datetime(6) not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    open_time datetime(6) not null,
+    reservation_end_date datetime(6) not null,
+    reservation_start_date datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table reservations (
+    reservation_date date not null,
+    reservation_time time(6) not null,
+    cancelled_at datetime(6),
+    created_at datetime(6),
+    enrollment_id bigint,
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    updated_at datetime(6),
+    consultation_type varchar(50),
+    reservation_source varchar(50),
+    cancel_reason varchar(200),
+    memo varchar(500),
+    status enum ('CANCELLED','COMPLETED','CONFIRMED','NO_SHOW','PENDING') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table site_settings (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    setting_key varchar(100) not null,
+    setting_value TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table sms_config (
+    auto_attendance_reminder bit not null,
+    auto_enrollment_expiry bit not null,
+    auto_payment_reminder bit not null,
+    is_active bit not null,
+    test_mode bit not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    sender_number varchar(20) not null,
+    user_id varchar(100) not null,
+    api_key varchar(200) not null,
+    provider enum ('ALIGO','MESSAGEKOREA') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table sms_history (
+    cost integer,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    sent_at datetime(6),
+    updated_at datetime(6),
+    receiver_number varchar(20) not null,
+    sender_number varchar(20) not null,
+    category varchar(50),
+    sms_type varchar(50),
+    msg_id varchar(100),
+    receiver_name varchar(100),
+    error_message varchar(500),
+    message varchar(2000) not null,
+    status enum ('FAILED','PENDING','SENT') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table sms_templates (
+    is_active bit not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    category varchar(50) not null,
+    name varchar(100) not null,
+    description varchar(500),
+    content varchar(2000) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table students (
+    assigned_grammar bit,
+    assigned_phonics bit,
+    assigned_sightword bit,
+    assigned_vocabulary bit,
+    birth_date date,
+    is_active bit not null,
+    recording_offset integer,
+    created_at datetime(6),
+    default_course_id bigint,
+    id bigint not null auto_increment,
+    parent_user_id bigint,
+    updated_at datetime(6),
+    gender varchar(10),
+    grade varchar(20),
+    parent_phone varchar(20),
+    student_phone varchar(20),
+    english_level varchar(50),
+    school varchar(50),
+    student_name varchar(50) not null,
+    parent_email varchar(100),
+    parent_name varchar(100),
+    renaissance_username varchar(100),
+    address varchar(200),
+    memo varchar(500),
+    primary key (id)
+) engine=InnoDB;
+
+create table teacher_attendances (
+    attendance_date date not null,
+    check_in_time datetime(6),
+    check_out_time datetime(6),
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint not null,
+    memo varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table terms (
+    is_active bit not null,
+    created_at datetime(6),
+    effective_date datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    version varchar(20) not null,
+    content TEXT not null,
+    type enum ('MARKETING','PRIVACY_POLICY','SMS','TERMS_OF_USE') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_menu_settings (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint not null,
+    menu_order TEXT not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    is_active bit not null,
+    marketing_agreed bit not null,
+    privacy_agreed bit not null,
+    sms_agreed bit not null,
+    terms_agreed bit not null,
+    agreed_at datetime(6),
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    phone_number varchar(20),
+    name varchar(50) not null,
+    nickname varchar(50),
+    username varchar(50) not null,
+    email varchar(100),
+    address varchar(200),
+    password varchar(255) not null,
+    refresh_token varchar(255),
+    role enum ('ADMIN','PARENT','TEACHER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table waitlists (
+    active bit not null,
+    wait_date date not null,
+    wait_time time(6) not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    updated_at datetime(6),
+    consultation_type varchar(50),
+    primary key (id)
+) engine=InnoDB;
+
+alter table holidays
+    add constraint UK7nkeamugh5vbaf3wisaf6802j unique (date);
+
+alter table naver_bookings
+    add constraint UK85r2lr104aoo8n7w58wjvrk1p unique (booking_number);
+
+alter table notice_views
+    add constraint UKcmdx324o165eo8n2ceh9p9tdd unique (notice_id, user_id);
+
+alter table parent_student_relations
+    add constraint UKcibfho6eyt20gv1ta4rfqa1lh unique (parent_id, student_id);
+
+alter table payments
+    add constraint UKbvdvx37j7jhfok16y3wqxk2t4 unique (imp_uid);
+
+alter table payments
+    add constraint UKceyk27yoeof2sdr967y7q8ql2 unique (merchant_uid);
+
+alter table site_settings
+    add constraint UK7mkby5o0md29h5yrcwjdh77bb unique (setting_key);
+
+alter table users
+    add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table attendances
+    add constraint FKg8lphmp6k3q3l6gj7vl359tss foreign key (course_id)
+    references courses (id);
+
+alter table attendances
+    add constraint FKpjb2p79vckeuaptuupm13n9qy foreign key (naver_booking_id)
+    references naver_bookings (id);
+
+alter table attendances
+    add constraint FK7bm4q4wptspkenhrsjgatdmk0 foreign key (student_id)
+    references students (id);
+
+alter table consultations
+    add constraint FKr574x6oti66vw9m4kwfic0qif foreign key (consultant_id)
+    references users (id);
+
+alter table consultations
+    add constraint FK33s0quglpb7qauhr8b2cr9gwd foreign key (student_id)
+    references students (id);
+
+alter table course_schedules
+    add constraint FK1n9pcjyrxa70t5w3i11nnuglj foreign key (course_id)
+    references courses (id);
+
+alter table courses
+    add constraint FKt4ba5fab1x56tmt4nsypv5lm5 foreign key (teacher_id)
+    references users (id);
+
+alter table enrollments
+    add constraint FKho8mcicp4196ebpltdn9wl6co foreign key (course_id)
+    references courses (id);
+
+alter table enrollments
+    add constraint FK8kf1u1857xgo56xbfmnif2c51 foreign key (student_id)
+    references students (id);
+
+alter table invoices
+    add constraint FKdfwp371skaoaabnyd2civgn81 foreign key (issued_by)
+    references users (id);
+
+alter table invoices
+    add constraint FKhgr2h1f3jyw86inwynpvfb9 foreign key (student_id)
+    references students (id);
+
+alter table level_tests
+    add constraint FKgao8wl74jeivjhwsrcgrg5tt1 foreign key (student_id)
+    references students (id);
+
+alter table level_tests
+    add constraint FKi1kkkmff67liu1rshxejmu85q foreign key (teacher_id)
+    references users (id);
+
+alter table makeup_classes
+    add constraint FKhykivbh3gb60n3ncs7mtsbjnw foreign key (course_id)
+    references courses (id);
+
+alter table makeup_classes
+    add constraint FK8ylo27j9g1jr6eofn0wap47q foreign key (student_id)
+    references students (id);
+
+alter table messages
+    add constraint FKkj9x79j1v3q98m4djlgxrm43p foreign key (student_id)
+    references students (id);
+
+alter table notice_views
+    add constraint FK11wwi1hvjmfm4r81fk256im7r foreign key (notice_id)
+    references notices (id);
+
+alter table notice_views
+    add constraint FKi51wsdgjj2dyty8kd04nl9adj foreign key (user_id)
+    references users (id);
+
+alter table notices
+    add constraint FKntrei71mnyo4hx6kbp6vg0cju foreign key (author_id)
+    references users (id);
+
+alter table parent_student_relations
+    add constraint FKgef5v39p7xc6p61xn84g8ncmd foreign key (parent_id)
+    references users (id);
+
+alter table parent_student_relations
+    add constraint FK7ikde83t2cs35yyq76ti7qwmq foreign key (student_id)
+    references students (id);
+
+alter table payments
+    add constraint FKrbqec6be74wab8iifh8g3i50i foreign key (invoice_id)
+    references invoices (id);
+
+alter table recordings
+    add constraint FKtrxuie5m6bim2lry7v52p3cw6 foreign key (student_id)
+    references students (id);
+
+alter table reservations
+    add constraint FKgjy7h6ko6oq8knogb59tkfbal foreign key (enrollment_id)
+    references enrollments (id);
+
+alter table reservations
+    add constraint FKnlgg22885nfyspmen9jj0jcpp foreign key (student_id)
+    references students (id);
+
+alter table students
+    add constraint FKddjf6jwi61flnsad1exx038a2 foreign key (default_course_id)
+    references courses (id);
+
+alter table students
+    add constraint FKhsjm3ph325lh964nldepo9evf foreign key (parent_user_id)
+    references users (id);
+
+alter table teacher_attendances
+    add constraint FK267t11ppb4i4pf151g8vlyod8 foreign key (user_id)
+    references users (id);
+
+alter table user_menu_settings
+    add constraint FK45o0pyxar4hjme0lgtckqtn4t foreign key (user_id)
+    references users (id);
+
+alter table waitlists
+    add constraint FKbjggd3p0lgx5ex69x0peyxa0d foreign key (student_id)
+    references students (id);
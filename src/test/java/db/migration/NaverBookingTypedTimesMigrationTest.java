@@ -0,0 +1,65 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V1_9 마이그레이션 테스트 (H2 MySQL 호환 모드)
+ * - 기준 스키마부터 1.8까지 적용한 DB에 기존 형식의 예약을 넣고 V1_9를 적용해, 수집 경로별로 날짜/시간 컬럼을 채우는지 검증
+ */
+@DisplayName("네이버 예약 일시 컬럼 마이그레이션 테스트")
+class NaverBookingTypedTimesMigrationTest {
+
+    @Test
+    @DisplayName("V1_9 - 파트너 API 수집분은 UTC 시작/종료를, 예약 목록 화면 수집분은 이용/신청/확정 일시를 한국시간으로 채운다")
+    void migrate_ShouldBackfillTypedTimesBySource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:flyway-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        flyway(dataSource, "1.8").migrate();
+        jdbcTemplate.update("INSERT INTO naver_bookings (id, booking_number, booking_time, order_date, confirm_date)"
+                + " VALUES (1, 'api-1', '2026-01-23', '2026-01-23T01:00:00Z', '2026-01-23T02:00:00Z')");
+        jdbcTemplate.update("INSERT INTO naver_bookings (id, booking_number, booking_time, order_date, confirm_date)"
+                + " VALUES (2, 'list-1', '26. 1. 23.(금) 오후 12:30', '26. 1. 20.(화) 오전 12:05', NULL)");
+        jdbcTemplate.update("INSERT INTO naver_bookings (id, booking_number, booking_time) VALUES (3, 'bad-1', '미정')");
+
+        flyway(dataSource, "latest").migrate();
+
+        Map<String, Object> api = jdbcTemplate.queryForMap("SELECT * FROM naver_bookings WHERE id = 1");
+        assertThat(api.get("booking_date")).isEqualTo(Date.valueOf(LocalDate.of(2026, 1, 23)));
+        assertThat(api.get("booking_start_at")).isEqualTo(Timestamp.valueOf(LocalDateTime.of(2026, 1, 23, 10, 0)));
+        assertThat(api.get("booking_end_at")).isEqualTo(Timestamp.valueOf(LocalDateTime.of(2026, 1, 23, 11, 0)));
+        assertThat(api.get("ordered_at")).isNull();
+
+        Map<String, Object> list = jdbcTemplate.queryForMap("SELECT * FROM naver_bookings WHERE id = 2");
+        assertThat(list.get("booking_date")).isEqualTo(Date.valueOf(LocalDate.of(2026, 1, 23)));
+        assertThat(list.get("booking_start_at")).isEqualTo(Timestamp.valueOf(LocalDateTime.of(2026, 1, 23, 12, 30)));
+        assertThat(list.get("ordered_at")).isEqualTo(Timestamp.valueOf(LocalDateTime.of(2026, 1, 20, 0, 5)));
+        assertThat(list.get("confirmed_at")).isNull();
+
+        Map<String, Object> unparsed = jdbcTemplate.queryForMap("SELECT * FROM naver_bookings WHERE id = 3");
+        assertThat(unparsed.get("booking_date")).isNull();
+        assertThat(unparsed.get("booking_start_at")).isNull();
+    }
+
+    private Flyway flyway(DriverManagerDataSource dataSource, String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load();
+    }
+}
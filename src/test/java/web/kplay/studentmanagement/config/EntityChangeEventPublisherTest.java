@@ -0,0 +1,113 @@
+package web.kplay.studentmanagement.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.kplay.studentmanagement.domain.holiday.Holiday;
+import web.kplay.studentmanagement.repository.HolidayRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EntityChangeEventPublisher 테스트 - 커밋된 변경만, 커밋이 끝난 뒤에 발행되는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:entity-change-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({EntityChangeEventPublisher.class, EntityChangeEventPublisherTest.EventCapture.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EntityChangeEventPublisher 테스트")
+class EntityChangeEventPublisherTest {
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EventCapture eventCapture;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        holidayRepository.deleteAll();
+        eventCapture.events.clear();
+    }
+
+    @Test
+    @DisplayName("변경은 flush 시점이 아니라 커밋 후에 발행된다")
+    void publish_WhenCommitted_ShouldPublishAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            holidayRepository.saveAndFlush(holiday(LocalDate.of(2026, 5, 5)));
+            assertThat(eventCapture.events).isEmpty();
+        });
+
+        assertThat(eventCapture.events).singleElement()
+                .satisfies(event -> assertThat(event.entity()).isInstanceOf(Holiday.class));
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 발행하지 않는다")
+    void publish_WhenRolledBack_ShouldNotPublish() {
+        transactionTemplate.executeWithoutResult(status -> {
+            holidayRepository.saveAndFlush(holiday(LocalDate.of(2026, 6, 6)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(eventCapture.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정과 삭제도 커밋 후 발행된다")
+    void publish_WhenUpdatedAndDeleted_ShouldPublishEach() {
+        Long id = transactionTemplate.execute(status ->
+                holidayRepository.save(holiday(LocalDate.of(2026, 8, 15))).getId());
+        eventCapture.events.clear();
+
+        transactionTemplate.executeWithoutResult(status ->
+                holidayRepository.findById(id).orElseThrow().updateInfo("광복절", true, null));
+        transactionTemplate.executeWithoutResult(status -> holidayRepository.deleteById(id));
+
+        assertThat(eventCapture.events).hasSize(2);
+    }
+
+    private Holiday holiday(LocalDate date) {
+        return Holiday.builder().date(date).name("테스트 공휴일").build();
+    }
+
+    @TestConfiguration
+    static class EventCapture {
+        private final List<EntityChangedEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onEntityChanged(EntityChangedEvent event) {
+            events.add(event);
+        }
+    }
+}
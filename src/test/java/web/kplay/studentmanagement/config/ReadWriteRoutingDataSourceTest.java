@@ -0,0 +1,156 @@
+package web.kplay.studentmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReadWriteRoutingDataSource 테스트 (H2 인메모리 DB 두 개를 쓰기/읽기 DB로 사용)
+ * - 각 DB의 node 테이블에 이름을 넣어 두고, 트랜잭션 안에서 조회한 이름으로 어느 DB에 연결됐는지 확인
+ * - 읽기 DB 상태 확인은 연결할 수 없는 주소와 모두 사용 중인 풀을 구분하는지 확인
+ */
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicBoolean readAvailable = new AtomicBoolean(true);
+    private final AtomicLong readAfterWriteMillis = new AtomicLong();
+
+    private DataSource readDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource writeDataSource = createNode("routing_write", "write");
+        readDataSource = createNode("routing_read", "read");
+        readAvailable.set(true);
+        readAfterWriteMillis.set(0);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(writeDataSource, readDataSource, readAvailable::get, readAfterWriteMillis::get));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 읽기 DB를 사용한다")
+    void readOnlyTransaction_ShouldUseReadDataSource() {
+        assertThat(currentNode(true)).isEqualTo("read");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 조회는 쓰기 DB를 사용한다")
+    void writeTransaction_ShouldUseWriteDataSource() {
+        assertThat(currentNode(false)).isEqualTo("write");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("write");
+    }
+
+    @Test
+    @DisplayName("읽기 DB를 쓸 수 없으면 읽기 전용 트랜잭션도 쓰기 DB를 사용한다")
+    void readOnlyTransaction_ShouldFallBackToWrite_WhenReadUnavailable() {
+        readAvailable.set(false);
+
+        assertThat(currentNode(true)).isEqualTo("write");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 커밋된 직후에는 읽기 전용 트랜잭션도 쓰기 DB를 사용한다")
+    void readOnlyTransaction_ShouldUseWrite_RightAfterWriteCommit() {
+        readAfterWriteMillis.set(60_000);
+        assertThat(currentNode(true)).isEqualTo("read");
+
+        assertThat(currentNode(false)).isEqualTo("write");
+
+        assertThat(currentNode(true)).isEqualTo("write");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 롤백되면 읽기 전용 트랜잭션은 계속 읽기 DB를 사용한다")
+    void readOnlyTransaction_ShouldKeepRead_WhenWriteRolledBack() {
+        readAfterWriteMillis.set(60_000);
+
+        transactionTemplate.setReadOnly(false);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+            status.setRollbackOnly();
+        });
+
+        assertThat(currentNode(true)).isEqualTo("read");
+    }
+
+    @Test
+    @DisplayName("복제본이 아닌 읽기 DB는 연결만 되면 사용 가능으로 판단한다")
+    void replicaLagMonitor_ShouldTreatNonReplicaAsAvailable() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(readDataSource, 5);
+
+        monitor.check();
+
+        assertThat(monitor.isReadAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("읽기 DB에 연결할 수 없으면 커넥션 대기 시간 초과여도 사용 불가로 판단한다")
+    void replicaLagMonitor_ShouldMarkUnavailable_WhenReadDatabaseUnreachable() {
+        try (HikariDataSource unreachable = hikari("jdbc:h2:tcp://127.0.0.1:1/unreachable")) {
+            ReplicaLagMonitor monitor = new ReplicaLagMonitor(unreachable, 5);
+
+            monitor.check();
+
+            assertThat(monitor.isReadAvailable()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 풀이 모두 사용 중이라 커넥션을 못 받으면 이전 상태를 유지한다")
+    void replicaLagMonitor_ShouldKeepState_WhenReadPoolSaturated() throws SQLException {
+        try (HikariDataSource saturated = hikari("jdbc:h2:mem:routing_read;DB_CLOSE_DELAY=-1");
+             Connection held = saturated.getConnection()) {
+            ReplicaLagMonitor monitor = new ReplicaLagMonitor(saturated, 5);
+
+            monitor.check();
+
+            assertThat(held.isValid(1)).isTrue();
+            assertThat(monitor.isReadAvailable()).isTrue();
+        }
+    }
+
+    private String currentNode(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private HikariDataSource hikari(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setConnectionTimeout(250);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    private DataSource createNode(String database, String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.update("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
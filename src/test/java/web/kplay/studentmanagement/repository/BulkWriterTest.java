@@ -0,0 +1,67 @@
+package web.kplay.studentmanagement.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import web.kplay.studentmanagement.domain.sms.SMSHistory;
+import web.kplay.studentmanagement.domain.student.Student;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BulkWriter 테스트
+ * - 배치마다 저장한 엔티티만 분리하고, 호출한 쪽이 조회해 둔 엔티티는 계속 관리되는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-writer-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(BulkWriter.class)
+@DisplayName("BulkWriter 테스트")
+class BulkWriterTest {
+
+    @Autowired
+    private BulkWriter bulkWriter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SMSHistoryRepository historyRepository;
+
+    @Test
+    @DisplayName("persistAll() - 저장한 엔티티만 분리하고 앞서 조회한 엔티티는 그대로 관리한다")
+    void persistAll_ShouldDetachOnlyPersistedEntities() {
+        Student student = entityManager.persistFlushFind(Student.builder().studentName("학생").build());
+        List<SMSHistory> histories = IntStream.range(0, 120)
+                .mapToObj(i -> SMSHistory.builder()
+                        .senderNumber("010-0000-0000")
+                        .receiverNumber("010-1234-" + String.format("%04d", i))
+                        .message("안내")
+                        .status(SMSHistory.SMSStatus.SENT)
+                        .build())
+                .toList();
+
+        int saved = bulkWriter.persistAll(histories);
+
+        assertThat(saved).isEqualTo(120);
+        assertThat(entityManager.getEntityManager().contains(student)).isTrue();
+        assertThat(histories).noneMatch(entityManager.getEntityManager()::contains);
+        assertThat(historyRepository.count()).isEqualTo(120);
+    }
+}
@@ -0,0 +1,185 @@
+package web.kplay.studentmanagement.repository;
+
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
+import web.kplay.studentmanagement.domain.message.MessageType;
+import web.kplay.studentmanagement.domain.reservation.ReservationStatus;
+import web.kplay.studentmanagement.domain.student.Student;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 실행되는 조회의 실행 계획 검증 (H2 MySQL 호환 모드)
+ * - 실제 Repository 메서드를 호출해 Hibernate가 만든 SQL과 바인딩 값을 그대로 EXPLAIN 한다
+ * - 스키마는 ddl-auto 없이 Flyway 마이그레이션(V1__baseline부터)으로만 만든다
+ *   (엔티티의 @Index가 아니라 마이그레이션이 만든 인덱스를 쓰는지 검증, H2는 TEXT를 VARCHAR로 보고하므로 validate는 생략)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explain-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("핫 쿼리 인덱스 사용 테스트")
+class HotQueryIndexTest {
+
+    private static final List<CapturedQuery> CAPTURED = Collections.synchronizedList(new ArrayList<>());
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+    private static final LocalDateTime NOW = DATE.atTime(9, 0);
+    private static final List<ReservationStatus> ACTIVE = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private SMSHistoryRepository smsHistoryRepository;
+
+    @Autowired
+    private LevelTestRepository levelTestRepository;
+
+    @Autowired
+    private NaverBookingRepository naverBookingRepository;
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                hotQuery("idx_attendances_date", "AttendanceRepository.findByDate",
+                        t -> t.attendanceRepository.findByDate(DATE)),
+                hotQuery("idx_attendances_date", "AttendanceRepository.countByScheduleDate",
+                        t -> t.attendanceRepository.countByScheduleDate(DATE)),
+                hotQuery("idx_attendances_student_date", "AttendanceRepository.findByStudentAndDateRange",
+                        t -> t.attendanceRepository.findByStudentAndDateRange(1L, DATE.withDayOfMonth(1), DATE.withDayOfMonth(31))),
+                hotQuery("idx_reservations_date_time_status", "ReservationRepository.findByDateAndStatuses",
+                        t -> t.reservationRepository.findByDateAndStatuses(DATE, ACTIVE)),
+                hotQuery("idx_reservations_date_time_status", "ReservationRepository.findActiveInWindow",
+                        t -> t.reservationRepository.findActiveInWindow(DATE.minusDays(30), DATE.plusDays(90), ACTIVE,
+                                true, List.of(AttendanceStatus.PRESENT, AttendanceStatus.LATE), PageRequest.of(0, 20))),
+                hotQuery("idx_reservations_student_date", "ReservationRepository.findUpcomingByStudentId",
+                        t -> t.reservationRepository.findUpcomingByStudentId(1L, DATE, ACTIVE)),
+                hotQuery("idx_reservations_created_at", "ReservationRepository.findFeedCreatedAfter",
+                        t -> t.reservationRepository.findFeedCreatedAfter(NOW, PageRequest.of(0, 50))),
+                hotQuery("idx_enrollments_student_active", "EnrollmentRepository.findByStudentIdAndIsActive",
+                        t -> t.enrollmentRepository.findByStudentIdAndIsActive(1L, true)),
+                hotQuery("idx_messages_student_type_sent", "MessageRepository.findByStudentAndMessageTypeAndSentAtAfter",
+                        t -> t.messageRepository.findByStudentAndMessageTypeAndSentAtAfter(
+                                t.entityManager.getEntityManager().getReference(Student.class, 1L),
+                                MessageType.CHECK_IN, DATE.atStartOfDay())),
+                hotQuery("idx_sms_history_created_at", "SMSHistoryRepository.findByDateRange",
+                        t -> t.smsHistoryRepository.findByDateRange(DATE.withDayOfMonth(1).atStartOfDay(), NOW)),
+                hotQuery("idx_sms_history_created_at", "SMSHistoryRepository.countSentBetween",
+                        t -> t.smsHistoryRepository.countSentBetween(DATE.withDayOfMonth(1).atStartOfDay(), NOW)),
+                hotQuery("idx_level_tests_test_date", "LevelTestRepository.findByMonth",
+                        t -> t.levelTestRepository.findByMonth(DATE.withDayOfMonth(1), DATE.withDayOfMonth(1).plusMonths(1))),
+                hotQuery("idx_naver_bookings_booking_date", "NaverBookingRepository.findByBookingDate",
+                        t -> t.naverBookingRepository.findByBookingDate(DATE))
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("hotQueries")
+    @DisplayName("핫 쿼리는 전체 스캔 없이 마이그레이션이 만든 인덱스를 사용한다")
+    void hotQuery_ShouldUseIndex(String expectedIndex, String query, Consumer<HotQueryIndexTest> invocation) {
+        CAPTURED.clear();
+        invocation.accept(this);
+        List<CapturedQuery> selects = CAPTURED.stream()
+                .filter(captured -> QueryUtils.getQueryType(captured.sql()) == QueryType.SELECT)
+                .toList();
+
+        assertThat(selects).as("%s 실행 SQL", query).isNotEmpty();
+        for (CapturedQuery select : selects) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + select.sql(), String.class, select.parameters());
+            assertThat(plan)
+                    .as("실행 계획: %s", plan)
+                    .doesNotContainIgnoringCase("tableScan")
+                    .containsIgnoringCase(expectedIndex);
+        }
+    }
+
+    private static Arguments hotQuery(String expectedIndex, String query, Consumer<HotQueryIndexTest> invocation) {
+        return Arguments.of(expectedIndex, query, invocation);
+    }
+
+    /**
+     * 실행된 SQL과 바인딩 값 (파라미터 순서대로)
+     */
+    private record CapturedQuery(String sql, Object[] parameters) {
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .afterQuery((execInfo, queryInfoList) -> queryInfoList.forEach(queryInfo -> {
+                                    List<ParameterSetOperation> operations = queryInfo.getParametersList().isEmpty()
+                                            ? List.of() : queryInfo.getParametersList().get(0);
+                                    CAPTURED.add(new CapturedQuery(queryInfo.getQuery(), toParameters(operations)));
+                                }))
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Object[] toParameters(List<ParameterSetOperation> operations) {
+            return operations.stream()
+                    .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                    .map(operation -> "setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1])
+                    .toArray();
+        }
+    }
+}
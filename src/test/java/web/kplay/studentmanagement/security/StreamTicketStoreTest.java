@@ -0,0 +1,52 @@
+package web.kplay.studentmanagement.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * StreamTicketStore 단위 테스트
+ * - SSE 접속 티켓은 발급한 사용자로 한 번만 사용할 수 있는지 검증
+ * - 파일 티켓은 발급한 파일에 한해 여러 번(Range 요청마다) 사용할 수 있는지 검증
+ */
+@DisplayName("StreamTicketStore 테스트")
+class StreamTicketStoreTest {
+
+    private final StreamTicketStore store = new StreamTicketStore();
+
+    @Test
+    @DisplayName("redeem() - 발급한 사용자명을 반환하고 두 번째 사용은 거부한다")
+    void redeem_ShouldBeSingleUse() {
+        String ticket = store.issue("admin");
+
+        assertThat(store.redeem(ticket)).isEqualTo("admin");
+        assertThat(store.redeem(ticket)).isNull();
+    }
+
+    @Test
+    @DisplayName("redeem() - 발급되지 않은 티켓이나 null은 거부한다")
+    void redeem_WhenUnknownTicket_ShouldReturnNull() {
+        assertThat(store.redeem("unknown")).isNull();
+        assertThat(store.redeem(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("resolveForFile() - 같은 파일이면 여러 번 사용할 수 있다")
+    void resolveForFile_ShouldBeReusableForSameFile() {
+        String ticket = store.issueForFile("parent", "audio/a.mp3");
+
+        assertThat(store.resolveForFile(ticket, "audio/a.mp3")).isEqualTo("parent");
+        assertThat(store.resolveForFile(ticket, "audio/a.mp3")).isEqualTo("parent");
+    }
+
+    @Test
+    @DisplayName("resolveForFile() - 다른 파일 경로나 스트림 티켓 용도로는 쓸 수 없다")
+    void resolveForFile_WhenOtherFile_ShouldReturnNull() {
+        String ticket = store.issueForFile("parent", "audio/a.mp3");
+
+        assertThat(store.resolveForFile(ticket, "audio/b.mp3")).isNull();
+        assertThat(store.resolveForFile(ticket, null)).isNull();
+        assertThat(store.redeem(ticket)).isNull();
+    }
+}
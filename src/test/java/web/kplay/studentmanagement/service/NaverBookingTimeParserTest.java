@@ -0,0 +1,80 @@
+package web.kplay.studentmanagement.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NaverBookingTimeParser 테스트
+ * - 예약 목록 화면의 오전/오후 12시, 날짜만 있는 값, UTC/오프셋 시각, 해석할 수 없는 값 처리 검증
+ */
+@DisplayName("NaverBookingTimeParser 테스트")
+class NaverBookingTimeParserTest {
+
+    @Test
+    @DisplayName("parseDateTime() - 오전 12시는 0시로 해석한다")
+    void parseDateTime_WhenMidnight_ShouldBeHourZero() {
+        assertThat(NaverBookingTimeParser.parseDateTime("26. 1. 23.(금) 오전 12:30"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 23, 0, 30));
+    }
+
+    @Test
+    @DisplayName("parseDateTime() - 오후 12시는 12시, 오후 2시는 14시로 해석한다")
+    void parseDateTime_WhenNoonOrAfternoon_ShouldAddTwelveHoursOnlyAfterNoon() {
+        assertThat(NaverBookingTimeParser.parseDateTime("26. 1. 23.(금) 오후 12:00"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 23, 12, 0));
+        assertThat(NaverBookingTimeParser.parseDateTime("26. 1. 23.(금) 오후 2:00"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 23, 14, 0));
+    }
+
+    @Test
+    @DisplayName("날짜만 있으면 parseDate()는 날짜를, parseDateTime()은 null을 반환한다")
+    void parse_WhenDateOnly_ShouldReturnDateWithoutTime() {
+        assertThat(NaverBookingTimeParser.parseDate("2026-01-23")).isEqualTo(LocalDate.of(2026, 1, 23));
+        assertThat(NaverBookingTimeParser.parseDateTime("2026-01-23")).isNull();
+        assertThat(NaverBookingTimeParser.parseDate("26. 1. 23.(금)")).isEqualTo(LocalDate.of(2026, 1, 23));
+        assertThat(NaverBookingTimeParser.parseDateTime("26. 1. 23.(금)")).isNull();
+    }
+
+    @Test
+    @DisplayName("수동 보정 형식(yyyy-MM-dd HH:mm)은 그대로 한국시간으로 해석한다")
+    void parseDateTime_WhenLocalFormat_ShouldKeepWallClock() {
+        assertThat(NaverBookingTimeParser.parseDateTime("2026-01-23 14:00"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 23, 14, 0));
+    }
+
+    @Test
+    @DisplayName("Z로 끝나는 UTC 시각은 한국시간으로 바꾸고 날짜도 한국 기준으로 넘긴다")
+    void parse_WhenUtcInstant_ShouldConvertToKoreanTime() {
+        assertThat(NaverBookingTimeParser.parseDateTime("2026-01-23T01:00:00Z"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 23, 10, 0));
+        assertThat(NaverBookingTimeParser.parseDate("2026-01-23T16:00:00Z"))
+                .isEqualTo(LocalDate.of(2026, 1, 24));
+    }
+
+    @Test
+    @DisplayName("오프셋이 붙은 시각은 해당 오프셋 기준으로 한국시간으로 바꾼다")
+    void parse_WhenOffsetInstant_ShouldConvertToKoreanTime() {
+        assertThat(NaverBookingTimeParser.parseDateTime("2026-01-23T14:00:00+09:00"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 23, 14, 0));
+        assertThat(NaverBookingTimeParser.parseDateTime("2026-01-23T10:00:00-05:00"))
+                .isEqualTo(LocalDateTime.of(2026, 1, 24, 0, 0));
+        assertThat(NaverBookingTimeParser.parseDate("2026-01-23T10:00:00-05:00"))
+                .isEqualTo(LocalDate.of(2026, 1, 24));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 값이면 예외 없이 null을 반환한다")
+    void parse_WhenUnparseable_ShouldReturnNull() {
+        assertThat(NaverBookingTimeParser.parseDate("예약일 미정")).isNull();
+        assertThat(NaverBookingTimeParser.parseDateTime("예약일 미정")).isNull();
+        assertThat(NaverBookingTimeParser.parseDate("2026-13-45")).isNull();
+        assertThat(NaverBookingTimeParser.parseDateTime("2026-01-23T25:00:00Z")).isNull();
+        assertThat(NaverBookingTimeParser.parseDate(null)).isNull();
+        assertThat(NaverBookingTimeParser.parseDateTime("  ")).isNull();
+    }
+}
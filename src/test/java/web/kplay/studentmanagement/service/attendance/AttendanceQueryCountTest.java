@@ -0,0 +1,194 @@
+package web.kplay.studentmanagement.service.attendance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import web.kplay.studentmanagement.domain.attendance.Attendance;
+import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
+import web.kplay.studentmanagement.domain.course.Course;
+import web.kplay.studentmanagement.domain.reservation.NaverBooking;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.dto.attendance.AttendanceResponse;
+import web.kplay.studentmanagement.service.AdditionalClassExcelService;
+import web.kplay.studentmanagement.service.StudentCourseExcelService;
+import web.kplay.studentmanagement.service.message.AutomatedMessageService;
+import web.kplay.studentmanagement.service.parent.ParentScopeResolver;
+import web.kplay.studentmanagement.support.QueryCountFixture;
+import web.kplay.studentmanagement.support.QueryCountTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static web.kplay.studentmanagement.support.QueryCountFixture.PARENT_USERNAME;
+import static web.kplay.studentmanagement.support.QueryCountFixture.STUDENT_COUNT;
+import static web.kplay.studentmanagement.support.QueryCounter.assertQueryCount;
+import static web.kplay.studentmanagement.support.QueryCounter.reset;
+
+/**
+ * 출석 목록 조회 쿼리 수 회귀 테스트
+ * - 학생마다 다른 수업/선생님을 두고 네이버 예약·수동 추가 출석을 섞어, 응답 변환(toResponse)의 지연 로딩이 행마다 쿼리를 만들지 않는지 확인
+ */
+@QueryCountTest
+@Import({AttendanceService.class, ParentScopeResolver.class, ParentCalendarCache.class})
+@DisplayName("출석 조회 쿼리 수 테스트")
+class AttendanceQueryCountTest {
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private AutomatedMessageService automatedMessageService;
+
+    @MockBean
+    private StudentCourseExcelService studentCourseExcelService;
+
+    @MockBean
+    private AdditionalClassExcelService additionalClassExcelService;
+
+    private final LocalDate today = LocalDate.now();
+    private QueryCountFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = QueryCountFixture.persist(entityManager);
+
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = fixture.student(i);
+            Course course = fixture.course(i);
+            LocalTime time = LocalTime.of(14, 0).plusMinutes(30L * i);
+            entityManager.persist(Attendance.builder()
+                    .student(student)
+                    .course(course)
+                    .attendanceDate(today)
+                    .attendanceTime(time)
+                    .status(i % 2 == 0 ? AttendanceStatus.PRESENT : AttendanceStatus.NOTYET)
+                    .checkInTime(i % 2 == 0 ? today.atTime(time) : null)
+                    .checkOutTime(i == 0 ? today.atTime(time.plusHours(1)) : null)
+                    .expectedLeaveTime(time.plusHours(1))
+                    .build());
+            entityManager.persist(Attendance.builder()
+                    .student(student)
+                    .course(course)
+                    .attendanceDate(today.minusDays(7))
+                    .attendanceTime(time)
+                    .status(AttendanceStatus.PRESENT)
+                    .build());
+        }
+
+        for (int i = 0; i < 2; i++) {
+            NaverBooking booking = entityManager.persist(NaverBooking.builder()
+                    .bookingNumber("QC-" + i)
+                    .name("네이버학부모" + i)
+                    .studentName("네이버학생" + i)
+                    .phone("010-5555-000" + i)
+                    .build());
+            entityManager.persist(Attendance.builder()
+                    .naverBooking(booking)
+                    .attendanceDate(today)
+                    .attendanceTime(LocalTime.of(16, 0))
+                    .durationMinutes(60)
+                    .status(AttendanceStatus.NOTYET)
+                    .build());
+        }
+
+        entityManager.persist(Attendance.builder()
+                .manualStudentName("수동학생")
+                .manualParentPhone("010-7777-0000")
+                .attendanceDate(today)
+                .attendanceTime(LocalTime.of(17, 0))
+                .status(AttendanceStatus.NOTYET)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+        reset();
+    }
+
+    @Test
+    @DisplayName("날짜별 출석 목록은 한 번의 조회로 만든다")
+    void getAttendanceByDate_ShouldUseSingleSelect() {
+        List<AttendanceResponse> responses = attendanceService.getAttendanceByDate(today);
+
+        assertThat(responses).hasSize(STUDENT_COUNT + 3);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("학생별 출석 목록은 한 번의 조회로 만든다")
+    void getAttendanceByStudent_ShouldUseSingleSelect() {
+        List<AttendanceResponse> responses = attendanceService.getAttendanceByStudent(fixture.student(0).getId());
+
+        assertThat(responses).hasSize(2);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("학생별 기간 출석 목록은 한 번의 조회로 만든다")
+    void getAttendanceByStudentAndDateRange_ShouldUseSingleSelect() {
+        List<AttendanceResponse> responses = attendanceService.getAttendanceByStudentAndDateRange(
+                fixture.student(0).getId(), today.minusDays(30), today);
+
+        assertThat(responses).hasSize(2);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("등원 순서 목록은 한 번의 조회로 만든다")
+    void getAttendanceByCheckInOrder_ShouldUseSingleSelect() {
+        assertThat(attendanceService.getAttendanceByCheckInOrder(today)).hasSize(STUDENT_COUNT + 3);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("하원 예정 순서 목록은 한 번의 조회로 만든다")
+    void getAttendanceByLeaveOrder_ShouldUseSingleSelect() {
+        assertThat(attendanceService.getAttendanceByLeaveOrder(today)).hasSize(STUDENT_COUNT + 3);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("출석한 학생 목록은 한 번의 조회로 만든다")
+    void getAttendedStudents_ShouldUseSingleSelect() {
+        assertThat(attendanceService.getAttendedStudents(today)).hasSize(3);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("미출석 학생 목록은 한 번의 조회로 만든다")
+    void getNotAttendedStudents_ShouldUseSingleSelect() {
+        assertThat(attendanceService.getNotAttendedStudents(today)).hasSize(STUDENT_COUNT);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("하원 완료 목록은 한 번의 조회로 만든다")
+    void getCheckedOutStudents_ShouldUseSingleSelect() {
+        assertThat(attendanceService.getCheckedOutStudents(today)).hasSize(1);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("하원 전 목록은 한 번의 조회로 만든다")
+    void getNotCheckedOutStudents_ShouldUseSingleSelect() {
+        assertThat(attendanceService.getNotCheckedOutStudents(today)).hasSize(2);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("학부모 자녀 수업 목록은 자녀 ID 조회 + 출석 조회 두 번으로 만든다")
+    void getMyChildSchedules_ShouldNotQueryPerChild() {
+        List<AttendanceResponse> responses = attendanceService.getMyChildSchedules(PARENT_USERNAME, today);
+
+        assertThat(responses).hasSize(2);
+        assertQueryCount().hasSelectCountAtMost(2).hasNoWrites();
+    }
+}
@@ -0,0 +1,60 @@
+package web.kplay.studentmanagement.service.attendance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import web.kplay.studentmanagement.domain.attendance.AttendanceStatus;
+import web.kplay.studentmanagement.dto.attendance.ParentCalendarEntry;
+
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ParentCalendarCache 단위 테스트
+ * - 캐시에 없는 학생만 조회하는지, 학생 단위 무효화가 다른 학생에 영향을 주지 않는지 검증
+ */
+@DisplayName("ParentCalendarCache 테스트")
+class ParentCalendarCacheTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2026, 3);
+    private static final YearMonth APRIL = YearMonth.of(2026, 4);
+
+    private final ParentCalendarCache cache = new ParentCalendarCache();
+    private final List<Collection<Long>> loadedIds = new ArrayList<>();
+
+    @Test
+    @DisplayName("get() - 캐시에 없는 학생만 loader로 조회한다")
+    void get_ShouldLoadOnlyMissingStudents() {
+        cache.get(List.of(1L), MARCH, this::load);
+        List<ParentCalendarEntry> entries = cache.get(List.of(1L, 2L), MARCH, this::load);
+
+        assertThat(loadedIds).containsExactly(List.of(1L), List.of(2L));
+        assertThat(entries).extracting(ParentCalendarEntry::getStudentId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("evictStudent() - 해당 학생의 모든 월만 무효화한다")
+    void evictStudent_ShouldEvictAllMonthsOfThatStudentOnly() {
+        cache.get(List.of(1L, 2L), MARCH, this::load);
+        cache.get(List.of(1L), APRIL, this::load);
+        loadedIds.clear();
+
+        cache.evictStudent(1L);
+        cache.get(List.of(1L, 2L), MARCH, this::load);
+        cache.get(List.of(1L), APRIL, this::load);
+
+        assertThat(loadedIds).containsExactly(List.of(1L), List.of(1L));
+    }
+
+    private List<ParentCalendarEntry> load(Collection<Long> studentIds) {
+        loadedIds.add(List.copyOf(studentIds));
+        return studentIds.stream()
+                .map(id -> new ParentCalendarEntry(id, "학생" + id, MARCH.atDay(id.intValue()),
+                        LocalTime.of(15, 0), 50, AttendanceStatus.PRESENT, "수업"))
+                .toList();
+    }
+}
@@ -0,0 +1,77 @@
+package web.kplay.studentmanagement.service.course;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import web.kplay.studentmanagement.domain.user.UserRole;
+import web.kplay.studentmanagement.repository.ConsultationRepository;
+import web.kplay.studentmanagement.repository.CourseRepository;
+import web.kplay.studentmanagement.repository.CourseScheduleRepository;
+import web.kplay.studentmanagement.repository.EnrollmentRepository;
+import web.kplay.studentmanagement.repository.ReservationRepository;
+import web.kplay.studentmanagement.repository.StudentRepository;
+import web.kplay.studentmanagement.repository.UserRepository;
+import web.kplay.studentmanagement.repository.enrollment.EnrollmentAdjustmentRepository;
+import web.kplay.studentmanagement.service.holiday.HolidayService;
+import web.kplay.studentmanagement.service.message.AutomatedMessageService;
+import web.kplay.studentmanagement.service.parent.ParentScopeResolver;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * EnrollmentService 단위 테스트
+ * - 내 수강권 조회가 사용자 조회 없이 인증 정보의 역할로 분기하는지 검증
+ */
+@DisplayName("EnrollmentService 테스트")
+class EnrollmentServiceTest {
+
+    private EnrollmentRepository enrollmentRepository;
+    private UserRepository userRepository;
+    private ParentScopeResolver parentScopeResolver;
+    private EnrollmentService enrollmentService;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentRepository = mock(EnrollmentRepository.class);
+        userRepository = mock(UserRepository.class);
+        parentScopeResolver = mock(ParentScopeResolver.class);
+        enrollmentService = new EnrollmentService(enrollmentRepository, mock(StudentRepository.class),
+                mock(CourseRepository.class), userRepository, mock(EnrollmentAdjustmentRepository.class),
+                mock(ConsultationRepository.class), mock(ReservationRepository.class), mock(HolidayService.class),
+                mock(AutomatedMessageService.class), mock(CourseScheduleRepository.class), parentScopeResolver);
+    }
+
+    @Test
+    @DisplayName("getEnrollmentsByUser() - 학부모면 사용자 조회 없이 자녀 수강권을 조회한다")
+    void getEnrollmentsByUser_WhenParent_ShouldNotLoadUser() {
+        given(parentScopeResolver.getLinkedChildIds("parent")).willReturn(List.of(1L, 2L));
+        given(enrollmentRepository.findActiveWithStudentAndCourseByStudentIdIn(List.of(1L, 2L))).willReturn(List.of());
+
+        enrollmentService.getEnrollmentsByUser(authentication("parent", UserRole.PARENT));
+
+        verify(enrollmentRepository).findActiveWithStudentAndCourseByStudentIdIn(List.of(1L, 2L));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("getEnrollmentsByUser() - 학부모가 아니면 조회 없이 빈 목록을 반환한다")
+    void getEnrollmentsByUser_WhenNotParent_ShouldReturnEmpty() {
+        assertThat(enrollmentService.getEnrollmentsByUser(authentication("admin", UserRole.ADMIN))).isEmpty();
+
+        verifyNoInteractions(userRepository, parentScopeResolver, enrollmentRepository);
+    }
+
+    private Authentication authentication(String username, UserRole role) {
+        return new UsernamePasswordAuthenticationToken(username, null,
+                List.of(new SimpleGrantedAuthority(role.getKey())));
+    }
+}
@@ -0,0 +1,67 @@
+package web.kplay.studentmanagement.service.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import web.kplay.studentmanagement.dto.file.ChunkedUploadInitRequest;
+import web.kplay.studentmanagement.dto.file.ChunkedUploadStatusResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ChunkedUploadService 단위 테스트
+ * - 서버 재시작 등으로 세션 없이 남은 임시 파일 정리 검증
+ */
+@DisplayName("ChunkedUploadService 테스트")
+class ChunkedUploadServiceTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private ChunkedUploadService chunkedUploadService;
+    private Path chunkedDir;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageService fileStorageService = mock(FileStorageService.class);
+        given(fileStorageService.getTempLocation()).willReturn(tempDir);
+        given(fileStorageService.getFileExtension("lesson.mp3")).willReturn(".mp3");
+        chunkedUploadService = new ChunkedUploadService(fileStorageService);
+        chunkedDir = tempDir.resolve("chunked");
+    }
+
+    @Test
+    @DisplayName("cleanupExpiredSessions() - 세션 없이 오래 방치된 .part 파일만 지운다")
+    void cleanupExpiredSessions_ShouldDeleteOrphanedStaleParts() throws Exception {
+        Path stale = Files.createFile(chunkedDir.resolve("orphan-old.part"));
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(25))));
+        Path recent = Files.createFile(chunkedDir.resolve("orphan-new.part"));
+
+        chunkedUploadService.cleanupExpiredSessions();
+
+        assertThat(stale).doesNotExist();
+        assertThat(recent).exists();
+    }
+
+    @Test
+    @DisplayName("cleanupExpiredSessions() - 진행 중인 세션의 임시 파일은 오래됐어도 남긴다")
+    void cleanupExpiredSessions_ShouldKeepActiveSessionParts() throws Exception {
+        ChunkedUploadInitRequest request = new ChunkedUploadInitRequest("lesson.mp3", 1024L, "recording", 256 * 1024);
+        ChunkedUploadStatusResponse status = chunkedUploadService.initiate(request, "teacher");
+        Path part = chunkedDir.resolve(status.getUploadId() + ".part");
+        Files.setLastModifiedTime(part, FileTime.from(Instant.now().minus(Duration.ofHours(25))));
+
+        chunkedUploadService.cleanupExpiredSessions();
+
+        assertThat(part).exists();
+    }
+}
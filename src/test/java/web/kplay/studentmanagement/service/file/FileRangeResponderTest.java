@@ -0,0 +1,125 @@
+package web.kplay.studentmanagement.service.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FileRangeResponder 테스트
+ * - Range 헤더 해석(마지막 n바이트, 여러 구간, 범위 밖)과 If-Range 일치 여부에 따른 206/200 응답 검증
+ */
+@DisplayName("FileRangeResponder 테스트")
+class FileRangeResponderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FileRangeResponder responder = new FileRangeResponder();
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.write(tempDir.resolve("lesson.mp3"), "0123456789".getBytes());
+    }
+
+    @Test
+    @DisplayName("parseRange() - bytes=-n은 마지막 n바이트, 파일보다 길면 전체")
+    void parseRange_WhenSuffix_ShouldReturnLastBytes() {
+        assertThat(FileRangeResponder.parseRange("bytes=-3", 10)).containsExactly(7, 9);
+        assertThat(FileRangeResponder.parseRange("bytes=-30", 10)).containsExactly(0, 9);
+        assertThat(FileRangeResponder.parseRange("bytes=-0", 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("parseRange() - 여러 구간이나 형식이 다른 요청은 Range를 무시한다")
+    void parseRange_WhenMultiRangeOrMalformed_ShouldIgnore() {
+        assertThat(FileRangeResponder.parseRange("bytes=0-1,4-5", 10)).isEmpty();
+        assertThat(FileRangeResponder.parseRange("items=0-1", 10)).isEmpty();
+        assertThat(FileRangeResponder.parseRange("bytes=a-b", 10)).isEmpty();
+        assertThat(FileRangeResponder.parseRange("bytes=5-2", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseRange() - 시작 위치가 파일 끝을 넘으면 null(416), 끝 위치는 파일 크기로 자른다")
+    void parseRange_WhenStartBeyondLength_ShouldBeUnsatisfiable() {
+        assertThat(FileRangeResponder.parseRange("bytes=10-", 10)).isNull();
+        assertThat(FileRangeResponder.parseRange("bytes=4-100", 10)).containsExactly(4, 9);
+        assertThat(FileRangeResponder.parseRange("bytes=2-", 10)).containsExactly(2, 9);
+    }
+
+    @Test
+    @DisplayName("serve() - 범위 밖 요청이면 416과 Content-Range: bytes */크기")
+    void serve_WhenUnsatisfiable_ShouldRespond416() throws IOException {
+        MockHttpServletRequest request = get("bytes=20-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        responder.serve(file, "audio/mpeg", true, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("serve() - If-Range가 현재 ETag와 같으면 요청 구간만 206으로 보낸다")
+    void serve_WhenIfRangeMatches_ShouldRespondPartial() throws IOException {
+        String etag = currentEtag();
+        MockHttpServletRequest request = get("bytes=2-4");
+        request.addHeader(HttpHeaders.IF_RANGE, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        responder.serve(file, "audio/mpeg", true, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-4/10");
+        assertThat(response.getContentAsString()).isEqualTo("234");
+    }
+
+    @Test
+    @DisplayName("serve() - If-Range가 바뀐 파일의 ETag면 Range를 무시하고 전체를 200으로 보낸다")
+    void serve_WhenIfRangeStale_ShouldRespondFullContent() throws IOException {
+        MockHttpServletRequest request = get("bytes=2-4");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        responder.serve(file, "audio/mpeg", true, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("serve() - If-Range 날짜가 수정 시각과 다르면 전체를 보낸다")
+    void serve_WhenIfRangeDateMismatch_ShouldRespondFullContent() throws IOException {
+        MockHttpServletRequest request = get("bytes=2-4");
+        request.addHeader(HttpHeaders.IF_RANGE, "Thu, 01 Jan 2015 00:00:00 GMT");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        responder.serve(file, "audio/mpeg", true, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    private MockHttpServletRequest get(String range) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/download");
+        request.addHeader(HttpHeaders.RANGE, range);
+        return request;
+    }
+
+    private String currentEtag() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responder.serve(file, "audio/mpeg", true, new MockHttpServletRequest("HEAD", "/api/files/download"), response);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+}
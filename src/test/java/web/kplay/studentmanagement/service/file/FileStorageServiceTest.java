@@ -0,0 +1,121 @@
+package web.kplay.studentmanagement.service.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import web.kplay.studentmanagement.exception.BusinessException;
+import web.kplay.studentmanagement.repository.StoredFileRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FileStorageService 테스트
+ * - 같은 내용의 업로드는 파일 하나를 참조 수로 공유하고, 마지막 참조를 해제할 때만 실제 파일을 지우는지 검증
+ * - 경로 삭제는 기존 방식(UUID 경로) 파일만 지우고 공유 저장 파일의 참조 수는 건드리지 않는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:file-storage-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("FileStorageService 테스트")
+class FileStorageServiceTest {
+
+    @TempDir
+    private Path uploadDir;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        storedFileRepository.deleteAll();
+        fileStorageService = new FileStorageService(uploadDir.toString(), storedFileRepository);
+    }
+
+    @Test
+    @DisplayName("storeFile() - 같은 내용을 두 번 올리면 같은 경로를 돌려주고 참조 수만 늘린다")
+    void storeFile_WhenDuplicate_ShouldShareStoredFile() {
+        String first = fileStorageService.storeFile(audio("a.mp3"), "audio");
+        String second = fileStorageService.storeFile(audio("b.mp3"), "audio");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(storedFileRepository.findByStoragePath(first)).get()
+                .extracting("refCount").isEqualTo(2);
+        assertThat(stored(first)).exists();
+    }
+
+    @Test
+    @DisplayName("releaseFile() - 마지막 참조를 해제할 때만 실제 파일을 지운다")
+    void releaseFile_ShouldDeleteOnLastReference() {
+        String path = fileStorageService.storeFile(audio("a.mp3"), "audio");
+        fileStorageService.storeFile(audio("b.mp3"), "audio");
+
+        fileStorageService.releaseFile(path);
+
+        assertThat(stored(path)).exists();
+        assertThat(storedFileRepository.findByStoragePath(path)).get()
+                .extracting("refCount").isEqualTo(1);
+
+        fileStorageService.releaseFile(path);
+
+        assertThat(stored(path)).doesNotExist();
+        assertThat(storedFileRepository.findByStoragePath(path)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteUntrackedFile() - 공유 저장 파일은 거부하고 참조 수를 그대로 둔다")
+    void deleteUntrackedFile_WhenContentAddressed_ShouldReject() {
+        String path = fileStorageService.storeFile(audio("a.mp3"), "audio");
+        fileStorageService.storeFile(audio("b.mp3"), "audio");
+
+        assertThatThrownBy(() -> fileStorageService.deleteUntrackedFile(path))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> fileStorageService.deleteUntrackedFile(path))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(stored(path)).exists();
+        assertThat(storedFileRepository.findByStoragePath(path)).get()
+                .extracting("refCount").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("deleteUntrackedFile() - 참조 테이블에 없는 기존 UUID 경로 파일은 바로 지운다")
+    void deleteUntrackedFile_WhenLegacyPath_ShouldDeleteFile() throws Exception {
+        Path legacy = Files.createDirectories(uploadDir.resolve("audio"))
+                .resolve("0f8fad5b-d9cb-469f-a165-70867728950e.mp3");
+        Files.writeString(legacy, "legacy");
+
+        fileStorageService.deleteUntrackedFile("/audio/0f8fad5b-d9cb-469f-a165-70867728950e.mp3");
+
+        assertThat(legacy).doesNotExist();
+    }
+
+    private MockMultipartFile audio(String fileName) {
+        return new MockMultipartFile("file", fileName, "audio/mpeg", "same-content".getBytes());
+    }
+
+    private Path stored(String storedPath) {
+        return uploadDir.resolve(storedPath.substring(1));
+    }
+}
@@ -0,0 +1,93 @@
+package web.kplay.studentmanagement.service.holiday;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BusinessDayCalendar 단위 테스트
+ * - 일요일/공휴일 휴무 처리 검증
+ * - 누적 영업일 기반 구간 계산이 하루씩 세는 방식과 같은지 검증
+ */
+@DisplayName("BusinessDayCalendar 테스트")
+class BusinessDayCalendarTest {
+
+    private static final List<LocalDate> HOLIDAYS_2026 = List.of(
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 3, 1),   // 일요일 공휴일
+            LocalDate.of(2026, 5, 5),
+            LocalDate.of(2026, 12, 25)
+    );
+
+    private BusinessDayCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = BusinessDayCalendar.of(2026, HOLIDAYS_2026);
+    }
+
+    @Test
+    @DisplayName("isBusinessDay() - 일요일과 공휴일은 휴무, 토요일은 영업일이다")
+    void isBusinessDay_ShouldExcludeSundaysAndHolidays() {
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 1, 1))).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 1, 3))).isTrue();  // 토요일
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 1, 4))).isFalse(); // 일요일
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 5, 5))).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 5, 6))).isTrue();
+    }
+
+    @Test
+    @DisplayName("isHoliday() - 등록된 공휴일만 공휴일로 판단한다")
+    void isHoliday_ShouldOnlyMatchRegisteredHolidays() {
+        assertThat(calendar.isHoliday(LocalDate.of(2026, 3, 1))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2026, 1, 4))).isFalse();
+    }
+
+    @Test
+    @DisplayName("countBusinessDays() - 하루씩 세는 방식과 결과가 같다")
+    void countBusinessDays_ShouldMatchDayByDayCount() {
+        LocalDate from = LocalDate.of(2026, 2, 10);
+        LocalDate to = LocalDate.of(2026, 6, 20);
+
+        int expected = 0;
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            if (d.getDayOfWeek() != DayOfWeek.SUNDAY && !HOLIDAYS_2026.contains(d)) {
+                expected++;
+            }
+        }
+
+        assertThat(calendar.countBusinessDays(from, to)).isEqualTo(expected);
+        assertThat(calendar.countBusinessDays(to, from)).isZero();
+    }
+
+    @Test
+    @DisplayName("addBusinessDays() - 시작일은 세지 않고 휴무일을 건너뛴다")
+    void addBusinessDays_ShouldSkipClosedDays() {
+        // 2026-05-02(토) 다음 영업일: 05-03(일), 05-05(공휴일) 제외 → 05-04, 05-06
+        assertThat(calendar.addBusinessDays(LocalDate.of(2026, 5, 2), 1)).isEqualTo(LocalDate.of(2026, 5, 4));
+        assertThat(calendar.addBusinessDays(LocalDate.of(2026, 5, 2), 2)).isEqualTo(LocalDate.of(2026, 5, 6));
+    }
+
+    @Test
+    @DisplayName("nthBusinessDay() - 연간 영업일 수를 넘으면 예외가 발생한다")
+    void nthBusinessDay_WhenOutOfRange_ShouldThrowException() {
+        int total = calendar.totalBusinessDays();
+
+        assertThat(calendar.nthBusinessDay(total)).isEqualTo(LocalDate.of(2026, 12, 31));
+        assertThatThrownBy(() -> calendar.nthBusinessDay(total + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 연도의 날짜를 조회하면 예외가 발생한다")
+    void isBusinessDay_WhenOtherYear_ShouldThrowException() {
+        assertThatThrownBy(() -> calendar.isBusinessDay(LocalDate.of(2027, 1, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,65 @@
+package web.kplay.studentmanagement.service.holiday;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import web.kplay.studentmanagement.config.EntityChangedEvent;
+import web.kplay.studentmanagement.domain.holiday.Holiday;
+import web.kplay.studentmanagement.repository.HolidayRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * HolidayService 단위 테스트
+ * - 공휴일 변경은 커밋 후 이벤트(EntityChangedEvent)를 받을 때만 영업일 달력 캐시를 비우는지 검증
+ */
+@DisplayName("HolidayService 테스트")
+class HolidayServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 12, 31);
+
+    private HolidayRepository holidayRepository;
+    private HolidayService holidayService;
+
+    @BeforeEach
+    void setUp() {
+        holidayRepository = mock(HolidayRepository.class);
+        holidayService = new HolidayService(holidayRepository);
+        given(holidayRepository.findByDateRange(START, END)).willReturn(List.of());
+        given(holidayRepository.save(any(Holiday.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("createHoliday() - 커밋 이벤트 전에는 캐시된 달력을 그대로 둔다")
+    void createHoliday_ShouldNotEvictBeforeCommit() {
+        LocalDate holiday = LocalDate.of(2026, 10, 20);
+        assertThat(holidayService.isBusinessDay(holiday)).isTrue();
+
+        holidayService.createHoliday(holiday, "임시공휴일", false, null);
+        holidayService.isBusinessDay(holiday);
+
+        verify(holidayRepository, times(1)).findByDateRange(START, END);
+    }
+
+    @Test
+    @DisplayName("onEntityChanged() - 커밋된 공휴일 변경이면 그 해 달력을 다시 만든다")
+    void onEntityChanged_ShouldEvictYearOfHoliday() {
+        LocalDate date = LocalDate.of(2026, 10, 20);
+        assertThat(holidayService.isBusinessDay(date)).isTrue();
+        given(holidayRepository.findByDateRange(START, END))
+                .willReturn(List.of(Holiday.builder().date(date).name("임시공휴일").build()));
+
+        holidayService.onEntityChanged(new EntityChangedEvent(Holiday.builder().date(date).name("임시공휴일").build()));
+
+        assertThat(holidayService.isBusinessDay(date)).isFalse();
+    }
+}
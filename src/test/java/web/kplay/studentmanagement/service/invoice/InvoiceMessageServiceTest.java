@@ -0,0 +1,137 @@
+package web.kplay.studentmanagement.service.invoice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import web.kplay.studentmanagement.domain.invoice.Invoice;
+import web.kplay.studentmanagement.domain.invoice.InvoiceStatus;
+import web.kplay.studentmanagement.domain.message.Message;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.domain.user.User;
+import web.kplay.studentmanagement.domain.user.UserRole;
+import web.kplay.studentmanagement.repository.InvoiceRepository;
+import web.kplay.studentmanagement.repository.MessageRepository;
+import web.kplay.studentmanagement.repository.StudentRepository;
+import web.kplay.studentmanagement.repository.UserRepository;
+import web.kplay.studentmanagement.service.message.sms.SmsService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 연체 알림 일괄 발송 테스트 - 문자 API 호출은 트랜잭션 밖에서, 결과는 메시지 이력에 기록
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:invoice-message-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(InvoiceMessageService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("연체 알림 일괄 발송 테스트")
+class InvoiceMessageServiceTest {
+
+    @Autowired
+    private InvoiceMessageService invoiceMessageService;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private SmsService smsService;
+
+    private final List<Long> invoiceIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        messageRepository.deleteAll();
+        invoiceRepository.deleteAll();
+        studentRepository.deleteAll();
+        userRepository.deleteAll();
+        invoiceIds.clear();
+
+        User issuer = userRepository.save(User.builder()
+                .username("overdue-issuer").password("password").name("발급자").role(UserRole.ADMIN).build());
+        for (int i = 0; i < 3; i++) {
+            Student student = studentRepository.save(Student.builder()
+                    .studentName("학생" + i).parentName("학부모" + i).parentPhone("010-0000-000" + i).build());
+            invoiceIds.add(invoiceRepository.save(Invoice.builder()
+                    .student(student)
+                    .issuedBy(issuer)
+                    .title("수강료")
+                    .amount(200000)
+                    .issueDate(LocalDate.now().minusDays(20))
+                    .dueDate(LocalDate.now().minusDays(1))
+                    .status(InvoiceStatus.OVERDUE)
+                    .build()).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("문자 발송 중에는 트랜잭션을 잡고 있지 않는다")
+    void sendOverdueNotifications_ShouldCallSmsOutsideTransaction() {
+        AtomicBoolean sentInsideTransaction = new AtomicBoolean();
+        given(smsService.sendSms(anyString(), anyString())).willAnswer(invocation -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                sentInsideTransaction.set(true);
+            }
+            return "msg-" + invocation.getArgument(0);
+        });
+
+        int sentCount = invoiceMessageService.sendOverdueNotifications(invoiceIds);
+
+        assertThat(sentCount).isEqualTo(3);
+        assertThat(sentInsideTransaction).isFalse();
+        assertThat(messageRepository.findAll())
+                .hasSize(3)
+                .allSatisfy(message -> {
+                    assertThat(message.getSendStatus()).isEqualTo("SENT");
+                    assertThat(message.getExternalMessageId()).startsWith("msg-");
+                });
+    }
+
+    @Test
+    @DisplayName("발송 실패 건은 실패로 기록하고 나머지는 계속 보낸다")
+    void sendOverdueNotifications_WhenOneFails_ShouldRecordFailure() {
+        given(smsService.sendSms(anyString(), anyString())).willReturn("msg");
+        given(smsService.sendSms(eq("010-0000-0001"), anyString())).willThrow(new IllegalStateException("timeout"));
+
+        int sentCount = invoiceMessageService.sendOverdueNotifications(invoiceIds);
+
+        assertThat(sentCount).isEqualTo(2);
+        assertThat(messageRepository.findAll())
+                .extracting(Message::getSendStatus)
+                .containsExactlyInAnyOrder("SENT", "SENT", "FAILED");
+    }
+}
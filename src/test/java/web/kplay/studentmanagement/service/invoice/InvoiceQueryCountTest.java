@@ -0,0 +1,117 @@
+package web.kplay.studentmanagement.service.invoice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import web.kplay.studentmanagement.domain.invoice.Invoice;
+import web.kplay.studentmanagement.domain.invoice.InvoiceStatus;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.domain.user.User;
+import web.kplay.studentmanagement.support.QueryCountFixture;
+import web.kplay.studentmanagement.support.QueryCountTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static web.kplay.studentmanagement.support.QueryCountFixture.STUDENT_COUNT;
+import static web.kplay.studentmanagement.support.QueryCounter.assertQueryCount;
+import static web.kplay.studentmanagement.support.QueryCounter.reset;
+
+/**
+ * 청구서 목록 조회 쿼리 수 회귀 테스트
+ * - 학생마다 발급자를 다르게 두어 학생/발급자 지연 로딩이 행마다 쿼리를 만들지 않는지 확인
+ */
+@QueryCountTest
+@Import(InvoiceService.class)
+@DisplayName("청구서 조회 쿼리 수 테스트")
+class InvoiceQueryCountTest {
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private InvoiceSummaryService invoiceSummaryService;
+
+    private final LocalDate today = LocalDate.now();
+    private QueryCountFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = QueryCountFixture.persist(entityManager);
+
+        // 학생마다 담당 선생님을 발급자로 둔다
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = fixture.student(i);
+            User issuer = fixture.teacher(i);
+
+            // 학생마다 연체 대상 1건 + 납부 완료 1건
+            entityManager.persist(invoice(student, issuer, InvoiceStatus.PENDING, today.minusDays(20), today.minusDays(1)));
+            entityManager.persist(invoice(student, issuer, InvoiceStatus.PAID, today.minusDays(40), today.minusDays(30)));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        reset();
+    }
+
+    @Test
+    @DisplayName("전체 청구서 목록은 한 번의 조회로 만든다")
+    void getAllInvoices_ShouldUseSingleSelect() {
+        assertThat(invoiceService.getAllInvoices()).hasSize(STUDENT_COUNT * 2);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("학생별 청구서 목록은 한 번의 조회로 만든다")
+    void getInvoicesByStudent_ShouldUseSingleSelect() {
+        assertThat(invoiceService.getInvoicesByStudent(fixture.student(0).getId())).hasSize(2);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("상태별 청구서 목록은 한 번의 조회로 만든다")
+    void getInvoicesByStatus_ShouldUseSingleSelect() {
+        assertThat(invoiceService.getInvoicesByStatus(InvoiceStatus.PAID)).hasSize(STUDENT_COUNT);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("기간별 청구서 목록은 한 번의 조회로 만든다")
+    void getInvoicesByDateRange_ShouldUseSingleSelect() {
+        assertThat(invoiceService.getInvoicesByDateRange(today.minusDays(30), today)).hasSize(STUDENT_COUNT);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("학생의 미납 청구서 목록은 한 번의 조회로 만든다")
+    void getUnpaidInvoicesByStudent_ShouldUseSingleSelect() {
+        assertThat(invoiceService.getUnpaidInvoicesByStudent(fixture.student(0).getId())).hasSize(1);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("연체 청구서 목록은 한 번의 조회로 만든다")
+    void getOverdueInvoices_ShouldUseSingleSelect() {
+        assertThat(invoiceService.getOverdueInvoices()).hasSize(STUDENT_COUNT);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    private Invoice invoice(Student student, User issuer, InvoiceStatus status, LocalDate issueDate, LocalDate dueDate) {
+        return Invoice.builder()
+                .student(student)
+                .issuedBy(issuer)
+                .title(student.getStudentName() + " 수강료")
+                .amount(200000)
+                .issueDate(issueDate)
+                .dueDate(dueDate)
+                .status(status)
+                .build();
+    }
+}
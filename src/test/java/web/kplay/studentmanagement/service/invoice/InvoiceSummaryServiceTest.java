@@ -0,0 +1,172 @@
+package web.kplay.studentmanagement.service.invoice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.domain.invoice.Invoice;
+import web.kplay.studentmanagement.domain.invoice.InvoiceStatus;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.domain.user.User;
+import web.kplay.studentmanagement.domain.user.UserRole;
+import web.kplay.studentmanagement.dto.invoice.InvoiceStatusAggregate;
+import web.kplay.studentmanagement.repository.InvoiceMonthlySummaryRepository;
+import web.kplay.studentmanagement.repository.InvoiceRepository;
+import web.kplay.studentmanagement.repository.StudentRepository;
+import web.kplay.studentmanagement.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 청구서 월별 집계 재계산 테스트
+ * - 재집계는 호출 트랜잭션이 커밋된 뒤 별도 트랜잭션으로 실행되고, 실패해도 호출 트랜잭션에 영향이 없어야 한다
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:invoice-summary-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(InvoiceSummaryService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("청구서 월별 집계 테스트")
+class InvoiceSummaryServiceTest {
+
+    private static final LocalDate ISSUE_DATE = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private InvoiceSummaryService invoiceSummaryService;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private InvoiceMonthlySummaryRepository summaryRepository;
+
+    @MockBean
+    private ScheduledJobMetrics scheduledJobMetrics;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Student student;
+    private User issuer;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        invoiceRepository.deleteAll();
+        summaryRepository.deleteAll();
+        studentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        issuer = userRepository.save(User.builder()
+                .username("summary-issuer").password("password").name("발급자").role(UserRole.ADMIN).build());
+        student = studentRepository.save(Student.builder().studentName("학생").build());
+    }
+
+    @Test
+    @DisplayName("재집계는 호출 트랜잭션이 커밋된 뒤에 실행된다")
+    void refreshMonthAfterCommit_WhenCallerCommits_ShouldRefreshAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            invoiceRepository.save(invoice(InvoiceStatus.PAID));
+            invoiceSummaryService.refreshMonthAfterCommit(ISSUE_DATE);
+            assertThat(summaryRepository.count()).isZero();
+        });
+
+        assertThat(sumByStatus())
+                .singleElement()
+                .satisfies(aggregate -> {
+                    assertThat(aggregate.getStatus()).isEqualTo(InvoiceStatus.PAID);
+                    assertThat(aggregate.getCount()).isEqualTo(1L);
+                    assertThat(aggregate.getAmount()).isEqualTo(200000L);
+                });
+    }
+
+    @Test
+    @DisplayName("재집계가 실패해도 납부 트랜잭션은 커밋된다")
+    void refreshMonthAfterCommit_WhenRefreshFails_ShouldKeepCallerCommitted() {
+        doThrow(new IllegalStateException("lock wait timeout")).when(summaryRepository).deleteByMonthStart(any());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            invoiceRepository.save(invoice(InvoiceStatus.PAID));
+            invoiceSummaryService.refreshMonthAfterCommit(ISSUE_DATE);
+        });
+
+        assertThat(invoiceRepository.count()).isEqualTo(1);
+        assertThat(summaryRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션은 재집계하지 않는다")
+    void refreshMonthAfterCommit_WhenCallerRollsBack_ShouldNotRefresh() {
+        transactionTemplate.executeWithoutResult(status -> {
+            invoiceRepository.save(invoice(InvoiceStatus.PAID));
+            invoiceSummaryService.refreshMonthAfterCommit(ISSUE_DATE);
+            status.setRollbackOnly();
+        });
+
+        assertThat(summaryRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("연속된 납부는 마지막 재집계에 모두 반영된다")
+    void refreshMonthAfterCommit_WhenPaidTwice_ShouldReflectBoth() {
+        for (int i = 0; i < 2; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                invoiceRepository.save(invoice(InvoiceStatus.PAID));
+                invoiceSummaryService.refreshMonthAfterCommit(ISSUE_DATE);
+            });
+        }
+
+        assertThat(sumByStatus())
+                .singleElement()
+                .satisfies(aggregate -> assertThat(aggregate.getCount()).isEqualTo(2L));
+    }
+
+    private List<InvoiceStatusAggregate> sumByStatus() {
+        YearMonth month = YearMonth.from(ISSUE_DATE);
+        return invoiceSummaryService.sumByStatus(month, month);
+    }
+
+    private Invoice invoice(InvoiceStatus status) {
+        return Invoice.builder()
+                .student(student)
+                .issuedBy(issuer)
+                .title("수강료")
+                .amount(200000)
+                .issueDate(ISSUE_DATE)
+                .dueDate(ISSUE_DATE.plusDays(14))
+                .status(status)
+                .build();
+    }
+}
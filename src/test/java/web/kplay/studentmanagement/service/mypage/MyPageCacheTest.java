@@ -0,0 +1,60 @@
+package web.kplay.studentmanagement.service.mypage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import web.kplay.studentmanagement.dto.mypage.MyPageResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MyPageCache 단위 테스트
+ * - 캐시 적중과, 조회 도중 무효화된 결과를 캐시에 남기지 않는지 검증
+ */
+@DisplayName("MyPageCache 테스트")
+class MyPageCacheTest {
+
+    private final MyPageCache cache = new MyPageCache();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("get() - 두 번째 조회는 캐시에서 반환한다")
+    void get_ShouldReturnCachedPage() {
+        MyPageResponse first = cache.get(1L, this::load);
+        MyPageResponse second = cache.get(1L, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("get() - 조회 도중 evict()되면 조회 결과를 캐시에 넣지 않는다")
+    void get_WhenEvictedDuringLoad_ShouldNotCacheStalePage() {
+        cache.get(1L, () -> {
+            cache.evict(1L);
+            return load();
+        });
+        cache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("evict() - 해당 학생만 무효화한다")
+    void evict_ShouldEvictOnlyThatStudent() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        cache.evict(1L);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    private MyPageResponse load() {
+        loads.incrementAndGet();
+        return new MyPageResponse();
+    }
+}
@@ -0,0 +1,83 @@
+package web.kplay.studentmanagement.service.notice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NoticeViewBuffer 단위 테스트
+ * - 조회 기록과 동시에 비워도 조회수가 누락되지 않는지 검증
+ */
+@DisplayName("NoticeViewBuffer 테스트")
+class NoticeViewBufferTest {
+
+    private NoticeViewBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new NoticeViewBuffer();
+    }
+
+    @Test
+    @DisplayName("drainCounts() - 꺼낸 조회수는 0으로 돌아가고 다음 조회부터 다시 쌓인다")
+    void drainCounts_ShouldResetPendingCount() {
+        buffer.record(1L, 10L);
+        buffer.record(1L, null);
+
+        assertThat(buffer.drainCounts()).containsExactly(Map.entry(1L, 2L));
+        assertThat(buffer.pendingCount(1L)).isZero();
+        assertThat(buffer.drainCounts()).isEmpty();
+
+        buffer.record(1L, null);
+        assertThat(buffer.drainCounts()).containsExactly(Map.entry(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("drainCounts() - 조회 기록 중에 비워도 합계가 조회 횟수와 같다")
+    void drainCounts_WhenRecordingConcurrently_ShouldNotLoseViews() throws Exception {
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    buffer.record(1L, null);
+                }
+                done.countDown();
+            });
+        }
+
+        AtomicLong drained = new AtomicLong();
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            buffer.drainCounts().values().forEach(drained::addAndGet);
+        }
+        buffer.drainCounts().values().forEach(drained::addAndGet);
+        executor.shutdown();
+
+        assertThat(drained.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("restore() - 반영에 실패한 조회수와 조회 기록을 다시 버퍼에 넣는다")
+    void restore_ShouldPutBackDrainedEntries() {
+        buffer.record(1L, 10L);
+        Map<Long, Long> counts = buffer.drainCounts();
+        Set<NoticeViewBuffer.ViewKey> views = buffer.drainViews();
+
+        buffer.restore(counts, views);
+
+        assertThat(buffer.pendingCount(1L)).isEqualTo(1L);
+        assertThat(buffer.drainViews()).containsExactly(new NoticeViewBuffer.ViewKey(1L, 10L));
+    }
+}
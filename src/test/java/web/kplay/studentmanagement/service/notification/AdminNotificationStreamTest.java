@@ -0,0 +1,100 @@
+package web.kplay.studentmanagement.service.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdminNotificationStream 테스트
+ * - 발행한 요청 스레드에서는 전송하지 않고, 동시에 발행해도 구독자는 순번 순서대로 받는지 검증
+ */
+@DisplayName("AdminNotificationStream 테스트")
+class AdminNotificationStreamTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    @Test
+    @DisplayName("publish() - 전송은 전송 스레드에 맡기고 발행 스레드에서는 보내지 않는다")
+    void publish_ShouldNotSendOnCallerThread() {
+        List<Runnable> queued = new ArrayList<>();
+        RecordingEmitter emitter = new RecordingEmitter();
+        AdminNotificationStream stream = streamWith(queued::add, emitter);
+        stream.subscribe(null);
+
+        stream.publish("created", Map.of("id", 1));
+
+        assertThat(emitter.eventIds).isEmpty();
+
+        queued.forEach(Runnable::run);
+
+        assertThat(emitter.eventIds).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("publish() - 여러 스레드가 동시에 발행해도 순번 순서대로 전송한다")
+    void publish_WhenConcurrent_ShouldSendInSequenceOrder() throws InterruptedException {
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        ExecutorService publishers = Executors.newFixedThreadPool(8);
+        RecordingEmitter emitter = new RecordingEmitter();
+        AdminNotificationStream stream = streamWith(sender, emitter);
+        stream.subscribe(null);
+
+        CountDownLatch start = new CountDownLatch(1);
+        IntStream.range(0, 200).forEach(i -> publishers.execute(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            stream.publish("created", Map.of("id", i));
+        }));
+        start.countDown();
+        publishers.shutdown();
+        assertThat(publishers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        sender.shutdown();
+        assertThat(sender.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(emitter.eventIds).hasSize(200).isSorted();
+    }
+
+    private AdminNotificationStream streamWith(Executor executor, SseEmitter emitter) {
+        return new AdminNotificationStream(executor) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    /**
+     * 받은 이벤트 ID만 기록하는 에미터
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Long> eventIds = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(part -> EVENT_ID.matcher(String.valueOf(part.getData())))
+                    .filter(Matcher::find)
+                    .findFirst()
+                    .ifPresent(matcher -> eventIds.add(Long.parseLong(matcher.group(1))));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package web.kplay.studentmanagement.service.parent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.domain.user.User;
+import web.kplay.studentmanagement.domain.user.UserRole;
+import web.kplay.studentmanagement.repository.StudentRepository;
+import web.kplay.studentmanagement.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 학부모 자녀 범위 조회 테스트
+ * - 자녀 ID 조회 결과와, 없는 사용자에 대한 예외 처리 검증
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:parent-scope-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ParentScopeResolver.class)
+@DisplayName("학부모 자녀 범위 조회 테스트")
+class ParentScopeResolverTest {
+
+    private static final String PARENT_PHONE = "010-1234-5678";
+
+    @Autowired
+    private ParentScopeResolver parentScopeResolver;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("전화번호가 일치하는 재원 중 자녀 ID만 반환한다")
+    void getActiveChildIdsByPhone_ShouldReturnActiveChildren() {
+        User parent = saveParent("parent");
+        Student active = studentRepository.save(Student.builder()
+                .studentName("재원생").parentPhone(PARENT_PHONE).isActive(true).build());
+        studentRepository.save(Student.builder()
+                .studentName("퇴원생").parentPhone(PARENT_PHONE).isActive(false).build());
+
+        assertThat(parentScopeResolver.getActiveChildIdsByPhone(parent.getUsername()))
+                .containsExactly(active.getId());
+    }
+
+    @Test
+    @DisplayName("자녀가 없는 학부모는 빈 목록을 반환한다")
+    void getLinkedChildIds_WhenNoChildren_ShouldReturnEmpty() {
+        saveParent("parent");
+
+        assertThat(parentScopeResolver.getLinkedChildIds("parent")).isEmpty();
+        assertThat(parentScopeResolver.getActiveChildIdsByPhone("parent")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 사용자면 예외를 던진다")
+    void getChildIds_WhenUserNotFound_ShouldThrow() {
+        assertThatThrownBy(() -> parentScopeResolver.getLinkedChildIds("unknown"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("부모님 정보를 찾을 수 없습니다.");
+        assertThatThrownBy(() -> parentScopeResolver.getActiveChildIdsByPhone("unknown"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("사용자를 찾을 수 없습니다.");
+    }
+
+    private User saveParent(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("password")
+                .name("학부모")
+                .phoneNumber(PARENT_PHONE)
+                .role(UserRole.PARENT)
+                .build());
+    }
+}
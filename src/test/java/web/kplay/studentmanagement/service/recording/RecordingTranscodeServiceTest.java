@@ -0,0 +1,98 @@
+package web.kplay.studentmanagement.service.recording;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.domain.recording.Recording;
+import web.kplay.studentmanagement.domain.recording.TranscodeStatus;
+import web.kplay.studentmanagement.repository.RecordingRepository;
+import web.kplay.studentmanagement.service.file.FileStorageService;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * RecordingTranscodeService 단위 테스트
+ * - 변환 도중 레코딩이 삭제되면 만든 결과 파일 참조를 되돌리는지 검증 (ffmpeg 없이 WAV 파형 경로 사용)
+ */
+@DisplayName("RecordingTranscodeService 테스트")
+class RecordingTranscodeServiceTest {
+
+    private static final String WAVEFORM_URL = "/recording/ab/waveform.json";
+
+    @TempDir
+    private Path tempDir;
+
+    private RecordingRepository recordingRepository;
+    private FileStorageService fileStorageService;
+    private RecordingTranscodeService transcodeService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        recordingRepository = mock(RecordingRepository.class);
+        fileStorageService = mock(FileStorageService.class);
+        transcodeService = new RecordingTranscodeService(recordingRepository, fileStorageService,
+                new ObjectMapper(), mock(ScheduledJobMetrics.class), mock(ThreadPoolTaskExecutor.class));
+        ReflectionTestUtils.setField(transcodeService, "ffmpegAvailable", false);
+
+        Path source = writeSilentWav(tempDir.resolve("lesson.wav"));
+        Recording recording = Recording.builder().id(1L).fileUrl("/recording/lesson.wav").build();
+        given(recordingRepository.claimForTranscode(1L)).willReturn(1);
+        given(recordingRepository.findById(1L)).willReturn(Optional.of(recording));
+        given(fileStorageService.resolveStoredFile("/recording/lesson.wav")).willReturn(source);
+        given(fileStorageService.createTempFile(anyString(), anyString()))
+                .willAnswer(invocation -> Files.createTempFile(tempDir, "waveform_", ".json"));
+        given(fileStorageService.storeLocalFile(any(), eq("recording"), eq(".json"))).willReturn(WAVEFORM_URL);
+    }
+
+    @Test
+    @DisplayName("transcode() - 결과를 기록하기 전에 레코딩이 삭제됐으면 결과 파일 참조를 되돌린다")
+    void transcode_WhenRecordingDeleted_ShouldReleaseRenditions() {
+        given(recordingRepository.updateTranscodeResult(eq(1L), eq(TranscodeStatus.SKIPPED), isNull(), eq(WAVEFORM_URL), any()))
+                .willReturn(0);
+
+        transcodeService.transcode(1L);
+
+        verify(fileStorageService).releaseFile(WAVEFORM_URL);
+    }
+
+    @Test
+    @DisplayName("transcode() - 결과를 기록했으면 결과 파일을 그대로 둔다")
+    void transcode_WhenRecordingExists_ShouldKeepRenditions() {
+        given(recordingRepository.updateTranscodeResult(eq(1L), eq(TranscodeStatus.SKIPPED), isNull(), eq(WAVEFORM_URL), any()))
+                .willReturn(1);
+
+        transcodeService.transcode(1L);
+
+        verify(fileStorageService, never()).releaseFile(WAVEFORM_URL);
+    }
+
+    private Path writeSilentWav(Path file) throws Exception {
+        AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        byte[] pcm = new byte[8000 * 2];
+        try (AudioInputStream in = new AudioInputStream(new ByteArrayInputStream(pcm), format, pcm.length / 2)) {
+            AudioSystem.write(in, AudioFileFormat.Type.WAVE, file.toFile());
+        }
+        return file;
+    }
+}
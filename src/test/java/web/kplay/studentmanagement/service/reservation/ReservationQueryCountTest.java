@@ -0,0 +1,117 @@
+package web.kplay.studentmanagement.service.reservation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import web.kplay.studentmanagement.domain.course.Enrollment;
+import web.kplay.studentmanagement.domain.reservation.Reservation;
+import web.kplay.studentmanagement.domain.reservation.ReservationStatus;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.service.message.AutomatedMessageService;
+import web.kplay.studentmanagement.service.notification.AdminNotificationService;
+import web.kplay.studentmanagement.service.parent.ParentScopeResolver;
+import web.kplay.studentmanagement.support.QueryCountFixture;
+import web.kplay.studentmanagement.support.QueryCountTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static web.kplay.studentmanagement.support.QueryCountFixture.PARENT_USERNAME;
+import static web.kplay.studentmanagement.support.QueryCountFixture.STUDENT_COUNT;
+import static web.kplay.studentmanagement.support.QueryCounter.assertQueryCount;
+import static web.kplay.studentmanagement.support.QueryCounter.reset;
+
+/**
+ * 예약 목록 조회 쿼리 수 회귀 테스트
+ * - 학생마다 다른 수업의 수강권으로 예약해 학생/수강권/수업 지연 로딩이 행마다 쿼리를 만들지 않는지 확인
+ */
+@QueryCountTest
+@Import({ReservationService.class, ParentScopeResolver.class})
+@DisplayName("예약 조회 쿼리 수 테스트")
+class ReservationQueryCountTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private AutomatedMessageService automatedMessageService;
+
+    @MockBean
+    private AdminNotificationService adminNotificationService;
+
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+    private QueryCountFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = QueryCountFixture.persist(entityManager);
+
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = fixture.student(i);
+            Enrollment enrollment = entityManager.persist(Enrollment.builder()
+                    .student(student)
+                    .course(fixture.course(i))
+                    .startDate(tomorrow.minusMonths(1))
+                    .endDate(tomorrow.plusMonths(2))
+                    .totalCount(24)
+                    .remainingCount(20)
+                    .build());
+            entityManager.persist(Reservation.builder()
+                    .student(student)
+                    .enrollment(enrollment)
+                    .reservationDate(tomorrow)
+                    .reservationTime(LocalTime.of(14, 0).plusMinutes(30L * i))
+                    .status(i % 2 == 0 ? ReservationStatus.CONFIRMED : ReservationStatus.PENDING)
+                    .reservationSource("WEB")
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        reset();
+    }
+
+    @Test
+    @DisplayName("학생별 예약 목록은 한 번의 조회로 만든다")
+    void getReservationsByStudent_ShouldUseSingleSelect() {
+        assertThat(reservationService.getReservationsByStudent(fixture.student(0).getId())).hasSize(1);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("날짜별 예약 목록은 한 번의 조회로 만든다")
+    void getReservationsByDate_ShouldUseSingleSelect() {
+        assertThat(reservationService.getReservationsByDate(tomorrow)).hasSize(STUDENT_COUNT);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("관리자 예약 목록은 목록 + 건수 + 출석 여부 조회로 끝난다")
+    void getAllActiveReservations_ShouldNotQueryPerRow() {
+        assertThat(reservationService.getAllActiveReservations(null, null, null, false, 0, 20).getContent())
+                .hasSize(STUDENT_COUNT);
+        assertQueryCount().hasSelectCountAtMost(3).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("학부모 자녀 예약 목록은 자녀 ID 조회 + 예약 조회 두 번으로 만든다")
+    void getMyReservations_ShouldNotQueryPerChild() {
+        assertThat(reservationService.getMyReservations(PARENT_USERNAME)).hasSize(2);
+        assertQueryCount().hasSelectCountAtMost(2).hasNoWrites();
+    }
+
+    @Test
+    @DisplayName("신규 예약 피드는 한 번의 조회로 만든다")
+    void getNewReservationFeed_ShouldUseSingleSelect() {
+        assertThat(reservationService.getNewReservationFeed(0L, null, 50).getReservations()).hasSize(STUDENT_COUNT);
+        assertQueryCount().hasSelectCountAtMost(1).hasNoWrites();
+    }
+}
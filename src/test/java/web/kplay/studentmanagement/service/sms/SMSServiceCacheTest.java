@@ -0,0 +1,80 @@
+package web.kplay.studentmanagement.service.sms;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.domain.sms.SMSConfig;
+import web.kplay.studentmanagement.domain.sms.SMSHistory;
+import web.kplay.studentmanagement.repository.BulkWriter;
+import web.kplay.studentmanagement.repository.SMSConfigRepository;
+import web.kplay.studentmanagement.repository.SMSDailyStatRepository;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * SMS 발송과 2차 캐시 테스트 (2차 캐시 사용)
+ * - 발송 집계(네이티브 upsert)가 캐시된 SMS 설정 영역을 비우지 않는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sms-cache-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SMSService.class, BulkWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SMS 발송 2차 캐시 테스트")
+class SMSServiceCacheTest {
+
+    @Autowired
+    private SMSService smsService;
+
+    @Autowired
+    private SMSConfigRepository configRepository;
+
+    @Autowired
+    private SMSDailyStatRepository dailyStatRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AligoSMSClient aligoSMSClient;
+
+    @MockBean
+    private ScheduledJobMetrics scheduledJobMetrics;
+
+    @Test
+    @DisplayName("sendSMS() - 발송 집계를 저장해도 캐시된 SMS 설정은 남아 있다")
+    void sendSMS_ShouldKeepCachedSmsConfig() {
+        SMSConfig config = configRepository.save(SMSConfig.builder()
+                .apiKey("key").userId("user").senderNumber("010-0000-0000").build());
+        given(aligoSMSClient.sendSMS(anyString(), anyString(), anyString(), anyString(), anyString(), anyBoolean()))
+                .willReturn(AligoSMSClient.SMSSendResponse.builder().success(true).msgId("1").cost(20).build());
+        configRepository.findById(config.getId());
+        assertThat(entityManagerFactory.getCache().contains(SMSConfig.class, config.getId())).isTrue();
+
+        smsService.sendSMS("010-1234-5678", "학부모", "안내", "attendance");
+
+        LocalDate today = LocalDate.now();
+        assertThat(dailyStatRepository.sumCount(today, today.plusDays(1), SMSHistory.SMSStatus.SENT)).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(SMSConfig.class, config.getId())).isTrue();
+    }
+}
@@ -0,0 +1,107 @@
+package web.kplay.studentmanagement.service.sms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import web.kplay.studentmanagement.config.ScheduledJobMetrics;
+import web.kplay.studentmanagement.domain.sms.SMSConfig;
+import web.kplay.studentmanagement.repository.BulkWriter;
+import web.kplay.studentmanagement.repository.SMSConfigRepository;
+import web.kplay.studentmanagement.repository.SMSDailyStatRepository;
+import web.kplay.studentmanagement.repository.SMSHistoryRepository;
+import web.kplay.studentmanagement.repository.SMSTemplateRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SMSService 단위 테스트
+ * - 일별 발송 집계는 발송 내역 트랜잭션이 커밋된 뒤에만 증가하는지 검증
+ * - 새벽 재집계는 오늘을 제외한 최근 7일을 하루씩 발송 내역으로 다시 만드는지 검증
+ */
+@DisplayName("SMSService 테스트")
+class SMSServiceTest {
+
+    private SMSDailyStatRepository dailyStatRepository;
+    private ScheduledJobMetrics scheduledJobMetrics;
+    private SMSService smsService;
+
+    @BeforeEach
+    void setUp() {
+        SMSConfigRepository configRepository = mock(SMSConfigRepository.class);
+        AligoSMSClient aligoSMSClient = mock(AligoSMSClient.class);
+        dailyStatRepository = mock(SMSDailyStatRepository.class);
+        scheduledJobMetrics = mock(ScheduledJobMetrics.class);
+        smsService = new SMSService(mock(SMSTemplateRepository.class), mock(SMSHistoryRepository.class),
+                configRepository, dailyStatRepository, aligoSMSClient, mock(BulkWriter.class),
+                mock(PlatformTransactionManager.class), scheduledJobMetrics);
+
+        given(configRepository.findByIsActiveTrue()).willReturn(Optional.of(SMSConfig.builder()
+                .apiKey("key").userId("user").senderNumber("010-0000-0000").build()));
+        given(aligoSMSClient.sendSMS(anyString(), anyString(), anyString(), anyString(), anyString(), anyBoolean()))
+                .willReturn(AligoSMSClient.SMSSendResponse.builder().success(true).msgId("1").cost(20).build());
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("sendSMS() - 일별 집계는 커밋 전에는 증가하지 않고 커밋 후 증가한다")
+    void sendSMS_ShouldIncrementDailyStatAfterCommit() {
+        smsService.sendSMS("010-1234-5678", "학부모", "안내", "attendance");
+
+        verify(dailyStatRepository, never()).increment(any(), anyString(), anyString(), anyLong(), anyLong());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(dailyStatRepository).increment(LocalDate.now(), "attendance", "SENT", 1L, 20L);
+    }
+
+    @Test
+    @DisplayName("sendSMS() - 롤백되면 일별 집계를 증가시키지 않는다")
+    void sendSMS_WhenRolledBack_ShouldNotIncrementDailyStat() {
+        smsService.sendSMS("010-1234-5678", "학부모", "안내", "attendance");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(dailyStatRepository, never()).increment(any(), eq("attendance"), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("rebuildRecentDailyStats() - 오늘을 빼고 어제까지 7일을 하루씩 지우고 다시 집계한다")
+    void rebuildRecentDailyStats_ShouldRebuildLastSevenDaysExceptToday() {
+        LocalDate today = LocalDate.now();
+        given(dailyStatRepository.insertFromHistory(any(), any())).willReturn(2);
+
+        smsService.rebuildRecentDailyStats();
+
+        for (int days = 1; days <= 7; days++) {
+            LocalDate date = today.minusDays(days);
+            verify(dailyStatRepository).deleteByPeriod(date, date.plusDays(1));
+            verify(dailyStatRepository).insertFromHistory(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        }
+        verify(dailyStatRepository, never()).deleteByPeriod(eq(today), any());
+        verify(dailyStatRepository, times(7)).insertFromHistory(any(), any());
+        verify(scheduledJobMetrics).recordRows("rebuildRecentDailyStats", 14);
+    }
+}
@@ -0,0 +1,51 @@
+package web.kplay.studentmanagement.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import org.assertj.core.api.AbstractAssert;
+
+import java.util.List;
+
+/**
+ * 쿼리 수 AssertJ 검증 (실패하면 실행된 SQL 목록을 함께 출력)
+ */
+public class QueryCountAssert extends AbstractAssert<QueryCountAssert, QueryCount> {
+
+    private final List<String> statements;
+
+    QueryCountAssert(QueryCount actual, List<String> statements) {
+        super(actual, QueryCountAssert.class);
+        this.statements = statements;
+    }
+
+    public QueryCountAssert hasSelectCountAtMost(int max) {
+        return atMost("SELECT", actual.getSelect(), max);
+    }
+
+    public QueryCountAssert hasInsertCountAtMost(int max) {
+        return atMost("INSERT", actual.getInsert(), max);
+    }
+
+    public QueryCountAssert hasUpdateCountAtMost(int max) {
+        return atMost("UPDATE", actual.getUpdate(), max);
+    }
+
+    public QueryCountAssert hasTotalCountAtMost(int max) {
+        return atMost("전체", actual.getTotal(), max);
+    }
+
+    /**
+     * 조회 전용 경로에서 INSERT/UPDATE/DELETE가 없어야 할 때
+     */
+    public QueryCountAssert hasNoWrites() {
+        return atMost("INSERT/UPDATE/DELETE", actual.getInsert() + actual.getUpdate() + actual.getDelete(), 0);
+    }
+
+    private QueryCountAssert atMost(String type, long count, int max) {
+        isNotNull();
+        if (count > max) {
+            failWithMessage("%s 쿼리는 %d건 이하여야 하는데 %d건 실행됨 (N+1 여부 확인)%n%s",
+                    type, max, count, String.join(System.lineSeparator(), statements));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,82 @@
+package web.kplay.studentmanagement.support;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import web.kplay.studentmanagement.domain.course.Course;
+import web.kplay.studentmanagement.domain.student.Student;
+import web.kplay.studentmanagement.domain.user.User;
+import web.kplay.studentmanagement.domain.user.UserRole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿼리 수 회귀 테스트 공통 데이터 (QueryCountTest에서 사용)
+ * - 학부모 계정 1명과 학생 STUDENT_COUNT명을 저장하고, 학생마다 다른 선생님의 수업을 둔다
+ * - 앞의 두 학생만 학부모 계정의 자녀 (학부모 자녀 조회가 자녀 수만큼 쿼리를 만들지 않는지 확인용)
+ * 각 테스트는 이 데이터 위에 출석/예약/청구서 등을 추가한 뒤 flush/clear → QueryCounter.reset() 한다.
+ */
+public class QueryCountFixture {
+
+    public static final int STUDENT_COUNT = 5;
+    public static final String PARENT_USERNAME = "querycount-parent";
+    public static final String PARENT_PHONE = "010-1111-2222";
+
+    private final TestEntityManager entityManager;
+    private final List<User> teachers = new ArrayList<>();
+    private final List<Course> courses = new ArrayList<>();
+    private final List<Student> students = new ArrayList<>();
+
+    private QueryCountFixture(TestEntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 학부모 계정과 학생/선생님/수업 STUDENT_COUNT쌍 저장
+     */
+    public static QueryCountFixture persist(TestEntityManager entityManager) {
+        QueryCountFixture fixture = new QueryCountFixture(entityManager);
+        fixture.persistAll();
+        return fixture;
+    }
+
+    private void persistAll() {
+        entityManager.persist(user(PARENT_USERNAME, UserRole.PARENT, PARENT_PHONE));
+
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            User teacher = entityManager.persist(user("querycount-teacher" + i, UserRole.TEACHER, null));
+            teachers.add(teacher);
+            courses.add(entityManager.persist(Course.builder()
+                    .courseName("반" + i)
+                    .teacher(teacher)
+                    .maxStudents(10)
+                    .durationMinutes(60)
+                    .build()));
+            students.add(entityManager.persist(Student.builder()
+                    .studentName("학생" + i)
+                    .parentPhone(i < 2 ? PARENT_PHONE : "010-3333-000" + i)
+                    .build()));
+        }
+    }
+
+    public User teacher(int index) {
+        return teachers.get(index);
+    }
+
+    public Course course(int index) {
+        return courses.get(index);
+    }
+
+    public Student student(int index) {
+        return students.get(index);
+    }
+
+    private static User user(String username, UserRole role, String phoneNumber) {
+        return User.builder()
+                .username(username)
+                .password("password")
+                .name(username)
+                .role(role)
+                .phoneNumber(phoneNumber)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package web.kplay.studentmanagement.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 쿼리 수 회귀 테스트용 JPA 슬라이스 (H2 MySQL 호환 모드 + 쿼리 집계 DataSource)
+ * - 2차 캐시/쿼리 캐시를 끄고 측정해 캐시 적중 여부와 관계없이 실제 SQL 수를 검증한다
+ * - 테스트할 서비스는 @Import, 외부 연동(문자 발송, 엑셀 등)은 @MockBean으로 추가
+ * 사용법: 데이터 준비 → flush/clear → QueryCounter.reset() → 서비스 호출 → QueryCounter.assertQueryCount()
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount-${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryCountConfig.class)
+public @interface QueryCountTest {
+}
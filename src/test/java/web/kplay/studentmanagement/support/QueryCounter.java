@@ -0,0 +1,62 @@
+package web.kplay.studentmanagement.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트 스레드에서 실행된 SQL 수 집계 (datasource-proxy)
+ * - QueryCountConfig가 DataSource를 감싸 두면 reset() 이후 실행된 SELECT/INSERT/UPDATE/DELETE 수를 센다
+ * - 실행된 SQL도 함께 보관해 검증 실패 메시지에 출력한다
+ */
+public final class QueryCounter {
+
+    private static final String DATA_SOURCE_NAME = "query-count";
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    private QueryCounter() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(DATA_SOURCE_NAME)
+                .countQuery()
+                .afterQuery((execInfo, queryInfoList) ->
+                        queryInfoList.forEach(queryInfo -> STATEMENTS.get().add(queryInfo.getQuery())))
+                .build();
+    }
+
+    /**
+     * 집계 초기화 (데이터 준비 후 flush/clear 다음에 호출)
+     */
+    public static void reset() {
+        QueryCountHolder.clear();
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * reset() 이후 실행된 쿼리 수
+     */
+    public static QueryCount current() {
+        QueryCount count = QueryCountHolder.get(DATA_SOURCE_NAME);
+        return count != null ? count : new QueryCount();
+    }
+
+    /**
+     * reset() 이후 실행된 SQL
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * 쿼리 수 검증 시작 - 예: assertQueryCount().hasSelectCountAtMost(3).hasNoWrites()
+     */
+    public static QueryCountAssert assertQueryCount() {
+        return new QueryCountAssert(current(), statements());
+    }
+}